@@ -2,9 +2,14 @@ package com.ku.towerdefense.controller;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
-import java.util.ArrayDeque;
-
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.ku.towerdefense.event.GameEventBus;
+import com.ku.towerdefense.event.GameEventType;
+import com.ku.towerdefense.jfr.TickEvent;
+import com.ku.towerdefense.jmx.GameEngineMetrics;
+import com.ku.towerdefense.jfr.WaveCompletedEvent;
+import com.ku.towerdefense.jfr.WaveStartedEvent;
 import com.ku.towerdefense.model.GamePath;
 import com.ku.towerdefense.model.entity.Enemy;
 import com.ku.towerdefense.model.entity.Goblin;
@@ -13,10 +18,22 @@ import com.ku.towerdefense.model.entity.Projectile;
 import com.ku.towerdefense.model.entity.Tower;
 import com.ku.towerdefense.model.entity.MageTower;
 import com.ku.towerdefense.model.entity.ArcherTower;
+import com.ku.towerdefense.model.entity.ArtilleryTower;
 import com.ku.towerdefense.model.entity.DroppedGold;
 import com.ku.towerdefense.model.map.GameMap;
 import com.ku.towerdefense.model.map.TileType;
+import com.ku.towerdefense.model.status.StatusEffectType;
+import com.ku.towerdefense.model.status.StatusEffects;
+import com.ku.towerdefense.util.FrameProfiler;
+import com.ku.towerdefense.util.GameLog;
+import com.ku.towerdefense.util.GameRandom;
 import com.ku.towerdefense.util.GameSettings;
+import com.ku.towerdefense.util.QualityController;
+import com.ku.towerdefense.util.QualityLevel;
+import com.ku.towerdefense.util.RenderDetail;
+import com.ku.towerdefense.render.DrawList;
+import com.ku.towerdefense.render.TextureAtlas;
+import com.ku.towerdefense.util.TimerWheel;
 import com.ku.towerdefense.ui.UIAssets;
 import com.ku.towerdefense.model.effects.AnimatedEffect;
 import javafx.scene.image.Image;
@@ -24,20 +41,24 @@ import javafx.scene.image.Image;
 import javafx.animation.AnimationTimer;
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.animation.Timeline;
-import javafx.animation.KeyFrame;
-import javafx.util.Duration;
-import javafx.animation.Animation;
+import com.ku.towerdefense.model.wave.EndlessWaveGenerator;
 import com.ku.towerdefense.model.wave.Wave;
 import com.ku.towerdefense.model.wave.WaveConfig;
+import com.ku.towerdefense.model.wave.WaveSchedule;
+import com.ku.towerdefense.powerup.FreezeEffect;
 import com.ku.towerdefense.powerup.PowerUpManager;
 import com.ku.towerdefense.powerup.PowerUpType;
+import com.ku.towerdefense.replay.ReplayRecorder;
 
 /**
  * Main controller for the game, handling the game loop, entities, and game
  * state.
  */
 public class GameController {
+    private static final GameLog LOG = GameLog.getInstance();
+    private static final FrameProfiler PROFILER = FrameProfiler.getInstance();
+    private static final GameEngineMetrics METRICS = GameEngineMetrics.getInstance();
+
     private GameMap gameMap;
     private List<Tower> towers;
     private List<Enemy> enemies;
@@ -59,7 +80,7 @@ public class GameController {
     // Grace period for first wave
     private static final long GRACE_PERIOD_MS = 4000; // 4 seconds
     private boolean gracePeriodActive = false;
-    private Timeline gracePeriodTimer;
+    private double gracePeriodRemaining = -1; // seconds of game time, -1 when not counting
 
     // Game speed control
     private boolean speedAccelerated = false;
@@ -77,9 +98,84 @@ public class GameController {
     // Listener for wave events
     private WaveCompletedListener onWaveCompletedListener;
 
+    // Combat and economy statistics (saved with the game)
+    private GameStatistics statistics = new GameStatistics();
+
+    // Gameplay events published during ticks and dispatched after each frame
+    private static final int EVENT_CAPACITY = 4096;
+    private final GameEventBus eventBus = new GameEventBus(EVENT_CAPACITY);
+
+    // Length of the gold bag spawn animation (7 frames of 0.07 s)
+    private static final double GOLD_SPAWN_ANIMATION_SECONDS = 7 * 0.07;
+
+    // Shapes drawn instead of sprites when zoomed out, in world units
+    private static final double PROJECTILE_DOT_SIZE = 8;
+    private static final double ENEMY_DOT_SIZE = 24;
+    private static final double ENEMY_DOT_MIN_PIXELS = 3; // keep dots visible at any zoom
+
+    // Sprites of one frame, submitted sorted by layer and atlas page
+    private final DrawList drawList = new DrawList(TextureAtlas.getInstance());
+
     private boolean isPaused = false; // Added to track pause state internally
-    private Timeline waveTimer; // For timed wave progression
-    private Duration waveTimerProgressOnPause; // To store progress when paused
+    private double waveBreakRemaining = -1; // seconds until next wave, -1 when not counting
+
+    // Enemy spawning for the current wave: compiled spawn events consumed by tick
+    private WaveSchedule waveSchedule;
+    private int nextSpawnIndex = 0;
+    private int waveTick = 0; // ticks since the current wave started spawning
+
+    // Endless mode: procedural waves, escaped enemies are counted instead of costing lives
+    private boolean endlessMode; // fixed when the game starts; saves and rewind frames carry it
+    private int leakedEnemies = 0;
+
+    // Fixed-step simulation clock
+    public static final double TICK_SECONDS = 1.0 / 60.0;
+    private static final int MAX_TICKS_PER_UPDATE = 10; // drop backlog beyond this to avoid a death spiral
+    private double tickAccumulator = 0;
+    private long tickCount = 0;
+    private double simulationTime = 0;
+
+    // Adaptive quality, stepped by the render loop's frame times
+    private final QualityController quality = new QualityController();
+
+    // Replay recording (null when not recording)
+    private ReplayRecorder replayRecorder;
+
+    // Towers keyed by next-ready time; idle towers park until an enemy is in range
+    private TowerFireScheduler fireScheduler;
+
+    // Seeded gameplay randomness (separate streams for combat, drops and waves)
+    private GameRandom random;
+
+    // Expiry timers for status effects and gold bags, on the simulation clock
+    private final TimerWheel timers = new TimerWheel(0);
+
+    /**
+     * A dropped gold bag whose spawn animation is still playing.
+     */
+    private static final class PendingGoldBag {
+        final double x;
+        final double y;
+        final int amount;
+        TimerWheel.Timer timer;
+
+        PendingGoldBag(double x, double y, int amount) {
+            this.x = x;
+            this.y = y;
+            this.amount = amount;
+        }
+    }
+
+    // Bags waiting out their spawn animation; kept so a rewind can re-create them
+    private final List<PendingGoldBag> pendingGoldBags = new ArrayList<>();
+
+    // Slow, freeze and speed-boost effects of all enemies
+    private final StatusEffects statusEffects = new StatusEffects(timers);
+
+    // Periodic state snapshots for rewinding
+    private RewindBuffer rewindBuffer;
+    private int rewindIntervalTicks;
+    private final RewindBuffer.FrameWriter rewindFrame = new RewindBuffer.FrameWriter();
 
     /**
      * Creates a new game controller with the specified game map.
@@ -87,8 +183,24 @@ public class GameController {
      * @param gameMap the game map to use
      */
     public GameController(GameMap gameMap) {
+        this(gameMap, new GameRandom());
+    }
+
+    /**
+     * Creates a new game controller with a fixed random seed, so the game can
+     * be reproduced exactly.
+     *
+     * @param gameMap the game map to use
+     * @param seed the seed for all gameplay randomness
+     */
+    public GameController(GameMap gameMap, long seed) {
+        this(gameMap, new GameRandom(seed));
+    }
+
+    private GameController(GameMap gameMap, GameRandom random) {
         this.gameMap = gameMap;
-        this.towers = new ArrayList<>();
+        this.random = random;
+        this.towers = new CopyOnWriteArrayList<>(); // changed only by player actions; the UI may look up towers
         this.enemies = new ArrayList<>();
         this.projectiles = new ArrayList<>();
         this.activeGoldBags = new ArrayList<>();
@@ -96,10 +208,30 @@ public class GameController {
         this.playerLives = GameSettings.getInstance().getStartingLives();
         this.currentWave = 0;
         this.gameOver = false;
+        this.endlessMode = GameSettings.getInstance().isEndlessMode();
 
         // Initialize power-up system
         this.powerUpManager = new PowerUpManager(this);
 
+        // Initialize tower fire scheduling
+        this.fireScheduler = gameMap != null
+                ? new TowerFireScheduler(gameMap.getWidth(), gameMap.getHeight(), GameMap.TILE_SIZE)
+                : new TowerFireScheduler(1, 1, GameMap.TILE_SIZE);
+        this.fireScheduler.setParallelTargeting(GameSettings.getInstance().isParallelTargeting(),
+                GameSettings.getInstance().getParallelTargetingThreshold());
+
+        // Initialize the rewind buffer, sized to cover the configured window
+        GameSettings settings = GameSettings.getInstance();
+        this.rewindIntervalTicks = Math.max(1, settings.getRewindIntervalTicks());
+        int rewindSlots = (int) Math.ceil(settings.getRewindWindowSeconds() / (rewindIntervalTicks * TICK_SECONDS)) + 1;
+        this.rewindBuffer = new RewindBuffer(rewindSlots, settings.getRewindMemoryCapKb() * 1024L);
+
+        // Visual effects and the wave listener react to gameplay events after the tick
+        eventBus.subscribe(GameEventType.maskOf(GameEventType.PROJECTILE_HIT, GameEventType.GOLD_BAG_DROPPED),
+                this::spawnEventEffects);
+        eventBus.subscribe(GameEventType.WAVE_COMPLETED.bit(), this::notifyWaveCompleted);
+        eventBus.subscribe(GameStatistics.EVENT_MASK, events -> statistics.onEvents(events));
+
         // Initialize game loop
         gameLoop = new AnimationTimer() {
             private long lastUpdate = 0;
@@ -137,12 +269,7 @@ public class GameController {
         gracePeriodActive = true;
         System.out.println("Starting grace period: 4 seconds to build towers before first wave...");
 
-        gracePeriodTimer = new Timeline(new KeyFrame(Duration.millis(GRACE_PERIOD_MS), e -> {
-            gracePeriodActive = false;
-            System.out.println("Grace period ended. Starting first wave!");
-            startNextWave();
-        }));
-        gracePeriodTimer.play();
+        gracePeriodRemaining = GRACE_PERIOD_MS / 1000.0;
     }
 
     /**
@@ -150,12 +277,9 @@ public class GameController {
      */
     public void stopGame() {
         // gameLoop.stop(); // GameScreen handles AnimationTimer
-        if (waveTimer != null) {
-            waveTimer.stop();
-        }
-        if (gracePeriodTimer != null) {
-            gracePeriodTimer.stop();
-        }
+        waveBreakRemaining = -1;
+        gracePeriodRemaining = -1;
+        waveSchedule = null;
     }
 
     public void pauseGame() {
@@ -167,27 +291,9 @@ public class GameController {
     }
 
     public void setPaused(boolean isPaused) {
+        // Wave, grace period and spawn timers run on the simulation clock, so
+        // they stop automatically while update() is not advancing it.
         this.isPaused = isPaused;
-        if (isPaused) {
-            if (waveTimer != null && waveTimer.getStatus() == Animation.Status.RUNNING) {
-                waveTimerProgressOnPause = waveTimer.getCurrentTime();
-                waveTimer.pause();
-            }
-            if (gracePeriodTimer != null && gracePeriodTimer.getStatus() == Animation.Status.RUNNING) {
-                gracePeriodTimer.pause();
-            }
-        } else {
-            if (waveTimer != null && waveTimer.getStatus() == Animation.Status.PAUSED) {
-                if (waveTimerProgressOnPause != null) {
-                    waveTimer.playFrom(waveTimerProgressOnPause);
-                } else {
-                    waveTimer.play(); // Should ideally not happen if paused correctly
-                }
-            }
-            if (gracePeriodTimer != null && gracePeriodTimer.getStatus() == Animation.Status.PAUSED) {
-                gracePeriodTimer.play();
-            }
-        }
     }
 
     public boolean isPaused() {
@@ -209,11 +315,13 @@ public class GameController {
      * @return total number of waves
      */
     public int getTotalWaves() {
-        return GameSettings.getInstance().getTotalWaves();
+        return endlessMode ? Integer.MAX_VALUE : WaveConfig.getTotalWaves();
     }
 
     /**
-     * Updates the game state.
+     * Updates the game state. Frame time is accumulated and the simulation is
+     * advanced in fixed steps of {@link #TICK_SECONDS}, so a game plays out the
+     * same way regardless of frame rate.
      *
      * @param deltaTime time elapsed since the last update in seconds
      */
@@ -222,20 +330,63 @@ public class GameController {
             return;
         }
 
-        double currentDeltaTime = initialDeltaTime;
+        double frameDeltaTime = initialDeltaTime;
         // Apply speed multiplier if accelerated
         if (speedAccelerated) {
-            currentDeltaTime *= SPEED_MULTIPLIER;
+            frameDeltaTime *= Math.min(SPEED_MULTIPLIER, quality.getLevel().getMaxSpeedMultiplier());
         }
 
-        // Update towers and collect projectiles
-        for (Tower tower : towers) {
-            Projectile projectile = tower.update(currentDeltaTime, enemies);
-            if (projectile != null) {
-                projectiles.add(projectile);
+        tickAccumulator += frameDeltaTime;
+        int ticks = 0;
+        while (tickAccumulator >= TICK_SECONDS && !gameOver) {
+            if (ticks == MAX_TICKS_PER_UPDATE) {
+                tickAccumulator = 0; // Too far behind; drop the backlog
+                break;
             }
+            tick();
+            tickAccumulator -= TICK_SECONDS;
+            ticks++;
+        }
+
+        // Hand this frame's gameplay events to rendering, statistics and UI listeners
+        eventBus.dispatch();
+    }
+
+    /**
+     * Advances the simulation by exactly one fixed step. Called by update() and
+     * directly by replay playback.
+     */
+    public void tick() {
+        if (gameOver) {
+            return;
         }
 
+        long tickStart = System.nanoTime();
+        TickEvent tickEvent = new TickEvent();
+        tickEvent.begin();
+
+        double currentDeltaTime = TICK_SECONDS;
+        tickCount++;
+        simulationTime += currentDeltaTime;
+
+        long phaseStart = PROFILER.start();
+
+        // Expire slows, freezes and gold bags due this tick
+        timers.advanceTo(tickCount);
+        phaseStart = PROFILER.lap(FrameProfiler.Phase.GOLD_BAGS, phaseStart);
+
+        // Grace period, wave break and enemy spawning
+        updateWaveTimers(currentDeltaTime);
+        phaseStart = PROFILER.lap(FrameProfiler.Phase.WAVES, phaseStart);
+
+        // Fire towers whose cooldown has expired and collect projectiles
+        int projectilesBefore = projectiles.size();
+        fireScheduler.tick(getSimulationTimeMs(), enemies, projectiles);
+        if (projectiles.size() > projectilesBefore) {
+            statistics.recordShots(currentWave, projectiles.size() - projectilesBefore);
+        }
+        phaseStart = PROFILER.lap(FrameProfiler.Phase.TOWERS, phaseStart);
+
         // Update projectiles and check for hits
         List<Projectile> projectilesToRemove = new ArrayList<>();
         for (Projectile projectile : projectiles) {
@@ -246,24 +397,26 @@ public class GameController {
                     // Apply damage to the target
                     Enemy target = projectile.getTarget();
                     if (target != null) {
+                        Tower sourceTower = projectile.getSourceTower();
+                        int healthBefore = target.getCurrentHealth();
                         target.applyDamage(projectile.getDamage(), projectile.getDamageType());
+                        statistics.recordHit(sourceTower, currentWave, healthBefore, target.getCurrentHealth());
 
                         // Mage Tower specific effects
-                        Tower sourceTower = projectile.getSourceTower();
                         if (sourceTower instanceof MageTower) {
                             // Teleport: 3% chance for any Mage Tower hit
-                            if (Math.random() < 0.03) {
+                            if (random.combat().chance(0.03)) {
                                 Point2D startPoint = gameMap.getStartPoint();
                                 if (startPoint != null) {
                                     target.teleportTo(startPoint.getX(), startPoint.getY());
-                                    System.out.println("Enemy " + target.hashCode() + " teleported by Mage Tower.");
+                                    LOG.debug("{} teleported by Mage Tower.", target.getType());
                                 }
                             }
 
                             // Slow: Only for Level 2 Mage Tower
                             if (sourceTower.getLevel() >= 2) {
-                                target.applySlow(0.8, 4.0); // 20% slow (1.0 - 0.8 = 0.2) for 4 seconds
-                                System.out.println("Enemy " + target.hashCode() + " slowed by L2 Mage Tower.");
+                                statusEffects.apply(target, StatusEffectType.SLOW, 0.8, ticksFor(4.0)); // 20% slow (1.0 - 0.8 = 0.2) for 4 seconds
+                                LOG.debug("{} slowed by L2 Mage Tower.", target.getType());
                             }
                         }
 
@@ -281,16 +434,14 @@ public class GameController {
                                     double distance = impactPoint.distance(enemyCenter);
 
                                     if (distance <= projectile.getAoeRange()) {
-                                        System.out.println("Artillery AOE: Hit " + enemy.getClass().getSimpleName() +
-                                                " (ID: " + enemy.hashCode() + ") for " + (projectile.getDamage() / 2)
-                                                + " damage. " +
-                                                "Dist: " + String.format("%.2f", distance) +
-                                                ", Range: " + projectile.getAoeRange() +
-                                                ", Primary Target: " + target.getClass().getSimpleName() + " (ID: "
-                                                + target.hashCode() + ")");
+                                        LOG.debug("Artillery AOE: hit for {} damage. Dist: {}, Range: {}",
+                                                projectile.getDamage() / 2, distance, projectile.getAoeRange());
 
+                                        int aoeHealthBefore = enemy.getCurrentHealth();
                                         boolean aoeKilled = enemy.applyDamage(projectile.getDamage() / 2,
                                                 projectile.getDamageType());
+                                        statistics.recordHit(sourceTower, currentWave, aoeHealthBefore,
+                                                enemy.getCurrentHealth());
                                         if (aoeKilled) {
                                             playerGold += enemy.getGoldReward();
                                         }
@@ -299,56 +450,41 @@ public class GameController {
                             }
                         }
                     }
-                    // Spawn impact visual effect
-                    Point2D impactPointForEffect = projectile.getTarget() != null
-                            ? new Point2D(projectile.getTarget().getCenterX(), projectile.getTarget().getCenterY())
-                            : new Point2D(projectile.getCenterX(), projectile.getCenterY()); // Fallback if target is
-                                                                                             // gone
-
-                    switch (projectile.getImpactEffect()) {
-                        case EXPLOSION:
-                            Image explSheet = UIAssets.getImage("ExplosionEffect");
-                            if (explSheet != null) {
-                                activeEffects.add(new AnimatedEffect(explSheet,
-                                        impactPointForEffect.getX(), impactPointForEffect.getY(),
-                                        192, 192, // frameW, frameH for Explosion.png
-                                        9, // totalFrames for Explosion.png
-                                        0.05)); // frameDurationSeconds
-                            } else {
-                                System.err.println("ExplosionEffect spritesheet not loaded!");
-                            }
-                            break;
-                        case FIRE:
-                            Image fireSheet = UIAssets.getImage("FireEffect");
-                            if (fireSheet != null) {
-                                activeEffects.add(new AnimatedEffect(fireSheet,
-                                        impactPointForEffect.getX(), impactPointForEffect.getY(),
-                                        128, 128, // frameW, frameH for Fire.png
-                                        7, // totalFrames for Fire.png
-                                        0.05)); // frameDurationSeconds
-                            } else {
-                                System.err.println("FireEffect spritesheet not loaded!");
-                            }
-                            break;
-                        default:
-                            break;
-                    }
+                    // Impact visuals are spawned by the event listener after the tick
+                    Enemy hitTarget = projectile.getTarget();
+                    eventBus.publish(GameEventType.PROJECTILE_HIT, tickCount,
+                            hitTarget != null ? hitTarget.getCenterX() : projectile.getCenterX(),
+                            hitTarget != null ? hitTarget.getCenterY() : projectile.getCenterY(),
+                            projectile.getDamage(), projectile.getImpactEffect().ordinal(),
+                            projectile.getSourceTower());
                 }
             }
         }
         projectiles.removeAll(projectilesToRemove);
+        phaseStart = PROFILER.lap(FrameProfiler.Phase.PROJECTILES, phaseStart);
 
         // Update enemies and check for ones that reached the end
         List<Enemy> enemiesToRemove = new ArrayList<>();
         for (Enemy enemy : enemies) {
+            if (enemy instanceof Knight) {
+                updateKnightSynergy((Knight) enemy);
+            }
             boolean reachedEnd = enemy.update(currentDeltaTime, enemies);
 
-            if (reachedEnd) {
+            if (reachedEnd && endlessMode) {
+                enemiesToRemove.add(enemy);
+                leakedEnemies++;
+                eventBus.publish(GameEventType.ENEMY_LEAKED, tickCount, enemy.getCenterX(), enemy.getCenterY(),
+                        playerLives, 0, enemy);
+            } else if (reachedEnd) {
                 enemiesToRemove.add(enemy);
                 playerLives--;
+                eventBus.publish(GameEventType.ENEMY_LEAKED, tickCount, enemy.getCenterX(), enemy.getCenterY(),
+                        playerLives, 0, enemy);
 
                 if (playerLives <= 0) {
                     gameOver = true;
+                    eventBus.publish(GameEventType.GAME_OVER, tickCount, 0, 0, 0, currentWave, null);
                     stopGame();
                     // Potentially trigger a game over UI event or screen change from here
                     // or GameScreen can check isGameOver() state
@@ -356,8 +492,10 @@ public class GameController {
             } else if (enemy.getCurrentHealth() <= 0 && !enemiesToRemove.contains(enemy)) {
                 enemiesToRemove.add(enemy);
                 playerGold += enemy.getGoldReward(); // Base gold reward
+                eventBus.publish(GameEventType.ENEMY_KILLED, tickCount, enemy.getCenterX(), enemy.getCenterY(),
+                        enemy.getGoldReward(), 0, enemy);
 
-                if (Math.random() < 0.25) { // 25% chance to drop a bag
+                if (random.drops().chance(0.25)) { // 25% chance to drop a bag
                     int archerBaseCost = ArcherTower.BASE_COST;
                     int minGoldInBag = 2;
                     int maxGoldInBag = archerBaseCost / 2;
@@ -372,49 +510,24 @@ public class GameController {
                     if (minGoldInBag > maxGoldInBag)
                         minGoldInBag = maxGoldInBag;
 
-                    final int randomGold = minGoldInBag + (int) (Math.random() * (maxGoldInBag - minGoldInBag + 1));
+                    final int randomGold = random.drops().nextInt(minGoldInBag, maxGoldInBag);
                     final int finalRandomGold = (randomGold <= 0) ? 1 : randomGold;
 
                     final double dropX = enemy.getCenterX();
                     final double dropY = enemy.getCenterY();
 
-                    // 1. Spawn the G_Spawn.png animation
-                    Image goldSpawnSheet = UIAssets.getImage("GoldSpawnEffect");
-                    if (goldSpawnSheet != null) {
-                        AnimatedEffect goldAnimation = new AnimatedEffect(goldSpawnSheet,
-                                dropX, dropY, // Position at enemy center
-                                128, 128, // Frame width, height for G_Spawn.png
-                                7, // Total frames
-                                0.07, // Frame duration in seconds (approx 0.5s total animation)
-                                128, 128 // Display width/height for the animation itself
-                        );
-                        goldAnimation.setOnCompletion(() -> {
-                            DroppedGold bag = new DroppedGold(dropX, dropY, finalRandomGold);
-                            activeGoldBags.add(bag);
-                            System.out.println("Dropped gold bag (value: " + finalRandomGold
-                                    + "G) created AFTER animation at (" + dropX + "," + dropY + ")");
-                        });
-                        activeEffects.add(goldAnimation);
-                        System.out.println("Spawned gold drop animation at (" + dropX + "," + dropY + ")");
-                    } else {
-                        System.err.println(
-                                "GoldSpawnEffect spritesheet not loaded for animation! Dropping bag directly.");
-                        // Fallback: If animation sheet is missing, drop the bag directly
-                        DroppedGold bag = new DroppedGold(dropX, dropY, finalRandomGold);
-                        activeGoldBags.add(bag);
-                    }
-
-                    // 2. Spawn the clickable DroppedGold entity (which uses last frame of
-                    // G_Spawn.png)
-                    // DroppedGold bag = new DroppedGold(dropX, dropY, randomGold); // MOVED to
-                    // onCompletion
-                    // activeGoldBags.add(bag); // MOVED to onCompletion
-                    // System.out.println("Dropped gold bag (value: " + randomGold + "G) and spawned
-                    // animation at (" + dropX + "," + dropY + ")"); // Old log
+                    // The spawn animation is started by the event listener; the bag
+                    // itself becomes collectible when the animation has played
+                    eventBus.publish(GameEventType.GOLD_BAG_DROPPED, tickCount, dropX, dropY, finalRandomGold, 0, null);
+                    scheduleGoldBag(dropX, dropY, finalRandomGold, ticksFor(GOLD_SPAWN_ANIMATION_SECONDS));
                 }
             }
         }
+        for (Enemy enemy : enemiesToRemove) {
+            statusEffects.removeAll(enemy);
+        }
         enemies.removeAll(enemiesToRemove);
+        phaseStart = PROFILER.lap(FrameProfiler.Phase.ENEMIES, phaseStart);
 
         // Update and remove inactive visual effects
         final double finalDeltaTimeForEffects = currentDeltaTime; // Effectively final for lambda
@@ -423,50 +536,112 @@ public class GameController {
             return !effect.isActive();
         });
 
-        // Update and remove expired gold bags
-        activeGoldBags.removeIf(bag -> {
-            // DroppedGold.update() isn't strictly needed if it has no animation or
-            // per-frame logic
-            // We just check expiry here.
-            if (bag.isExpired()) {
-                System.out.println("Gold bag expired and removed.");
-                return true;
-            }
-            return false;
-        });
-
         // Update path flash animation
         updatePathFlash();
+        phaseStart = PROFILER.lap(FrameProfiler.Phase.EFFECTS, phaseStart);
 
         // Update power-up effects
         powerUpManager.update(currentDeltaTime);
+        PROFILER.lap(FrameProfiler.Phase.POWER_UPS, phaseStart);
 
         // Check if wave is completed and all enemies are spawned
-        // AND if waveTimer is not already running (to prevent multiple timers)
+        // AND if the wave break countdown is not already running
         if (enemies.isEmpty() && !isSpawningEnemies && currentWave > 0 && !betweenWaves
-                && (waveTimer == null || waveTimer.getStatus() != Animation.Status.RUNNING)) {
+                && waveBreakRemaining < 0) {
             betweenWaves = true;
-            System.out.println(
-                    "Wave " + currentWave + " cleared! Next wave in " + (WAVE_BREAK_TIME / 1000) + " seconds.");
-            if (onWaveCompletedListener != null) {
-                onWaveCompletedListener.onWaveCompleted(currentWave, 100); // Example bonus gold
+            LOG.info("Wave {} cleared! Next wave in {} seconds.", currentWave, WAVE_BREAK_TIME / 1000);
+            eventBus.publish(GameEventType.WAVE_COMPLETED, tickCount, 0, 0, 100, currentWave, null); // Example bonus gold
+            WaveCompletedEvent waveEvent = new WaveCompletedEvent();
+            if (waveEvent.shouldCommit()) {
+                waveEvent.wave = currentWave;
+                waveEvent.tick = tickCount;
+                waveEvent.lives = playerLives;
+                waveEvent.commit();
             }
 
-            waveTimer = new Timeline(new KeyFrame(Duration.millis(WAVE_BREAK_TIME), ae -> {
-                betweenWaves = false;
-                isSpawningEnemies = false; // Ensure this is reset before starting next wave
-                startNextWave();
-            }));
-            waveTimer.play();
+            waveBreakRemaining = WAVE_BREAK_TIME / 1000.0;
         } else if (isSpawningEnemies && enemies.isEmpty() && !anyEnemiesLeftInWave()) {
             // This case handles if all enemies of a wave are killed before the spawning
             // queue is empty
             // (e.g. very fast killing). Effectively ends the spawning part of the wave.
             isSpawningEnemies = false;
-            System.out.println("All spawned enemies for wave " + currentWave + " defeated.");
+            LOG.info("All spawned enemies for wave {} defeated.", currentWave);
             // The main betweenWaves logic above will then trigger the timer for the next
             // wave.
         }
+
+        if (tickCount % rewindIntervalTicks == 0) {
+            captureRewindFrame();
+        }
+
+        if (tickEvent.shouldCommit()) {
+            tickEvent.tick = tickCount;
+            tickEvent.wave = currentWave;
+            tickEvent.enemies = enemies.size();
+            tickEvent.towers = towers.size();
+            tickEvent.projectiles = projectiles.size();
+            tickEvent.effects = activeEffects.size();
+            tickEvent.commit();
+        }
+        METRICS.recordTick(this, System.nanoTime() - tickStart);
+    }
+
+    /**
+     * Counts down the grace period and wave break, and spawns enemies whose
+     * scheduled tick has come, all on the simulation clock.
+     *
+     * @param deltaTime simulation step in seconds
+     */
+    private void updateWaveTimers(double deltaTime) {
+        if (gracePeriodRemaining >= 0) {
+            gracePeriodRemaining -= deltaTime;
+            if (gracePeriodRemaining <= 0) {
+                gracePeriodRemaining = -1;
+                gracePeriodActive = false;
+                LOG.info("Grace period ended. Starting first wave!");
+                startNextWave();
+            }
+        }
+
+        if (waveBreakRemaining >= 0) {
+            waveBreakRemaining -= deltaTime;
+            if (waveBreakRemaining <= 0) {
+                waveBreakRemaining = -1;
+                betweenWaves = false;
+                isSpawningEnemies = false; // Ensure this is reset before starting next wave
+                startNextWave();
+            }
+        }
+
+        if (isSpawningEnemies && waveSchedule != null) {
+            waveTick++;
+            while (nextSpawnIndex < waveSchedule.size() && waveSchedule.getSpawnTick(nextSpawnIndex) <= waveTick) {
+                Enemy.EnemyType type = waveSchedule.getEnemyType(nextSpawnIndex++);
+
+                // Ensure the enemy has the path reference
+                GamePath path = gameMap.getEnemyPath();
+                Point2D start = gameMap.getStartPoint();
+                if (path != null && start != null) {
+                    Enemy next = createEnemy(type, start.getX(), start.getY());
+                    if (waveSchedule.getHealthMultiplier() != 1.0) {
+                        int health = (int) Math.round(next.getMaxHealth() * waveSchedule.getHealthMultiplier());
+                        next.setMaxHealth(health);
+                        next.setCurrentHealth(health);
+                    }
+                    next.setPath(path);
+                    enemies.add(next);
+                    LOG.debug("Spawned {} at the start point", type);
+                } else {
+                    LOG.error("ERROR: Enemy path disappeared during spawning!");
+                }
+            }
+            if (nextSpawnIndex >= waveSchedule.size()) {
+                isSpawningEnemies = false;
+                LOG.info("Wave {} spawning complete.", currentWave);
+            }
+        } else if (isSpawningEnemies) {
+            isSpawningEnemies = false; // nothing scheduled (e.g. wave started before a load)
+        }
     }
 
     /**
@@ -475,38 +650,162 @@ public class GameController {
      * @param gc the graphics context to render on
      */
     public void render(GraphicsContext gc) {
-        // Render map
-        gameMap.render(gc);
+        render(gc, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 1.0);
+    }
+
+    /**
+     * Renders the game elements inside a world rectangle, usually the visible
+     * part of the map. Tiles and entities entirely outside it are skipped, and
+     * enemies and projectiles lose detail as the view zooms out (see
+     * {@link RenderDetail}).
+     *
+     * @param gc the graphics context to render on
+     * @param minX left edge of the visible world area
+     * @param minY top edge of the visible world area
+     * @param maxX right edge of the visible world area
+     * @param maxY bottom edge of the visible world area
+     * @param scale screen pixels per world unit
+     */
+    public void render(GraphicsContext gc, double minX, double minY, double maxX, double maxY, double scale) {
+        long phaseStart = PROFILER.start();
+        renderMap(gc, minX, minY, maxX, maxY);
+        phaseStart = PROFILER.lap(FrameProfiler.Phase.MAP_RENDER, phaseStart);
+
+        recordEntities(drawList, minX, minY, maxX, maxY, scale);
+        drawList.submit(gc);
+
+        // Render path flash (if active)
+        renderPathFlash(gc);
+        PROFILER.lap(FrameProfiler.Phase.ENTITY_RENDER, phaseStart);
+
+        // Additional UI rendering can be handled elsewhere
+    }
+
+    /**
+     * Renders the map inside a world rectangle and the entities of a
+     * snapshot, which was recorded by the simulation thread for about the
+     * same rectangle.
+     *
+     * @param gc the graphics context to render on
+     * @param snapshot the newest snapshot from {@link SimulationThread}
+     */
+    public void render(GraphicsContext gc, RenderSnapshot snapshot, double minX, double minY, double maxX,
+            double maxY) {
+        long phaseStart = PROFILER.start();
+        renderMap(gc, minX, minY, maxX, maxY);
+        phaseStart = PROFILER.lap(FrameProfiler.Phase.MAP_RENDER, phaseStart);
+
+        snapshot.getEntities().draw(gc);
+        renderPathFlash(gc);
+        PROFILER.lap(FrameProfiler.Phase.ENTITY_RENDER, phaseStart);
+    }
 
-        // Render towers first so they are in the background
+    /**
+     * Records the entities inside a world rectangle and the current game
+     * state into a snapshot. Called on the simulation thread between ticks.
+     */
+    public void captureSnapshot(RenderSnapshot snapshot, double minX, double minY, double maxX, double maxY,
+            double scale) {
+        DrawList entities = snapshot.getEntities();
+        entities.clear();
+        recordEntities(entities, minX, minY, maxX, maxY, scale);
+        entities.sort();
+        snapshot.capture(this);
+    }
+
+    /**
+     * Fill in a snapshot's game numbers without recording its draw list, for
+     * a screen that reads them on the thread the game runs on.
+     */
+    public void captureStats(RenderSnapshot snapshot) {
+        snapshot.capture(this);
+    }
+
+    private void renderMap(GraphicsContext gc, double minX, double minY, double maxX, double maxY) {
+        // Widen by a tile so partly visible tiles are drawn
+        double tile = GameMap.TILE_SIZE;
+        gameMap.render(gc, tileIndex(minX - tile), tileIndex(minY - tile), tileIndex(maxX + tile),
+                tileIndex(maxY + tile));
+    }
+
+    /**
+     * Queue the entities inside a world rectangle on a draw list, which
+     * submits them grouped by layer and atlas page.
+     */
+    private void recordEntities(DrawList list, double minX, double minY, double maxX, double maxY, double scale) {
+        RenderDetail detail = quality.getLevel().detailFor(scale);
+
+        // Widen by a tile for sprites drawn past their bounds (towers, health bars)
+        double tile = GameMap.TILE_SIZE;
+        minX -= tile;
+        minY -= tile;
+        maxX += tile;
+        maxY += tile;
+
+        // Towers are in the background; a selected tower's range circle can
+        // reach far beyond it
         for (Tower tower : towers) {
-            tower.render(gc);
+            if (tower.isSelected() || tower.overlaps(minX, minY, maxX, maxY)) {
+                if (!tower.addSprite(list, DrawList.LAYER_TOWERS)) {
+                    tower.addShape(list, DrawList.LAYER_TOWERS);
+                }
+                tower.addOverlay(list, DrawList.LAYER_TOWER_OVERLAYS);
+            }
         }
 
-        // Render enemies on top of towers
+        // Enemies on top of towers; far out they are dots of their type colour
+        double enemyDot = Math.max(ENEMY_DOT_SIZE, ENEMY_DOT_MIN_PIXELS / scale);
         for (Enemy enemy : enemies) {
-            enemy.render(gc);
+            if (!enemy.overlaps(minX, minY, maxX, maxY)) {
+                continue;
+            }
+            if (detail == RenderDetail.MINIMAL) {
+                list.addRect(DrawList.LAYER_ENEMIES, enemy.getDotColor(),
+                        enemy.getCenterX() - enemyDot / 2, enemy.getCenterY() - enemyDot / 2, enemyDot, enemyDot);
+                continue;
+            }
+            if (!enemy.addSprite(list, DrawList.LAYER_ENEMIES)) {
+                enemy.addShape(list, DrawList.LAYER_ENEMIES);
+            }
+            if (detail == RenderDetail.FULL) {
+                enemy.addOverlay(list, DrawList.LAYER_ENEMY_OVERLAYS);
+            }
         }
 
-        // Render projectiles on top of everything
+        // Projectiles on top of everything; one screen pixel at minimal detail
+        double projectileDot = detail == RenderDetail.MINIMAL ? 1.0 / scale : PROJECTILE_DOT_SIZE;
         for (Projectile projectile : projectiles) {
-            projectile.render(gc);
+            if (projectile.overlaps(minX, minY, maxX, maxY)) {
+                if (detail != RenderDetail.FULL) {
+                    projectile.addDot(list, DrawList.LAYER_PROJECTILES, projectileDot);
+                } else if (!projectile.addSprite(list, DrawList.LAYER_PROJECTILES)) {
+                    projectile.addShape(list, DrawList.LAYER_PROJECTILES);
+                }
+            }
         }
 
-        // Render active visual effects
+        // Active visual effects
         for (AnimatedEffect effect : activeEffects) {
-            effect.render(gc);
+            if (effect.overlaps(minX, minY, maxX, maxY)) {
+                effect.addSprite(list, DrawList.LAYER_EFFECTS);
+            }
         }
 
-        // Render dropped gold bags
+        // Dropped gold bags
         for (DroppedGold bag : activeGoldBags) {
-            bag.render(gc);
+            if (bag.overlaps(minX, minY, maxX, maxY) && !bag.addSprite(list, DrawList.LAYER_GOLD_BAGS)) {
+                bag.addShape(list, DrawList.LAYER_GOLD_BAGS);
+            }
         }
+    }
 
-        // Render path flash (if active)
-        renderPathFlash(gc);
-
-        // Additional UI rendering can be handled elsewhere
+    /**
+     * @return tile column or row of a world coordinate; infinite bounds
+     *         saturate to the int range
+     */
+    private static int tileIndex(double world) {
+        return (int) Math.floor(world / GameMap.TILE_SIZE);
     }
 
     public void setPlayerGold(int i) {
@@ -550,6 +849,95 @@ public class GameController {
         this.onWaveCompletedListener = listener;
     }
 
+    /**
+     * Get the gameplay event bus. Events are dispatched after each frame's ticks.
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Get the combat and economy statistics of this game.
+     */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Replace the statistics (used when loading a saved game).
+     */
+    public void setStatistics(GameStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    // ===== EVENT LISTENERS =====
+
+    /**
+     * Start impact and gold drop animations for this frame's events.
+     */
+    private void spawnEventEffects(GameEventBus.Batch events) {
+        for (int i = 0; i < events.size(); i++) {
+            GameEventType type = events.type(i);
+            if (type == GameEventType.GOLD_BAG_DROPPED) {
+                Image goldSpawnSheet = UIAssets.getImage("GoldSpawnEffect");
+                if (goldSpawnSheet != null) {
+                    addEffect(new AnimatedEffect(goldSpawnSheet,
+                            events.x(i), events.y(i), // Position at enemy center
+                            128, 128, // Frame width, height for G_Spawn.png
+                            7, // Total frames
+                            0.07, // Frame duration in seconds (approx 0.5s total animation)
+                            128, 128 // Display width/height for the animation itself
+                    ));
+                    LOG.debug("Spawned gold drop animation at ({},{})", events.x(i), events.y(i));
+                } else {
+                    LOG.warn("GoldSpawnEffect spritesheet not loaded for animation!");
+                }
+            } else if (type == GameEventType.PROJECTILE_HIT) {
+                Projectile.ImpactEffect effect = Projectile.ImpactEffect.values()[events.code(i)];
+                switch (effect) {
+                    case EXPLOSION:
+                        Image explSheet = UIAssets.getImage("ExplosionEffect");
+                        if (explSheet != null) {
+                            addEffect(new AnimatedEffect(explSheet, events.x(i), events.y(i),
+                                    192, 192, // frameW, frameH for Explosion.png
+                                    9, // totalFrames for Explosion.png
+                                    0.05)); // frameDurationSeconds
+                        } else {
+                            LOG.warn("ExplosionEffect spritesheet not loaded!");
+                        }
+                        break;
+                    case FIRE:
+                        Image fireSheet = UIAssets.getImage("FireEffect");
+                        if (fireSheet != null) {
+                            addEffect(new AnimatedEffect(fireSheet, events.x(i), events.y(i),
+                                    128, 128, // frameW, frameH for Fire.png
+                                    7, // totalFrames for Fire.png
+                                    0.05)); // frameDurationSeconds
+                        } else {
+                            LOG.warn("FireEffect spritesheet not loaded!");
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Forward wave completions to the WaveCompletedListener.
+     */
+    private void notifyWaveCompleted(GameEventBus.Batch events) {
+        if (onWaveCompletedListener == null) {
+            return;
+        }
+        for (int i = 0; i < events.size(); i++) {
+            if (events.type(i) == GameEventType.WAVE_COMPLETED) {
+                onWaveCompletedListener.onWaveCompleted(events.code(i), events.amount(i));
+            }
+        }
+    }
+
     /**
      * Starts the next wave of enemies.
      */
@@ -610,6 +998,10 @@ public class GameController {
         // Increment wave counter
         currentWave++;
         System.out.println("Starting wave " + currentWave);
+        eventBus.publish(GameEventType.WAVE_STARTED, tickCount, 0, 0, 0, currentWave, null);
+        for (Tower tower : towers) {
+            tower.resetWaveStats();
+        }
 
         // Update power-up manager with new wave
         powerUpManager.setCurrentWave(currentWave);
@@ -617,12 +1009,6 @@ public class GameController {
         // ✨ TRIGGER PATH FLASH - Show players the enemy route!
         startPathFlash();
 
-        // Calculate enemy numbers
-        int num = GameSettings.getInstance().getEnemiesPerGroup() * (1 + currentWave / 3); // Example scaling
-        int goblins = (int) (num * GameSettings.getInstance().getGoblinPercentage() / 100.0);
-        int knights = num - goblins;
-        System.out.println("Wave " + currentWave + " will have " + goblins + " goblins and " + knights + " knights");
-
         // Find start point
         Point2D start = gameMap.getStartPoint();
         if (start == null) {
@@ -631,47 +1017,20 @@ public class GameController {
         }
         System.out.println("Using start point at: (" + start.getX() + ", " + start.getY() + ")");
 
-        // Create enemy queue
-        Queue<Enemy> queue = new ArrayDeque<>();
-        for (int i = 0; i < goblins; i++)
-            queue.add(new Goblin(start.getX(), start.getY()));
-        for (int i = 0; i < knights; i++)
-            queue.add(new Knight(start.getX(), start.getY()));
-        System.out.println("Created queue with " + queue.size() + " enemies");
-
-        // Setting up spawning
-        isSpawningEnemies = true;
-        double delay = GameSettings.getInstance().getEnemyDelay() / 1000.0; // Convert ms to seconds
-        System.out.println("Enemy spawn delay: " + delay + " seconds");
-
-        // Create and start Timeline for enemy spawning using AtomicReference to avoid
-        // initialization issues
-        final Timeline[] spawnerRef = new Timeline[1];
-        Timeline spawner = new Timeline(
-                new KeyFrame(Duration.seconds(delay), e -> {
-                    Enemy next = queue.poll();
-                    if (next == null) {
-                        isSpawningEnemies = false;
-                        spawnerRef[0].stop(); // Use the reference instead of direct variable
-                        System.out.println("Wave " + currentWave + " spawning complete.");
-                        return;
-                    }
-
-                    // Ensure the enemy has the path reference
-                    GamePath path = gameMap.getEnemyPath();
-                    if (path != null) {
-                        next.setPath(path);
-                        enemies.add(next);
-                        System.out.println("Spawned " + (next instanceof Goblin ? "Goblin" : "Knight") +
-                                " at (" + next.getX() + "," + next.getY() + ")");
-                    } else {
-                        System.err.println("ERROR: Enemy path disappeared during spawning!");
-                    }
-                }));
-        spawnerRef[0] = spawner; // Store the Timeline in the array reference
-        spawner.setCycleCount(Animation.INDEFINITE);
-        spawner.play();
-
+        // Compile the wave into spawn events; enemies are created by updateWaveTimers()
+        startWaveSchedule(0, 0);
+        WaveStartedEvent waveEvent = new WaveStartedEvent();
+        if (waveEvent.shouldCommit()) {
+            waveEvent.wave = currentWave;
+            waveEvent.tick = tickCount;
+            waveEvent.enemies = waveSchedule != null ? waveSchedule.size() : 0;
+            waveEvent.commit();
+        }
+        if (waveSchedule == null) {
+            return;
+        }
+        System.out.println("Wave " + currentWave + " will have " + waveSchedule.count(Enemy.EnemyType.GOBLIN)
+                + " goblins and " + waveSchedule.count(Enemy.EnemyType.KNIGHT) + " knights");
         System.out.println("Wave " + currentWave + " spawning started!");
     }
 
@@ -683,29 +1042,8 @@ public class GameController {
      * @return the amount of gold refunded, or 0 if no tower was sold
      */
     public int sellTower(double x, double y) {
-        // Convert world coordinates to tile coordinates based on a 64x64 grid
-        int tileX = (int) (x / 64.0);
-        int tileY = (int) (y / 64.0);
-
-        Tower towerToRemove = null;
-        for (Tower tower : towers) {
-            // Check if the tower's center falls within the clicked 64x64 tile
-            int towerTileX = (int) (tower.getX() / 64.0);
-            int towerTileY = (int) (tower.getY() / 64.0);
-            if (towerTileX == tileX && towerTileY == tileY) {
-                towerToRemove = tower;
-                break;
-            }
-        }
-
-        if (towerToRemove != null) {
-            int refundAmount = towerToRemove.getSellRefund();
-            towers.remove(towerToRemove);
-            playerGold += refundAmount;
-            return refundAmount;
-        }
-
-        return 0;
+        double tileSize = gameMap.getTileSize() > 0 ? gameMap.getTileSize() : GameMap.TILE_SIZE;
+        return sellTower((int) (x / tileSize), (int) (y / tileSize));
     }
 
     /**
@@ -838,6 +1176,436 @@ public class GameController {
         return gameOver;
     }
 
+    /**
+     * Get the simulation clock. It only advances while the game is running and
+     * is scaled by the speed multiplier.
+     *
+     * @return elapsed game time in seconds
+     */
+    public double getSimulationTime() {
+        return simulationTime;
+    }
+
+    /**
+     * @return elapsed game time in whole milliseconds
+     */
+    public long getSimulationTimeMs() {
+        return (long) (simulationTime * 1000.0);
+    }
+
+    /**
+     * @return number of fixed simulation steps run so far
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * @return the controller that picks render and effect quality from frame
+     *         times; the render loop feeds it
+     */
+    public QualityController getQualityController() {
+        return quality;
+    }
+
+    /**
+     * @return true if this game uses procedural endless waves
+     */
+    public boolean isEndlessMode() {
+        return endlessMode;
+    }
+
+    /**
+     * Set whether this game uses endless waves, for restoring a saved game
+     * whatever the current settings say.
+     */
+    public void setEndlessMode(boolean endlessMode) {
+        this.endlessMode = endlessMode;
+    }
+
+    /**
+     * @return number of enemies that reached the castle in endless mode
+     */
+    public int getLeakedEnemies() {
+        return leakedEnemies;
+    }
+
+    public void setLeakedEnemies(int leakedEnemies) {
+        this.leakedEnemies = leakedEnemies;
+    }
+
+    // ===== REPLAY RECORDING =====
+
+    /**
+     * Start recording player commands for a replay. Must be called before the
+     * first tick so the replay starts from the initial state.
+     *
+     * @return the recorder
+     */
+    public ReplayRecorder startReplayRecording() {
+        replayRecorder = new ReplayRecorder(gameMap, random.getSeed(), TICK_SECONDS);
+        return replayRecorder;
+    }
+
+    /**
+     * Stop recording and write the replay file, if recording.
+     */
+    public void stopReplayRecording() {
+        if (replayRecorder != null) {
+            replayRecorder.finishAndSave(tickCount);
+            replayRecorder = null;
+        }
+    }
+
+    // ===== REWIND =====
+
+    /**
+     * Rewind the game by the given amount of game time. Restores the newest
+     * snapshot at or before that point, including tower cooldowns and the
+     * tower and game statistics; projectiles and visual effects in flight are
+     * dropped. Stops replay recording, since the recorded command
+     * stream no longer describes the game.
+     *
+     * @param seconds how far to go back
+     * @return true if the game was rewound
+     */
+    public boolean rewind(double seconds) {
+        if (gameOver || rewindBuffer.size() == 0) {
+            return false;
+        }
+        long targetTick = tickCount - Math.round(seconds / TICK_SECONDS);
+        if (replayRecorder != null) {
+            System.out.println("🎬 Rewind used - stopping replay recording");
+            stopReplayRecording();
+        }
+        long fromTick = tickCount;
+        int[] frame = rewindBuffer.rewindTo(targetTick);
+        restoreRewindFrame(frame);
+        System.out.println("⏪ Rewound " + String.format("%.1f", (fromTick - tickCount) * TICK_SECONDS)
+                + "s to tick " + tickCount + " (" + rewindBuffer.size() + " snapshots, "
+                + rewindBuffer.getTotalBytes() / 1024 + " KB kept)");
+        return true;
+    }
+
+    /**
+     * Get the rewind snapshot buffer.
+     */
+    public RewindBuffer getRewindBuffer() {
+        return rewindBuffer;
+    }
+
+    /**
+     * Flatten the simulation state into a frame and push it to the rewind
+     * buffer. Positions and timers are stored as fixed point.
+     */
+    private void captureRewindFrame() {
+        RewindBuffer.FrameWriter w = rewindFrame;
+        w.reset();
+        w.addLong(tickCount);
+        w.addLong(Double.doubleToLongBits(simulationTime));
+        w.add(playerGold);
+        w.add(playerLives);
+        w.add(currentWave);
+        w.add(leakedEnemies);
+        w.add((betweenWaves ? 1 : 0) | (isSpawningEnemies ? 2 : 0) | (gracePeriodActive ? 4 : 0)
+                | (endlessMode ? 8 : 0));
+        w.addFixed(gracePeriodRemaining, 1e6);
+        w.addFixed(waveBreakRemaining, 1e6);
+        w.add(waveTick);
+        w.add(nextSpawnIndex);
+        for (long draws : random.getDrawCounts()) {
+            w.addLong(draws);
+        }
+
+        PowerUpType[] powerUps = PowerUpType.values();
+        for (PowerUpType type : powerUps) {
+            w.add((int) powerUpManager.getCooldownUntilWave(type));
+        }
+        FreezeEffect freeze = powerUpManager.getActiveFreezeEffect();
+        w.addFixed(freeze != null ? freeze.getRemainingDuration() : 0, 1e6);
+
+        w.add(towers.size());
+        for (Tower tower : towers) {
+            w.add(towerTypeCode(tower));
+            w.add((int) (tower.getX() / GameMap.TILE_SIZE));
+            w.add((int) (tower.getY() / GameMap.TILE_SIZE));
+            w.add(tower.getLevel());
+            w.add(tower.getShotsFired());
+            w.addLong(tower.getDamageDealt());
+            w.addLong(tower.getOverkillDamage());
+            w.add(tower.getKills());
+            w.addLong(tower.getWaveDamageDealt());
+            w.add(tower.getWaveKills());
+            w.addLong(tower.getPlacedTick());
+            w.addLong(tower.getLastFireTime());
+        }
+        statistics.writeTo(w);
+
+        w.add(enemies.size());
+        for (Enemy enemy : enemies) {
+            w.add(enemy.getType().ordinal());
+            w.addFixed(enemy.getX(), 16);
+            w.addFixed(enemy.getY(), 16);
+            w.addFixed(enemy.getPathProgress(), 1e9);
+            w.add(enemy.getMaxHealth());
+            w.add(enemy.getCurrentHealth());
+            int effectMask = 0;
+            for (StatusEffectType type : StatusEffectType.values()) {
+                if (statusEffects.has(enemy, type)) {
+                    effectMask |= 1 << type.ordinal();
+                }
+            }
+            w.add(effectMask);
+            for (StatusEffectType type : StatusEffectType.values()) {
+                if ((effectMask & (1 << type.ordinal())) != 0) {
+                    long remaining = statusEffects.remainingTicks(enemy, type);
+                    w.addFixed(statusEffects.getMagnitude(enemy, type), 1000);
+                    w.add(remaining == StatusEffects.PERMANENT ? -1 : (int) remaining);
+                }
+            }
+        }
+
+        w.add(activeGoldBags.size());
+        for (DroppedGold bag : activeGoldBags) {
+            w.addFixed(bag.getCenterX(), 16);
+            w.addFixed(bag.getCenterY(), 16);
+            w.add(bag.getGoldAmount());
+            w.add((int) timers.remainingTicks(bag.getExpiry()));
+        }
+
+        w.add(pendingGoldBags.size());
+        for (PendingGoldBag pending : pendingGoldBags) {
+            w.addFixed(pending.x, 16);
+            w.addFixed(pending.y, 16);
+            w.add(pending.amount);
+            w.add((int) timers.remainingTicks(pending.timer));
+        }
+
+        rewindBuffer.push(tickCount, w.array(), w.length());
+    }
+
+    /**
+     * Rebuild the simulation state from a frame written by captureRewindFrame().
+     */
+    private void restoreRewindFrame(int[] frame) {
+        RewindBuffer.FrameReader r = new RewindBuffer.FrameReader(frame);
+        tickCount = r.nextLong();
+        simulationTime = Double.longBitsToDouble(r.nextLong());
+        tickAccumulator = 0;
+        timers.reset(tickCount); // every timer is re-created below from its remaining time
+        playerGold = r.next();
+        playerLives = r.next();
+        currentWave = r.next();
+        leakedEnemies = r.next();
+        int flags = r.next();
+        betweenWaves = (flags & 1) != 0;
+        isSpawningEnemies = (flags & 2) != 0;
+        gracePeriodActive = (flags & 4) != 0;
+        endlessMode = (flags & 8) != 0;
+        gracePeriodRemaining = restoreTimer(r.nextFixed(1e6));
+        waveBreakRemaining = restoreTimer(r.nextFixed(1e6));
+        int restoredWaveTick = r.next();
+        int restoredSpawnIndex = r.next();
+        waveSchedule = null;
+        if (isSpawningEnemies) {
+            startWaveSchedule(restoredWaveTick, restoredSpawnIndex);
+        }
+        long[] draws = new long[GameRandom.Channel.values().length];
+        for (int i = 0; i < draws.length; i++) {
+            draws[i] = r.nextLong();
+        }
+        random = GameRandom.restore(random.getSeed(), draws);
+
+        long[] cooldowns = new long[PowerUpType.values().length];
+        for (int i = 0; i < cooldowns.length; i++) {
+            cooldowns[i] = r.next();
+        }
+        double freezeRemaining = r.nextFixed(1e6);
+
+        for (Tower tower : towers) {
+            gameMap.setTileAsOccupiedByTower((int) (tower.getX() / GameMap.TILE_SIZE),
+                    (int) (tower.getY() / GameMap.TILE_SIZE), false);
+        }
+        towers.clear();
+        int towerCount = r.next();
+        for (int i = 0; i < towerCount; i++) {
+            int type = r.next();
+            int tileX = r.next();
+            int tileY = r.next();
+            int level = r.next();
+            Tower tower = createTower(type, tileX * GameMap.TILE_SIZE, tileY * GameMap.TILE_SIZE);
+            for (int l = tower.getLevel(); l < level; l++) {
+                tower.upgrade(); // applies the level's stats and sprite
+            }
+            int shots = r.next();
+            long damage = r.nextLong();
+            long overkill = r.nextLong();
+            int kills = r.next();
+            tower.restoreWaveStats(r.nextLong(), r.next());
+            tower.restoreStats(shots, damage, overkill, kills, r.nextLong());
+            tower.setLastFireTime(r.nextLong());
+            towers.add(tower);
+            gameMap.setTileAsOccupiedByTower(tileX, tileY, true);
+        }
+        statistics.readFrom(r);
+        fireScheduler.rebuild(towers, getSimulationTimeMs());
+
+        statusEffects.clear();
+        enemies.clear();
+        GamePath path = gameMap.getEnemyPath();
+        int enemyCount = r.next();
+        for (int i = 0; i < enemyCount; i++) {
+            Enemy enemy = createEnemy(Enemy.EnemyType.values()[r.next()], 0, 0);
+            enemy.setPosition(r.nextFixed(16), r.nextFixed(16));
+            enemy.setPathProgress(r.nextFixed(1e9));
+            if (path != null) {
+                enemy.setPathForLoadedEnemy(path);
+            }
+            enemy.setMaxHealth(r.next());
+            enemy.setCurrentHealth(r.next());
+            int effectMask = r.next();
+            for (StatusEffectType type : StatusEffectType.values()) {
+                if ((effectMask & (1 << type.ordinal())) != 0) {
+                    double magnitude = r.nextFixed(1000);
+                    int remaining = r.next();
+                    statusEffects.apply(enemy, type, magnitude, remaining < 0 ? StatusEffects.PERMANENT : remaining);
+                }
+            }
+            enemies.add(enemy);
+        }
+        powerUpManager.setCurrentWave(currentWave);
+        powerUpManager.restoreState(cooldowns, freezeRemaining);
+
+        activeGoldBags.clear();
+        int bagCount = r.next();
+        for (int i = 0; i < bagCount; i++) {
+            double x = r.nextFixed(16);
+            double y = r.nextFixed(16);
+            DroppedGold bag = new DroppedGold(x, y, r.next());
+            addGoldBag(bag, r.next());
+        }
+        pendingGoldBags.clear();
+        int pendingCount = r.next();
+        for (int i = 0; i < pendingCount; i++) {
+            double x = r.nextFixed(16);
+            double y = r.nextFixed(16);
+            int amount = r.next();
+            scheduleGoldBag(x, y, amount, r.next());
+        }
+
+        projectiles.clear();
+        activeEffects.clear();
+        eventBus.clear(); // events from the discarded timeline
+    }
+
+    // ===== EXPIRY TIMERS =====
+
+    /**
+     * Convert game seconds to simulation ticks.
+     */
+    public static long ticksFor(double seconds) {
+        return Math.max(1, Math.round(seconds / TICK_SECONDS));
+    }
+
+    /**
+     * Give a knight the goblin synergy boost while a goblin is next to it.
+     */
+    private void updateKnightSynergy(Knight knight) {
+        if (knight.isNearGoblin(enemies)) {
+            statusEffects.apply(knight, StatusEffectType.SPEED_BOOST, knight.getSynergySpeedFactor(),
+                    StatusEffects.PERMANENT);
+        } else {
+            statusEffects.remove(knight, StatusEffectType.SPEED_BOOST);
+        }
+    }
+
+    /**
+     * Add a gold bag that disappears after the given number of ticks unless collected.
+     */
+    private void addGoldBag(DroppedGold bag, long lifespanTicks) {
+        activeGoldBags.add(bag);
+        bag.setExpiry(timers.schedule(lifespanTicks, () -> {
+            activeGoldBags.remove(bag);
+            LOG.debug("Gold bag expired and removed.");
+        }));
+    }
+
+    /**
+     * Create a dropped gold bag once its spawn animation has played.
+     */
+    private void scheduleGoldBag(double x, double y, int amount, long delayTicks) {
+        PendingGoldBag pending = new PendingGoldBag(x, y, amount);
+        pendingGoldBags.add(pending);
+        pending.timer = timers.schedule(delayTicks, () -> {
+            pendingGoldBags.remove(pending);
+            addGoldBag(new DroppedGold(x, y, amount), ticksFor(DroppedGold.LIFESPAN_SECONDS));
+            LOG.debug("Dropped gold bag (value: {}G) created AFTER animation at ({},{})", amount, x, y);
+        });
+    }
+
+    /**
+     * Get the expiry timer wheel (runs on the simulation clock).
+     */
+    public TimerWheel getTimerWheel() {
+        return timers;
+    }
+
+    /**
+     * Get the status effects of all enemies.
+     */
+    public StatusEffects getStatusEffects() {
+        return statusEffects;
+    }
+
+    private static double restoreTimer(double value) {
+        return value < 0 ? -1 : value;
+    }
+
+    private static int towerTypeCode(Tower tower) {
+        if (tower instanceof ArcherTower) {
+            return 0;
+        } else if (tower instanceof ArtilleryTower) {
+            return 1;
+        }
+        return 2;
+    }
+
+    private static Tower createTower(int typeCode, double x, double y) {
+        switch (typeCode) {
+            case 0:
+                return new ArcherTower(x, y);
+            case 1:
+                return new ArtilleryTower(x, y);
+            default:
+                return new MageTower(x, y);
+        }
+    }
+
+    private static Enemy createEnemy(Enemy.EnemyType type, double x, double y) {
+        return type == Enemy.EnemyType.KNIGHT ? new Knight(x, y) : new Goblin(x, y);
+    }
+
+    /**
+     * Get the gameplay random source.
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Replace the gameplay random source (for save/load system)
+     */
+    public void setRandom(GameRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Get the tower fire scheduler.
+     */
+    public TowerFireScheduler getFireScheduler() {
+        return fireScheduler;
+    }
+
     /**
      * Reinitialize all entities after loading a saved game.
      * This ensures that images and other transient fields are properly reloaded.
@@ -880,11 +1648,20 @@ public class GameController {
         for (Tower tower : towers) {
             tower.reinitializeAfterLoad();
         }
+        fireScheduler.rebuild(towers, getSimulationTimeMs());
+        rewindBuffer.clear();
+        eventBus.clear();
 
-        // Reinitialize gold bags if they are part of save/load
+        // Reinitialize gold bags if they are part of save/load; they get a fresh lifespan
         System.out.println("Reinitializing " + activeGoldBags.size() + " gold bags");
-        for (DroppedGold bag : activeGoldBags) {
+        timers.reset(tickCount);
+        pendingGoldBags.clear(); // their timers are gone; bags still animating are not saved
+        statusEffects.clear(); // effects are not saved
+        List<DroppedGold> loadedBags = new ArrayList<>(activeGoldBags);
+        activeGoldBags.clear();
+        for (DroppedGold bag : loadedBags) {
             bag.reinitializeAfterLoad();
+            addGoldBag(bag, ticksFor(DroppedGold.LIFESPAN_SECONDS));
         }
 
         System.out.println("GameController: Reinitialization complete");
@@ -893,15 +1670,54 @@ public class GameController {
     // Helper to check if any enemies are scheduled for the current wave but not yet
     // spawned
     private boolean anyEnemiesLeftInWave() {
-        Wave currentWaveData = WaveConfig.getWave(this.currentWave);
-        if (currentWaveData == null)
-            return false;
-        // This is a simplified check. Real implementation would need to track spawned
-        // vs total for the wave.
-        // For now, if isSpawningEnemies is true, we assume some might still be in a
-        // queue.
-        // The logic in startNextWave needs to manage this queue properly.
-        return isSpawningEnemies; // Placeholder, proper check depends on startNextWave implementation
+        return waveSchedule != null && nextSpawnIndex < waveSchedule.size();
+    }
+
+    /**
+     * Compile the current wave's schedule and position its cursor.
+     *
+     * @param tick ticks already elapsed in the wave
+     * @param spawnIndex number of events already spawned
+     */
+    private void startWaveSchedule(int tick, int spawnIndex) {
+        Wave wave = endlessMode ? EndlessWaveGenerator.generate(currentWave, random.getSeed())
+                : WaveConfig.getWave(currentWave);
+        if (wave == null) {
+            System.err.println("ERROR: No definition for wave " + currentWave);
+            waveSchedule = null;
+            isSpawningEnemies = false;
+            return;
+        }
+        waveSchedule = WaveSchedule.compile(wave, TICK_SECONDS);
+        waveTick = tick;
+        nextSpawnIndex = Math.min(spawnIndex, waveSchedule.size());
+        isSpawningEnemies = nextSpawnIndex < waveSchedule.size();
+    }
+
+    /**
+     * Get the number of ticks elapsed in the current wave's spawn schedule
+     * (for save/load system)
+     */
+    public int getWaveTick() {
+        return waveTick;
+    }
+
+    /**
+     * Get the number of enemies of the current wave spawned so far
+     * (for save/load system)
+     */
+    public int getNextSpawnIndex() {
+        return nextSpawnIndex;
+    }
+
+    /**
+     * Resume the current wave's spawning part-way through (for save/load
+     * system). Call after the current wave has been set.
+     */
+    public void resumeWaveSpawning(int tick, int spawnIndex) {
+        if (currentWave > 0) {
+            startWaveSchedule(tick, spawnIndex);
+        }
     }
 
     // Method to purchase and place tower using TILE coordinates
@@ -946,12 +1762,18 @@ public class GameController {
                 newTower.setX(worldX);
                 newTower.setY(worldY);
                 newTower.setLevel(1); // Ensure it's level 1
+                newTower.setPlacedTick(tickCount);
 
                 towers.add(newTower);
+                fireScheduler.addTower(newTower, getSimulationTimeMs());
                 playerGold -= cost;
                 System.out.println(newTower.getName() + " purchased and placed at (" + tileX + "," + tileY + "). Gold: "
                         + playerGold);
                 gameMap.setTileAsOccupiedByTower(tileX, tileY, true);
+                eventBus.publish(GameEventType.TOWER_BUILT, tickCount, tileX, tileY, cost, 1, newTower);
+                if (replayRecorder != null) {
+                    replayRecorder.recordPlaceTower(tickCount, newTower.getClass().getSimpleName(), tileX, tileY);
+                }
                 return true;
             }
             System.err.println("Cannot place tower: Tile (" + tileX + "," + tileY + ") is not suitable or blocked.");
@@ -972,8 +1794,17 @@ public class GameController {
         }
 
         if (towerToUpgrade.canUpgrade() && playerGold >= towerToUpgrade.getUpgradeCost()) {
-            playerGold -= towerToUpgrade.getUpgradeCost();
+            int upgradeCost = towerToUpgrade.getUpgradeCost();
+            playerGold -= upgradeCost;
             towerToUpgrade.upgrade();
+            fireScheduler.refreshTower(towerToUpgrade, getSimulationTimeMs());
+            eventBus.publish(GameEventType.TOWER_UPGRADED, tickCount, (int) (towerToUpgrade.getX() / GameMap.TILE_SIZE),
+                    (int) (towerToUpgrade.getY() / GameMap.TILE_SIZE), upgradeCost, towerToUpgrade.getLevel(),
+                    towerToUpgrade);
+            if (replayRecorder != null) {
+                replayRecorder.recordUpgradeTower(tickCount, (int) (towerToUpgrade.getX() / GameMap.TILE_SIZE),
+                        (int) (towerToUpgrade.getY() / GameMap.TILE_SIZE));
+            }
             System.out.println("Tower at (" + tileX + "," + tileY + ") upgraded to level " + towerToUpgrade.getLevel()
                     + ". Gold: " + playerGold);
             return true;
@@ -1012,11 +1843,17 @@ public class GameController {
         if (towerToSell != null) {
             int refund = towerToSell.getSellRefund();
             towers.remove(indexToRemove);
+            fireScheduler.removeTower(towerToSell);
             playerGold += refund;
             System.out.println("[GameController.sellTower]     Tower removed. Gold after refund: " + playerGold); // DEBUG
             gameMap.setTileAsOccupiedByTower(tileX, tileY, false);
             System.out.println("[GameController.sellTower]     Called setTileAsOccupiedByTower for (" + tileX + ","
                     + tileY + ") to false."); // DEBUG
+            eventBus.publish(GameEventType.TOWER_SOLD, tickCount, tileX, tileY, refund, towerToSell.getLevel(),
+                    towerToSell);
+            if (replayRecorder != null) {
+                replayRecorder.recordSellTower(tickCount, tileX, tileY);
+            }
             return refund;
         }
         System.err.println("[GameController.sellTower] Sell failed: No tower found at tile (" + tileX + "," + tileY
@@ -1040,7 +1877,13 @@ public class GameController {
         if (activeGoldBags.contains(bag)) {
             playerGold += bag.getGoldAmount();
             activeGoldBags.remove(bag);
-            System.out.println("Collected gold bag with " + bag.getGoldAmount() + "G. Total gold: " + playerGold);
+            timers.cancel(bag.getExpiry());
+            eventBus.publish(GameEventType.GOLD_BAG_COLLECTED, tickCount, bag.getCenterX(), bag.getCenterY(),
+                    bag.getGoldAmount(), 0, bag);
+            if (replayRecorder != null) {
+                replayRecorder.recordCollectGold(tickCount, bag.getX(), bag.getY());
+            }
+            LOG.info("Collected gold bag with {}G. Total gold: {}", bag.getGoldAmount(), playerGold);
         } else {
             System.err.println("Attempted to collect an already collected or non-existent gold bag.");
         }
@@ -1051,6 +1894,13 @@ public class GameController {
         return activeGoldBags;
     }
 
+    /**
+     * @return number of visual effects still playing
+     */
+    public int getActiveEffectCount() {
+        return activeEffects.size();
+    }
+
     // ===== SAVE/LOAD SYSTEM SUPPORT METHODS =====
 
     /**
@@ -1115,6 +1965,14 @@ public class GameController {
                 .println("🌟 Path flash started! Showing enemy route for " + (PATH_FLASH_DURATION / 1000) + " seconds");
     }
 
+    /**
+     * Start an effect, playing fewer of its frames at lower quality.
+     */
+    private void addEffect(AnimatedEffect effect) {
+        effect.setFrameStep(quality.getLevel().getEffectFrameStep());
+        activeEffects.add(effect);
+    }
+
     /**
      * Update the path flash animation
      */
@@ -1130,6 +1988,8 @@ public class GameController {
             pathFlashActive = false;
             pathFlashAlpha = 0.0;
             System.out.println("✨ Path flash ended - route hidden");
+        } else if (!quality.getLevel().isPathFlashPulse()) {
+            pathFlashAlpha = 1.0; // hold still at lower quality
         } else {
             // Calculate pulsing alpha (creates a breathing effect)
             double progress = (double) elapsed / PATH_FLASH_DURATION;
@@ -1165,7 +2025,11 @@ public class GameController {
      * Activate a power-up (called from UI)
      */
     public boolean activatePowerUp(PowerUpType type) {
-        return powerUpManager.activatePowerUp(type);
+        boolean activated = powerUpManager.activatePowerUp(type);
+        if (activated && replayRecorder != null) {
+            replayRecorder.recordActivatePowerUp(tickCount, type.name());
+        }
+        return activated;
     }
 
     /**
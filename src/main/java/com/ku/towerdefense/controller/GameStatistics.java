@@ -0,0 +1,258 @@
+package com.ku.towerdefense.controller;
+
+import com.ku.towerdefense.event.GameEventBus;
+import com.ku.towerdefense.event.GameEventType;
+import com.ku.towerdefense.model.entity.Tower;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Combat and economy statistics for a game, overall and per wave.
+ *
+ * Combat numbers are recorded directly on the damage path into primitive
+ * arrays indexed by wave number (no maps, no boxing). Economy numbers come
+ * from the event bus after each frame. Per-tower numbers live on the
+ * towers themselves.
+ */
+public class GameStatistics implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Event types this class listens to. */
+    public static final long EVENT_MASK = GameEventType.maskOf(GameEventType.TOWER_BUILT,
+            GameEventType.TOWER_UPGRADED, GameEventType.ENEMY_KILLED, GameEventType.GOLD_BAG_COLLECTED,
+            GameEventType.WAVE_STARTED, GameEventType.WAVE_COMPLETED);
+
+    // Totals
+    private int towersBuilt;
+    private int enemiesKilled;
+    private int totalGoldEarned;
+    private int totalGoldSpent;
+    private int shotsFired;
+    private long damageDealt;
+    private long overkillDamage;
+
+    // Per wave, index = wave number (0 = before the first wave)
+    private int[] waveShots = new int[16];
+    private long[] waveDamage = new long[16];
+    private long[] waveOverkill = new long[16];
+    private int[] waveKills = new int[16];
+    private long[] waveStartTick = new long[16];
+    private long[] waveEndTick = new long[16]; // 0 while the wave is running
+    private int lastWave = 0;
+
+    // ===== DAMAGE PATH =====
+
+    /**
+     * Record projectiles fired during a wave.
+     */
+    public void recordShots(int wave, int count) {
+        ensureWave(wave);
+        shotsFired += count;
+        waveShots[wave] += count;
+    }
+
+    /**
+     * Record a hit on an enemy.
+     *
+     * @param tower tower that fired the projectile, may be null
+     * @param wave current wave
+     * @param healthBefore target health before the hit
+     * @param healthAfter target health after the hit (may be negative)
+     */
+    public void recordHit(Tower tower, int wave, int healthBefore, int healthAfter) {
+        int remaining = Math.max(0, healthBefore);
+        int applied = healthBefore - healthAfter;
+        int dealt = Math.min(applied, remaining);
+        int overkill = applied - dealt;
+        boolean killed = healthBefore > 0 && healthAfter <= 0;
+
+        ensureWave(wave);
+        damageDealt += dealt;
+        overkillDamage += overkill;
+        waveDamage[wave] += dealt;
+        waveOverkill[wave] += overkill;
+        if (killed) {
+            enemiesKilled++;
+            waveKills[wave]++;
+        }
+        if (tower != null) {
+            tower.recordHit(dealt, overkill, killed);
+        }
+    }
+
+    // ===== EVENTS =====
+
+    /**
+     * Update economy and wave timing from a batch of gameplay events.
+     */
+    public void onEvents(GameEventBus.Batch events) {
+        for (int i = 0; i < events.size(); i++) {
+            switch (events.type(i)) {
+                case TOWER_BUILT:
+                    towersBuilt++;
+                    totalGoldSpent += events.amount(i);
+                    break;
+                case TOWER_UPGRADED:
+                    totalGoldSpent += events.amount(i);
+                    break;
+                case ENEMY_KILLED:
+                case GOLD_BAG_COLLECTED:
+                    totalGoldEarned += events.amount(i);
+                    break;
+                case WAVE_STARTED:
+                    int wave = events.code(i);
+                    ensureWave(wave);
+                    waveStartTick[wave] = events.tick(i);
+                    waveEndTick[wave] = 0;
+                    break;
+                case WAVE_COMPLETED:
+                    int completed = events.code(i);
+                    ensureWave(completed);
+                    waveEndTick[completed] = events.tick(i);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * @return highest wave number with recorded statistics
+     */
+    public int getLastWave() {
+        return lastWave;
+    }
+
+    public int getWaveShots(int wave) {
+        return wave <= lastWave ? waveShots[wave] : 0;
+    }
+
+    public long getWaveDamage(int wave) {
+        return wave <= lastWave ? waveDamage[wave] : 0;
+    }
+
+    public long getWaveOverkill(int wave) {
+        return wave <= lastWave ? waveOverkill[wave] : 0;
+    }
+
+    public int getWaveKills(int wave) {
+        return wave <= lastWave ? waveKills[wave] : 0;
+    }
+
+    /**
+     * Damage per second over a wave, up to now if it is still running.
+     */
+    public double getWaveDps(int wave, long currentTick, double tickSeconds) {
+        if (wave > lastWave || waveStartTick[wave] == 0) {
+            return 0.0;
+        }
+        long end = waveEndTick[wave] != 0 ? waveEndTick[wave] : currentTick;
+        double seconds = (end - waveStartTick[wave]) * tickSeconds;
+        return seconds > 0 ? waveDamage[wave] / seconds : 0.0;
+    }
+
+    public int getTowersBuilt() {
+        return towersBuilt;
+    }
+
+    public int getEnemiesKilled() {
+        return enemiesKilled;
+    }
+
+    public int getTotalGoldEarned() {
+        return totalGoldEarned;
+    }
+
+    public int getTotalGoldSpent() {
+        return totalGoldSpent;
+    }
+
+    public int getShotsFired() {
+        return shotsFired;
+    }
+
+    public long getDamageDealt() {
+        return damageDealt;
+    }
+
+    public long getOverkillDamage() {
+        return overkillDamage;
+    }
+
+    /**
+     * Restore the economy totals of a save made before per-wave statistics were saved.
+     */
+    public void restoreTotals(int towersBuilt, int enemiesKilled, int totalGoldEarned, int totalGoldSpent) {
+        this.towersBuilt = towersBuilt;
+        this.enemiesKilled = enemiesKilled;
+        this.totalGoldEarned = totalGoldEarned;
+        this.totalGoldSpent = totalGoldSpent;
+    }
+
+    // ===== REWIND =====
+
+    /**
+     * Append the statistics to a rewind frame.
+     */
+    void writeTo(RewindBuffer.FrameWriter w) {
+        w.add(towersBuilt);
+        w.add(enemiesKilled);
+        w.add(totalGoldEarned);
+        w.add(totalGoldSpent);
+        w.add(shotsFired);
+        w.addLong(damageDealt);
+        w.addLong(overkillDamage);
+        w.add(lastWave);
+        for (int wave = 0; wave <= lastWave; wave++) {
+            w.add(waveShots[wave]);
+            w.addLong(waveDamage[wave]);
+            w.addLong(waveOverkill[wave]);
+            w.add(waveKills[wave]);
+            w.addLong(waveStartTick[wave]);
+            w.addLong(waveEndTick[wave]);
+        }
+    }
+
+    /**
+     * Replace the statistics with those written by {@link #writeTo}.
+     */
+    void readFrom(RewindBuffer.FrameReader r) {
+        towersBuilt = r.next();
+        enemiesKilled = r.next();
+        totalGoldEarned = r.next();
+        totalGoldSpent = r.next();
+        shotsFired = r.next();
+        damageDealt = r.nextLong();
+        overkillDamage = r.nextLong();
+        int restoredLastWave = r.next();
+        ensureWave(restoredLastWave);
+        lastWave = restoredLastWave;
+        for (int wave = 0; wave < waveDamage.length; wave++) {
+            boolean kept = wave <= lastWave;
+            waveShots[wave] = kept ? r.next() : 0;
+            waveDamage[wave] = kept ? r.nextLong() : 0;
+            waveOverkill[wave] = kept ? r.nextLong() : 0;
+            waveKills[wave] = kept ? r.next() : 0;
+            waveStartTick[wave] = kept ? r.nextLong() : 0;
+            waveEndTick[wave] = kept ? r.nextLong() : 0;
+        }
+    }
+
+    private void ensureWave(int wave) {
+        if (wave >= waveDamage.length) {
+            int length = Math.max(wave + 1, waveDamage.length * 2);
+            waveShots = Arrays.copyOf(waveShots, length);
+            waveDamage = Arrays.copyOf(waveDamage, length);
+            waveOverkill = Arrays.copyOf(waveOverkill, length);
+            waveKills = Arrays.copyOf(waveKills, length);
+            waveStartTick = Arrays.copyOf(waveStartTick, length);
+            waveEndTick = Arrays.copyOf(waveEndTick, length);
+        }
+        if (wave > lastWave) {
+            lastWave = wave;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ku.towerdefense.controller;
+
+import com.ku.towerdefense.powerup.PowerUpType;
+import com.ku.towerdefense.render.DrawList;
+import com.ku.towerdefense.render.TextureAtlas;
+
+/**
+ * What the FX thread needs to draw one frame while the simulation runs on
+ * its own thread: the recorded draw commands of the world's entities and
+ * the numbers shown around them.
+ *
+ * Snapshots are recycled through a {@link com.ku.towerdefense.render.TripleBuffer}.
+ * The simulation thread fills one in {@link GameController#captureSnapshot}
+ * and never touches it again once published, so the reader sees it as
+ * immutable until it hands it back.
+ */
+public final class RenderSnapshot {
+
+    private final DrawList entities = new DrawList(TextureAtlas.getInstance());
+    private boolean captured = false;
+
+    private long tickCount;
+    private int playerGold;
+    private int playerLives;
+    private int currentWave;
+    private boolean gracePeriod;
+    private boolean gameOver;
+    private int towerCount;
+    private int enemyCount;
+    private int projectileCount;
+    private int leakedEnemies;
+    private int freezeCooldownWaves;
+    private boolean towerImageMissing;
+
+    /**
+     * Fill in the game state; the draw list is recorded separately.
+     */
+    void capture(GameController controller) {
+        captured = true;
+        tickCount = controller.getTickCount();
+        playerGold = controller.getPlayerGold();
+        playerLives = controller.getPlayerLives();
+        currentWave = controller.getCurrentWave();
+        gracePeriod = controller.isInGracePeriod();
+        gameOver = controller.isGameOver();
+        towerCount = controller.getTowers().size();
+        enemyCount = controller.getEnemies().size();
+        projectileCount = controller.getProjectiles().size();
+        leakedEnemies = controller.getLeakedEnemies();
+        freezeCooldownWaves = controller.getPowerUpManager().getCooldownWavesRemaining(PowerUpType.FREEZE_ENEMIES);
+        towerImageMissing = towerCount > 0 && controller.getTowers().get(0).getImage() == null;
+    }
+
+    /**
+     * @return the entity draw commands, sorted and ready to draw
+     */
+    public DrawList getEntities() {
+        return entities;
+    }
+
+    /**
+     * @return false until the simulation has published its first frame
+     */
+    public boolean isCaptured() {
+        return captured;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getPlayerGold() {
+        return playerGold;
+    }
+
+    public int getPlayerLives() {
+        return playerLives;
+    }
+
+    public int getCurrentWave() {
+        return currentWave;
+    }
+
+    public boolean isInGracePeriod() {
+        return gracePeriod;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getTowerCount() {
+        return towerCount;
+    }
+
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    public int getProjectileCount() {
+        return projectileCount;
+    }
+
+    public int getLeakedEnemies() {
+        return leakedEnemies;
+    }
+
+    /**
+     * @return waves until the freeze power-up is off cooldown, 0 if it is ready
+     */
+    public int getFreezeCooldownWaves() {
+        return freezeCooldownWaves;
+    }
+
+    /**
+     * @return true if tower images failed to load and fallback shapes are
+     *         drawn
+     */
+    public boolean isTowerImageMissing() {
+        return towerImageMissing;
+    }
+}
@@ -0,0 +1,314 @@
+package com.ku.towerdefense.controller;
+
+import java.util.Arrays;
+
+/**
+ * Ring buffer of compact game-state snapshots for rewinding.
+ *
+ * GameController flattens its state into an int[] frame (see
+ * {@link FrameWriter}). Each frame is stored as the zig-zag varint encoded
+ * difference to the previously captured frame, with a full keyframe every
+ * {@link #KEYFRAME_INTERVAL} snapshots (more often in a buffer with fewer
+ * than twice that many slots). The buffer is bounded both by slot count and
+ * by total encoded bytes; the oldest snapshots are dropped first, a keyframe
+ * together with the deltas that depend on it.
+ */
+public class RewindBuffer {
+
+    public static final int KEYFRAME_INTERVAL = 20;
+
+    /**
+     * One stored snapshot.
+     */
+    private static final class Snapshot {
+        long tick;
+        boolean keyframe;
+        int frameLength;
+        byte[] data;
+        int dataLength;
+    }
+
+    private final Snapshot[] slots;
+    private final long maxBytes;
+    private final int keyframeInterval; // evicting a keyframe's group must leave some history
+    private int head = 0;   // index of the oldest snapshot
+    private int size = 0;
+    private long totalBytes = 0;
+    private int sinceKeyframe = KEYFRAME_INTERVAL;
+
+    private int[] lastFrame = new int[0];
+    private int lastFrameLength = 0;
+    private byte[] encodeBuffer = new byte[1024];
+
+    /**
+     * @param capacity maximum number of snapshots kept
+     * @param maxBytes maximum total size of the encoded snapshots
+     */
+    public RewindBuffer(int capacity, long maxBytes) {
+        this.slots = new Snapshot[Math.max(2, capacity)];
+        this.maxBytes = Math.max(1024, maxBytes);
+        this.keyframeInterval = Math.min(KEYFRAME_INTERVAL, slots.length / 2);
+    }
+
+    /**
+     * Store a captured frame.
+     *
+     * @param tick simulation tick the frame was captured at
+     * @param frame the frame data
+     * @param length number of valid ints in frame
+     */
+    public void push(long tick, int[] frame, int length) {
+        if (size == slots.length) {
+            evictOldest();
+        }
+        // Decided after evicting: that may have dropped the keyframe a delta would need
+        boolean keyframe = sinceKeyframe >= keyframeInterval || size == 0;
+        int encodedLength = encode(frame, length, keyframe);
+        int index = (head + size) % slots.length;
+        Snapshot snapshot = slots[index];
+        if (snapshot == null) {
+            snapshot = new Snapshot();
+            slots[index] = snapshot;
+        }
+        if (snapshot.data == null || snapshot.data.length < encodedLength) {
+            snapshot.data = new byte[encodedLength];
+        }
+        System.arraycopy(encodeBuffer, 0, snapshot.data, 0, encodedLength);
+        snapshot.dataLength = encodedLength;
+        snapshot.tick = tick;
+        snapshot.keyframe = keyframe;
+        snapshot.frameLength = length;
+        size++;
+        totalBytes += encodedLength;
+        sinceKeyframe = keyframe ? 1 : sinceKeyframe + 1;
+
+        if (lastFrame.length < length) {
+            lastFrame = new int[Math.max(length, lastFrame.length * 2)];
+        }
+        System.arraycopy(frame, 0, lastFrame, 0, length);
+        lastFrameLength = length;
+
+        while (totalBytes > maxBytes && size > 1) {
+            evictOldest();
+        }
+    }
+
+    /**
+     * Decode the newest snapshot taken at or before the given tick, and drop
+     * every snapshot after it (the timeline continues from there).
+     *
+     * @param targetTick the tick to rewind to
+     * @return the frame, or null if the buffer is empty
+     */
+    public int[] rewindTo(long targetTick) {
+        if (size == 0) {
+            return null;
+        }
+        // Newest snapshot at or before the target, or the oldest one we have
+        int target = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            if (slot(i).tick <= targetTick) {
+                target = i;
+                break;
+            }
+        }
+        int key = target;
+        while (!slot(key).keyframe) {
+            key--;
+        }
+
+        int[] frame = new int[0];
+        for (int i = key; i <= target; i++) {
+            frame = decode(slot(i), frame);
+        }
+
+        // Discard the future and continue delta encoding from this frame
+        for (int i = target + 1; i < size; i++) {
+            totalBytes -= slot(i).dataLength;
+        }
+        size = target + 1;
+        lastFrame = Arrays.copyOf(frame, frame.length);
+        lastFrameLength = frame.length;
+        sinceKeyframe = KEYFRAME_INTERVAL; // next snapshot is a keyframe
+        return frame;
+    }
+
+    /**
+     * @return tick of the oldest snapshot, or -1 if empty
+     */
+    public long getOldestTick() {
+        return size == 0 ? -1 : slot(0).tick;
+    }
+
+    /**
+     * @return tick of the newest snapshot, or -1 if empty
+     */
+    public long getNewestTick() {
+        return size == 0 ? -1 : slot(size - 1).tick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return maximum number of snapshots kept
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * @return total encoded size of all stored snapshots in bytes
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * @return limit on the total encoded size in bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void clear() {
+        size = 0;
+        head = 0;
+        totalBytes = 0;
+        sinceKeyframe = KEYFRAME_INTERVAL;
+        lastFrameLength = 0;
+    }
+
+    private Snapshot slot(int i) {
+        return slots[(head + i) % slots.length];
+    }
+
+    private void evictOldest() {
+        // Drop the oldest keyframe together with the deltas that depend on it
+        do {
+            totalBytes -= slot(0).dataLength;
+            head = (head + 1) % slots.length;
+            size--;
+        } while (size > 0 && !slot(0).keyframe);
+        if (size == 0) {
+            sinceKeyframe = KEYFRAME_INTERVAL;
+        }
+    }
+
+    private int encode(int[] frame, int length, boolean keyframe) {
+        int pos = 0;
+        ensureEncodeCapacity(5 + length * 5);
+        pos = writeVarInt(length, pos);
+        for (int i = 0; i < length; i++) {
+            int base = (!keyframe && i < lastFrameLength) ? lastFrame[i] : 0;
+            int delta = frame[i] - base;
+            pos = writeVarInt((delta << 1) ^ (delta >> 31), pos);
+        }
+        return pos;
+    }
+
+    private int[] decode(Snapshot snapshot, int[] previous) {
+        byte[] data = snapshot.data;
+        int[] pos = { 0 };
+        int length = readVarInt(data, pos);
+        int[] frame = new int[length];
+        for (int i = 0; i < length; i++) {
+            int zigzag = readVarInt(data, pos);
+            int delta = (zigzag >>> 1) ^ -(zigzag & 1);
+            int base = (!snapshot.keyframe && i < previous.length) ? previous[i] : 0;
+            frame[i] = base + delta;
+        }
+        return frame;
+    }
+
+    private void ensureEncodeCapacity(int needed) {
+        if (encodeBuffer.length < needed) {
+            encodeBuffer = new byte[Math.max(needed, encodeBuffer.length * 2)];
+        }
+    }
+
+    private int writeVarInt(int value, int pos) {
+        while ((value & ~0x7F) != 0) {
+            encodeBuffer[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        encodeBuffer[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static int readVarInt(byte[] data, int[] pos) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = data[pos[0]++] & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Growable int array used to flatten state into a frame without boxing.
+     */
+    public static final class FrameWriter {
+        private int[] data = new int[256];
+        private int length = 0;
+
+        public void reset() {
+            length = 0;
+        }
+
+        public void add(int value) {
+            if (length == data.length) {
+                data = Arrays.copyOf(data, length * 2);
+            }
+            data[length++] = value;
+        }
+
+        public void addLong(long value) {
+            add((int) (value >>> 32));
+            add((int) value);
+        }
+
+        /** Store a double as fixed point with the given scale. */
+        public void addFixed(double value, double scale) {
+            add((int) Math.round(value * scale));
+        }
+
+        public int[] array() {
+            return data;
+        }
+
+        public int length() {
+            return length;
+        }
+    }
+
+    /**
+     * Sequential reader for a decoded frame.
+     */
+    public static final class FrameReader {
+        private final int[] data;
+        private int pos = 0;
+
+        public FrameReader(int[] data) {
+            this.data = data;
+        }
+
+        public int next() {
+            return data[pos++];
+        }
+
+        public long nextLong() {
+            long high = next();
+            long low = next() & 0xFFFFFFFFL;
+            return (high << 32) | low;
+        }
+
+        public double nextFixed(double scale) {
+            return next() / scale;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.ku.towerdefense.controller;
+
+import com.ku.towerdefense.render.TripleBuffer;
+import com.ku.towerdefense.util.GameLog;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs a game's simulation on its own thread, so a slow tick no longer
+ * delays a frame and a slow frame no longer delays the simulation.
+ *
+ * Once per tick the thread applies queued commands, advances the controller
+ * by the wall-clock time since the last update, records a
+ * {@link RenderSnapshot} of the visible world and publishes it through a
+ * {@link TripleBuffer}; the FX thread draws the newest one. Player actions
+ * travel the other way as commands, applied between updates so they always
+ * land on a tick boundary.
+ *
+ * While the thread runs, the FX thread must not change the controller or
+ * walk its entity lists; it goes through {@link #submit} or {@link #call}.
+ */
+public final class SimulationThread {
+    private static final GameLog LOG = GameLog.getInstance();
+
+    private static final long TICK_NANOS = Math.round(GameController.TICK_SECONDS * 1_000_000_000L);
+    private static final long CALL_POLL_MS = 100; // how often a waiting caller checks the thread is still running
+
+    /**
+     * The part of the world the FX thread is showing.
+     */
+    private static final class View {
+        final double minX;
+        final double minY;
+        final double maxX;
+        final double maxY;
+        final double scale;
+
+        View(double minX, double minY, double maxX, double maxY, double scale) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.scale = scale;
+        }
+    }
+
+    private final GameController controller;
+    private final Queue<Consumer<GameController>> commands = new ConcurrentLinkedQueue<>();
+    private final TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+    private volatile View view = new View(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 1.0);
+    private volatile Thread thread;
+
+    public SimulationThread(GameController controller) {
+        this.controller = controller;
+    }
+
+    // ===== Lifecycle =====
+
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        Thread simulation = new Thread(this::run, "simulation");
+        simulation.setDaemon(true);
+        thread = simulation;
+        simulation.start();
+    }
+
+    /**
+     * Stop the thread and wait for its current tick to finish. Commands
+     * still queued are applied on the calling thread.
+     */
+    public void stop() {
+        Thread simulation;
+        synchronized (this) {
+            simulation = thread;
+            thread = null;
+        }
+        if (simulation == null) {
+            return;
+        }
+        LockSupport.unpark(simulation);
+        try {
+            simulation.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainCommands();
+    }
+
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    /**
+     * @return the thread running the simulation, or null while stopped
+     */
+    public Thread getThread() {
+        return thread;
+    }
+
+    // ===== Commands (any thread) =====
+
+    /**
+     * Queue a command for the next tick boundary and return at once.
+     */
+    public void submit(Consumer<GameController> command) {
+        commands.add(command);
+        Thread simulation = thread;
+        if (simulation != null) {
+            LockSupport.unpark(simulation); // apply it now rather than after the sleep
+        } else {
+            drainCommands();
+        }
+    }
+
+    /**
+     * Run a command at the next tick boundary and wait for its result. Runs
+     * it directly when called on the simulation thread or while stopped.
+     */
+    public <T> T call(Function<GameController, T> command) {
+        Thread simulation = thread;
+        if (simulation == null || simulation == Thread.currentThread()) {
+            return command.apply(controller);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(c -> {
+            try {
+                result.complete(command.apply(c));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        while (true) {
+            try {
+                return result.get(CALL_POLL_MS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (thread == null) {
+                    drainCommands(); // stopped before reaching the command
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the simulation", e);
+            } catch (ExecutionException e) {
+                throw (RuntimeException) e.getCause();
+            }
+        }
+    }
+
+    private void drainCommands() {
+        Consumer<GameController> command;
+        while ((command = commands.poll()) != null) {
+            command.accept(controller);
+        }
+    }
+
+    // ===== Snapshots (FX thread) =====
+
+    /**
+     * Set the world rectangle and scale to record the next snapshots for.
+     */
+    public void setView(double minX, double minY, double maxX, double maxY, double scale) {
+        view = new View(minX, minY, maxX, maxY, scale);
+    }
+
+    /**
+     * @return the newest published snapshot; check
+     *         {@link RenderSnapshot#isCaptured()} before the first tick
+     */
+    public RenderSnapshot latestSnapshot() {
+        return snapshots.front();
+    }
+
+    // ===== Simulation thread =====
+
+    private void run() {
+        long lastUpdate = System.nanoTime();
+        long nextTick = lastUpdate + TICK_NANOS;
+        while (thread == Thread.currentThread()) {
+            try {
+                drainCommands();
+                long now = System.nanoTime();
+                controller.update((now - lastUpdate) / 1_000_000_000.0);
+                lastUpdate = now;
+
+                View v = view;
+                controller.captureSnapshot(snapshots.back(), v.minX, v.minY, v.maxX, v.maxY, v.scale);
+                snapshots.publish();
+            } catch (RuntimeException e) {
+                LOG.error("Simulation step failed", e); // keep the game running, as the render loop did
+            }
+
+            // Sleep until the next tick; a command wakes the thread early
+            long now = System.nanoTime();
+            if (now >= nextTick) {
+                nextTick += ((now - nextTick) / TICK_NANOS + 1) * TICK_NANOS;
+            }
+            if (commands.isEmpty()) {
+                LockSupport.parkNanos(this, nextTick - now);
+            }
+        }
+    }
+}
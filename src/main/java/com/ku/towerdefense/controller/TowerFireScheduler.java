@@ -0,0 +1,377 @@
+package com.ku.towerdefense.controller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.ku.towerdefense.model.entity.Enemy;
+import com.ku.towerdefense.model.entity.Projectile;
+import com.ku.towerdefense.model.entity.Tower;
+
+/**
+ * Event-driven fire scheduling for towers.
+ *
+ * Towers are kept in a priority queue keyed by the simulation time at which
+ * their cooldown expires, so each tick only looks at towers that can actually
+ * shoot. A ready tower with no enemy in range is "parked": it leaves the queue
+ * and registers itself in the coarse grid cells its range circle overlaps.
+ * Enemies standing in one of those cells wake it up again.
+ *
+ * Each tick is split into a read-only "select targets" phase and a sequential
+ * "apply" phase. Target selection only reads enemy state, so with many ready
+ * towers it can run on a {@link ForkJoinPool}; projectiles are still created
+ * in queue order, giving the same result as the sequential path.
+ */
+public class TowerFireScheduler {
+
+    /**
+     * Scheduling state for one tower.
+     */
+    private static final class Entry {
+        final Tower tower;
+        final long seq; // insertion order, breaks ties deterministically
+        long readyTimeMs;
+        boolean queued;
+        boolean parked;
+        int cellMinX, cellMinY, cellMaxX, cellMaxY;
+
+        Entry(Tower tower, long seq, long readyTimeMs) {
+            this.tower = tower;
+            this.seq = seq;
+            this.readyTimeMs = readyTimeMs;
+        }
+    }
+
+    private final PriorityQueue<Entry> readyQueue = new PriorityQueue<>((a, b) -> {
+        int cmp = Long.compare(a.readyTimeMs, b.readyTimeMs);
+        return cmp != 0 ? cmp : Long.compare(a.seq, b.seq);
+    });
+    private final Map<Tower, Entry> entries = new IdentityHashMap<>();
+
+    // Coverage grid of parked towers, one list per cell
+    private final int cellSize;
+    private final int gridWidth;
+    private final int gridHeight;
+    private final List<Entry>[] parkedCells;
+    private int parkedCount;
+
+    private final List<Entry> wakeBuffer = new ArrayList<>();
+    private long nextSeq;
+
+    // Towers due this tick and the targets chosen for them, index-aligned
+    private Entry[] dueEntries = new Entry[16];
+    private Enemy[] dueTargets = new Enemy[16];
+
+    // Parallel target selection
+    private static final int TARGETING_LEAF_SIZE = 16;
+    private static ForkJoinPool targetingPool;
+    private boolean parallelTargeting = false;
+    private int parallelThreshold = 64;
+
+    /**
+     * Create a scheduler for a map of the given size.
+     *
+     * @param gridWidth map width in cells
+     * @param gridHeight map height in cells
+     * @param cellSize cell size in pixels
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public TowerFireScheduler(int gridWidth, int gridHeight, int cellSize) {
+        this.gridWidth = Math.max(1, gridWidth);
+        this.gridHeight = Math.max(1, gridHeight);
+        this.cellSize = Math.max(1, cellSize);
+        this.parkedCells = new List[this.gridWidth * this.gridHeight];
+    }
+
+    /**
+     * Configure parallel target selection.
+     *
+     * @param enabled true to select targets on a ForkJoinPool
+     * @param threshold minimum number of ready towers before going parallel
+     */
+    public void setParallelTargeting(boolean enabled, int threshold) {
+        this.parallelTargeting = enabled;
+        this.parallelThreshold = Math.max(1, threshold);
+    }
+
+    /**
+     * @return true if parallel target selection is enabled
+     */
+    public boolean isParallelTargeting() {
+        return parallelTargeting;
+    }
+
+    /**
+     * Add a tower. It is ready to fire immediately.
+     *
+     * @param tower the tower to schedule
+     * @param nowMs current simulation time in milliseconds
+     */
+    public void addTower(Tower tower, long nowMs) {
+        if (entries.containsKey(tower)) {
+            return;
+        }
+        Entry entry = new Entry(tower, nextSeq++, nowMs);
+        entries.put(tower, entry);
+        enqueue(entry);
+    }
+
+    /**
+     * Remove a tower, e.g. when it is sold.
+     *
+     * @param tower the tower to remove
+     */
+    public void removeTower(Tower tower) {
+        Entry entry = entries.remove(tower);
+        if (entry == null) {
+            return;
+        }
+        if (entry.queued) {
+            readyQueue.remove(entry);
+            entry.queued = false;
+        }
+        if (entry.parked) {
+            unpark(entry);
+        }
+    }
+
+    /**
+     * Re-evaluate a tower whose stats changed (upgrade). A parked tower is
+     * re-parked with its new coverage; a queued tower keeps its ready time.
+     *
+     * @param tower the tower that changed
+     * @param nowMs current simulation time in milliseconds
+     */
+    public void refreshTower(Tower tower, long nowMs) {
+        Entry entry = entries.get(tower);
+        if (entry != null && entry.parked) {
+            unpark(entry);
+            entry.readyTimeMs = nowMs;
+            enqueue(entry);
+        }
+    }
+
+    /**
+     * Drop all state and schedule the given towers again, in list order.
+     * Used after loading a save, when the tower list was rebuilt externally.
+     *
+     * @param towers the towers to schedule
+     * @param nowMs current simulation time in milliseconds
+     */
+    public void rebuild(List<Tower> towers, long nowMs) {
+        readyQueue.clear();
+        entries.clear();
+        for (int i = 0; i < parkedCells.length; i++) {
+            if (parkedCells[i] != null) {
+                parkedCells[i].clear();
+            }
+        }
+        parkedCount = 0;
+        for (Tower tower : towers) {
+            // A tower restored by a rewind may still be cooling down from its last shot
+            long readyTimeMs = tower.getShotsFired() > 0
+                    ? Math.max(nowMs, tower.getLastFireTime() + tower.getFireRate())
+                    : nowMs;
+            addTower(tower, readyTimeMs);
+        }
+    }
+
+    /**
+     * Advance the scheduler to the given time: wake parked towers that have an
+     * enemy in range, then fire every tower whose cooldown has expired.
+     *
+     * @param nowMs current simulation time in milliseconds
+     * @param enemies enemies currently on the map
+     * @param out list that receives the projectiles fired this tick
+     */
+    public void tick(long nowMs, List<Enemy> enemies, List<Projectile> out) {
+        if (parkedCount > 0 && !enemies.isEmpty()) {
+            wakeParkedTowers(nowMs, enemies);
+        }
+
+        // Collect every tower whose cooldown has expired, in queue order
+        int dueCount = 0;
+        while (!readyQueue.isEmpty() && readyQueue.peek().readyTimeMs <= nowMs) {
+            Entry entry = readyQueue.poll();
+            entry.queued = false;
+            if (dueCount == dueEntries.length) {
+                dueEntries = Arrays.copyOf(dueEntries, dueCount * 2);
+                dueTargets = Arrays.copyOf(dueTargets, dueCount * 2);
+            }
+            dueEntries[dueCount++] = entry;
+        }
+        if (dueCount == 0) {
+            return;
+        }
+
+        // Select phase: read-only, may run in parallel
+        if (parallelTargeting && dueCount >= parallelThreshold) {
+            getTargetingPool().invoke(new SelectTargetsTask(dueEntries, dueTargets, enemies, 0, dueCount));
+        } else {
+            selectTargets(dueEntries, dueTargets, enemies, 0, dueCount);
+        }
+
+        // Apply phase: sequential, in queue order
+        for (int i = 0; i < dueCount; i++) {
+            Entry entry = dueEntries[i];
+            Enemy target = dueTargets[i];
+            dueEntries[i] = null;
+            dueTargets[i] = null;
+
+            if (target == null) {
+                park(entry);
+                continue;
+            }
+
+            Projectile projectile = entry.tower.fireAt(target, nowMs);
+            if (projectile != null) {
+                out.add(projectile);
+            }
+            entry.readyTimeMs = nowMs + entry.tower.getFireRate();
+            enqueue(entry);
+        }
+    }
+
+    private static void selectTargets(Entry[] due, Enemy[] targets, List<Enemy> enemies, int from, int to) {
+        for (int i = from; i < to; i++) {
+            targets[i] = due[i].tower.acquireTarget(enemies);
+        }
+    }
+
+    /**
+     * Fork/join task that fills a slice of the target array.
+     */
+    private static final class SelectTargetsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Entry[] due;
+        private final Enemy[] targets;
+        private final List<Enemy> enemies;
+        private final int from;
+        private final int to;
+
+        SelectTargetsTask(Entry[] due, Enemy[] targets, List<Enemy> enemies, int from, int to) {
+            this.due = due;
+            this.targets = targets;
+            this.enemies = enemies;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TARGETING_LEAF_SIZE) {
+                selectTargets(due, targets, enemies, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SelectTargetsTask(due, targets, enemies, from, mid),
+                    new SelectTargetsTask(due, targets, enemies, mid, to));
+        }
+    }
+
+    private static synchronized ForkJoinPool getTargetingPool() {
+        if (targetingPool == null) {
+            targetingPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        }
+        return targetingPool;
+    }
+
+    /**
+     * @return number of towers known to the scheduler
+     */
+    public int getTowerCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return number of towers waiting for an enemy to enter their range
+     */
+    public int getParkedCount() {
+        return parkedCount;
+    }
+
+    private void wakeParkedTowers(long nowMs, List<Enemy> enemies) {
+        for (Enemy enemy : enemies) {
+            List<Entry> cell = parkedCells[cellIndex(enemy.getCenterX(), enemy.getCenterY())];
+            if (cell == null || cell.isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i < cell.size(); i++) {
+                Entry entry = cell.get(i);
+                if (entry.parked && entry.tower.isEnemyInRange(enemy)) {
+                    entry.parked = false; // mark now, unregister after the scan
+                    wakeBuffer.add(entry);
+                }
+            }
+            if (!wakeBuffer.isEmpty()) {
+                for (Entry entry : wakeBuffer) {
+                    entry.parked = true;
+                    unpark(entry);
+                    entry.readyTimeMs = nowMs;
+                    enqueue(entry);
+                }
+                wakeBuffer.clear();
+            }
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        entry.queued = true;
+        readyQueue.add(entry);
+    }
+
+    private void park(Entry entry) {
+        Tower tower = entry.tower;
+        double cx = tower.getCenterX();
+        double cy = tower.getCenterY();
+        int range = tower.getRange();
+        entry.cellMinX = clampX((int) Math.floor((cx - range) / cellSize));
+        entry.cellMaxX = clampX((int) Math.floor((cx + range) / cellSize));
+        entry.cellMinY = clampY((int) Math.floor((cy - range) / cellSize));
+        entry.cellMaxY = clampY((int) Math.floor((cy + range) / cellSize));
+        for (int gx = entry.cellMinX; gx <= entry.cellMaxX; gx++) {
+            for (int gy = entry.cellMinY; gy <= entry.cellMaxY; gy++) {
+                int index = gy * gridWidth + gx;
+                if (parkedCells[index] == null) {
+                    parkedCells[index] = new ArrayList<>(4);
+                }
+                parkedCells[index].add(entry);
+            }
+        }
+        entry.parked = true;
+        parkedCount++;
+    }
+
+    private void unpark(Entry entry) {
+        for (int gx = entry.cellMinX; gx <= entry.cellMaxX; gx++) {
+            for (int gy = entry.cellMinY; gy <= entry.cellMaxY; gy++) {
+                List<Entry> cell = parkedCells[gy * gridWidth + gx];
+                if (cell != null) {
+                    cell.remove(entry);
+                }
+            }
+        }
+        entry.parked = false;
+        parkedCount--;
+    }
+
+    private int cellIndex(double px, double py) {
+        int gx = clampX((int) Math.floor(px / cellSize));
+        int gy = clampY((int) Math.floor(py / cellSize));
+        return gy * gridWidth + gx;
+    }
+
+    private int clampX(int gx) {
+        return Math.max(0, Math.min(gridWidth - 1, gx));
+    }
+
+    private int clampY(int gy) {
+        return Math.max(0, Math.min(gridHeight - 1, gy));
+    }
+}
@@ -0,0 +1,236 @@
+package com.ku.towerdefense.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Typed gameplay event stream.
+ *
+ * The simulation publishes events during a tick into a preallocated ring of
+ * parallel arrays, so publishing allocates nothing. After the frame's ticks,
+ * {@link #dispatch()} hands each listener the whole batch once, and the
+ * listener loops over the types it cares about. Listeners are only called
+ * when the batch contains a type in their mask.
+ *
+ * If the ring fills up before a dispatch (for example when ticks are run
+ * without a frame loop), it is dispatched early rather than losing events.
+ *
+ * Not thread-safe; publish and dispatch from the game loop thread.
+ */
+public final class GameEventBus {
+
+    /**
+     * Receives a batch of events after the simulation step.
+     */
+    public interface Listener {
+        /**
+         * @param events the events published since the last dispatch; only
+         *               valid during this call
+         */
+        void onEvents(Batch events);
+    }
+
+    /**
+     * Read-only view of the events being dispatched, indexed from 0.
+     */
+    public final class Batch {
+        private long start;
+        private int size;
+
+        private Batch() {
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public GameEventType type(int i) {
+            return TYPES[types[index(i)]];
+        }
+
+        /**
+         * @return true if the batch contains any type in the mask
+         */
+        public boolean contains(long typeMask) {
+            return (batchMask & typeMask) != 0;
+        }
+
+        public long tick(int i) {
+            return ticks[index(i)];
+        }
+
+        public double x(int i) {
+            return xs[index(i)];
+        }
+
+        public double y(int i) {
+            return ys[index(i)];
+        }
+
+        public int amount(int i) {
+            return amounts[index(i)];
+        }
+
+        public int code(int i) {
+            return codes[index(i)];
+        }
+
+        public Object subject(int i) {
+            return subjects[index(i)];
+        }
+
+        private int index(int i) {
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("event " + i + " of " + size);
+            }
+            return (int) ((start + i) & mask);
+        }
+    }
+
+    private static final GameEventType[] TYPES = GameEventType.values();
+
+    private final int mask;
+    private final byte[] types;
+    private final long[] ticks;
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] amounts;
+    private final int[] codes;
+    private final Object[] subjects;
+    private long head = 0; // first undispatched event
+    private long tail = 0; // next free slot
+    private long batchMask = 0; // types present in the undispatched events
+
+    private final List<Listener> listeners = new ArrayList<>();
+    private final List<Long> listenerMasks = new ArrayList<>();
+    private final Batch batch = new Batch();
+    private boolean dispatching = false;
+    private long dropped = 0;
+
+    /**
+     * @param capacity number of events buffered between dispatches, rounded up to a power of two
+     */
+    public GameEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.types = new byte[size];
+        this.ticks = new long[size];
+        this.xs = new double[size];
+        this.ys = new double[size];
+        this.amounts = new int[size];
+        this.codes = new int[size];
+        this.subjects = new Object[size];
+    }
+
+    /**
+     * Subscribe to events of the given types.
+     *
+     * @param typeMask types to receive, see {@link GameEventType#maskOf}
+     * @param listener the listener
+     */
+    public void subscribe(long typeMask, Listener listener) {
+        listeners.add(listener);
+        listenerMasks.add(typeMask);
+    }
+
+    public void unsubscribe(Listener listener) {
+        int index = listeners.indexOf(listener);
+        if (index >= 0) {
+            listeners.remove(index);
+            listenerMasks.remove(index);
+        }
+    }
+
+    /**
+     * Publish an event.
+     *
+     * @param type event type
+     * @param tick simulation tick it happened on
+     * @param x x coordinate, meaning depends on the type
+     * @param y y coordinate
+     * @param amount amount (gold, damage, lives), meaning depends on the type
+     * @param code small integer detail (wave number, level, effect)
+     * @param subject the entity involved, or null
+     */
+    public void publish(GameEventType type, long tick, double x, double y, int amount, int code, Object subject) {
+        if (tail - head > mask) {
+            if (dispatching) {
+                dropped++; // a listener is publishing into a full ring
+                return;
+            }
+            dispatch();
+        }
+        int i = (int) (tail & mask);
+        types[i] = (byte) type.ordinal();
+        ticks[i] = tick;
+        xs[i] = x;
+        ys[i] = y;
+        amounts[i] = amount;
+        codes[i] = code;
+        subjects[i] = subject;
+        tail++;
+        batchMask |= type.bit();
+    }
+
+    /**
+     * Deliver all pending events to the listeners. Events published by
+     * listeners during the dispatch are delivered on the next one.
+     */
+    public void dispatch() {
+        if (dispatching || tail == head) {
+            return;
+        }
+        long end = tail;
+        dispatching = true;
+        try {
+            batch.start = head;
+            batch.size = (int) (end - head);
+            for (int l = 0; l < listeners.size(); l++) {
+                if (batch.contains(listenerMasks.get(l))) {
+                    listeners.get(l).onEvents(batch);
+                }
+            }
+        } finally {
+            for (long s = head; s < end; s++) {
+                subjects[(int) (s & mask)] = null; // don't keep dead entities reachable
+            }
+            head = end;
+            batchMask = 0;
+            for (long s = head; s < tail; s++) {
+                batchMask |= TYPES[types[(int) (s & mask)]].bit();
+            }
+            batch.size = 0;
+            dispatching = false;
+        }
+    }
+
+    /**
+     * Discard pending events without delivering them (used when the game
+     * state jumps, e.g. on rewind or load).
+     */
+    public void clear() {
+        for (long s = head; s < tail; s++) {
+            subjects[(int) (s & mask)] = null;
+        }
+        head = tail;
+        batchMask = 0;
+    }
+
+    /**
+     * @return number of events waiting for the next dispatch
+     */
+    public int pending() {
+        return (int) (tail - head);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return events lost because a listener published into a full ring
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ku.towerdefense.event;
+
+/**
+ * Gameplay events published by the simulation. The comment on each type
+ * says what its fields hold; unused fields are 0 or null.
+ */
+public enum GameEventType {
+    /** A projectile hit its target. x/y: impact point, amount: damage, code: impact effect ordinal, subject: source tower. */
+    PROJECTILE_HIT,
+    /** An enemy was killed. x/y: enemy center, amount: gold reward, subject: the enemy. */
+    ENEMY_KILLED,
+    /** An enemy reached the end of the path. amount: lives left, subject: the enemy. */
+    ENEMY_LEAKED,
+    /** An enemy dropped a gold bag. x/y: drop point, amount: gold in the bag. */
+    GOLD_BAG_DROPPED,
+    /** The player collected a gold bag. x/y: bag center, amount: gold collected. */
+    GOLD_BAG_COLLECTED,
+    /** A tower was built. x/y: tile, amount: cost, subject: the tower. */
+    TOWER_BUILT,
+    /** A tower was upgraded. x/y: tile, amount: cost, code: new level, subject: the tower. */
+    TOWER_UPGRADED,
+    /** A tower was sold. x/y: tile, amount: refund, subject: the tower. */
+    TOWER_SOLD,
+    /** A wave started spawning. code: wave number. */
+    WAVE_STARTED,
+    /** All enemies of a wave are gone. code: wave number, amount: gold bonus. */
+    WAVE_COMPLETED,
+    /** The player ran out of lives. code: wave number. */
+    GAME_OVER;
+
+    /**
+     * @return this type's bit in a listener's type mask
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * @return a type mask matching any of the given types
+     */
+    public static long maskOf(GameEventType... types) {
+        long mask = 0;
+        for (GameEventType type : types) {
+            mask |= type.bit();
+        }
+        return mask;
+    }
+}
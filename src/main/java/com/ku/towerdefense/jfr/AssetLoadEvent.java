@@ -0,0 +1,49 @@
+package com.ku.towerdefense.jfr;
+
+import javafx.scene.image.Image;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An image asset was loaded. Call {@link #begin()} before loading and
+ * {@link #finish(String, Image)} after.
+ */
+@Name("com.ku.towerdefense.AssetLoad")
+@Label("Asset Load")
+@Category({ "KU Tower Defense", "I/O" })
+@StackTrace(false)
+public class AssetLoadEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    /**
+     * Fill in the result and commit, if the event is enabled.
+     *
+     * @param path resource path of the asset
+     * @param image the loaded image, or null if loading failed
+     */
+    public void finish(String path, Image image) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.path = path;
+        this.success = image != null && !image.isError();
+        if (success) {
+            this.width = (int) image.getWidth();
+            this.height = (int) image.getHeight();
+        }
+        commit();
+    }
+}
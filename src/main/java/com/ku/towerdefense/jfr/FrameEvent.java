@@ -0,0 +1,34 @@
+package com.ku.towerdefense.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One frame of the game screen: rendering plus the simulation steps it ran.
+ */
+@Name("com.ku.towerdefense.Frame")
+@Label("Render Frame")
+@Category({ "KU Tower Defense", "Rendering" })
+@Description("One game screen frame, including the simulation update")
+@StackTrace(false)
+public class FrameEvent extends Event {
+    @Label("Simulation Ticks")
+    @Description("Fixed steps run during this frame")
+    public int ticks;
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Projectiles")
+    public int projectiles;
+
+    @Label("Zoom")
+    public double zoom;
+
+    @Label("Paused")
+    public boolean paused;
+}
@@ -0,0 +1,28 @@
+package com.ku.towerdefense.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The enemy path of a map was regenerated.
+ */
+@Name("com.ku.towerdefense.PathRebuild")
+@Label("Path Rebuild")
+@Category({ "KU Tower Defense", "Map" })
+public class PathRebuildEvent extends Event {
+    @Label("Map")
+    public String map;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Path Points")
+    @Description("Waypoints of the new path, 0 if none was found")
+    public int points;
+}
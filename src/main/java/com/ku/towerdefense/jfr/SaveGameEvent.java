@@ -0,0 +1,28 @@
+package com.ku.towerdefense.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Saving or loading a game file.
+ */
+@Name("com.ku.towerdefense.SaveGame")
+@Label("Save/Load Game")
+@Category({ "KU Tower Defense", "I/O" })
+public class SaveGameEvent extends Event {
+    @Label("Operation")
+    public String operation;
+
+    @Label("File")
+    public String file;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Success")
+    public boolean success;
+}
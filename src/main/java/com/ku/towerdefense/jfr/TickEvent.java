@@ -0,0 +1,36 @@
+package com.ku.towerdefense.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One fixed simulation step of {@code GameController.tick()}.
+ */
+@Name("com.ku.towerdefense.Tick")
+@Label("Simulation Tick")
+@Category({ "KU Tower Defense", "Simulation" })
+@Description("One fixed simulation step with the entity counts after it")
+@StackTrace(false)
+public class TickEvent extends Event {
+    @Label("Tick")
+    public long tick;
+
+    @Label("Wave")
+    public int wave;
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Towers")
+    public int towers;
+
+    @Label("Projectiles")
+    public int projectiles;
+
+    @Label("Effects")
+    public int effects;
+}
@@ -0,0 +1,25 @@
+package com.ku.towerdefense.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * All enemies of a wave are gone.
+ */
+@Name("com.ku.towerdefense.WaveCompleted")
+@Label("Wave Completed")
+@Category({ "KU Tower Defense", "Simulation" })
+@StackTrace(false)
+public class WaveCompletedEvent extends Event {
+    @Label("Wave")
+    public int wave;
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Lives Left")
+    public int lives;
+}
@@ -0,0 +1,25 @@
+package com.ku.towerdefense.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A wave started spawning.
+ */
+@Name("com.ku.towerdefense.WaveStarted")
+@Label("Wave Started")
+@Category({ "KU Tower Defense", "Simulation" })
+@StackTrace(false)
+public class WaveStartedEvent extends Event {
+    @Label("Wave")
+    public int wave;
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Scheduled Enemies")
+    public int enemies;
+}
@@ -0,0 +1,83 @@
+package com.ku.towerdefense.jmx;
+
+import java.util.Map;
+
+/**
+ * Live engine metrics, registered on the platform MBean server as
+ * {@value GameEngineMetrics#OBJECT_NAME} so long runs can be watched from
+ * JConsole or VisualVM.
+ *
+ * Tick values cover the last full second of simulation; they drop to zero
+ * while the game is paused.
+ */
+public interface GameEngineMXBean {
+
+    // ===== Simulation =====
+
+    /**
+     * @return simulation ticks run during the last second
+     */
+    double getTicksPerSecond();
+
+    /**
+     * @return mean wall-clock time of one tick in the last second, in ms
+     */
+    double getAverageTickMillis();
+
+    /**
+     * @return slowest tick in the last second, in ms
+     */
+    double getMaxTickMillis();
+
+    /**
+     * @return ticks run since the engine started
+     */
+    long getTickCount();
+
+    int getCurrentWave();
+
+    int getSpeedMultiplier();
+
+    /**
+     * @return live entities keyed by class (towers and enemies) or kind
+     */
+    Map<String, Integer> getEntityCounts();
+
+    // ===== Buffers and caches =====
+
+    /**
+     * @return fill level of the bounded buffers, 0.0 to 1.0
+     */
+    Map<String, Double> getPoolOccupancy();
+
+    /**
+     * @return hit rate of each registered cache, 0.0 to 1.0
+     */
+    Map<String, Double> getCacheHitRates();
+
+    /**
+     * @return game events dropped because the event ring was full
+     */
+    long getDroppedEventCount();
+
+    // ===== Rendering (while the memory tracker runs) =====
+
+    double getFramesPerSecond();
+
+    double getMaxFrameMillis();
+
+    double getAllocatedKBPerFrame();
+
+    /**
+     * @return heap allocated by the simulation thread per tick, or 0 when the
+     *         game is simulated in the render loop (and counted per frame)
+     */
+    double getAllocatedKBPerTick();
+
+    // ===== Operations =====
+
+    /**
+     * Forget the slowest tick seen so far and start a new window.
+     */
+    void resetTickStatistics();
+}
@@ -0,0 +1,300 @@
+package com.ku.towerdefense.jmx;
+
+import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.controller.RewindBuffer;
+import com.ku.towerdefense.util.GameLog;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects the values behind {@link GameEngineMXBean}.
+ *
+ * {@link GameController} reports every tick. Once per second of wall time
+ * the tick statistics are published and the entity counts, buffer levels
+ * and cache counters are gathered on the game thread, so the JMX thread
+ * only ever reads immutable snapshots and never walks the live entity lists.
+ */
+public final class GameEngineMetrics implements GameEngineMXBean {
+
+    public static final String OBJECT_NAME = "com.ku.towerdefense:type=GameEngine";
+
+    private static final GameLog LOG = GameLog.getInstance();
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+    private static GameEngineMetrics instance;
+
+    /**
+     * Hit and miss counters of a cache, read on the game thread.
+     */
+    private static final class CacheCounters {
+        final LongSupplier hits;
+        final LongSupplier misses;
+
+        CacheCounters(LongSupplier hits, LongSupplier misses) {
+            this.hits = hits;
+            this.misses = misses;
+        }
+    }
+
+    private final Map<String, DoubleSupplier> pools = new ConcurrentHashMap<>();
+    private final Map<String, CacheCounters> caches = new ConcurrentHashMap<>();
+
+    // Current window; game thread only
+    private long windowStart = 0;
+    private int windowTicks = 0;
+    private long windowNanos = 0;
+    private long windowMax = 0;
+
+    // Published snapshots
+    private volatile GameController controller;
+    private volatile long tickCount = 0;
+    private volatile long publishedAt = 0;
+    private volatile double ticksPerSecond = 0;
+    private volatile double averageTickMillis = 0;
+    private volatile double maxTickMillis = 0;
+    private volatile Map<String, Integer> entityCounts = Collections.emptyMap();
+    private volatile Map<String, Double> poolOccupancy = Collections.emptyMap();
+    private volatile Map<String, Double> cacheHitRates = Collections.emptyMap();
+    private volatile long droppedEvents = 0;
+    private volatile boolean resetRequested = false;
+
+    private volatile double framesPerSecond = 0;
+    private volatile double maxFrameMillis = 0;
+    private volatile double allocatedKBPerFrame = 0;
+    private volatile double allocatedKBPerTick = 0;
+
+    GameEngineMetrics() {
+    }
+
+    /**
+     * @return the shared metrics, registered with the platform MBean server
+     *         on the first call
+     */
+    public static synchronized GameEngineMetrics getInstance() {
+        if (instance == null) {
+            instance = new GameEngineMetrics();
+            instance.register();
+        }
+        return instance;
+    }
+
+    private void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException | SecurityException e) {
+            LOG.warn("Could not register {}: {}", OBJECT_NAME, e.getMessage());
+        }
+    }
+
+    // ===== Feeding =====
+
+    /**
+     * Report a finished tick. Called on the game thread.
+     *
+     * @param source the controller that ran the tick
+     * @param durationNanos wall-clock time the tick took
+     */
+    public void recordTick(GameController source, long durationNanos) {
+        recordTick(source, durationNanos, System.nanoTime());
+    }
+
+    void recordTick(GameController source, long durationNanos, long now) {
+        controller = source;
+        tickCount++;
+        if (resetRequested || windowStart == 0) {
+            resetRequested = false;
+            startWindow(now);
+        }
+        windowTicks++;
+        windowNanos += durationNanos;
+        windowMax = Math.max(windowMax, durationNanos);
+
+        long elapsed = now - windowStart;
+        if (elapsed >= WINDOW_NANOS) {
+            ticksPerSecond = windowTicks * 1e9 / elapsed;
+            averageTickMillis = windowNanos / 1e6 / windowTicks;
+            maxTickMillis = windowMax / 1e6;
+            publishedAt = now;
+            collect(source);
+            startWindow(now);
+        }
+    }
+
+    private void startWindow(long now) {
+        windowStart = now;
+        windowTicks = 0;
+        windowNanos = 0;
+        windowMax = 0;
+    }
+
+    /**
+     * Gather the snapshots that must not be read from the JMX thread.
+     */
+    private void collect(GameController source) {
+        Map<String, Integer> counts = new TreeMap<>();
+        countByClass(source.getTowers(), counts);
+        countByClass(source.getEnemies(), counts);
+        counts.put("Projectile", source.getProjectiles().size());
+        counts.put("GoldBag", source.getActiveGoldBags().size());
+        counts.put("Effect", source.getActiveEffectCount());
+        entityCounts = Collections.unmodifiableMap(counts);
+
+        Map<String, Double> occupancy = new TreeMap<>();
+        RewindBuffer rewind = source.getRewindBuffer();
+        occupancy.put("rewindSlots", (double) rewind.size() / rewind.getCapacity());
+        occupancy.put("rewindBytes", (double) rewind.getTotalBytes() / rewind.getMaxBytes());
+        pools.forEach((name, level) -> occupancy.put(name, level.getAsDouble()));
+        poolOccupancy = Collections.unmodifiableMap(occupancy);
+
+        Map<String, Double> hitRates = new TreeMap<>();
+        caches.forEach((name, counters) -> {
+            long hits = counters.hits.getAsLong();
+            long lookups = hits + counters.misses.getAsLong();
+            hitRates.put(name, lookups == 0 ? 0.0 : (double) hits / lookups);
+        });
+        cacheHitRates = Collections.unmodifiableMap(hitRates);
+
+        droppedEvents = source.getEventBus().getDroppedCount();
+    }
+
+    private static void countByClass(List<?> entities, Map<String, Integer> counts) {
+        for (int i = 0; i < entities.size(); i++) {
+            counts.merge(entities.get(i).getClass().getSimpleName(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Report the frame statistics of the last memory tracker sample.
+     */
+    public void recordFrames(double framesPerSecond, double maxFrameMillis, double allocatedKBPerFrame) {
+        recordFrames(framesPerSecond, maxFrameMillis, allocatedKBPerFrame, 0);
+    }
+
+    /**
+     * Report the frame statistics of the last memory tracker sample, with
+     * the allocation of the simulation thread when it runs one.
+     */
+    public void recordFrames(double framesPerSecond, double maxFrameMillis, double allocatedKBPerFrame,
+            double allocatedKBPerTick) {
+        this.framesPerSecond = framesPerSecond;
+        this.maxFrameMillis = maxFrameMillis;
+        this.allocatedKBPerFrame = allocatedKBPerFrame;
+        this.allocatedKBPerTick = allocatedKBPerTick;
+    }
+
+    /**
+     * Expose the fill level of a bounded buffer or pool. The supplier is
+     * called on the game thread once per second; registering a name again
+     * replaces it.
+     */
+    public void registerPool(String name, DoubleSupplier occupancy) {
+        pools.put(name, occupancy);
+    }
+
+    /**
+     * Expose the hit rate of a cache from its cumulative hit and miss
+     * counters, read on the game thread once per second.
+     */
+    public void registerCache(String name, LongSupplier hits, LongSupplier misses) {
+        caches.put(name, new CacheCounters(hits, misses));
+    }
+
+    // ===== GameEngineMXBean =====
+
+    private boolean isStale() {
+        return System.nanoTime() - publishedAt > 2 * WINDOW_NANOS;
+    }
+
+    @Override
+    public double getTicksPerSecond() {
+        return isStale() ? 0 : ticksPerSecond;
+    }
+
+    @Override
+    public double getAverageTickMillis() {
+        return isStale() ? 0 : averageTickMillis;
+    }
+
+    @Override
+    public double getMaxTickMillis() {
+        return isStale() ? 0 : maxTickMillis;
+    }
+
+    @Override
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    @Override
+    public int getCurrentWave() {
+        GameController current = controller;
+        return current == null ? 0 : current.getCurrentWave();
+    }
+
+    @Override
+    public int getSpeedMultiplier() {
+        GameController current = controller;
+        return current == null ? 1 : current.getGameSpeed();
+    }
+
+    @Override
+    public Map<String, Integer> getEntityCounts() {
+        return entityCounts;
+    }
+
+    @Override
+    public Map<String, Double> getPoolOccupancy() {
+        return poolOccupancy;
+    }
+
+    @Override
+    public Map<String, Double> getCacheHitRates() {
+        return cacheHitRates;
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+        return droppedEvents;
+    }
+
+    @Override
+    public double getFramesPerSecond() {
+        return framesPerSecond;
+    }
+
+    @Override
+    public double getMaxFrameMillis() {
+        return maxFrameMillis;
+    }
+
+    @Override
+    public double getAllocatedKBPerFrame() {
+        return allocatedKBPerFrame;
+    }
+
+    @Override
+    public double getAllocatedKBPerTick() {
+        return allocatedKBPerTick;
+    }
+
+    @Override
+    public void resetTickStatistics() {
+        resetRequested = true;
+        ticksPerSecond = 0;
+        averageTickMillis = 0;
+        maxTickMillis = 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ku.towerdefense.model.effects;
 
+import com.ku.towerdefense.render.DrawList;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
@@ -11,6 +12,7 @@ public class AnimatedEffect {
     private final double displayWidth, displayHeight; // Desired rendering size
 
     private int currentFrame = 0;
+    private int frameStep = 1; // frames advanced at a time; higher plays fewer of them
     private double timeAccum = 0;
     private boolean active = true;
     private Runnable onCompletionCallback;
@@ -45,12 +47,20 @@ public class AnimatedEffect {
         this.onCompletionCallback = callback;
     }
 
+    /**
+     * Play only every {@code step}-th frame, so the effect ends sooner and
+     * fewer are on screen at once.
+     */
+    public void setFrameStep(int step) {
+        this.frameStep = Math.max(1, step);
+    }
+
     public void update(double dt) {
         if (!active) return;
         timeAccum += dt;
         if (timeAccum >= frameDuration) {
             timeAccum -= frameDuration;
-            currentFrame++;
+            currentFrame += frameStep;
             if (currentFrame >= totalFrames) {
                 active = false;
                 if (onCompletionCallback != null) {
@@ -70,6 +80,25 @@ public class AnimatedEffect {
                      displayWidth, displayHeight);                     // Destination width & height on canvas
     }
 
+    /**
+     * Queue the current frame on a draw list instead of drawing it now.
+     */
+    public void addSprite(DrawList list, int layer) {
+        if (!active || spriteSheet == null) return;
+        list.addSprite(layer, spriteSheet,
+                       currentFrame * frameWidth, 0, frameWidth, frameHeight,
+                       x - displayWidth / 2.0, y - displayHeight / 2.0,
+                       displayWidth, displayHeight);
+    }
+
+    /**
+     * @return true if the effect's drawn frame overlaps the rectangle
+     */
+    public boolean overlaps(double minX, double minY, double maxX, double maxY) {
+        return x + displayWidth / 2.0 >= minX && x - displayWidth / 2.0 <= maxX
+                && y + displayHeight / 2.0 >= minY && y - displayHeight / 2.0 <= maxY;
+    }
+
     public boolean isActive() {
         return active;
     }
@@ -1,5 +1,6 @@
 package com.ku.towerdefense.model.entity;
 
+import com.ku.towerdefense.util.GameLog;
 import com.ku.towerdefense.util.GameSettings;
 
 import java.io.File;
@@ -13,6 +14,7 @@ import java.io.Serializable;
  */
 public class ArtilleryTower extends Tower implements Serializable {
     private static final long serialVersionUID = 1L;
+    private static final GameLog LOG = GameLog.getInstance();
     public static final int BASE_COST = 100; // Added base cost
     private static final int BASE_DAMAGE = GameSettings.getInstance().getArtilleryTowerDamage();
     private static final int BASE_RANGE = GameSettings.getInstance().getArtilleryTowerRange();
@@ -95,13 +97,13 @@ public class ArtilleryTower extends Tower implements Serializable {
             // Fire rate remains this.baseFireRate
             // AOE radius is handled by projectile and remains same as L1.
 
-            System.out.println(getName() + " L2 stats applied: Range=" + this.range + ", Damage=" + this.damage);
+            LOG.info("{} L2 stats applied: Range={}, Damage={}", getName(), this.range, this.damage);
         } else {
             // Revert to L1 stats
             this.damage = this.baseDamage;
             this.range = this.baseRange;
             this.fireRate = this.baseFireRate;
-            System.out.println(getName() + " reverted to L1 stats.");
+            LOG.info("{} reverted to L1 stats.", getName());
         }
         return true;
     }
@@ -1,6 +1,8 @@
 package com.ku.towerdefense.model.entity;
 
+import com.ku.towerdefense.render.DrawList;
 import com.ku.towerdefense.ui.UIAssets;
+import com.ku.towerdefense.util.TimerWheel;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
@@ -15,11 +17,10 @@ public class DroppedGold extends Entity implements Serializable {
     private static final int GOLD_SPAWN_TOTAL_FRAMES = 7;
     private static final int STATIC_GOLD_FRAME_INDEX = GOLD_SPAWN_TOTAL_FRAMES - 1; // Use the last frame
 
-    private static final long LIFESPAN_MS = 10000; // 10 seconds
+    public static final double LIFESPAN_SECONDS = 10.0; // game time before an uncollected bag disappears
 
     private final int goldAmount;
-    private final long creationTimeMs;
-    private transient Image staticGoldImage; // Will hold the last frame of G_Spawn.png
+    private transient TimerWheel.Timer expiry; // removes the bag when it fires
 
     public DroppedGold(double worldX, double worldY, int goldAmount) {
         // Position is center of the gold pile, width/height define its clickable area / visual size (128x128)
@@ -28,47 +29,63 @@ public class DroppedGold extends Entity implements Serializable {
               GOLD_SPAWN_FRAME_WIDTH, 
               GOLD_SPAWN_FRAME_HEIGHT);
         this.goldAmount = goldAmount;
-        this.creationTimeMs = System.currentTimeMillis();
-        loadStaticImage();
     }
 
-    private void loadStaticImage() {
-        if (this.staticGoldImage == null) { 
-            this.staticGoldImage = UIAssets.getSpriteFrame(
-                GOLD_SPAWN_SHEET_KEY, 
-                STATIC_GOLD_FRAME_INDEX, 
-                GOLD_SPAWN_FRAME_WIDTH, 
-                GOLD_SPAWN_FRAME_HEIGHT
-            );
-            if (this.staticGoldImage == null) {
-                System.err.println("DroppedGold: Failed to load static frame (" + STATIC_GOLD_FRAME_INDEX + 
-                                   ") from sheet " + GOLD_SPAWN_SHEET_KEY);
-            }
+    @Override
+    public void render(GraphicsContext gc) {
+        // The bag is the last frame of the shared spawn sheet, drawn straight from it
+        Image sheet = UIAssets.getImage(GOLD_SPAWN_SHEET_KEY);
+        if (sheet != null) {
+            gc.drawImage(sheet, STATIC_GOLD_FRAME_INDEX * GOLD_SPAWN_FRAME_WIDTH, 0,
+                    GOLD_SPAWN_FRAME_WIDTH, GOLD_SPAWN_FRAME_HEIGHT, getX(), getY(), getWidth(), getHeight());
+        } else {
+            // Fallback rendering if image is still null
+            drawPlaceholder(gc, getX(), getY(), getWidth(), getHeight());
         }
     }
 
+    /**
+     * Queue the placeholder square drawn when the sheet is missing.
+     */
     @Override
-    public void render(GraphicsContext gc) {
-        if (staticGoldImage == null) { 
-            loadStaticImage(); // Attempt to reload if null (e.g., after deserialization)
-        }
+    public void addShape(DrawList list, int layer) {
+        double left = getX();
+        double top = getY();
+        double w = getWidth();
+        double h = getHeight();
+        list.addCustom(layer, gc -> drawPlaceholder(gc, left, top, w, h));
+    }
 
-        if (staticGoldImage != null) {
-            gc.drawImage(staticGoldImage, getX(), getY(), getWidth(), getHeight());
-        } else {
-            // Fallback rendering if image is still null
-            gc.setFill(javafx.scene.paint.Color.GOLD);
-            gc.fillRect(getX(), getY(), getWidth(), getHeight()); // Square for placeholder
-            gc.setStroke(javafx.scene.paint.Color.DARKGOLDENROD);
-            gc.strokeRect(getX(), getY(), getWidth(), getHeight());
+    private static void drawPlaceholder(GraphicsContext gc, double x, double y, double w, double h) {
+        gc.setFill(javafx.scene.paint.Color.GOLD);
+        gc.fillRect(x, y, w, h); // Square for placeholder
+        gc.setStroke(javafx.scene.paint.Color.DARKGOLDENROD);
+        gc.strokeRect(x, y, w, h);
+    }
+
+    /**
+     * Queue the last spawn frame straight from the shared sheet.
+     */
+    @Override
+    public boolean addSprite(DrawList list, int layer) {
+        Image sheet = UIAssets.getImage(GOLD_SPAWN_SHEET_KEY);
+        if (sheet == null) {
+            return false;
         }
+        list.addSprite(layer, sheet, STATIC_GOLD_FRAME_INDEX * GOLD_SPAWN_FRAME_WIDTH, 0,
+                GOLD_SPAWN_FRAME_WIDTH, GOLD_SPAWN_FRAME_HEIGHT, getX(), getY(), getWidth(), getHeight());
+        return true;
     }
 
-    // Update method is not strictly needed if GameController manages lifespan check based on isExpired()
+    // Lifespan is handled by an expiry timer on the game clock, owned by GameController
     // public void update(double deltaTime) { /* No per-frame logic needed for static bag */ }
 
-    public boolean isExpired() {
-        return System.currentTimeMillis() > creationTimeMs + LIFESPAN_MS;
+    public TimerWheel.Timer getExpiry() {
+        return expiry;
+    }
+
+    public void setExpiry(TimerWheel.Timer expiry) {
+        this.expiry = expiry;
     }
 
     public int getGoldAmount() {
@@ -76,6 +93,6 @@ public class DroppedGold extends Entity implements Serializable {
     }
     
     public void reinitializeAfterLoad() {
-        loadStaticImage(); // Reload transient image
+        // Nothing to reload: the image comes from the shared spawn sheet
     }
 } 
\ No newline at end of file
@@ -1,13 +1,19 @@
 package com.ku.towerdefense.model.entity;
 
+import com.ku.towerdefense.jfr.AssetLoadEvent;
 import com.ku.towerdefense.model.GamePath;
+import com.ku.towerdefense.model.status.StatusEffectType;
+import com.ku.towerdefense.render.DrawList;
+import com.ku.towerdefense.render.TextureAtlas;
 import com.ku.towerdefense.ui.UIAssets;
+import com.ku.towerdefense.util.GameLog;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 
 import java.io.File;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +23,7 @@ import java.util.Map;
  */
 public abstract class Enemy extends Entity implements Serializable {
     private static final long serialVersionUID = 1L;
+    private static final GameLog LOG = GameLog.getInstance();
 
     // --- Sprite Sheet Loading ---
     private static class SpriteSheetInfo {
@@ -43,6 +50,19 @@ public abstract class Enemy extends Entity implements Serializable {
     private static transient Image snowflakeIcon; // For slow effect
     private static transient Image thunderIcon; // For Knight synergy (corrected name)
 
+    // Dot colours used when zoomed far out
+    private static final Color GOBLIN_DOT_COLOR = Color.LIMEGREEN;
+    private static final Color KNIGHT_DOT_COLOR = Color.SILVER;
+    private static final Color SLOWED_DOT_COLOR = Color.DEEPSKYBLUE;
+
+    // Health bar colours, from empty to full
+    private static final Color HEALTH_BAR_BACKGROUND = Color.rgb(50, 0, 0); // Darker red background
+    private static final Color HEALTH_LOW = Color.rgb(255, 0, 0); // Brighter red
+    private static final Color HEALTH_MEDIUM = Color.rgb(255, 165, 0); // Brighter orange
+    private static final Color HEALTH_HIGH = Color.rgb(0, 200, 0); // Brighter green
+    private static final double HEALTH_BAR_HEIGHT = 6;
+    private static final double STATUS_ICON_SIZE = 16;
+
     // Static initializer
     static {
         loadEnemySpriteSheets(); // Renamed method
@@ -69,11 +89,9 @@ public abstract class Enemy extends Entity implements Serializable {
     // --- End Animation Fields ---
 
     // --- Status Effect Fields ---
-    protected boolean isSlowed = false;
-    protected double slowTimer = 0; // seconds
-    protected double slowFactor = 1.0; // e.g., 0.8 for 20% slow (speed * factor)
-    protected boolean isKnightSpeedBoosted = false; // For combat synergy thunder icon
-    protected boolean isFrozen = false; // For freeze powerup
+    // Maintained by StatusEffects; effects live on the game clock and are not saved
+    protected transient int[] statusSlots; // slot in each effect type's table, -1 if absent
+    protected transient double statusSpeedFactor = 1.0; // product of active speed effects
     // --- End Status Effect Fields ---
 
     // protected Image image; // Replaced by spriteInfo
@@ -164,6 +182,7 @@ public abstract class Enemy extends Entity implements Serializable {
             if (goblinSheet != null && !goblinSheet.isError()) {
                 int frameCount = 6; // Assuming 6 frames
                 ENEMY_SPRITE_INFO.put(EnemyType.GOBLIN, new SpriteSheetInfo(goblinSheet, frameCount));
+                TextureAtlas.getInstance().add(goblinSheet);
                 System.out.println(
                         "Loaded Goblin spritesheet (" + frameCount + " frames) from classpath: " + goblinSheetPath);
             } else {
@@ -182,6 +201,7 @@ public abstract class Enemy extends Entity implements Serializable {
             if (knightSheet != null && !knightSheet.isError()) {
                 int frameCount = 6; // Assuming 6 frames
                 ENEMY_SPRITE_INFO.put(EnemyType.KNIGHT, new SpriteSheetInfo(knightSheet, frameCount));
+                TextureAtlas.getInstance().add(knightSheet);
                 System.out.println(
                         "Loaded Knight spritesheet (" + frameCount + " frames) from classpath: " + knightSheetPath);
             } else {
@@ -320,18 +340,9 @@ public abstract class Enemy extends Entity implements Serializable {
     public boolean update(double deltaTime, List<Enemy> allEnemies) {
         // System.out.println("[Enemy " + this.hashCode() + " type "+ this.type + "]
         // update called. Received deltaTime: " + deltaTime + ". Current speed: " +
-        // this.speed * (isSlowed ? slowFactor : 1.0) ); // DEBUG LINE REMOVED
-
-        // --- Status Effects Update ---
-        if (isSlowed) {
-            slowTimer -= deltaTime;
-            if (slowTimer <= 0) {
-                isSlowed = false;
-                slowFactor = 1.0;
-                slowTimer = 0;
-            }
-        }
-        // --- End Status Effects Update ---
+        // this.speed * statusSpeedFactor ); // DEBUG LINE REMOVED
+
+        // Status effects are applied and expired by StatusEffects on the game clock
 
         // --- Animation Update ---
         if (spriteInfo != null && spriteInfo.frameCount > 1) { // Only animate if there are multiple frames
@@ -353,15 +364,8 @@ public abstract class Enemy extends Entity implements Serializable {
         }
 
         // Calculate the distance to move based on speed and time
-        double currentSpeed = this.speed;
-        if (isSlowed) {
-            currentSpeed *= slowFactor;
-        }
-        // Knight combat synergy speed adjustment will be handled in Knight.update()
-        // before this
-        // or passed into this update method if Enemy class needs to be aware of the
-        // final speed source.
-        // For now, assume Knight.update() adjusts this.speed directly if boosted.
+        // Slow, freeze and the knight synergy boost all come in through the status factor
+        double currentSpeed = this.speed * statusSpeedFactor;
 
         double distanceToMove = currentSpeed * deltaTime;
 
@@ -419,14 +423,14 @@ public abstract class Enemy extends Entity implements Serializable {
             if (startPos != null) {
                 this.x = startPos[0] - width / 2;
                 this.y = startPos[1] - height / 2;
-                System.out.println("Enemy path set, starting at (" + x + "," + y + ")");
+                LOG.debug("Enemy path set, starting at ({},{})", x, y);
             } else {
                 System.err.println("Failed to get start position from path!");
             }
         } else {
             // Enemy already has progress (loaded from save), just calculate distance
             this.distanceTraveled = this.totalPathDistance * this.pathProgress;
-            System.out.println("Enemy path restored, continuing at progress " + this.pathProgress + " (" + x + "," + y + ")");
+            LOG.debug("Enemy path restored, continuing at progress {} ({},{})", this.pathProgress, x, y);
         }
     }
 
@@ -437,6 +441,103 @@ public abstract class Enemy extends Entity implements Serializable {
      */
     @Override
     public void render(GraphicsContext gc) {
+        renderSprite(gc);
+        renderOverlay(gc);
+    }
+
+    /**
+     * Render the health bar and status icons.
+     *
+     * @param gc the graphics context to render on
+     */
+    @Override
+    public void renderOverlay(GraphicsContext gc) {
+        // Draw health bar
+        renderHealthBar(gc);
+
+        // Render status icons very close to the enemy
+        double iconX = this.x + this.width - 48; // Position much closer, more overlap
+        double iconY = this.y - 2; // Position almost touching enemy
+        double iconSize = STATUS_ICON_SIZE; // Back to original size
+        int iconOffset = 0;
+
+        if (hasStatus(StatusEffectType.SLOW) && snowflakeIcon != null) {
+            gc.drawImage(snowflakeIcon, iconX + iconOffset, iconY, iconSize, iconSize);
+            iconOffset += iconSize + 2; // Add padding for next icon
+        }
+
+        if (hasStatus(StatusEffectType.SPEED_BOOST) && thunderIcon != null) { // Use corrected thunderIcon
+            gc.drawImage(thunderIcon, iconX + iconOffset, iconY, iconSize, iconSize);
+            // iconOffset += iconSize + 2; // If more icons could follow
+        }
+    }
+
+    /**
+     * Queue the health bar and status icons.
+     */
+    @Override
+    public void addOverlay(DrawList list, int layer) {
+        double barWidth = healthBarWidth();
+        double barX = x + (width - barWidth) / 2;
+        double barY = y + 12;
+        double healthPercentage = (double) currentHealth / maxHealth;
+        list.addRect(layer, HEALTH_BAR_BACKGROUND, barX, barY, barWidth, HEALTH_BAR_HEIGHT);
+        list.addRect(layer, healthColor(healthPercentage), barX, barY, barWidth * healthPercentage,
+                HEALTH_BAR_HEIGHT);
+
+        double iconX = x + width - 48;
+        double iconY = y - 2;
+        if (hasStatus(StatusEffectType.SLOW) && snowflakeIcon != null) {
+            list.addSprite(layer, snowflakeIcon, 0, 0, snowflakeIcon.getWidth(), snowflakeIcon.getHeight(),
+                    iconX, iconY, STATUS_ICON_SIZE, STATUS_ICON_SIZE);
+            iconX += STATUS_ICON_SIZE + 2;
+        }
+        if (hasStatus(StatusEffectType.SPEED_BOOST) && thunderIcon != null) {
+            list.addSprite(layer, thunderIcon, 0, 0, thunderIcon.getWidth(), thunderIcon.getHeight(),
+                    iconX, iconY, STATUS_ICON_SIZE, STATUS_ICON_SIZE);
+        }
+    }
+
+    /**
+     * Queue the plain circle drawn when the sprite sheet is missing.
+     */
+    @Override
+    public void addShape(DrawList list, int layer) {
+        double left = x;
+        double top = y;
+        double w = width;
+        double h = height;
+        list.addCustom(layer, gc -> {
+            gc.setFill(Color.RED);
+            gc.fillOval(left, top, w, h);
+        });
+    }
+
+    /**
+     * Queue the current sprite frame; the health bar and icons are the
+     * overlay.
+     */
+    @Override
+    public boolean addSprite(DrawList list, int layer) {
+        if (spriteInfo == null && this.type != null) {
+            this.spriteInfo = ENEMY_SPRITE_INFO.get(this.type);
+        }
+        if (spriteInfo == null || spriteInfo.spriteSheet == null || spriteInfo.frameCount <= 0) {
+            return false;
+        }
+        list.addSprite(layer, spriteInfo.spriteSheet,
+                spriteInfo.frameWidth * currentFrameIndex, 0, spriteInfo.frameWidth, spriteInfo.frameHeight,
+                x, y, width, height);
+        return true;
+    }
+
+    /**
+     * Render only the current sprite frame, without health bar or status
+     * icons.
+     *
+     * @param gc the graphics context to render on
+     */
+    public void renderSprite(GraphicsContext gc) {
         // Re-check spriteInfo in case it was loaded late or after deserialization
         if (spriteInfo == null && this.type != null) {
             this.spriteInfo = ENEMY_SPRITE_INFO.get(this.type);
@@ -470,25 +571,17 @@ public abstract class Enemy extends Entity implements Serializable {
             // gc.fillText(String.valueOf(currentFrameIndex), x + width / 2, y + height /
             // 2);
         }
+    }
 
-        // Draw health bar
-        renderHealthBar(gc);
-
-        // Render status icons very close to the enemy
-        double iconX = this.x + this.width - 48; // Position much closer, more overlap
-        double iconY = this.y - 2; // Position almost touching enemy
-        double iconSize = 16; // Back to original size
-        int iconOffset = 0;
-
-        if (isSlowed && snowflakeIcon != null) {
-            gc.drawImage(snowflakeIcon, iconX + iconOffset, iconY, iconSize, iconSize);
-            iconOffset += iconSize + 2; // Add padding for next icon
-        }
-
-        if (isKnightSpeedBoosted && thunderIcon != null) { // Use corrected thunderIcon
-            gc.drawImage(thunderIcon, iconX + iconOffset, iconY, iconSize, iconSize);
-            // iconOffset += iconSize + 2; // If more icons could follow
+    /**
+     * @return colour of this enemy's dot at minimal detail; slowed enemies
+     *         are tinted blue
+     */
+    public Color getDotColor() {
+        if (hasStatus(StatusEffectType.SLOW)) {
+            return SLOWED_DOT_COLOR;
         }
+        return type == EnemyType.KNIGHT ? KNIGHT_DOT_COLOR : GOBLIN_DOT_COLOR;
     }
 
     /**
@@ -526,7 +619,10 @@ public abstract class Enemy extends Entity implements Serializable {
 
                 // Try to load the resource
                 try {
+                    AssetLoadEvent loadEvent = new AssetLoadEvent();
+                    loadEvent.begin();
                     Image image = new Image(getClass().getResourceAsStream(resourcePath));
+                    loadEvent.finish(resourcePath, image);
                     if (image != null && !image.isError()) {
                         System.out.println(
                                 "Loaded image for " + getClass().getSimpleName() + " from classpath: " + resourcePath);
@@ -564,31 +660,21 @@ public abstract class Enemy extends Entity implements Serializable {
      */
     private void renderHealthBar(GraphicsContext gc) {
         // Calculate health bar dimensions
-        double barWidth = width * 0.2;
-        double barHeight = 6;
+        double barWidth = healthBarWidth();
+        double barHeight = HEALTH_BAR_HEIGHT;
         double barY = y + 12; // Was y - 12, moving it 4 pixels closer
         double barX = x + (width - barWidth) / 2;
 
         // Draw background (full health bar)
-        gc.setFill(Color.rgb(50, 0, 0)); // Darker red background
+        gc.setFill(HEALTH_BAR_BACKGROUND);
         gc.fillRect(barX, barY, barWidth, barHeight);
 
         // Draw current health with color gradient based on health percentage
         double healthPercentage = (double) currentHealth / maxHealth;
         double healthWidth = barWidth * healthPercentage;
 
-        // Color gradient from red to green based on health percentage
-        Color healthColor;
-        if (healthPercentage > 0.6) {
-            healthColor = Color.rgb(0, 200, 0); // Brighter green
-        } else if (healthPercentage > 0.3) {
-            healthColor = Color.rgb(255, 165, 0); // Brighter orange
-        } else {
-            healthColor = Color.rgb(255, 0, 0); // Brighter red
-        }
-
         // Draw health bar with a slight glow effect
-        gc.setFill(healthColor);
+        gc.setFill(healthColor(healthPercentage));
         gc.fillRect(barX, barY, healthWidth, barHeight);
 
         // Remove border
@@ -597,6 +683,22 @@ public abstract class Enemy extends Entity implements Serializable {
         // gc.strokeRect(barX, barY, barWidth, barHeight);
     }
 
+    private double healthBarWidth() {
+        return width * 0.2;
+    }
+
+    /**
+     * @return bar colour from red to green based on health percentage
+     */
+    private static Color healthColor(double healthPercentage) {
+        if (healthPercentage > 0.6) {
+            return HEALTH_HIGH;
+        } else if (healthPercentage > 0.3) {
+            return HEALTH_MEDIUM;
+        }
+        return HEALTH_LOW;
+    }
+
     /**
      * Apply damage to the enemy.
      *
@@ -716,7 +818,7 @@ public abstract class Enemy extends Entity implements Serializable {
         this.totalPathDistance = path.calculateTotalLength();
         // Recalculate distance traveled based on current progress
         this.distanceTraveled = this.totalPathDistance * this.pathProgress;
-        System.out.println("Path set for loaded enemy at progress " + this.pathProgress + " (" + x + "," + y + ")");
+        LOG.debug("Path set for loaded enemy at progress {} ({},{})", this.pathProgress, x, y);
     }
 
     public void setImageFile(String imageFile) {
@@ -736,38 +838,53 @@ public abstract class Enemy extends Entity implements Serializable {
         // Reset animation state
         this.currentFrameIndex = 0;
         this.animationTimer = 0;
+        // Status effects are not saved
+        this.statusSlots = null;
+        this.statusSpeedFactor = 1.0;
+    }
+
+    /**
+     * @return this enemy's slot in the given effect table, or -1 (used by StatusEffects)
+     */
+    public int getStatusSlot(StatusEffectType type) {
+        return statusSlots != null ? statusSlots[type.ordinal()] : -1;
     }
 
-    public void applySlow(double factor, double duration) {
-        this.isSlowed = true;
-        this.slowFactor = factor;
-        this.slowTimer = duration;
-        System.out.println(this.getType() + " slowed by " + ((1 - factor) * 100) + "% for " + duration + "s");
+    /**
+     * Record this enemy's slot in the given effect table (used by StatusEffects).
+     */
+    public void setStatusSlot(StatusEffectType type, int slot) {
+        if (statusSlots == null) {
+            statusSlots = new int[StatusEffectType.values().length];
+            Arrays.fill(statusSlots, -1);
+        }
+        statusSlots[type.ordinal()] = slot;
+    }
+
+    /**
+     * @return true if this enemy currently has the given status effect
+     */
+    public boolean hasStatus(StatusEffectType type) {
+        return getStatusSlot(type) >= 0;
     }
 
     public boolean isSlowed() {
-        return isSlowed;
+        return hasStatus(StatusEffectType.SLOW);
     }
 
-    // For Knight synergy visual
-    public void setKnightSpeedBoosted(boolean boosted) {
-        this.isKnightSpeedBoosted = boosted;
+    public boolean isFrozen() {
+        return hasStatus(StatusEffectType.FREEZE);
     }
 
     /**
-     * Set the frozen state of this enemy
-     * @param frozen true if enemy should be frozen (speed = 0), false otherwise
+     * @return the multiplier all active speed effects apply to the base speed
      */
-    public void setFrozen(boolean frozen) {
-        this.isFrozen = frozen;
+    public double getStatusSpeedFactor() {
+        return statusSpeedFactor;
     }
 
-    /**
-     * Check if this enemy is currently frozen
-     * @return true if frozen, false otherwise
-     */
-    public boolean isFrozen() {
-        return isFrozen;
+    public void setStatusSpeedFactor(double factor) {
+        this.statusSpeedFactor = factor;
     }
 
     public void teleportTo(double newX, double newY) {
@@ -779,7 +896,7 @@ public abstract class Enemy extends Entity implements Serializable {
         this.distanceTraveled = 0.0; // Reset distance traveled
         // Current health and status effects (like slow) are maintained as per
         // requirement.
-        System.out.println(this.getType() + " teleported to (" + this.x + "," + this.y + "). Path progress reset.");
+        LOG.debug("{} teleported to ({},{}). Path progress reset.", this.getType(), this.x, this.y);
     }
 
     /**
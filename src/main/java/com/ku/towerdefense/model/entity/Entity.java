@@ -3,6 +3,7 @@ package com.ku.towerdefense.model.entity;
 import javafx.geometry.Point2D;
 import javafx.scene.image.Image;
 import javafx.scene.canvas.GraphicsContext;
+import com.ku.towerdefense.render.DrawList;
 
 import java.io.Serializable;
 
@@ -52,6 +53,45 @@ public abstract class Entity implements Serializable {
      */
     public abstract void render(GraphicsContext gc);
     
+    /**
+     * Queue the entity's sprite on a draw list instead of drawing it now.
+     * 
+     * @param list the frame's draw list
+     * @param layer the layer to draw in
+     * @return false if the entity has no sprite, so the caller should queue
+     *         {@link #addShape} instead
+     */
+    public boolean addSprite(DrawList list, int layer) {
+        return false;
+    }
+    
+    /**
+     * Queue the fallback shape drawn when the entity has no sprite.
+     * 
+     * @param list the frame's draw list
+     * @param layer the layer to draw in
+     */
+    public void addShape(DrawList list, int layer) {
+    }
+    
+    /**
+     * Draw what goes above the sprites of the same kind, such as health bars
+     * or a range circle. Part of render(gc).
+     * 
+     * @param gc the graphics context to draw on
+     */
+    public void renderOverlay(GraphicsContext gc) {
+    }
+    
+    /**
+     * Queue what {@link #renderOverlay} draws on a draw list.
+     * 
+     * @param list the frame's draw list
+     * @param layer the layer to draw in
+     */
+    public void addOverlay(DrawList list, int layer) {
+    }
+    
     /**
      * Calculate distance to another entity.
      * 
@@ -145,6 +185,17 @@ public abstract class Entity implements Serializable {
                pointY >= y && pointY <= y + height;
     }
     
+    /**
+     * Check if this entity overlaps a rectangle, e.g. the visible part of
+     * the world.
+     * 
+     * @return true if any part of the entity's bounds lies inside
+     */
+    public boolean overlaps(double minX, double minY, double maxX, double maxY) {
+        return x + width >= minX && x <= maxX &&
+               y + height >= minY && y <= maxY;
+    }
+    
     // Getters and setters
     public double getX() {
         return x;
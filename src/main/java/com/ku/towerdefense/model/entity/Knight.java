@@ -34,42 +34,30 @@ public class Knight extends Enemy implements Serializable {
         this.originalSpeed = KNIGHT_BASE_SPEED; // Store original speed
     }
 
-    @Override
-    public boolean update(double deltaTime, List<Enemy> allEnemies) {
-        // Don't modify speed if frozen - respect the freeze powerup
-        if (!isFrozen()) {
-            boolean currentlyBoosted = false;
-            double closestGoblinDist = Double.MAX_VALUE;
-
-            for (Enemy other : allEnemies) {
-                if (other instanceof Goblin && other != this && other.getCurrentHealth() > 0) {
-                    double dist = this.distanceTo(other);
-                    if (dist < closestGoblinDist) {
-                        closestGoblinDist = dist;
-                    }
-                }
-            }
-
-            // GameMap.TILE_SIZE might be better sourced from GameMap instance if available,
-            // or a global constant
-            // For now, assuming a known tile width like 64.0
-            double tileWidthThreshold = GameMap.TILE_SIZE; // Or a hardcoded 64.0 if GameMap.TILE_SIZE is not
-                                                           // static/accessible
-
-            if (closestGoblinDist < tileWidthThreshold) {
-                this.speed = (this.originalSpeed + Goblin.PUBLIC_STATIC_FINAL_BASE_SPEED) / 2.0;
-                currentlyBoosted = true;
-            } else {
-                this.speed = this.originalSpeed;
+    /**
+     * Combat synergy: a knight within one tile of a living goblin moves at the
+     * average of the two speeds. The boost itself is applied as a status effect
+     * by the game controller.
+     *
+     * @param allEnemies list of all active enemies
+     * @return true if a goblin is close enough to boost this knight
+     */
+    public boolean isNearGoblin(List<Enemy> allEnemies) {
+        double tileWidthThreshold = GameMap.TILE_SIZE;
+        for (Enemy other : allEnemies) {
+            if (other instanceof Goblin && other.getCurrentHealth() > 0
+                    && this.distanceTo(other) < tileWidthThreshold) {
+                return true;
             }
-            setKnightSpeedBoosted(currentlyBoosted); // Update visual flag in Enemy class
         }
+        return false;
+    }
 
-        // The actual movement and status effect application (like slow) is done in
-        // super.update
-        // super.update will use the this.speed we just set, and then apply slowFactor
-        // if isSlowed is true.
-        return super.update(deltaTime, allEnemies);
+    /**
+     * @return the speed multiplier of the goblin synergy boost
+     */
+    public double getSynergySpeedFactor() {
+        return (this.originalSpeed + Goblin.PUBLIC_STATIC_FINAL_BASE_SPEED) / (2.0 * this.originalSpeed);
     }
 
     /**
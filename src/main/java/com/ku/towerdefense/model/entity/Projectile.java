@@ -1,5 +1,8 @@
 package com.ku.towerdefense.model.entity;
 
+import com.ku.towerdefense.jfr.AssetLoadEvent;
+import com.ku.towerdefense.render.DrawList;
+import com.ku.towerdefense.util.GameLog;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
@@ -12,6 +15,7 @@ import java.io.Serializable;
  */
 public class Projectile extends Entity implements Serializable {
     private static final long serialVersionUID = 1L;
+    private static final GameLog LOG = GameLog.getInstance();
     
     public enum ImpactEffect { NONE, EXPLOSION, FIRE }
     private ImpactEffect impactEffect = ImpactEffect.NONE;
@@ -32,6 +36,7 @@ public class Projectile extends Entity implements Serializable {
     private Color color;
     private Image image;
     private String imageFile;
+    private transient ProjectileSpriteCache.SpriteSet sprites; // looked up on first render
     
     /**
      * Create a new projectile.
@@ -136,123 +141,219 @@ public class Projectile extends Entity implements Serializable {
         if (image == null && imageFile != null) {
             loadImage();
         }
-        
+        drawAt(gc, image, x, y, rotation, System.currentTimeMillis());
+    }
+    
+    /**
+     * Draw the projectile at a position, rotation and time.
+     *
+     * @param fileImage the projectile's image, or null for a procedural shape
+     */
+    private void drawAt(GraphicsContext gc, Image fileImage, double left, double top, double angle, long nowMs) {
         // Get the center point for drawing
-        double centerX = x + width / 2;
-        double centerY = y + height / 2;
-        
-        gc.save();
+        double centerX = left + width / 2;
+        double centerY = top + height / 2;
         
-        if (image != null) {
+        if (fileImage != null) {
             // Draw the image, possibly rotated
+            gc.save();
             gc.translate(centerX, centerY);
-            gc.rotate(rotation);
-            gc.drawImage(image, -width / 2, -height / 2, width, height);
+            gc.rotate(angle);
+            gc.drawImage(fileImage, -width / 2, -height / 2, width, height);
+            gc.restore();
+            return;
+        }
+        
+        // Procedural shapes come pre-rendered from the sprite cache when possible
+        Image sprite = cachedSprite(angle, nowMs);
+        if (sprite != null) {
+            double size = sprites.getSize();
+            gc.drawImage(sprite, centerX - size / 2, centerY - size / 2, size, size);
         } else {
-            // Draw enhanced shapes based on the damage type
-            switch (damageType) {
-                case ARROW:
-                    // Enhanced arrow shape with fletching and tip
-                    gc.translate(centerX, centerY);
-                    gc.rotate(rotation);
-                    
-                    // Arrow shaft
-                    gc.setFill(Color.SADDLEBROWN);
-                    gc.fillRect(-width / 2, -height / 6, width * 0.8, height / 3);
-                    
-                    // Arrow tip (metallic)
-                    gc.setFill(Color.SILVER);
-                    double[] tipX = {width * 0.3, width / 2, width * 0.3};
-                    double[] tipY = {-height / 4, 0, height / 4};
-                    gc.fillPolygon(tipX, tipY, 3);
-                    
-                    // Fletching (feathers)
-                    gc.setFill(color.darker());
-                    double[] fletchX = {-width / 2, -width * 0.3, -width / 2};
-                    double[] fletchY1 = {-height / 3, -height / 6, 0};
-                    double[] fletchY2 = {0, height / 6, height / 3};
-                    gc.fillPolygon(fletchX, fletchY1, 3);
-                    gc.fillPolygon(fletchX, fletchY2, 3);
-                    
-                    break;
-                    
-                case MAGIC:
-                    // Enhanced magical orb with particle effects
-                    double time = System.currentTimeMillis() * 0.005; // For animation
-                    
-                    // Outer magical aura (pulsing)
-                    double pulseSize = 1.0 + 0.3 * Math.sin(time);
-                    gc.setGlobalAlpha(0.3);
-                    gc.setFill(color.deriveColor(0, 1.0, 1.5, 1.0));
-                    gc.fillOval(x - width * 0.2 * pulseSize, y - height * 0.2 * pulseSize, 
-                               width * (1.4 * pulseSize), height * (1.4 * pulseSize));
-                    
-                    // Main orb body
-                    gc.setGlobalAlpha(0.8);
-                    gc.setFill(color);
-                    gc.fillOval(x, y, width, height);
-                    
-                    // Bright magical core
-                    gc.setGlobalAlpha(1.0);
-                    gc.setFill(color.brighter().brighter());
-                    gc.fillOval(x + width * 0.25, y + height * 0.25, width * 0.5, height * 0.5);
-                    
-                    // Magical sparkles around the orb
+            drawShape(gc, left, top, angle, nowMs);
+        }
+    }
+    
+    /**
+     * Queue the cached sprite of the procedural shape. Projectiles with an
+     * image file are drawn rotated, so they use {@link #addShape} instead.
+     */
+    @Override
+    public boolean addSprite(DrawList list, int layer) {
+        if (image == null && imageFile != null) {
+            loadImage();
+        }
+        if (image != null) {
+            return false;
+        }
+        Image sprite = cachedSprite(rotation, System.currentTimeMillis());
+        if (sprite == null) {
+            return false;
+        }
+        double size = sprites.getSize();
+        list.addSprite(layer, sprite, 0, 0, sprite.getWidth(), sprite.getHeight(),
+                x + (width - size) / 2, y + (height - size) / 2, size, size);
+        return true;
+    }
+    
+    /**
+     * Queue the projectile as it is now: its image rotated, or the
+     * procedural shape, whose sprite is rendered when the command is drawn
+     * if it isn't cached yet. A projectile's look doesn't change after it is
+     * fired, so only the position, rotation and time are captured.
+     */
+    @Override
+    public void addShape(DrawList list, int layer) {
+        Image fileImage = image;
+        double left = x;
+        double top = y;
+        double angle = rotation;
+        long nowMs = System.currentTimeMillis();
+        list.addCustom(layer, gc -> drawAt(gc, fileImage, left, top, angle, nowMs));
+    }
+    
+    /**
+     * @return the pre-rendered frame for a rotation and time, or null if it
+     *         cannot be rendered on this thread
+     */
+    private Image cachedSprite(double angle, long nowMs) {
+        ProjectileSpriteCache cache = ProjectileSpriteCache.getInstance();
+        if (sprites == null) {
+            sprites = cache.getSpriteSet(this);
+        }
+        return cache.getFrame(sprites, this, angle, nowMs);
+    }
+    
+    /**
+     * Draw the procedural shape for the damage type.
+     *
+     * @param gc the graphics context to draw on
+     * @param left left edge of the projectile
+     * @param top top edge of the projectile
+     * @param angle rotation in degrees (arrows only)
+     * @param timeMs wall-clock time driving the magic and fuse animations
+     */
+    void drawShape(GraphicsContext gc, double left, double top, double angle, double timeMs) {
+        double centerX = left + width / 2;
+        double centerY = top + height / 2;
+        
+        gc.save();
+        
+        switch (damageType) {
+            case ARROW:
+                // Enhanced arrow shape with fletching and tip
+                gc.translate(centerX, centerY);
+                gc.rotate(angle);
+                
+                // Arrow shaft
+                gc.setFill(Color.SADDLEBROWN);
+                gc.fillRect(-width / 2, -height / 6, width * 0.8, height / 3);
+                
+                // Arrow tip (metallic)
+                gc.setFill(Color.SILVER);
+                double[] tipX = {width * 0.3, width / 2, width * 0.3};
+                double[] tipY = {-height / 4, 0, height / 4};
+                gc.fillPolygon(tipX, tipY, 3);
+                
+                // Fletching (feathers)
+                gc.setFill(color.darker());
+                double[] fletchX = {-width / 2, -width * 0.3, -width / 2};
+                double[] fletchY1 = {-height / 3, -height / 6, 0};
+                double[] fletchY2 = {0, height / 6, height / 3};
+                gc.fillPolygon(fletchX, fletchY1, 3);
+                gc.fillPolygon(fletchX, fletchY2, 3);
+                
+                break;
+                
+            case MAGIC:
+                // Enhanced magical orb with particle effects
+                double time = timeMs * 0.005; // For animation
+                
+                // Outer magical aura (pulsing)
+                double pulseSize = 1.0 + 0.3 * Math.sin(time);
+                gc.setGlobalAlpha(0.3);
+                gc.setFill(color.deriveColor(0, 1.0, 1.5, 1.0));
+                gc.fillOval(left - width * 0.2 * pulseSize, top - height * 0.2 * pulseSize, 
+                           width * (1.4 * pulseSize), height * (1.4 * pulseSize));
+                
+                // Main orb body
+                gc.setGlobalAlpha(0.8);
+                gc.setFill(color);
+                gc.fillOval(left, top, width, height);
+                
+                // Bright magical core
+                gc.setGlobalAlpha(1.0);
+                gc.setFill(color.brighter().brighter());
+                gc.fillOval(left + width * 0.25, top + height * 0.25, width * 0.5, height * 0.5);
+                
+                // Magical sparkles around the orb
+                gc.setFill(Color.WHITE);
+                for (int i = 0; i < 4; i++) {
+                    double sparkleAngle = time + i * Math.PI / 2;
+                    double sparkleX = centerX + Math.cos(sparkleAngle) * width * 0.8;
+                    double sparkleY = centerY + Math.sin(sparkleAngle) * height * 0.8;
+                    gc.fillOval(sparkleX - 1, sparkleY - 1, 2, 2);
+                }
+                
+                break;
+                
+            case EXPLOSIVE:
+                // Enhanced bomb with better details
+                gc.setFill(color.darker());
+                gc.fillOval(left, top, width, height);
+                
+                // Metallic rim
+                gc.setStroke(Color.DARKGRAY);
+                gc.setLineWidth(2);
+                gc.strokeOval(left + 1, top + 1, width - 2, height - 2);
+                
+                // Sparking fuse with glow
+                gc.setGlobalAlpha(0.7);
+                gc.setStroke(Color.ORANGE);
+                gc.setLineWidth(4);
+                gc.strokeLine(left + width * 0.7, top - height * 0.2, left + width * 0.5, top + height * 0.2);
+                
+                gc.setGlobalAlpha(1.0);
+                gc.setStroke(Color.YELLOW);
+                gc.setLineWidth(2);
+                gc.strokeLine(left + width * 0.7, top - height * 0.2, left + width * 0.5, top + height * 0.2);
+                
+                // Spark at fuse tip
+                double sparkTime = timeMs * 0.01;
+                if (Math.sin(sparkTime) > 0) {
                     gc.setFill(Color.WHITE);
-                    for (int i = 0; i < 4; i++) {
-                        double angle = time + i * Math.PI / 2;
-                        double sparkleX = centerX + Math.cos(angle) * width * 0.8;
-                        double sparkleY = centerY + Math.sin(angle) * height * 0.8;
-                        gc.fillOval(sparkleX - 1, sparkleY - 1, 2, 2);
-                    }
-                    
-                    break;
-                    
-                case EXPLOSIVE:
-                    // Enhanced bomb with better details
-                    gc.setFill(color.darker());
-                    gc.fillOval(x, y, width, height);
-                    
-                    // Metallic rim
-                    gc.setStroke(Color.DARKGRAY);
-                    gc.setLineWidth(2);
-                    gc.strokeOval(x + 1, y + 1, width - 2, height - 2);
-                    
-                    // Sparking fuse with glow
-                    gc.setGlobalAlpha(0.7);
-                    gc.setStroke(Color.ORANGE);
-                    gc.setLineWidth(4);
-                    gc.strokeLine(x + width * 0.7, y - height * 0.2, x + width * 0.5, y + height * 0.2);
-                    
-                    gc.setGlobalAlpha(1.0);
-                    gc.setStroke(Color.YELLOW);
-                    gc.setLineWidth(2);
-                    gc.strokeLine(x + width * 0.7, y - height * 0.2, x + width * 0.5, y + height * 0.2);
-                    
-                    // Spark at fuse tip
-                    double sparkTime = System.currentTimeMillis() * 0.01;
-                    if (Math.sin(sparkTime) > 0) {
-                        gc.setFill(Color.WHITE);
-                        gc.fillOval(x + width * 0.7 - 2, y - height * 0.2 - 2, 4, 4);
-                    }
-                    
-                    break;
-                    
-                default:
-                    // Enhanced default projectile
-                    gc.setGlobalAlpha(0.8);
-                    gc.setFill(color);
-                    gc.fillOval(x, y, width, height);
-                    
-                    gc.setGlobalAlpha(1.0);
-                    gc.setFill(color.brighter());
-                    gc.fillOval(x + width * 0.3, y + width * 0.3, width * 0.4, height * 0.4);
-            }
+                    gc.fillOval(left + width * 0.7 - 2, top - height * 0.2 - 2, 4, 4);
+                }
+                
+                break;
+                
+            default:
+                // Enhanced default projectile
+                gc.setGlobalAlpha(0.8);
+                gc.setFill(color);
+                gc.fillOval(left, top, width, height);
+                
+                gc.setGlobalAlpha(1.0);
+                gc.setFill(color.brighter());
+                gc.fillOval(left + width * 0.3, top + width * 0.3, width * 0.4, height * 0.4);
         }
         
         gc.restore();
     }
     
+    /**
+     * Queue the projectile as a square of its colour, centred on it (used at
+     * reduced detail instead of the image or procedural shape).
+     *
+     * @param list the frame's draw list
+     * @param layer the layer to draw in
+     * @param size side of the square in world units
+     */
+    public void addDot(DrawList list, int layer, double size) {
+        list.addRect(layer, color != null ? color : Color.GRAY,
+                x + (width - size) / 2, y + (height - size) / 2, size, size);
+    }
+
     /**
      * Load the projectile image from file if available.
      */
@@ -278,13 +379,16 @@ public class Projectile extends Entity implements Serializable {
                 
                 // Try to load from the classpath
                 try {
+                    AssetLoadEvent loadEvent = new AssetLoadEvent();
+                    loadEvent.begin();
                     image = new Image(getClass().getResourceAsStream(resourcePath));
+                    loadEvent.finish(resourcePath, image);
                     if (image != null && !image.isError()) {
-                        System.out.println("Loaded projectile image from classpath: " + resourcePath);
+                        LOG.debug("Loaded projectile image from classpath: {}", resourcePath);
                         return;
                     }
                 } catch (Exception e) {
-                    System.err.println("Could not load projectile image from classpath: " + resourcePath);
+                    LOG.warn("Could not load projectile image from classpath: {}", resourcePath);
                 }
                 
                 // Fallback to file system only if absolutely necessary
@@ -292,16 +396,16 @@ public class Projectile extends Entity implements Serializable {
                     File file = new File(imageFile);
                     if (file.exists()) {
                         image = new Image(file.toURI().toString());
-                        System.out.println("Loaded projectile image from file: " + imageFile);
+                        LOG.debug("Loaded projectile image from file: {}", imageFile);
                     } else {
-                        System.err.println("Projectile image file not found: " + imageFile);
+                        LOG.warn("Projectile image file not found: {}", imageFile);
                     }
                 } catch (Exception e) {
-                    System.err.println("Error loading from file system: " + e.getMessage());
+                    LOG.warn("Error loading from file system: {}", e.getMessage());
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error loading projectile image " + imageFile + ": " + e.getMessage());
+            LOG.error("Error loading projectile image {}: {}", imageFile, e.getMessage());
         }
     }
     
@@ -380,6 +484,7 @@ public class Projectile extends Entity implements Serializable {
     
     public void setColor(Color color) {
         this.color = color;
+        this.sprites = null; // the sprites depend on the colour
     }
     
     public void setImageFile(String imageFile) {
@@ -0,0 +1,234 @@
+package com.ku.towerdefense.model.entity;
+
+import com.ku.towerdefense.jmx.GameEngineMetrics;
+import com.ku.towerdefense.render.TextureAtlas;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pre-rendered images of the procedural projectile shapes, so drawing a
+ * projectile without an image file is a single drawImage call.
+ *
+ * Each look (damage type, colour and size) gets a {@link SpriteSet}: arrows
+ * have one frame per rotation bucket, magic orbs a loop of pulse frames and
+ * bombs a fuse spark on and off. Frames are rendered on first use by drawing
+ * {@link Projectile#drawShape} onto a scratch canvas and taking a snapshot,
+ * which must happen on the FX thread; elsewhere the caller draws the shape
+ * directly. Other threads, such as the simulation thread recording a frame,
+ * can still use the frames that were already rendered.
+ */
+public final class ProjectileSpriteCache {
+
+    public static final int ROTATION_BUCKETS = 32;
+    public static final int MAGIC_FRAMES = 16;
+    public static final int BOMB_FRAMES = 2;
+
+    // Rates of the animations in Projectile.drawShape, per millisecond
+    private static final double MAGIC_PULSE_PER_MS = 0.005;
+    private static final double BOMB_SPARK_PER_MS = 0.01;
+
+    private static final double OVERSAMPLE = 2.0; // pixels per world unit, stays sharp when zoomed in
+    private static final double PADDING = 8; // room for auras, sparkles and the fuse
+
+    private static ProjectileSpriteCache instance;
+
+    /**
+     * The frames of one projectile look.
+     */
+    public static final class SpriteSet {
+        private final double size;
+        private final int rotations;
+        private final int frames;
+        private final AtomicReferenceArray<Image> images; // written on the FX thread, read on any
+
+        private SpriteSet(double size, int rotations, int frames) {
+            this.size = size;
+            this.rotations = rotations;
+            this.frames = frames;
+            this.images = new AtomicReferenceArray<>(rotations * frames);
+        }
+
+        /**
+         * @return side of every sprite in world units, centred on the
+         *         projectile
+         */
+        public double getSize() {
+            return size;
+        }
+
+        public int getImageCount() {
+            return images.length();
+        }
+    }
+
+    private static final class LookKey {
+        final DamageType type;
+        final Color color;
+        final double width;
+        final double height;
+
+        LookKey(DamageType type, Color color, double width, double height) {
+            this.type = type;
+            this.color = color;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof LookKey)) {
+                return false;
+            }
+            LookKey other = (LookKey) o;
+            return type == other.type && Objects.equals(color, other.color)
+                    && width == other.width && height == other.height;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, color, width, height);
+        }
+    }
+
+    private final Map<LookKey, SpriteSet> sets = new ConcurrentHashMap<>();
+    private Canvas scratch;
+    private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ProjectileSpriteCache() {
+        snapshotParameters.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * @return the shared cache, reported to the engine metrics on creation
+     */
+    public static synchronized ProjectileSpriteCache getInstance() {
+        if (instance == null) {
+            instance = new ProjectileSpriteCache();
+            GameEngineMetrics.getInstance().registerCache("projectileSprites",
+                    instance::getHitCount, instance::getMissCount);
+        }
+        return instance;
+    }
+
+    /**
+     * Find or create the sprite set for a projectile's look. Projectiles keep
+     * the result, so this runs once per projectile.
+     */
+    public SpriteSet getSpriteSet(Projectile projectile) {
+        LookKey key = new LookKey(projectile.getDamageType(), projectile.getColor(),
+                projectile.getWidth(), projectile.getHeight());
+        return sets.computeIfAbsent(key, k -> new SpriteSet(2 * Math.max(k.width, k.height) + PADDING,
+                k.type == DamageType.ARROW ? ROTATION_BUCKETS : 1,
+                k.type == DamageType.MAGIC ? MAGIC_FRAMES : k.type == DamageType.EXPLOSIVE ? BOMB_FRAMES : 1));
+    }
+
+    /**
+     * Get the frame for a rotation and time, rendering it on first use.
+     *
+     * @param set the projectile's sprite set
+     * @param projectile a projectile with the set's look, used to draw it
+     * @param angle rotation in degrees
+     * @param nowMs wall-clock time driving the animation
+     * @return the frame, or null if it cannot be rendered on this thread
+     */
+    public Image getFrame(SpriteSet set, Projectile projectile, double angle, long nowMs) {
+        int rotation = set.rotations == 1 ? 0 : rotationBucket(angle, set.rotations);
+        int frame = animationFrame(projectile.getDamageType(), set.frames, nowMs);
+        int index = rotation * set.frames + frame;
+        Image image = set.images.get(index);
+        if (image != null) {
+            hits.increment();
+            return image;
+        }
+        if (!Platform.isFxApplicationThread()) {
+            return null;
+        }
+        misses.increment();
+        image = render(set, projectile, rotation * 360.0 / set.rotations,
+                frameTimeMs(projectile.getDamageType(), frame, set.frames));
+        set.images.set(index, image);
+        TextureAtlas.getInstance().add(image);
+        return image;
+    }
+
+    /**
+     * @return the bucket whose centre is closest to the angle
+     */
+    static int rotationBucket(double angle, int buckets) {
+        int bucket = (int) Math.round(angle * buckets / 360.0) % buckets;
+        return bucket < 0 ? bucket + buckets : bucket;
+    }
+
+    /**
+     * @return frame of the damage type's animation at a time
+     */
+    static int animationFrame(DamageType type, int frames, long nowMs) {
+        if (type == DamageType.MAGIC) {
+            double phase = (nowMs * MAGIC_PULSE_PER_MS) % (2 * Math.PI);
+            return Math.min(frames - 1, (int) (phase / (2 * Math.PI) * frames));
+        }
+        if (type == DamageType.EXPLOSIVE) {
+            return Math.sin(nowMs * BOMB_SPARK_PER_MS) > 0 ? 1 : 0;
+        }
+        return 0;
+    }
+
+    /**
+     * @return a time at which {@link Projectile#drawShape} shows the frame
+     */
+    static double frameTimeMs(DamageType type, int frame, int frames) {
+        if (type == DamageType.MAGIC) {
+            return (frame + 0.5) * 2 * Math.PI / frames / MAGIC_PULSE_PER_MS;
+        }
+        if (type == DamageType.EXPLOSIVE) {
+            return (frame == 1 ? 0.5 : 1.5) * Math.PI / BOMB_SPARK_PER_MS; // spark on, spark off
+        }
+        return 0;
+    }
+
+    private Image render(SpriteSet set, Projectile projectile, double angle, double timeMs) {
+        int pixels = (int) Math.ceil(set.size * OVERSAMPLE);
+        if (scratch == null || scratch.getWidth() < pixels) {
+            scratch = new Canvas(pixels, pixels);
+        }
+        GraphicsContext gc = scratch.getGraphicsContext2D();
+        gc.clearRect(0, 0, scratch.getWidth(), scratch.getHeight());
+        gc.save();
+        gc.scale(OVERSAMPLE, OVERSAMPLE);
+        projectile.drawShape(gc, (set.size - projectile.getWidth()) / 2, (set.size - projectile.getHeight()) / 2,
+                angle, timeMs);
+        gc.restore();
+
+        snapshotParameters.setViewport(new Rectangle2D(0, 0, pixels, pixels));
+        return scratch.snapshot(snapshotParameters, new WritableImage(pixels, pixels));
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of distinct projectile looks seen
+     */
+    public int getSetCount() {
+        return sets.size();
+    }
+}
@@ -1,5 +1,8 @@
 package com.ku.towerdefense.model.entity;
 
+import com.ku.towerdefense.jfr.AssetLoadEvent;
+import com.ku.towerdefense.render.DrawList;
+import com.ku.towerdefense.render.TextureAtlas;
 import com.ku.towerdefense.util.GameSettings;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
@@ -8,6 +11,8 @@ import javafx.scene.paint.Color;
 import java.io.File;
 import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +36,10 @@ import java.util.stream.Collectors;
 public abstract class Tower extends Entity implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    // Tower images by resource path, shared by all towers and added to the atlas
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+    private static final double STANDARD_SIZE = 64.0;
+
     protected int damage;
     protected int range;
     protected long lastFireTime;
@@ -47,6 +56,16 @@ public abstract class Tower extends Entity implements Serializable {
     protected long baseFireRate; // Store base fire rate for scaling
 
     protected static final double UPGRADE_COST_MULTIPLIER = 0.75; // How much base cost to add per level
+
+    // --- Combat Statistics (plain counters, updated on the damage path) ---
+    protected int shotsFired;
+    protected long damageDealt; // damage that actually removed health
+    protected long overkillDamage; // damage beyond what the target had left
+    protected int kills;
+    protected long waveDamageDealt; // damageDealt during the current wave
+    protected int waveKills;
+    protected long placedTick; // simulation tick the tower was built, for DPS
+    // --- End Combat Statistics ---
     // protected static final double UPGRADE_STAT_MULTIPLIER = 0.25; // No longer used here, handled by subclasses
 
     /**
@@ -120,6 +139,44 @@ public abstract class Tower extends Entity implements Serializable {
         return createProjectile(target);
     }
 
+    /**
+     * Find the target this tower would shoot at right now, ignoring cooldown.
+     * Used by the controller's fire scheduler, which tracks cooldowns itself
+     * on the simulation clock.
+     *
+     * @param enemies list of all enemies
+     * @return the best target in range, or null if none
+     */
+    public Enemy acquireTarget(List<Enemy> enemies) {
+        if (enemies.isEmpty()) {
+            return null;
+        }
+        return findBestTarget(enemies);
+    }
+
+    /**
+     * Fire at a target that was already chosen by {@link #acquireTarget(List)}.
+     *
+     * @param target the target enemy
+     * @param simTimeMs current simulation time in milliseconds
+     * @return the new projectile
+     */
+    public Projectile fireAt(Enemy target, long simTimeMs) {
+        lastFireTime = simTimeMs;
+        shotsFired++;
+        return createProjectile(target);
+    }
+
+    /**
+     * Check if an enemy is inside this tower's range.
+     *
+     * @param enemy the enemy to check
+     * @return true if the enemy is in range
+     */
+    public boolean isEnemyInRange(Enemy enemy) {
+        return isInRange(enemy, x + width / 2, y + height / 2);
+    }
+
     /**
      * Find the best target based on path progression.
      * The best target is the enemy that has progressed furthest along the path
@@ -191,8 +248,8 @@ public abstract class Tower extends Entity implements Serializable {
         // Use consistent standard size for all towers regardless of image dimensions
         double drawX = x;
         double drawY = y;
-        double standardWidth = 64.0;  // Force consistent size
-        double standardHeight = 64.0; // Force consistent size
+        double standardWidth = STANDARD_SIZE;  // Force consistent size
+        double standardHeight = STANDARD_SIZE; // Force consistent size
 
         // Draw the tower image if available, always at the standard size
         if (image != null) {
@@ -206,12 +263,55 @@ public abstract class Tower extends Entity implements Serializable {
 
         // Level is shown by different images, no text indicator needed
 
-        // Draw range circle if selected
+        renderOverlay(gc);
+    }
+
+    /**
+     * Queue the tower image at the standard size.
+     */
+    @Override
+    public boolean addSprite(DrawList list, int layer) {
+        if (image == null && imageFile != null && !imageFile.isEmpty()) {
+            loadImage();
+        }
+        if (image == null) {
+            return false;
+        }
+        list.addSprite(layer, image, 0, 0, image.getWidth(), image.getHeight(), x, y, STANDARD_SIZE, STANDARD_SIZE);
+        return true;
+    }
+
+    /**
+     * Queue the grey square drawn when the image is missing.
+     */
+    @Override
+    public void addShape(DrawList list, int layer) {
+        list.addRect(layer, Color.DARKGRAY, x, y, STANDARD_SIZE, STANDARD_SIZE);
+    }
+
+    /**
+     * Draw the range circle if the tower is selected.
+     */
+    @Override
+    public void renderOverlay(GraphicsContext gc) {
         if (selected) {
             renderRangeCircle(gc);
         }
     }
 
+    /**
+     * Queue the range circle if the tower is selected.
+     */
+    @Override
+    public void addOverlay(DrawList list, int layer) {
+        if (selected) {
+            double centerX = x + width / 2;
+            double centerY = y + height / 2;
+            double radius = range;
+            list.addCustom(layer, gc -> drawRangeCircle(gc, centerX, centerY, radius));
+        }
+    }
+
     /**
      * Reinitialize after deserialization to reload images
      */
@@ -241,9 +341,19 @@ public abstract class Tower extends Entity implements Serializable {
         }
         try {
             String resourcePath = "/" + imageFile; // Assuming imageFile is relative to resources root e.g. "Asset_pack/Towers/archer.png"
+            Image shared = IMAGES.get(resourcePath);
+            if (shared != null) {
+                this.image = shared;
+                return;
+            }
+            AssetLoadEvent loadEvent = new AssetLoadEvent();
+            loadEvent.begin();
             Image newImage = new Image(getClass().getResourceAsStream(resourcePath));
+            loadEvent.finish(resourcePath, newImage);
             if (newImage != null && !newImage.isError()) {
                 this.image = newImage;
+                IMAGES.put(resourcePath, newImage);
+                TextureAtlas.getInstance().add(newImage);
                 // System.out.println("Successfully loaded tower image: " + resourcePath + " for " + getName());
             } else {
                 if (newImage != null && newImage.isError()) {
@@ -267,9 +377,10 @@ public abstract class Tower extends Entity implements Serializable {
      * @param gc the graphics context to render on
      */
     protected void renderRangeCircle(GraphicsContext gc) {
-        double centerX = x + width / 2;
-        double centerY = y + height / 2;
+        drawRangeCircle(gc, x + width / 2, y + height / 2, range);
+    }
 
+    private static void drawRangeCircle(GraphicsContext gc, double centerX, double centerY, double range) {
         // Draw a semi-transparent circle showing the tower's range
         gc.setGlobalAlpha(0.3);
         gc.setFill(Color.WHITE);
@@ -336,6 +447,17 @@ public abstract class Tower extends Entity implements Serializable {
         return fireRate;
     }
 
+    /**
+     * @return simulation time in milliseconds of the last shot
+     */
+    public long getLastFireTime() {
+        return lastFireTime;
+    }
+
+    public void setLastFireTime(long lastFireTime) {
+        this.lastFireTime = lastFireTime;
+    }
+
     public void setFireRate(long fireRate) {
         this.fireRate = fireRate;
     }
@@ -427,4 +549,93 @@ public abstract class Tower extends Entity implements Serializable {
     }
 
     public abstract Tower cloneTower();
+
+    // Combat statistics
+
+    /**
+     * Record a hit by one of this tower's projectiles.
+     *
+     * @param dealt damage that removed health
+     * @param overkill damage beyond the target's remaining health
+     * @param killed true if the hit killed the target
+     */
+    public void recordHit(int dealt, int overkill, boolean killed) {
+        damageDealt += dealt;
+        waveDamageDealt += dealt;
+        overkillDamage += overkill;
+        if (killed) {
+            kills++;
+            waveKills++;
+        }
+    }
+
+    /**
+     * Start counting the per-wave statistics from zero.
+     */
+    public void resetWaveStats() {
+        waveDamageDealt = 0;
+        waveKills = 0;
+    }
+
+    /**
+     * Restore saved statistics.
+     */
+    public void restoreStats(int shotsFired, long damageDealt, long overkillDamage, int kills, long placedTick) {
+        this.shotsFired = shotsFired;
+        this.damageDealt = damageDealt;
+        this.overkillDamage = overkillDamage;
+        this.kills = kills;
+        this.placedTick = placedTick;
+    }
+
+    /**
+     * Restore the statistics of the current wave (rewind).
+     */
+    public void restoreWaveStats(long waveDamageDealt, int waveKills) {
+        this.waveDamageDealt = waveDamageDealt;
+        this.waveKills = waveKills;
+    }
+
+    /**
+     * Average damage per second since the tower was built.
+     *
+     * @param currentTick current simulation tick
+     * @param tickSeconds length of a tick in seconds
+     */
+    public double getDps(long currentTick, double tickSeconds) {
+        double seconds = (currentTick - placedTick) * tickSeconds;
+        return seconds > 0 ? damageDealt / seconds : 0.0;
+    }
+
+    public int getShotsFired() {
+        return shotsFired;
+    }
+
+    public long getDamageDealt() {
+        return damageDealt;
+    }
+
+    public long getOverkillDamage() {
+        return overkillDamage;
+    }
+
+    public int getKills() {
+        return kills;
+    }
+
+    public long getWaveDamageDealt() {
+        return waveDamageDealt;
+    }
+
+    public int getWaveKills() {
+        return waveKills;
+    }
+
+    public long getPlacedTick() {
+        return placedTick;
+    }
+
+    public void setPlacedTick(long placedTick) {
+        this.placedTick = placedTick;
+    }
 } 
\ No newline at end of file
@@ -1,17 +1,23 @@
 package com.ku.towerdefense.model.map;
 
+import com.ku.towerdefense.jfr.PathRebuildEvent;
 import com.ku.towerdefense.model.GamePath;
 import com.ku.towerdefense.model.entity.Tower;
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Serializable game‑map that stores a 2‑D array of {@link Tile}s plus the
@@ -30,7 +36,8 @@ public class GameMap implements Serializable {
      */
     private String name;
     private int width, height;
-    private Tile[][] tiles;
+    private Tile[][] tiles; // null for a chunked map
+    private String chunkFile; // tile store of a chunked map, written by saveTilesTo
 
     /* mirror of the (transient) start/end Points so they survive I/O */
     private int[] startXY; // [px, py]
@@ -44,9 +51,21 @@ public class GameMap implements Serializable {
     private transient Point2D startPoint;
     private transient Point2D endPoint;
     private transient GamePath enemyPath;
+    private transient TileChangeListener tileChangeListener;
+    private transient TileChunkStore chunks;
+    private transient int[] chunkedStart; // a chunked map tracks these rather than searching for them
+    private transient int[] chunkedEnd;
 
     public static final int TILE_SIZE = 64; // Made public and static
 
+    /**
+     * Told about each tile whose type changes, so a view can redraw just
+     * those cells.
+     */
+    public interface TileChangeListener {
+        void tileChanged(int x, int y);
+    }
+
     /*
      * ------------------------------------------------------------------
      * C‑TOR
@@ -63,6 +82,97 @@ public class GameMap implements Serializable {
                 tiles[x][y] = new Tile(x, y, TileType.GRASS);
     }
 
+    private GameMap(String name, TileChunkStore chunks) {
+        this.name = name;
+        this.width = chunks.getWidth();
+        this.height = chunks.getHeight();
+        this.chunks = chunks;
+        this.chunkFile = chunks.getPath().toString();
+        warmTileImages();
+    }
+
+    /**
+     * Create a map whose tiles live in a memory-mapped file rather than on
+     * the heap, for maps too large to hold as {@link Tile} objects. Only the
+     * chunks around what is being viewed or edited are kept in memory. Edits
+     * are written to the file as they happen.
+     *
+     * @param file store file, replaced if it exists
+     */
+    public static GameMap createChunked(String name, int width, int height, File file) throws IOException {
+        return new GameMap(name, TileChunkStore.create(file.toPath(), width, height, TileType.GRASS));
+    }
+
+    /**
+     * @return true if the tiles live in a chunked store file
+     */
+    public boolean isChunked() {
+        return chunks != null;
+    }
+
+    /**
+     * Write a chunked map's tile edits to its file from now on. A chunked map
+     * read from a stream opens its file copy-on-write, so playing it never
+     * changes the saved map; the editor calls this after loading one. Does
+     * nothing for a map held in memory.
+     */
+    public void editInPlace() throws IOException {
+        if (chunks != null && !chunks.isWritable()) {
+            chunks = TileChunkStore.openForEditing(chunks.getPath());
+        }
+    }
+
+    /**
+     * Save a chunked map's tiles to the given file, which the map then uses.
+     * Call it before serializing the map, with a file of its own, so no two
+     * saved maps share their tiles. Does nothing for a map held in memory.
+     */
+    public void saveTilesTo(File file) throws IOException {
+        if (chunks == null) {
+            return;
+        }
+        Path target = file.toPath().toAbsolutePath().normalize();
+        if (chunks.isWritable() && target.equals(chunks.getPath().toAbsolutePath().normalize())) {
+            chunks.flush();
+        } else {
+            chunks = chunks.copyTo(target);
+        }
+        chunkFile = target.toString();
+    }
+
+    /**
+     * @return the file holding a chunked map's tiles, or null for a map held
+     *         in memory
+     */
+    public File getTileFile() {
+        return chunks != null ? chunks.getPath().toFile() : null;
+    }
+
+    /**
+     * Build the shared tile images now, on this thread, so tiles paged in
+     * later on other threads find them cached.
+     */
+    private static void warmTileImages() {
+        new Tile(0, 0, TileType.GRASS); // props are composited onto grass
+        for (TileType type : TileType.values()) {
+            new Tile(0, 0, type);
+        }
+    }
+
+    /**
+     * Start paging in the tiles around a range in the background. Does
+     * nothing for a map held in memory.
+     */
+    public void prefetch(int minTileX, int minTileY, int maxTileX, int maxTileY) {
+        if (chunks != null) {
+            chunks.prefetch(minTileX, minTileY, maxTileX, maxTileY);
+        }
+    }
+
+    private Tile tile(int x, int y) {
+        return chunks != null ? chunks.getTile(x, y) : tiles[x][y];
+    }
+
     /*
      * ------------------------------------------------------------------
      * Basic getters/setters that UI code relies on
@@ -89,14 +199,49 @@ public class GameMap implements Serializable {
     }
 
     public Tile getTile(int x, int y) {
-        return inBounds(x, y) ? tiles[x][y] : null;
+        return inBounds(x, y) ? tile(x, y) : null;
     }
 
     public TileType getTileType(int x, int y) {
+        if (chunks != null) {
+            return inBounds(x, y) ? chunks.getType(x, y) : null; // no need to page the tile in
+        }
         Tile t = getTile(x, y);
         return t == null ? null : t.getType();
     }
 
+    /**
+     * @param listener told about tile type changes from now on; null to stop
+     */
+    public void setTileChangeListener(TileChangeListener listener) {
+        this.tileChangeListener = listener;
+    }
+
+    private void changeTile(int x, int y, TileType type) {
+        if (chunks != null) {
+            TileType old = chunks.getType(x, y);
+            if (old == type) {
+                return;
+            }
+            chunks.setType(x, y, type);
+            if (old == TileType.START_POINT || type == TileType.START_POINT) {
+                chunkedStart = type == TileType.START_POINT ? new int[] { x, y } : null;
+            }
+            if (old == TileType.END_POINT || type == TileType.END_POINT) {
+                chunkedEnd = type == TileType.END_POINT ? new int[] { x, y } : null;
+            }
+        } else {
+            Tile tile = tiles[x][y];
+            if (tile.getType() == type) {
+                return;
+            }
+            tile.setType(type);
+        }
+        if (tileChangeListener != null) {
+            tileChangeListener.tileChanged(x, y);
+        }
+    }
+
     /*
      * ------------------------------------------------------------------
      * Map editing helpers
@@ -110,7 +255,7 @@ public class GameMap implements Serializable {
             clearType(TileType.START_POINT);
         if (type == TileType.END_POINT)
             clearType(TileType.END_POINT);
-        tiles[x][y].setType(type);
+        changeTile(x, y, type);
         // Regenerate path if start/end points are affected or if path tiles change.
         // For simplicity, regenerate if any of these critical types are set.
         if (type == TileType.START_POINT || type == TileType.END_POINT || type.toString().startsWith("PATH")) {
@@ -119,10 +264,17 @@ public class GameMap implements Serializable {
     }
 
     private void clearType(TileType tt) {
-        for (Tile[] row : tiles)
-            for (Tile t : row)
-                if (t.getType() == tt)
-                    t.setType(TileType.GRASS);
+        if (chunks != null) {
+            Tile found = findTileByType(tt);
+            if (found != null) {
+                changeTile(found.getX(), found.getY(), TileType.GRASS);
+            }
+            return;
+        }
+        for (int x = 0; x < width; x++)
+            for (int y = 0; y < height; y++)
+                if (tiles[x][y].getType() == tt)
+                    changeTile(x, y, TileType.GRASS);
     }
 
     public boolean inBounds(int x, int y) {
@@ -135,14 +287,32 @@ public class GameMap implements Serializable {
      * ------------------------------------------------------------------
      */
     public void generatePath() {
+        PathRebuildEvent event = new PathRebuildEvent();
+        event.begin();
+        buildPath();
+        if (event.shouldCommit()) {
+            event.map = name;
+            event.width = width;
+            event.height = height;
+            event.points = enemyPath != null ? enemyPath.getPoints().size() : 0;
+            event.commit();
+        }
+    }
+
+    private void buildPath() {
         // Find START_POINT and END_POINT tiles
         Tile startTile = null, endTile = null;
-        for (Tile[] row : tiles) {
-            for (Tile t : row) {
-                if (t.getType() == TileType.START_POINT)
-                    startTile = t;
-                else if (t.getType() == TileType.END_POINT)
-                    endTile = t;
+        if (chunks != null) {
+            startTile = findTileByType(TileType.START_POINT);
+            endTile = findTileByType(TileType.END_POINT);
+        } else {
+            for (Tile[] row : tiles) {
+                for (Tile t : row) {
+                    if (t.getType() == TileType.START_POINT)
+                        startTile = t;
+                    else if (t.getType() == TileType.END_POINT)
+                        endTile = t;
+                }
             }
         }
 
@@ -206,14 +376,14 @@ public class GameMap implements Serializable {
         // Directions: right, down, left, up
         int[][] directions = { { 1, 0 }, { 0, 1 }, { -1, 0 }, { 0, -1 } };
 
-        // Keep track of visited tiles and their parent tiles
-        boolean[][] visited = new boolean[width][height];
-        int[][][] parent = new int[width][height][2]; // Store x,y of parent
+        // Parent of each visited tile, keyed by y * width + x; sized by the path
+        // tiles reached rather than the map, which may not fit in memory
+        Map<Integer, Integer> parent = new HashMap<>();
 
         // Initialize queue with start tile
         java.util.Queue<int[]> queue = new java.util.LinkedList<>();
         queue.add(new int[] { startTile.getX(), startTile.getY() });
-        visited[startTile.getX()][startTile.getY()] = true;
+        parent.put(startTile.getY() * width + startTile.getX(), -1);
 
         // Find a walkable tile adjacent to the castle right side
         int finalTargetX = -1;
@@ -242,17 +412,16 @@ public class GameMap implements Serializable {
                     continue;
 
                 // Skip if already visited
-                if (visited[nx][ny])
+                if (parent.containsKey(ny * width + nx))
                     continue;
 
                 // Only consider walkable tiles
-                Tile nextTile = tiles[nx][ny];
+                Tile nextTile = tile(nx, ny);
                 if (!nextTile.isWalkable())
                     continue;
 
                 // Mark as visited and save parent
-                visited[nx][ny] = true;
-                parent[nx][ny] = new int[] { cx, cy };
+                parent.put(ny * width + nx, cy * width + cx);
 
                 // Add to queue
                 queue.add(new int[] { nx, ny });
@@ -274,9 +443,9 @@ public class GameMap implements Serializable {
 
         // Work backwards to the start
         while (!(reconstructX == startTile.getX() && reconstructY == startTile.getY())) {
-            int[] p = parent[reconstructX][reconstructY];
-            reconstructX = p[0];
-            reconstructY = p[1];
+            int p = parent.get(reconstructY * width + reconstructX);
+            reconstructX = p % width;
+            reconstructY = p / width;
             reversePath.add(new int[] { reconstructX * TS + TS / 2, reconstructY * TS + TS / 2 });
         }
 
@@ -352,12 +521,33 @@ public class GameMap implements Serializable {
      * ------------------------------------------------------------------
      */
     public void render(GraphicsContext gc) {
-        gc.setFill(Color.web("#282828"));
-        gc.fillRect(0, 0, width * getTileSize(), height * getTileSize());
-        for (int y_coord = 0; y_coord < height; y_coord++) {
-            for (int x_coord = 0; x_coord < width; x_coord++) {
-                if (tiles[x_coord][y_coord] != null) {
-                    tiles[x_coord][y_coord].render(gc, x_coord, y_coord, getTileSize(), false);
+        render(gc, 0, 0, width - 1, height - 1);
+    }
+
+    /**
+     * Render only the tiles in a range, e.g. those inside the viewport.
+     *
+     * @param minTileX first column, clamped to the map
+     * @param minTileY first row, clamped to the map
+     * @param maxTileX last column (inclusive), clamped to the map
+     * @param maxTileY last row (inclusive), clamped to the map
+     */
+    public void render(GraphicsContext gc, int minTileX, int minTileY, int maxTileX, int maxTileY) {
+        int fromX = Math.max(0, minTileX);
+        int fromY = Math.max(0, minTileY);
+        int toX = Math.min(width - 1, maxTileX);
+        int toY = Math.min(height - 1, maxTileY);
+        prefetch(fromX, fromY, toX, toY);
+        if (fromX <= toX && fromY <= toY) {
+            gc.setFill(Color.web("#282828"));
+            gc.fillRect(fromX * getTileSize(), fromY * getTileSize(),
+                    (toX - fromX + 1) * getTileSize(), (toY - fromY + 1) * getTileSize());
+        }
+        for (int y_coord = fromY; y_coord <= toY; y_coord++) {
+            for (int x_coord = fromX; x_coord <= toX; x_coord++) {
+                Tile tile = tile(x_coord, y_coord);
+                if (tile != null) {
+                    tile.render(gc, x_coord, y_coord, getTileSize(), false);
                 }
             }
         }
@@ -372,9 +562,15 @@ public class GameMap implements Serializable {
 
         double tileRenderSize = Math.min(canvasWidth / width, canvasHeight / height);
 
-        // Ensure tileRenderSize is at least 1 pixel to avoid issues with tiny maps on
-        // large canvases
-        tileRenderSize = Math.max(1.0, tileRenderSize);
+        // A chunked map is sampled, about one tile per preview pixel
+        int step = 1;
+        if (chunks != null && tileRenderSize < 1.0) {
+            step = (int) Math.ceil(1.0 / tileRenderSize);
+        } else {
+            // Ensure tileRenderSize is at least 1 pixel to avoid issues with tiny maps on
+            // large canvases
+            tileRenderSize = Math.max(1.0, tileRenderSize);
+        }
 
         double totalMapRenderWidth = tileRenderSize * width;
         double totalMapRenderHeight = tileRenderSize * height;
@@ -388,15 +584,15 @@ public class GameMap implements Serializable {
         gc.setFill(Color.rgb(50, 50, 50)); // Dark gray background for preview
         gc.fillRect(0, 0, canvasWidth, canvasHeight);
 
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                Tile tile = tiles[x][y];
-                if (tile != null) {
-                    gc.setFill(getColorForTileType(tile.getType()));
+        for (int x = 0; x < width; x += step) {
+            for (int y = 0; y < height; y += step) {
+                TileType type = getTileType(x, y);
+                if (type != null) {
+                    gc.setFill(getColorForTileType(type));
                     gc.fillRect(offsetX + x * tileRenderSize,
                             offsetY + y * tileRenderSize,
-                            tileRenderSize,
-                            tileRenderSize);
+                            tileRenderSize * step,
+                            tileRenderSize * step);
                 }
             }
         }
@@ -419,8 +615,17 @@ public class GameMap implements Serializable {
         }
     }
 
-    // Helper to find the first occurrence of a tile type (used for preview)
-    private Tile findTileByType(TileType typeToFind) {
+    /**
+     * @return the first tile of a type, or null; a chunked map looks up its
+     *         start and end point without searching
+     */
+    public Tile findTileByType(TileType typeToFind) {
+        if (chunks != null) {
+            int[] xy = typeToFind == TileType.START_POINT ? chunkedStart
+                    : typeToFind == TileType.END_POINT ? chunkedEnd
+                    : chunks.find(typeToFind);
+            return xy == null ? null : chunks.getTile(xy[0], xy[1]);
+        }
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
                 if (tiles[x][y] != null && tiles[x][y].getType() == typeToFind) {
@@ -500,6 +705,9 @@ public class GameMap implements Serializable {
      * ------------------------------------------------------------------
      */
     private void writeObject(ObjectOutputStream out) throws IOException {
+        if (chunks != null) {
+            chunks.flush(); // the tiles are saved in their own file, see saveTilesTo
+        }
         out.defaultWriteObject();
     }
 
@@ -514,6 +722,15 @@ public class GameMap implements Serializable {
             endPoint = new Point2D(endXY[0], endXY[1]);
         }
 
+        if (chunkFile != null) {
+            chunks = TileChunkStore.open(Paths.get(chunkFile)); // copy-on-write until editInPlace()
+            chunkedStart = chunks.find(TileType.START_POINT);
+            chunkedEnd = chunks.find(TileType.END_POINT);
+            warmTileImages();
+            generatePath();
+            return;
+        }
+
         // Reinitialize all tiles as they have transient fields (like their Image)
         if (tiles != null) {
             for (int x_coord = 0; x_coord < width; x_coord++) {
@@ -557,7 +774,7 @@ public class GameMap implements Serializable {
                     // Make sure it was a tower slot before changing it, to avoid issues if logic is
                     // flawed
                     if (tile.getType() == TileType.TOWER_SLOT) {
-                        tile.setType(TileType.GRASS); // Occupy by changing to a non-placeable type
+                        changeTile(tileX, tileY, TileType.GRASS); // Occupy by changing to a non-placeable type
                         System.out.println("Tile (" + tileX + "," + tileY + ") changed to GRASS (occupied).");
                     } else {
                         System.err.println("Attempted to occupy a non-TOWER_SLOT tile at (" + tileX + "," + tileY
@@ -568,7 +785,7 @@ public class GameMap implements Serializable {
                     // This assumes the tile was originally a TOWER_SLOT and became GRASS (or other)
                     // A more robust system might store original tile type or use a specific
                     // OCCUPIED_TOWER_SLOT type
-                    tile.setType(TileType.TOWER_SLOT); // Free up by changing back to TOWER_SLOT
+                    changeTile(tileX, tileY, TileType.TOWER_SLOT); // Free up by changing back to TOWER_SLOT
                     System.out.println("Tile (" + tileX + "," + tileY + ") changed back to TOWER_SLOT (unoccupied).");
                 }
             }
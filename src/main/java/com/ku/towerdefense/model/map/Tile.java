@@ -1,5 +1,6 @@
 package com.ku.towerdefense.model.map;
 
+import com.ku.towerdefense.jfr.AssetLoadEvent;
 import javafx.geometry.Point2D;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.SnapshotParameters;
@@ -9,6 +10,8 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
 import javafx.scene.image.PixelReader;
 import javafx.scene.image.PixelWriter;
 
@@ -86,6 +89,10 @@ public class Tile implements Serializable {
 
     public static boolean isFxAvailable = true; // New flag for FX availability
 
+    // Editor label font, rebuilt only when the tile size changes (FX thread)
+    private static Font editorLabelFont;
+    private static int editorLabelFontTileSize;
+
     /* ────────────────────────────── Fields ─────────────────────────────── */
 
     private final int x, y;
@@ -196,8 +203,8 @@ public class Tile implements Serializable {
         }
 
         if (isEditorMode) {
-            gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, tileSize * 0.5));
             if (type == TileType.START_POINT) {
+                gc.setFont(editorLabelFont(tileSize));
                 // Assuming START_POINT tile visual from tileset is sufficient.
                 // Just add a clear text label.
                 gc.setStroke(Color.WHITE);
@@ -206,6 +213,7 @@ public class Tile implements Serializable {
                 gc.strokeText("S", x * tileSize + tileSize * 0.30, y * tileSize + tileSize * 0.70);
                 gc.fillText("S", x * tileSize + tileSize * 0.30, y * tileSize + tileSize * 0.70);
             } else if (type == TileType.END_POINT) {
+                gc.setFont(editorLabelFont(tileSize));
                 // Assuming END_POINT tile visual from tileset is sufficient.
                 // Just add a clear text label on the base tile.
                 gc.setStroke(Color.WHITE);
@@ -242,6 +250,18 @@ public class Tile implements Serializable {
         }
     }
 
+    /**
+     * The font for the editor's S and E labels, built once rather than per
+     * tile.
+     */
+    private static Font editorLabelFont(int tileSize) {
+        if (editorLabelFont == null || editorLabelFontTileSize != tileSize) {
+            editorLabelFont = Font.font("Arial", FontWeight.BOLD, tileSize * 0.5);
+            editorLabelFontTileSize = tileSize;
+        }
+        return editorLabelFont;
+    }
+
     /**
      * Special rendering for the castle (END_POINT)
      * Draws a proper 2x2 castle using the four castle tiles
@@ -490,13 +510,17 @@ public class Tile implements Serializable {
     /* ─────────────────── Static utility methods ─────────────────── */
 
     private static Image loadPNG(String classpath, int target) {
+        AssetLoadEvent loadEvent = new AssetLoadEvent();
+        loadEvent.begin();
         InputStream in = Tile.class.getResourceAsStream(classpath);
         if (in == null) {
             System.err.println("      -> PNG stream NULL for: " + classpath);
+            loadEvent.finish(classpath, null);
             return null;
         }
         try {
             Image img = new Image(in, target, target, true, true);
+            loadEvent.finish(classpath, img);
             if (img.isError()) {
                 System.err.println("      -> Failed to load image: " + classpath);
                 return null;
@@ -0,0 +1,365 @@
+package com.ku.towerdefense.model.map;
+
+import com.ku.towerdefense.util.GameLog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tile types of a map too large to keep as {@link Tile} objects, stored one
+ * byte per tile in a memory-mapped file.
+ *
+ * The file is laid out in {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} chunks,
+ * so the tiles around a viewport sit on a few pages. Chunks in use are paged
+ * in to an LRU cache, where their {@code Tile} objects are built on first
+ * access; {@link #prefetch} pages in the chunks around a view on a
+ * background thread so scrolling rarely waits on the disk.
+ *
+ * A store opened for editing writes straight through to its file, so
+ * evicting a chunk never loses an edit. A store opened for play maps the
+ * file copy-on-write: the game can mark tower slots and the like, but the
+ * saved map never changes under it.
+ *
+ * Safe to use from the FX and simulation threads.
+ */
+public final class TileChunkStore {
+    private static final GameLog LOG = GameLog.getInstance();
+
+    public static final int CHUNK_SIZE = 32;
+    private static final int CHUNK_TILES = CHUNK_SIZE * CHUNK_SIZE;
+    private static final int MAGIC = 0x4B555443; // "KUTC"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16; // magic, version, width, height
+    static final int DEFAULT_CACHED_CHUNKS = 2048; // 2M tiles
+    private static final int PREFETCH_MARGIN_CHUNKS = 1; // page in a ring of chunks around the view
+
+    // One thread for every store: prefetching is disk-bound, more would only contend
+    private static final ExecutorService PREFETCH = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "map-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final TileType[] TYPES = TileType.values();
+
+    /**
+     * A paged-in chunk: its tile types, and the tiles built from them so far.
+     */
+    private static final class Chunk {
+        final byte[] types = new byte[CHUNK_TILES];
+        final Tile[] tiles = new Tile[CHUNK_TILES];
+    }
+
+    private final Path path;
+    private final int width;
+    private final int height;
+    private final int chunksX;
+    private final int chunksY;
+    private final MappedByteBuffer buffer;
+    private final boolean writable; // false: copy-on-write, edits stay in memory
+    private final int maxCachedChunks;
+    private final Map<Integer, Chunk> cache; // guarded by this
+    private final Set<Integer> pending = new HashSet<>(); // chunks queued for prefetch, guarded by this
+    private long writes = 0; // guarded by this; tells a prefetch its copy may be stale
+
+    private TileChunkStore(Path path, int width, int height, MappedByteBuffer buffer, boolean writable,
+            int maxCachedChunks) {
+        this.path = path;
+        this.width = width;
+        this.height = height;
+        this.chunksX = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunksY = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.buffer = buffer;
+        this.writable = writable;
+        this.maxCachedChunks = maxCachedChunks;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Chunk> eldest) {
+                return size() > TileChunkStore.this.maxCachedChunks;
+            }
+        };
+    }
+
+    // ===== Files =====
+
+    /**
+     * Create a store file for a new map with every tile set to one type,
+     * replacing any file at that path.
+     */
+    public static TileChunkStore create(Path path, int width, int height, TileType fill) throws IOException {
+        return create(path, width, height, fill, DEFAULT_CACHED_CHUNKS);
+    }
+
+    static TileChunkStore create(Path path, int width, int height, TileType fill, int maxCachedChunks)
+            throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Map dimensions must be positive: " + width + "x" + height);
+        }
+        long chunks = (long) ((width + CHUNK_SIZE - 1) / CHUNK_SIZE) * ((height + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        long size = HEADER_BYTES + chunks * CHUNK_TILES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Map too large for one mapped file: " + width + "x" + height);
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, width).putInt(12, height);
+        byte fillByte = (byte) fill.ordinal();
+        if (fillByte != 0) { // a new file reads as zeros already
+            for (int i = HEADER_BYTES; i < size; i++) {
+                buffer.put(i, fillByte);
+            }
+        }
+        LOG.info("Created chunked map store {} ({} chunks)", path, chunks);
+        return new TileChunkStore(path, width, height, buffer, true, maxCachedChunks);
+    }
+
+    /**
+     * Open an existing store file copy-on-write: edits are kept in memory
+     * and the file is left as it is.
+     */
+    public static TileChunkStore open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    /**
+     * Open an existing store file for editing: edits are written to it.
+     */
+    public static TileChunkStore openForEditing(Path path) throws IOException {
+        return open(path, true);
+    }
+
+    private static TileChunkStore open(Path path, boolean writable) throws IOException {
+        MappedByteBuffer buffer;
+        // A private mapping needs a writable channel too, but never writes to the file
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a chunked map store: " + path);
+            }
+            buffer = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.PRIVATE, 0,
+                    channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a chunked map store: " + path);
+        }
+        int width = buffer.getInt(8);
+        int height = buffer.getInt(12);
+        long expected = HEADER_BYTES + (long) ((width + CHUNK_SIZE - 1) / CHUNK_SIZE)
+                * ((height + CHUNK_SIZE - 1) / CHUNK_SIZE) * CHUNK_TILES;
+        if (width <= 0 || height <= 0 || buffer.capacity() < expected) {
+            throw new IOException("Truncated chunked map store: " + path);
+        }
+        return new TileChunkStore(path, width, height, buffer, writable, DEFAULT_CACHED_CHUNKS);
+    }
+
+    /**
+     * Write the tiles as they are now, edits included, to a new file, and
+     * open that file for editing. The file is replaced if it exists.
+     */
+    public synchronized TileChunkStore copyTo(Path target) throws IOException {
+        Path partial = target.resolveSibling(target.getFileName() + ".partial");
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer contents = buffer.duplicate().clear();
+            while (contents.hasRemaining()) {
+                channel.write(contents);
+            }
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+        return openForEditing(target);
+    }
+
+    /**
+     * Write outstanding edits to disk. Does nothing for a copy-on-write store.
+     */
+    public void flush() {
+        if (writable) {
+            buffer.force();
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return true if edits are written to the file, false if they stay in
+     *         memory
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // ===== Tiles =====
+
+    /**
+     * @return the type of a tile, read without paging its chunk into the cache
+     */
+    public TileType getType(int x, int y) {
+        int key = chunkKey(x, y);
+        synchronized (this) {
+            Chunk chunk = cache.get(key);
+            if (chunk != null) {
+                return TYPES[chunk.types[indexInChunk(x, y)]];
+            }
+        }
+        return TYPES[buffer.get(chunkOffset(key) + indexInChunk(x, y))];
+    }
+
+    /**
+     * @return the tile object, paging its chunk in if needed
+     */
+    public synchronized Tile getTile(int x, int y) {
+        Chunk chunk = chunk(chunkKey(x, y));
+        int index = indexInChunk(x, y);
+        Tile tile = chunk.tiles[index];
+        if (tile == null) {
+            tile = new Tile(x, y, TYPES[chunk.types[index]]);
+            chunk.tiles[index] = tile;
+        }
+        return tile;
+    }
+
+    /**
+     * Change a tile's type, in the file and in its cached chunk.
+     */
+    public synchronized void setType(int x, int y, TileType type) {
+        int key = chunkKey(x, y);
+        int index = indexInChunk(x, y);
+        byte value = (byte) type.ordinal();
+        buffer.put(chunkOffset(key) + index, value);
+        writes++;
+        Chunk chunk = cache.get(key);
+        if (chunk != null) {
+            chunk.types[index] = value;
+            if (chunk.tiles[index] != null) {
+                chunk.tiles[index].setType(type);
+            }
+        }
+    }
+
+    /**
+     * @return the first tile of a type in row-major chunk order, or null;
+     *         reads the file directly, so a full search does not flush the cache
+     */
+    public int[] find(TileType type) {
+        byte value = (byte) type.ordinal();
+        for (int key = 0; key < chunksX * chunksY; key++) {
+            int offset = chunkOffset(key);
+            for (int i = 0; i < CHUNK_TILES; i++) {
+                if (buffer.get(offset + i) == value) {
+                    int x = (key % chunksX) * CHUNK_SIZE + i % CHUNK_SIZE;
+                    int y = (key / chunksX) * CHUNK_SIZE + i / CHUNK_SIZE;
+                    if (x < width && y < height) { // skip the padding of edge chunks
+                        return new int[] { x, y };
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    // ===== Paging =====
+
+    /**
+     * Page in the chunks covering a tile range, and a ring around it, on a
+     * background thread. Ranges larger than the cache are skipped; they would
+     * only evict each other.
+     */
+    public void prefetch(int minTileX, int minTileY, int maxTileX, int maxTileY) {
+        int fromX = Math.max(0, minTileX / CHUNK_SIZE - PREFETCH_MARGIN_CHUNKS);
+        int fromY = Math.max(0, minTileY / CHUNK_SIZE - PREFETCH_MARGIN_CHUNKS);
+        int toX = Math.min(chunksX - 1, maxTileX / CHUNK_SIZE + PREFETCH_MARGIN_CHUNKS);
+        int toY = Math.min(chunksY - 1, maxTileY / CHUNK_SIZE + PREFETCH_MARGIN_CHUNKS);
+        if (fromX > toX || fromY > toY || (toX - fromX + 1) * (toY - fromY + 1) > maxCachedChunks / 2) {
+            return;
+        }
+        synchronized (this) {
+            for (int cy = fromY; cy <= toY; cy++) {
+                for (int cx = fromX; cx <= toX; cx++) {
+                    Integer key = cy * chunksX + cx;
+                    if (!cache.containsKey(key) && pending.add(key)) {
+                        PREFETCH.execute(() -> pageIn(key));
+                    }
+                }
+            }
+        }
+    }
+
+    private void pageIn(int key) {
+        long writesBefore;
+        synchronized (this) {
+            writesBefore = writes;
+        }
+        Chunk chunk = read(key); // touches the pages outside the lock
+        synchronized (this) {
+            pending.remove(key);
+            if (!cache.containsKey(key)) {
+                cache.put(key, writes == writesBefore ? chunk : read(key)); // re-read past an edit
+            }
+        }
+    }
+
+    /**
+     * @return true if a chunk is in the cache
+     */
+    synchronized boolean isCached(int chunkX, int chunkY) {
+        return cache.containsKey(chunkY * chunksX + chunkX);
+    }
+
+    /**
+     * @return the number of chunks in the cache
+     */
+    public synchronized int getCachedChunkCount() {
+        return cache.size();
+    }
+
+    private Chunk chunk(int key) {
+        Chunk chunk = cache.get(key);
+        if (chunk == null) {
+            chunk = read(key);
+            cache.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    private Chunk read(int key) {
+        Chunk chunk = new Chunk();
+        buffer.slice(chunkOffset(key), CHUNK_TILES).get(chunk.types);
+        return chunk;
+    }
+
+    private int chunkKey(int x, int y) {
+        return (y / CHUNK_SIZE) * chunksX + x / CHUNK_SIZE;
+    }
+
+    private static int indexInChunk(int x, int y) {
+        return (y % CHUNK_SIZE) * CHUNK_SIZE + x % CHUNK_SIZE;
+    }
+
+    private static int chunkOffset(int key) {
+        return HEADER_BYTES + key * CHUNK_TILES;
+    }
+}
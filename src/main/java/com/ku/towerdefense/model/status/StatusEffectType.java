@@ -0,0 +1,60 @@
+package com.ku.towerdefense.model.status;
+
+/**
+ * Kinds of status effect an enemy can carry.
+ *
+ * Each type has a stacking rule for when it is applied to an enemy that
+ * already has it. The magnitude of a speed effect is a multiplier on the
+ * enemy's base speed; all active speed effects are multiplied together.
+ *
+ * To add an effect (burn, poison, armor break, ...), add a constant here and
+ * handle its magnitude in {@link StatusEffects} - for example a per-tick pass
+ * over its table for damage over time.
+ */
+public enum StatusEffectType {
+    /** Mage tower slow; the strongest slow wins. */
+    SLOW(Stacking.STRONGEST, true),
+    /** Freeze power-up; magnitude 0 stops the enemy. */
+    FREEZE(Stacking.REFRESH, true),
+    /** Knight speed boost while next to a goblin. */
+    SPEED_BOOST(Stacking.REFRESH, true);
+
+    /**
+     * What happens when an effect is applied to an enemy that already has it.
+     */
+    public enum Stacking {
+        /** The new magnitude and duration replace the old ones. */
+        REFRESH,
+        /** Keep the stronger magnitude and the later expiry. */
+        STRONGEST,
+        /** Keep the magnitude and add the new duration to the remaining one. */
+        EXTEND
+    }
+
+    private final Stacking stacking;
+    private final boolean speedModifier;
+
+    StatusEffectType(Stacking stacking, boolean speedModifier) {
+        this.stacking = stacking;
+        this.speedModifier = speedModifier;
+    }
+
+    public Stacking getStacking() {
+        return stacking;
+    }
+
+    /**
+     * @return true if the magnitude multiplies the enemy's speed
+     */
+    public boolean isSpeedModifier() {
+        return speedModifier;
+    }
+
+    /**
+     * @return true if magnitude a is a stronger effect than magnitude b
+     */
+    boolean isStronger(double a, double b) {
+        // Speed effects are stronger the further they move speed away from normal
+        return Math.abs(1.0 - a) > Math.abs(1.0 - b);
+    }
+}
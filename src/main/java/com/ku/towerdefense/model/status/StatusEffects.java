@@ -0,0 +1,281 @@
+package com.ku.towerdefense.model.status;
+
+import com.ku.towerdefense.model.entity.Enemy;
+import com.ku.towerdefense.util.TimerWheel;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Status effects of all enemies in a game.
+ *
+ * Entries are kept per effect type in packed parallel arrays (target,
+ * magnitude, expiry tick), so applying a freeze to every enemy is a single
+ * pass over one table. Each enemy remembers its slot in every table, which
+ * makes lookups and swap-removal O(1). Durations are on the simulation clock:
+ * expiries are driven by the game's {@link TimerWheel}.
+ *
+ * Not thread-safe; it is driven from the simulation tick.
+ */
+public final class StatusEffects {
+
+    /** Duration for effects that last until they are removed. */
+    public static final long PERMANENT = Long.MAX_VALUE;
+
+    private static final StatusEffectType[] TYPES = StatusEffectType.values();
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Entries of one effect type, packed at the front of the arrays.
+     */
+    private static final class Table {
+        Enemy[] targets = new Enemy[INITIAL_CAPACITY];
+        double[] magnitude = new double[INITIAL_CAPACITY];
+        long[] expiresAt = new long[INITIAL_CAPACITY];
+        int size;
+
+        void ensureCapacity(int capacity) {
+            if (capacity > targets.length) {
+                int newLength = Math.max(capacity, targets.length * 2);
+                targets = Arrays.copyOf(targets, newLength);
+                magnitude = Arrays.copyOf(magnitude, newLength);
+                expiresAt = Arrays.copyOf(expiresAt, newLength);
+            }
+        }
+    }
+
+    private final Table[] tables = new Table[TYPES.length];
+    private final TimerWheel timers;
+
+    /**
+     * @param timers the game's timer wheel, used for effect durations
+     */
+    public StatusEffects(TimerWheel timers) {
+        this.timers = timers;
+        for (int i = 0; i < tables.length; i++) {
+            tables[i] = new Table();
+        }
+    }
+
+    /**
+     * Apply an effect to one enemy, following the type's stacking rule if the
+     * enemy already has it.
+     *
+     * @param enemy the enemy
+     * @param type the effect type
+     * @param magnitude effect strength (a speed multiplier for speed effects)
+     * @param durationTicks how long it lasts, or {@link #PERMANENT}
+     */
+    public void apply(Enemy enemy, StatusEffectType type, double magnitude, long durationTicks) {
+        Table table = tables[type.ordinal()];
+        table.ensureCapacity(table.size + 1);
+        long expiry = put(table, enemy, type, magnitude, durationTicks);
+        if (expiry != PERMANENT) {
+            scheduleExpiry(type, enemy, expiry);
+        }
+    }
+
+    /**
+     * Apply an effect to many enemies in one pass. Entries that end together
+     * share a single expiry timer.
+     *
+     * @param enemies the enemies
+     * @param type the effect type
+     * @param magnitude effect strength
+     * @param durationTicks how long it lasts, or {@link #PERMANENT}
+     */
+    public void applyToAll(List<Enemy> enemies, StatusEffectType type, double magnitude, long durationTicks) {
+        Table table = tables[type.ordinal()];
+        table.ensureCapacity(table.size + enemies.size());
+        long batchExpiry = expiryFor(durationTicks);
+        boolean batchPending = false;
+        for (Enemy enemy : enemies) {
+            long expiry = put(table, enemy, type, magnitude, durationTicks);
+            if (expiry == PERMANENT) {
+                continue;
+            }
+            if (expiry == batchExpiry) {
+                batchPending = true;
+            } else {
+                scheduleExpiry(type, enemy, expiry); // stacking moved this one's expiry
+            }
+        }
+        if (batchPending) {
+            timers.schedule(batchExpiry - timers.getCurrentTick(), () -> sweep(type));
+        }
+    }
+
+    /**
+     * Remove an effect from an enemy. Does nothing if it does not have it.
+     */
+    public void remove(Enemy enemy, StatusEffectType type) {
+        int slot = slotOf(enemy, type);
+        if (slot >= 0) {
+            removeAt(tables[type.ordinal()], type, slot);
+        }
+    }
+
+    /**
+     * Remove every effect from an enemy (when it dies or leaves the map).
+     */
+    public void removeAll(Enemy enemy) {
+        for (StatusEffectType type : TYPES) {
+            remove(enemy, type);
+        }
+    }
+
+    /**
+     * Remove all effects from all enemies. Pending expiry timers become no-ops.
+     */
+    public void clear() {
+        for (StatusEffectType type : TYPES) {
+            Table table = tables[type.ordinal()];
+            for (int i = 0; i < table.size; i++) {
+                Enemy enemy = table.targets[i];
+                enemy.setStatusSlot(type, -1);
+                enemy.setStatusSpeedFactor(1.0);
+                table.targets[i] = null;
+            }
+            table.size = 0;
+        }
+    }
+
+    public boolean has(Enemy enemy, StatusEffectType type) {
+        return slotOf(enemy, type) >= 0;
+    }
+
+    /**
+     * @return the effect's magnitude, or 0 if the enemy does not have it
+     */
+    public double getMagnitude(Enemy enemy, StatusEffectType type) {
+        int slot = slotOf(enemy, type);
+        return slot >= 0 ? tables[type.ordinal()].magnitude[slot] : 0.0;
+    }
+
+    /**
+     * @return ticks until the effect ends, {@link #PERMANENT} if it does not
+     *         expire, or 0 if the enemy does not have it
+     */
+    public long remainingTicks(Enemy enemy, StatusEffectType type) {
+        int slot = slotOf(enemy, type);
+        if (slot < 0) {
+            return 0;
+        }
+        long expiry = tables[type.ordinal()].expiresAt[slot];
+        return expiry == PERMANENT ? PERMANENT : expiry - timers.getCurrentTick();
+    }
+
+    /**
+     * @return number of enemies that have the effect
+     */
+    public int count(StatusEffectType type) {
+        return tables[type.ordinal()].size;
+    }
+
+    // ===== INTERNALS =====
+
+    /**
+     * Add or stack an entry. The table must have room for one more.
+     *
+     * @return the entry's resulting expiry tick
+     */
+    private long put(Table table, Enemy enemy, StatusEffectType type, double magnitude, long durationTicks) {
+        long expiry = expiryFor(durationTicks);
+        int slot = slotOf(enemy, type);
+        if (slot < 0) {
+            slot = table.size++;
+            table.targets[slot] = enemy;
+            table.magnitude[slot] = magnitude;
+            table.expiresAt[slot] = expiry;
+            enemy.setStatusSlot(type, slot);
+        } else {
+            switch (type.getStacking()) {
+                case REFRESH:
+                    table.magnitude[slot] = magnitude;
+                    table.expiresAt[slot] = expiry;
+                    break;
+                case STRONGEST:
+                    if (type.isStronger(magnitude, table.magnitude[slot])) {
+                        table.magnitude[slot] = magnitude;
+                    }
+                    table.expiresAt[slot] = Math.max(table.expiresAt[slot], expiry);
+                    break;
+                case EXTEND:
+                    long current = table.expiresAt[slot];
+                    if (current != PERMANENT && durationTicks != PERMANENT) {
+                        table.expiresAt[slot] = current + Math.max(1, durationTicks);
+                    } else {
+                        table.expiresAt[slot] = PERMANENT;
+                    }
+                    break;
+            }
+        }
+        if (type.isSpeedModifier()) {
+            enemy.setStatusSpeedFactor(speedFactor(enemy));
+        }
+        return table.expiresAt[slot];
+    }
+
+    private void removeAt(Table table, StatusEffectType type, int slot) {
+        Enemy enemy = table.targets[slot];
+        int last = --table.size;
+        if (slot != last) {
+            table.targets[slot] = table.targets[last];
+            table.magnitude[slot] = table.magnitude[last];
+            table.expiresAt[slot] = table.expiresAt[last];
+            table.targets[slot].setStatusSlot(type, slot);
+        }
+        table.targets[last] = null;
+        enemy.setStatusSlot(type, -1);
+        if (type.isSpeedModifier()) {
+            enemy.setStatusSpeedFactor(speedFactor(enemy));
+        }
+    }
+
+    private void scheduleExpiry(StatusEffectType type, Enemy enemy, long expiry) {
+        timers.schedule(expiry - timers.getCurrentTick(), () -> {
+            // The entry may have been refreshed, extended or removed since
+            int slot = slotOf(enemy, type);
+            if (slot >= 0 && tables[type.ordinal()].expiresAt[slot] <= timers.getCurrentTick()) {
+                removeAt(tables[type.ordinal()], type, slot);
+            }
+        });
+    }
+
+    /**
+     * Remove every expired entry of a type in one pass.
+     */
+    private void sweep(StatusEffectType type) {
+        Table table = tables[type.ordinal()];
+        long now = timers.getCurrentTick();
+        for (int i = table.size - 1; i >= 0; i--) { // swap-removal only moves already visited entries
+            if (table.expiresAt[i] <= now) {
+                removeAt(table, type, i);
+            }
+        }
+    }
+
+    private long expiryFor(long durationTicks) {
+        return durationTicks == PERMANENT ? PERMANENT : timers.getCurrentTick() + Math.max(1, durationTicks);
+    }
+
+    private int slotOf(Enemy enemy, StatusEffectType type) {
+        int slot = enemy.getStatusSlot(type);
+        Table table = tables[type.ordinal()];
+        // An enemy could still carry a slot from a cleared table
+        return slot >= 0 && slot < table.size && table.targets[slot] == enemy ? slot : -1;
+    }
+
+    private double speedFactor(Enemy enemy) {
+        double factor = 1.0;
+        for (StatusEffectType type : TYPES) {
+            if (type.isSpeedModifier()) {
+                int slot = slotOf(enemy, type);
+                if (slot >= 0) {
+                    factor *= tables[type.ordinal()].magnitude[slot];
+                }
+            }
+        }
+        return factor;
+    }
+}
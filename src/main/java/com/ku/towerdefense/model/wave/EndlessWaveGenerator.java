@@ -0,0 +1,65 @@
+package com.ku.towerdefense.model.wave;
+
+import com.ku.towerdefense.model.entity.Enemy;
+import com.ku.towerdefense.util.GameSettings;
+
+import java.util.SplittableRandom;
+
+/**
+ * Procedural waves for endless mode.
+ *
+ * Enemy count grows linearly, the knight share and enemy health grow with the
+ * wave number, and spawn intervals shrink, so the load keeps rising without
+ * bound. Each wave is derived only from the seed and its number, which makes
+ * endless runs repeatable and lets a wave be recompiled after a load or
+ * rewind.
+ */
+public final class EndlessWaveGenerator {
+
+    private static final double MIN_INTERVAL_SECONDS = 0.05;
+
+    private EndlessWaveGenerator() {
+    }
+
+    /**
+     * Generate an endless-mode wave.
+     *
+     * @param waveNumber the wave number, starting at 1
+     * @param seed the run's seed
+     * @return the wave
+     */
+    public static Wave generate(int waveNumber, long seed) {
+        GameSettings settings = GameSettings.getInstance();
+        SplittableRandom rng = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + waveNumber);
+
+        int total = Math.max(1, settings.getEnemiesPerGroup()) * waveNumber;
+        double knightShare = Math.min(0.6, 0.1 + 0.02 * waveNumber + rng.nextDouble(-0.05, 0.05));
+        knightShare = Math.max(0.0, knightShare);
+        int knights = (int) Math.round(total * knightShare);
+        int goblins = total - knights;
+
+        double baseInterval = settings.getEnemyDelay() / 1000.0;
+        double interval = Math.max(MIN_INTERVAL_SECONDS, baseInterval / (1 + 0.1 * waveNumber));
+
+        Wave wave = new Wave(waveNumber);
+        wave.setHealthMultiplier(1.0 + 0.15 * (waveNumber - 1));
+
+        // Split each type into one to three groups with staggered starts
+        int groups = 1 + rng.nextInt(3);
+        addGroups(wave, Enemy.EnemyType.GOBLIN, goblins, groups, interval, interval, rng);
+        addGroups(wave, Enemy.EnemyType.KNIGHT, knights, groups, interval * 2, interval * (1 + rng.nextInt(4)), rng);
+        return wave;
+    }
+
+    private static void addGroups(Wave wave, Enemy.EnemyType type, int count, int groups, double interval,
+            double firstDelay, SplittableRandom rng) {
+        int remaining = count;
+        double delay = firstDelay;
+        for (int g = 0; g < groups && remaining > 0; g++) {
+            int size = g == groups - 1 ? remaining : (remaining + groups - g - 1) / (groups - g);
+            wave.addEnemySpawn(type, size, interval, delay);
+            remaining -= size;
+            delay += size * interval + rng.nextDouble(0.5, 2.0);
+        }
+    }
+}
@@ -3,12 +3,12 @@ package com.ku.towerdefense.model.wave;
 import com.ku.towerdefense.model.entity.Enemy;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.function.Supplier;
 
 public class Wave {
     private int waveNumber;
     private List<EnemySpawnDetail> enemySpawns;
     private int totalEnemies; // For tracking completion
+    private double healthMultiplier = 1.0; // Applied to every enemy of the wave
 
     public Wave(int waveNumber) {
         this.waveNumber = waveNumber;
@@ -16,8 +16,8 @@ public class Wave {
         this.totalEnemies = 0;
     }
 
-    public void addEnemySpawn(Supplier<Enemy> enemySupplier, int count, double intervalSeconds, double initialDelaySeconds) {
-        this.enemySpawns.add(new EnemySpawnDetail(enemySupplier, count, intervalSeconds, initialDelaySeconds));
+    public void addEnemySpawn(Enemy.EnemyType enemyType, int count, double intervalSeconds, double initialDelaySeconds) {
+        this.enemySpawns.add(new EnemySpawnDetail(enemyType, count, intervalSeconds, initialDelaySeconds));
         this.totalEnemies += count;
     }
 
@@ -33,22 +33,30 @@ public class Wave {
         return totalEnemies;
     }
 
+    public double getHealthMultiplier() {
+        return healthMultiplier;
+    }
+
+    public void setHealthMultiplier(double healthMultiplier) {
+        this.healthMultiplier = healthMultiplier;
+    }
+
     // Inner class to define details for spawning a group of a specific enemy type
     public static class EnemySpawnDetail {
-        private Supplier<Enemy> enemySupplier; // e.g., () -> new Goblin(0,0)
+        private Enemy.EnemyType enemyType; // Enemies are created by the controller when they spawn
         private int count; // Number of enemies of this type to spawn
         private double intervalSeconds; // Time between spawns of this enemy type
         private double initialDelaySeconds; // Delay before this group starts spawning after wave begins
 
-        public EnemySpawnDetail(Supplier<Enemy> enemySupplier, int count, double intervalSeconds, double initialDelaySeconds) {
-            this.enemySupplier = enemySupplier;
+        public EnemySpawnDetail(Enemy.EnemyType enemyType, int count, double intervalSeconds, double initialDelaySeconds) {
+            this.enemyType = enemyType;
             this.count = count;
             this.intervalSeconds = intervalSeconds;
             this.initialDelaySeconds = initialDelaySeconds;
         }
 
-        public Supplier<Enemy> getEnemySupplier() {
-            return enemySupplier;
+        public Enemy.EnemyType getEnemyType() {
+            return enemyType;
         }
 
         public int getCount() {
@@ -63,4 +71,4 @@ public class Wave {
             return initialDelaySeconds;
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,47 +1,116 @@
 package com.ku.towerdefense.model.wave;
 
-import com.ku.towerdefense.model.entity.Goblin;
-import com.ku.towerdefense.model.entity.Knight;
+import com.ku.towerdefense.model.entity.Enemy;
+import com.ku.towerdefense.util.GameSettings;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Wave definitions.
+ *
+ * If a {@value #WAVES_FILE} file exists in the working directory, the waves
+ * are read from it. Otherwise each wave is generated from the current
+ * GameSettings (enemies per group, goblin percentage and enemy delay).
+ *
+ * File format, one group per line:
+ * <pre>
+ * # comment
+ * wave
+ * GOBLIN 5 1.5 0.5     # type, count, interval (s), initial delay (s)
+ * KNIGHT 2 3.0 2.0
+ * wave
+ * ...
+ * </pre>
+ */
 public class WaveConfig {
-    private static List<Wave> waves = new ArrayList<>();
+    public static final String WAVES_FILE = "waves.txt";
+
+    private static List<Wave> waves = null; // null: generate from settings
 
     static {
-        // Define waves programmatically for now. Could be loaded from a file.
-
-        // Wave 1: Easy Goblins
-        Wave wave1 = new Wave(1);
-        wave1.addEnemySpawn(() -> new Goblin(0, 0), 5, 1.5, 0.5); // 5 Goblins, 1.5s interval, 0.5s initial delay
-        waves.add(wave1);
-
-        // Wave 2: More Goblins, slightly faster
-        Wave wave2 = new Wave(2);
-        wave2.addEnemySpawn(() -> new Goblin(0, 0), 8, 1.0, 0.5);
-        waves.add(wave2);
-
-        // Wave 3: Introduce Knights
-        Wave wave3 = new Wave(3);
-        wave3.addEnemySpawn(() -> new Goblin(0, 0), 5, 1.2, 0.5);
-        wave3.addEnemySpawn(() -> new Knight(0, 0), 2, 3.0, 2.0); // 2 Knights, 3s interval, 2s delay after Goblins start
-        waves.add(wave3);
-
-        // Wave 4: Mixed Goblins and Knights
-        Wave wave4 = new Wave(4);
-        wave4.addEnemySpawn(() -> new Goblin(0, 0), 10, 0.8, 0.5);
-        wave4.addEnemySpawn(() -> new Knight(0, 0), 4, 2.5, 1.0);
-        waves.add(wave4);
-        
-        // Wave 5: Tougher wave
-        Wave wave5 = new Wave(5);
-        wave5.addEnemySpawn(() -> new Knight(0, 0), 6, 2.0, 0.5);
-        wave5.addEnemySpawn(() -> new Goblin(0, 0), 10, 0.5, 3.0); // Goblins come after initial Knights
-        waves.add(wave5);
-        // Add more waves as needed
+        Path file = Paths.get(WAVES_FILE);
+        if (Files.exists(file)) {
+            try {
+                waves = loadFromFile(file);
+                System.out.println("🌊 Loaded " + waves.size() + " waves from " + WAVES_FILE);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("❌ Could not load " + WAVES_FILE + ", using settings-based waves: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Parse a wave file.
+     *
+     * @param file the file to read
+     * @return the waves in file order, numbered from 1
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static List<Wave> loadFromFile(Path file) throws IOException {
+        List<Wave> loaded = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            Wave current = null;
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                if (comment >= 0) {
+                    line = line.substring(0, comment);
+                }
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (line.equalsIgnoreCase("wave")) {
+                    current = new Wave(loaded.size() + 1);
+                    loaded.add(current);
+                    continue;
+                }
+                if (current == null) {
+                    throw new IllegalArgumentException("line " + lineNumber + ": group before first 'wave'");
+                }
+                String[] parts = line.split("\\s+");
+                if (parts.length != 4) {
+                    throw new IllegalArgumentException("line " + lineNumber + ": expected 'TYPE count interval delay'");
+                }
+                try {
+                    Enemy.EnemyType type = Enemy.EnemyType.valueOf(parts[0].toUpperCase());
+                    int count = Integer.parseInt(parts[1]);
+                    double interval = Double.parseDouble(parts[2]);
+                    double delay = Double.parseDouble(parts[3]);
+                    if (count < 0 || interval < 0 || delay < 0) {
+                        throw new IllegalArgumentException("negative value");
+                    }
+                    current.addEnemySpawn(type, count, interval, delay);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("line " + lineNumber + ": " + e.getMessage());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Use the given waves instead of the settings-based ones.
+     *
+     * @param definedWaves the waves, or null to go back to generating them from settings
+     */
+    public static void setWaves(List<Wave> definedWaves) {
+        waves = definedWaves != null ? new ArrayList<>(definedWaves) : null;
     }
 
     public static Wave getWave(int waveNumber) {
+        if (waves == null) {
+            return waveNumber > 0 && waveNumber <= getTotalWaves() ? createFromSettings(waveNumber) : null;
+        }
         if (waveNumber > 0 && waveNumber <= waves.size()) {
             return waves.get(waveNumber - 1); // 0-indexed list
         }
@@ -49,6 +118,23 @@ public class WaveConfig {
     }
 
     public static int getTotalWaves() {
-        return waves.size();
+        return waves != null ? waves.size() : GameSettings.getInstance().getTotalWaves();
+    }
+
+    /**
+     * Build a wave from the current settings: goblins first, then knights,
+     * one enemy every enemyDelay, group size growing every third wave.
+     */
+    private static Wave createFromSettings(int waveNumber) {
+        GameSettings settings = GameSettings.getInstance();
+        int num = settings.getEnemiesPerGroup() * (1 + waveNumber / 3);
+        int goblins = (int) (num * settings.getGoblinPercentage() / 100.0);
+        int knights = num - goblins;
+        double delay = settings.getEnemyDelay() / 1000.0; // Convert ms to seconds
+
+        Wave wave = new Wave(waveNumber);
+        wave.addEnemySpawn(Enemy.EnemyType.GOBLIN, goblins, delay, delay);
+        wave.addEnemySpawn(Enemy.EnemyType.KNIGHT, knights, delay, delay * (goblins + 1));
+        return wave;
     }
-} 
\ No newline at end of file
+}
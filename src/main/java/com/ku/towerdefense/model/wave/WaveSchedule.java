@@ -0,0 +1,107 @@
+package com.ku.towerdefense.model.wave;
+
+import com.ku.towerdefense.model.entity.Enemy;
+
+import java.util.Arrays;
+
+/**
+ * A wave compiled into spawn events sorted by simulation tick.
+ *
+ * The game controller walks the events with a cursor as the wave's tick
+ * counter advances, so spawning follows game time (pause, fast-forward and
+ * headless runs behave the same) and enemies are only created when they
+ * actually spawn.
+ */
+public final class WaveSchedule {
+
+    private static final Enemy.EnemyType[] ENEMY_TYPES = Enemy.EnemyType.values();
+
+    private final int[] spawnTicks;
+    private final byte[] enemyTypes;
+    private final double healthMultiplier;
+
+    private WaveSchedule(int[] spawnTicks, byte[] enemyTypes, double healthMultiplier) {
+        this.spawnTicks = spawnTicks;
+        this.enemyTypes = enemyTypes;
+        this.healthMultiplier = healthMultiplier;
+    }
+
+    /**
+     * Compile a wave definition. Group member i spawns at
+     * initialDelay + i * interval seconds after the wave starts; events at
+     * the same tick keep the order of their groups.
+     *
+     * @param wave the wave definition
+     * @param tickSeconds length of one simulation step
+     * @return the compiled schedule
+     */
+    public static WaveSchedule compile(Wave wave, double tickSeconds) {
+        int total = wave.getTotalEnemies();
+        // Sort key: spawn tick in the high bits, definition order in the low bits
+        long[] keys = new long[total];
+        byte[] typesInOrder = new byte[total];
+        int n = 0;
+        for (Wave.EnemySpawnDetail group : wave.getEnemySpawns()) {
+            for (int i = 0; i < group.getCount(); i++) {
+                double seconds = group.getInitialDelaySeconds() + i * group.getIntervalSeconds();
+                long tick = Math.max(1, Math.round(seconds / tickSeconds));
+                keys[n] = (tick << 32) | n;
+                typesInOrder[n] = (byte) group.getEnemyType().ordinal();
+                n++;
+            }
+        }
+        Arrays.sort(keys, 0, n);
+
+        int[] spawnTicks = new int[n];
+        byte[] enemyTypes = new byte[n];
+        for (int i = 0; i < n; i++) {
+            spawnTicks[i] = (int) (keys[i] >>> 32);
+            enemyTypes[i] = typesInOrder[(int) keys[i]];
+        }
+        return new WaveSchedule(spawnTicks, enemyTypes, wave.getHealthMultiplier());
+    }
+
+    /**
+     * @return number of spawn events
+     */
+    public int size() {
+        return spawnTicks.length;
+    }
+
+    /**
+     * @param index event index
+     * @return tick (counted from the wave start) at which the event fires
+     */
+    public int getSpawnTick(int index) {
+        return spawnTicks[index];
+    }
+
+    /**
+     * @param index event index
+     * @return type of enemy to spawn
+     */
+    public Enemy.EnemyType getEnemyType(int index) {
+        return ENEMY_TYPES[enemyTypes[index]];
+    }
+
+    /**
+     * @return factor applied to the base health of every spawned enemy
+     */
+    public double getHealthMultiplier() {
+        return healthMultiplier;
+    }
+
+    /**
+     * @param type an enemy type
+     * @return how many enemies of that type the wave spawns
+     */
+    public int count(Enemy.EnemyType type) {
+        int count = 0;
+        for (byte enemyType : enemyTypes) {
+            if (enemyType == type.ordinal()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -2,8 +2,9 @@ package com.ku.towerdefense.powerup;
 
 import com.ku.towerdefense.controller.GameController;
 import com.ku.towerdefense.model.entity.Enemy;
+import com.ku.towerdefense.model.status.StatusEffectType;
+import com.ku.towerdefense.util.TimerWheel;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Power-up effect that freezes all enemies for a specified duration
@@ -13,9 +14,9 @@ public class FreezeEffect implements PowerUpEffect {
     private static final double FREEZE_DURATION = 5.0; // 5 seconds
     
     private boolean active = false;
-    private double remainingDuration = 0.0;
-    private List<Enemy> frozenEnemies = new ArrayList<>();
-    private List<Double> originalSpeeds = new ArrayList<>();
+    private TimerWheel timers;
+    private TimerWheel.Timer expiry; // ends the freeze on the game clock
+    private int frozenCount = 0;
     
     @Override
     public boolean activate(GameController gameController) {
@@ -29,66 +30,54 @@ public class FreezeEffect implements PowerUpEffect {
             return false; // No enemies to freeze
         }
         
-        // Freeze all enemies
-        frozenEnemies.clear();
-        originalSpeeds.clear();
-        
-        for (Enemy enemy : enemies) {
-            frozenEnemies.add(enemy);
-            originalSpeeds.add(enemy.getSpeed());
-            enemy.setSpeed(0.0); // Freeze by setting speed to 0
-            enemy.setFrozen(true); // Mark as frozen to prevent speed override
-        }
+        // Freeze all enemies in one pass; the status effect ends with the same duration
+        long ticks = GameController.ticksFor(FREEZE_DURATION);
+        gameController.getStatusEffects().applyToAll(enemies, StatusEffectType.FREEZE, 0.0, ticks);
+        frozenCount = enemies.size();
         
         active = true;
-        remainingDuration = FREEZE_DURATION;
+        scheduleExpiry(gameController, FREEZE_DURATION);
         
-        System.out.println("🧊 FREEZE ACTIVATED! " + frozenEnemies.size() + " enemies frozen for " + FREEZE_DURATION + " seconds!");
+        System.out.println("🧊 FREEZE ACTIVATED! " + frozenCount + " enemies frozen for " + FREEZE_DURATION + " seconds!");
         
         return true;
     }
     
-    @Override
-    public boolean update(double deltaTime) {
-        if (!active) {
-            return false;
-        }
-        
-        remainingDuration -= deltaTime;
-        
-        if (remainingDuration <= 0) {
-            // Unfreeze all enemies
-            unfreezeEnemies();
-            active = false;
-            System.out.println("❄️ Freeze effect ended - enemies unfrozen!");
-            return false;
-        }
-        
-        return true;
+    /**
+     * Re-create a running freeze (used when rewinding). The enemies' FREEZE
+     * status effects are restored separately with the rest of their effects.
+     * @param gameController the game controller
+     * @param remaining remaining freeze time in seconds
+     */
+    void restore(GameController gameController, double remaining) {
+        frozenCount = gameController.getStatusEffects().count(StatusEffectType.FREEZE);
+        active = true;
+        scheduleExpiry(gameController, remaining);
     }
-    
+
+    private void scheduleExpiry(GameController gameController, double seconds) {
+        timers = gameController.getTimerWheel();
+        expiry = timers.schedule(GameController.ticksFor(seconds), this::expire);
+    }
+
     /**
-     * Unfreeze all frozen enemies by restoring their original speeds
+     * Called by the expiry timer when the freeze runs out
      */
-    private void unfreezeEnemies() {
-        for (int i = 0; i < frozenEnemies.size() && i < originalSpeeds.size(); i++) {
-            Enemy enemy = frozenEnemies.get(i);
-            double originalSpeed = originalSpeeds.get(i);
-            
-            // Only unfreeze if the enemy still exists (wasn't killed while frozen)
-            if (enemy != null) {
-                enemy.setSpeed(originalSpeed);
-                enemy.setFrozen(false); // Mark as unfrozen
-            }
-        }
-        
-        frozenEnemies.clear();
-        originalSpeeds.clear();
+    private void expire() {
+        // The enemies' FREEZE effects expire on the same tick
+        active = false;
+        System.out.println("❄️ Freeze effect ended - enemies unfrozen!");
+    }
+    
+    @Override
+    public boolean update(double deltaTime) {
+        // Expiry is driven by the timer wheel; nothing to count down here
+        return active;
     }
     
     @Override
     public double getRemainingDuration() {
-        return remainingDuration;
+        return active ? timers.remainingTicks(expiry) * GameController.TICK_SECONDS : 0.0;
     }
     
     @Override
@@ -102,10 +91,10 @@ public class FreezeEffect implements PowerUpEffect {
     }
     
     /**
-     * Get the list of currently frozen enemies (for visual effects)
-     * @return list of frozen enemies
+     * Get the number of enemies this freeze was applied to
+     * @return number of frozen enemies
      */
-    public List<Enemy> getFrozenEnemies() {
-        return new ArrayList<>(frozenEnemies);
+    public int getFrozenCount() {
+        return frozenCount;
     }
 } 
\ No newline at end of file
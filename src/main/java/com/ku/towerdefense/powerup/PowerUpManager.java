@@ -164,6 +164,38 @@ public class PowerUpManager {
         return null;
     }
     
+    /**
+     * Get the wave until which a power-up is on cooldown
+     * @return the wave number, or -1 if it has never been used
+     */
+    public long getCooldownUntilWave(PowerUpType type) {
+        Long cooldownWave = cooldowns.get(type);
+        return cooldownWave != null ? cooldownWave : -1;
+    }
+    
+    /**
+     * Restore power-up state captured earlier (used when rewinding).
+     * Running effects are dropped; a running freeze is re-created (the enemies'
+     * FREEZE status effects are restored by the caller).
+     * @param cooldownUntilWave cooldown end wave per PowerUpType ordinal, -1 for none
+     * @param freezeRemaining remaining freeze time in seconds, 0 if none was running
+     */
+    public void restoreState(long[] cooldownUntilWave, double freezeRemaining) {
+        cooldowns.clear();
+        PowerUpType[] types = PowerUpType.values();
+        for (int i = 0; i < types.length && i < cooldownUntilWave.length; i++) {
+            if (cooldownUntilWave[i] >= 0) {
+                cooldowns.put(types[i], cooldownUntilWave[i]);
+            }
+        }
+        activeEffects.clear();
+        if (freezeRemaining > 0) {
+            FreezeEffect freeze = new FreezeEffect();
+            freeze.restore(gameController, freezeRemaining);
+            activeEffects.add(freeze);
+        }
+    }
+    
     /**
      * Check if any freeze effect is currently active
      */
@@ -0,0 +1,43 @@
+package com.ku.towerdefense.render;
+
+/**
+ * Shelf packer for one atlas page: rectangles are placed left to right on
+ * horizontal shelves, and a new shelf starts below the tallest rectangle of
+ * the current one when a row is full.
+ */
+final class AtlasPacker {
+
+    private final int width;
+    private final int height;
+    private int shelfY = 0;
+    private int shelfHeight = 0;
+    private int cursorX = 0;
+
+    AtlasPacker(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Reserve space for a rectangle.
+     *
+     * @return x in the high and y in the low 32 bits, or -1 if it does not fit
+     */
+    long place(int w, int h) {
+        if (w > width || h > height) {
+            return -1;
+        }
+        if (cursorX + w > width) {
+            shelfY += shelfHeight;
+            shelfHeight = 0;
+            cursorX = 0;
+        }
+        if (shelfY + h > height) {
+            return -1;
+        }
+        long position = ((long) cursorX << 32) | shelfY;
+        cursorX += w;
+        shelfHeight = Math.max(shelfHeight, h);
+        return position;
+    }
+}
@@ -0,0 +1,226 @@
+package com.ku.towerdefense.render;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Draw commands for one frame, collected first and then submitted sorted by
+ * layer and by texture, so sprites sharing an atlas page (or rectangles
+ * sharing a colour) are drawn back to back. Within a layer and texture,
+ * commands keep the order they were added in.
+ *
+ * Anything that cannot be expressed as a sprite or rectangle is queued as a
+ * custom command, which draws after the sprites of its layer.
+ *
+ * Commands only hold values, never the entities they came from, so a list
+ * recorded on the simulation thread can be drawn on the FX thread while the
+ * entities move on (see {@link TripleBuffer}).
+ *
+ * Reused every frame; adding commands does not allocate once the arrays
+ * have grown to the frame's size.
+ */
+public final class DrawList {
+
+    // Layers, back to front
+    public static final int LAYER_TOWERS = 0;
+    public static final int LAYER_TOWER_OVERLAYS = 1;
+    public static final int LAYER_ENEMIES = 2;
+    public static final int LAYER_ENEMY_OVERLAYS = 3;
+    public static final int LAYER_PROJECTILES = 4;
+    public static final int LAYER_EFFECTS = 5;
+    public static final int LAYER_GOLD_BAGS = 6;
+
+    private static final byte KIND_SPRITE = 0;
+    private static final byte KIND_RECT = 1;
+    private static final byte KIND_CUSTOM = 2;
+
+    // Sort groups within a layer; atlas pages use their index
+    private static final int GROUP_LOOSE_IMAGES = 1 << 20; // images that are not in the atlas
+    private static final int GROUP_RECTS = 1 << 21; // plus the colour index
+    private static final int GROUP_CUSTOM = (1 << 24) - 1;
+
+    private final TextureAtlas atlas;
+    private final List<Color> colors = new ArrayList<>();
+
+    private int size = 0;
+    private long[] order = new long[256]; // layer | group | sequence
+    private byte[] kinds = new byte[256];
+    private double[] coords = new double[256 * 8]; // source and destination rectangles
+    private Object[] refs = new Object[256]; // image, colour or custom drawer
+
+    private int lastTextureSwitches = 0;
+
+    public DrawList(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    // ===== Adding commands =====
+
+    /**
+     * Queue part of an image. Images in the atlas are drawn from their page.
+     */
+    public void addSprite(int layer, Image image, double sx, double sy, double sw, double sh,
+            double dx, double dy, double dw, double dh) {
+        TextureAtlas.Region region = atlas == null ? null : atlas.find(image);
+        int i;
+        if (region != null) {
+            i = add(layer, region.getPage(), KIND_SPRITE, atlas.getPage(region.getPage()));
+            sx += region.getX();
+            sy += region.getY();
+        } else {
+            i = add(layer, GROUP_LOOSE_IMAGES, KIND_SPRITE, image);
+        }
+        int c = i * 8;
+        coords[c] = sx;
+        coords[c + 1] = sy;
+        coords[c + 2] = sw;
+        coords[c + 3] = sh;
+        coords[c + 4] = dx;
+        coords[c + 5] = dy;
+        coords[c + 6] = dw;
+        coords[c + 7] = dh;
+    }
+
+    /**
+     * Queue a filled rectangle.
+     */
+    public void addRect(int layer, Color color, double x, double y, double w, double h) {
+        int i = add(layer, GROUP_RECTS + colorIndex(color), KIND_RECT, color);
+        int c = i * 8;
+        coords[c + 4] = x;
+        coords[c + 5] = y;
+        coords[c + 6] = w;
+        coords[c + 7] = h;
+    }
+
+    /**
+     * Queue custom drawing. The drawer may run on another thread after the
+     * simulation has moved on, so it must only use values captured when it
+     * was queued.
+     */
+    public void addCustom(int layer, Consumer<GraphicsContext> drawer) {
+        add(layer, GROUP_CUSTOM, KIND_CUSTOM, drawer);
+    }
+
+    private int add(int layer, int group, byte kind, Object ref) {
+        if (size == kinds.length) {
+            int capacity = size * 2;
+            order = Arrays.copyOf(order, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            coords = Arrays.copyOf(coords, capacity * 8);
+            refs = Arrays.copyOf(refs, capacity);
+        }
+        int i = size++;
+        order[i] = ((long) layer << 56) | ((long) group << 32) | i;
+        kinds[i] = kind;
+        refs[i] = ref;
+        return i;
+    }
+
+    private int colorIndex(Color color) {
+        int index = colors.indexOf(color);
+        if (index < 0) {
+            colors.add(color);
+            index = colors.size() - 1;
+        }
+        return index;
+    }
+
+    // ===== Submitting =====
+
+    /**
+     * Sort the commands into submission order.
+     */
+    public void sort() {
+        Arrays.sort(order, 0, size);
+    }
+
+    /**
+     * Draw all commands in layer and texture order, then clear the list.
+     */
+    public void submit(GraphicsContext gc) {
+        sort();
+        draw(gc);
+        clear();
+    }
+
+    /**
+     * Draw the commands in their current order, keeping them. Call
+     * {@link #sort()} first; a recorded list can then be drawn any number of
+     * times.
+     */
+    @SuppressWarnings("unchecked")
+    public void draw(GraphicsContext gc) {
+        Object texture = null;
+        Object fill = null;
+        int switches = 0;
+        for (int s = 0; s < size; s++) {
+            int i = (int) order[s];
+            Object ref = refs[i];
+            int c = i * 8;
+            switch (kinds[i]) {
+                case KIND_SPRITE:
+                    if (ref != texture) {
+                        texture = ref;
+                        switches++;
+                    }
+                    gc.drawImage((Image) ref, coords[c], coords[c + 1], coords[c + 2], coords[c + 3],
+                            coords[c + 4], coords[c + 5], coords[c + 6], coords[c + 7]);
+                    break;
+                case KIND_RECT:
+                    if (ref != fill) {
+                        fill = ref;
+                        gc.setFill((Color) ref);
+                    }
+                    gc.fillRect(coords[c + 4], coords[c + 5], coords[c + 6], coords[c + 7]);
+                    break;
+                default:
+                    ((Consumer<GraphicsContext>) ref).accept(gc);
+                    fill = null; // custom drawing may change the fill
+                    break;
+            }
+        }
+        lastTextureSwitches = switches;
+    }
+
+    /**
+     * Drop all commands without drawing them.
+     */
+    public void clear() {
+        Arrays.fill(refs, 0, size, null); // don't keep images and drawers reachable
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return layer of the command at a position in submission order, valid
+     *         after {@link #sort()}
+     */
+    int layerAt(int position) {
+        return (int) (order[position] >>> 56);
+    }
+
+    /**
+     * @return what the command at a position in submission order draws (its
+     *         image, colour or drawer), valid after {@link #sort()}
+     */
+    Object refAt(int position) {
+        return refs[(int) order[position]];
+    }
+
+    /**
+     * @return how many times the submitted frame changed texture
+     */
+    public int getLastTextureSwitches() {
+        return lastTextureSwitches;
+    }
+}
@@ -0,0 +1,164 @@
+package com.ku.towerdefense.render;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runtime texture atlas: sprite images are copied into a few large pages as
+ * they are loaded, so the sprites of a frame are drawn from a handful of
+ * textures instead of one per image. {@link DrawList} looks up where an image
+ * went and draws the matching part of its page.
+ *
+ * Images are added where the game loads them (enemy and effect sheets at
+ * startup, tower images and projectile sprites on first use). An image that
+ * cannot be read or does not fit a page keeps being drawn on its own.
+ *
+ * The pages are drawn on the FX thread, so they are only written there. An
+ * image added from another thread (a tower upgraded or an enemy type first
+ * spawned during a simulation tick) is copied in later on the FX thread, and
+ * is drawn on its own until then.
+ */
+public final class TextureAtlas {
+
+    public static final int PAGE_SIZE = 2048;
+    private static final int GUTTER = 2; // transparent gap so smoothing doesn't bleed between sprites
+
+    private static TextureAtlas instance;
+
+    /**
+     * Where an image was copied to.
+     */
+    public static final class Region {
+        private final int page;
+        private final int x;
+        private final int y;
+
+        Region(int page, int x, int y) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+    }
+
+    private final int pageSize;
+    private final List<WritableImage> pages = new ArrayList<>();
+    private final List<AtlasPacker> packers = new ArrayList<>();
+    private final Map<Image, Region> regions = new IdentityHashMap<>();
+    private final Set<Image> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    TextureAtlas(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public static synchronized TextureAtlas getInstance() {
+        if (instance == null) {
+            instance = new TextureAtlas(PAGE_SIZE);
+        }
+        return instance;
+    }
+
+    /**
+     * Copy an image into the atlas, unless it is already there.
+     *
+     * @return its region, or null if the image is not loaded, not readable,
+     *         larger than a page or added from outside the FX thread
+     */
+    public synchronized Region add(Image image) {
+        if (image == null || image.isError() || image.getProgress() < 1.0) {
+            return null;
+        }
+        Region region = regions.get(image);
+        if (region != null) {
+            return region;
+        }
+        if (!Platform.isFxApplicationThread()) {
+            addLater(image);
+            return null;
+        }
+        pending.remove(image);
+        PixelReader reader = image.getPixelReader();
+        int w = (int) image.getWidth();
+        int h = (int) image.getHeight();
+        if (reader == null || w <= 0 || h <= 0) {
+            return null;
+        }
+
+        long position = -1;
+        int page = -1;
+        for (int p = 0; p < packers.size(); p++) {
+            position = packers.get(p).place(w + GUTTER, h + GUTTER);
+            if (position >= 0) {
+                page = p;
+                break;
+            }
+        }
+        if (page < 0) {
+            AtlasPacker packer = new AtlasPacker(pageSize, pageSize);
+            position = packer.place(w + GUTTER, h + GUTTER);
+            if (position < 0) {
+                return null; // larger than a page
+            }
+            packers.add(packer);
+            pages.add(new WritableImage(pageSize, pageSize));
+            page = pages.size() - 1;
+        }
+
+        int x = (int) (position >>> 32);
+        int y = (int) position;
+        pages.get(page).getPixelWriter().setPixels(x, y, w, h, reader, 0, 0);
+        region = new Region(page, x, y);
+        regions.put(image, region);
+        return region;
+    }
+
+    private void addLater(Image image) {
+        if (!pending.add(image)) {
+            return; // already queued
+        }
+        try {
+            Platform.runLater(() -> add(image));
+        } catch (IllegalStateException e) {
+            pending.remove(image); // no FX toolkit, so nothing is drawn anyway
+        }
+    }
+
+    /**
+     * @return where the image is in the atlas, or null if it was not added
+     */
+    public synchronized Region find(Image image) {
+        return regions.get(image);
+    }
+
+    public synchronized Image getPage(int page) {
+        return pages.get(page);
+    }
+
+    public synchronized int getPageCount() {
+        return pages.size();
+    }
+
+    public synchronized int getImageCount() {
+        return regions.size();
+    }
+}
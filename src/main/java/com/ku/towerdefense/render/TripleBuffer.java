@@ -0,0 +1,74 @@
+package com.ku.towerdefense.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free hand-over of the newest value from one writer thread to one
+ * reader thread, without either ever waiting for the other.
+ *
+ * There are three buffers: the writer fills its back buffer and publishes
+ * it, which swaps it with the middle one; the reader swaps the middle buffer
+ * with its front buffer whenever a newer one was published. A buffer is
+ * owned by exactly one side at a time, so a published buffer is never
+ * written while the reader has it, and buffers are recycled rather than
+ * allocated per frame. Frames the reader is too slow to pick up are
+ * overwritten.
+ *
+ * @param <T> the buffered value, reused across frames
+ */
+public final class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100; // the middle buffer was published since the reader last took it
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0; // writer's
+    private int front = 2; // reader's
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    // ===== Writer =====
+
+    /**
+     * @return the buffer to fill, owned by the writer until {@link #publish()}
+     */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Hand the back buffer to the reader and take an unused one as the new
+     * back buffer.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    // ===== Reader =====
+
+    /**
+     * @return the newest published buffer, owned by the reader until the
+     *         next call; the same buffer again if nothing newer was published
+     */
+    @SuppressWarnings("unchecked")
+    public T front() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+
+    /**
+     * @return true if a buffer was published since the reader last took one
+     */
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
@@ -0,0 +1,198 @@
+package com.ku.towerdefense.replay;
+
+import com.ku.towerdefense.model.map.GameMap;
+import com.ku.towerdefense.model.map.TileType;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A recorded game: everything needed to rerun it exactly.
+ *
+ * Because the simulation is deterministic for a given map, settings and seed,
+ * a replay only stores those plus the player's commands. A typical game fits
+ * in a few hundred bytes.
+ */
+public class GameReplay {
+
+    private static final int MAGIC = 0x4B545250; // "KTRP"
+    private static final int FORMAT_VERSION = 1;
+    public static final String REPLAY_EXTENSION = ".ktreplay";
+
+    private final String mapName;
+    private final long mapHash;
+    private final long seed;
+    private final double tickSeconds;
+    private final Properties settings;
+    private final List<ReplayCommand> commands;
+    private long endTick;
+
+    /**
+     * Create a replay header. Commands are appended by the recorder.
+     *
+     * @param mapName name of the map, for display only
+     * @param mapHash content hash of the map, see {@link #hashMap(GameMap)}
+     * @param seed the game's random seed
+     * @param tickSeconds length of one simulation step
+     * @param settings snapshot of the game settings
+     */
+    public GameReplay(String mapName, long mapHash, long seed, double tickSeconds, Properties settings) {
+        this.mapName = mapName != null ? mapName : "";
+        this.mapHash = mapHash;
+        this.seed = seed;
+        this.tickSeconds = tickSeconds;
+        this.settings = settings;
+        this.commands = new ArrayList<>();
+    }
+
+    /**
+     * Compute a content hash of a map's tiles (FNV-1a over the tile types).
+     * Used to make sure a replay is played back on the map it was recorded on.
+     *
+     * @param map the map
+     * @return the hash
+     */
+    public static long hashMap(GameMap map) {
+        long hash = 0xcbf29ce484222325L;
+        hash = fnv(hash, map.getWidth());
+        hash = fnv(hash, map.getHeight());
+        for (int x = 0; x < map.getWidth(); x++) {
+            for (int y = 0; y < map.getHeight(); y++) {
+                TileType type = map.getTileType(x, y);
+                hash = fnv(hash, type == null ? -1 : type.ordinal());
+            }
+        }
+        return hash;
+    }
+
+    private static long fnv(long hash, int value) {
+        for (int i = 0; i < 4; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    void addCommand(ReplayCommand command) {
+        commands.add(command);
+    }
+
+    void setEndTick(long endTick) {
+        this.endTick = endTick;
+    }
+
+    /**
+     * Write the replay as a compressed binary stream.
+     *
+     * @param path destination file
+     */
+    public void save(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(path))))) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeUTF(mapName);
+            out.writeLong(mapHash);
+            out.writeLong(seed);
+            out.writeDouble(tickSeconds);
+            out.writeLong(endTick);
+
+            List<String> keys = new ArrayList<>(settings.stringPropertyNames());
+            Collections.sort(keys);
+            out.writeShort(keys.size());
+            for (String key : keys) {
+                out.writeUTF(key);
+                out.writeUTF(settings.getProperty(key));
+            }
+
+            out.writeInt(commands.size());
+            long previousTick = 0;
+            for (ReplayCommand command : commands) {
+                command.write(out, previousTick);
+                previousTick = command.getTick();
+            }
+        }
+    }
+
+    /**
+     * Read a replay written by {@link #save(Path)}.
+     *
+     * @param path the replay file
+     * @return the replay
+     */
+    public static GameReplay load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a replay file: " + path);
+            }
+            int version = in.readUnsignedShort();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported replay version " + version);
+            }
+            String mapName = in.readUTF();
+            long mapHash = in.readLong();
+            long seed = in.readLong();
+            double tickSeconds = in.readDouble();
+            long endTick = in.readLong();
+
+            Properties settings = new Properties();
+            int settingCount = in.readUnsignedShort();
+            for (int i = 0; i < settingCount; i++) {
+                settings.setProperty(in.readUTF(), in.readUTF());
+            }
+
+            GameReplay replay = new GameReplay(mapName, mapHash, seed, tickSeconds, settings);
+            replay.endTick = endTick;
+            int commandCount = in.readInt();
+            long previousTick = 0;
+            for (int i = 0; i < commandCount; i++) {
+                ReplayCommand command = ReplayCommand.read(in, previousTick);
+                replay.commands.add(command);
+                previousTick = command.getTick();
+            }
+            return replay;
+        }
+    }
+
+    public String getMapName() {
+        return mapName;
+    }
+
+    public long getMapHash() {
+        return mapHash;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getTickSeconds() {
+        return tickSeconds;
+    }
+
+    public Properties getSettings() {
+        return settings;
+    }
+
+    public List<ReplayCommand> getCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+
+    /**
+     * @return the last simulated tick of the recorded game
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+}
@@ -0,0 +1,180 @@
+package com.ku.towerdefense.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * One recorded player command, stamped with the simulation tick it was issued
+ * before.
+ */
+public class ReplayCommand {
+
+    /**
+     * The player commands that change game state.
+     */
+    public enum Type {
+        PLACE_TOWER,     // purchaseAndPlaceTower(towerType, tileX, tileY)
+        UPGRADE_TOWER,   // upgradeTower(tileX, tileY)
+        SELL_TOWER,      // sellTower(tileX, tileY)
+        COLLECT_GOLD,    // collectGoldBag(bag at x, y)
+        ACTIVATE_POWER_UP // activatePowerUp(powerUp)
+    }
+
+    private final long tick;
+    private final Type type;
+    private final String name; // tower type or power-up name, null otherwise
+    private final int tileX;
+    private final int tileY;
+    private final double x;
+    private final double y;
+
+    private ReplayCommand(long tick, Type type, String name, int tileX, int tileY, double x, double y) {
+        this.tick = tick;
+        this.type = type;
+        this.name = name;
+        this.tileX = tileX;
+        this.tileY = tileY;
+        this.x = x;
+        this.y = y;
+    }
+
+    public static ReplayCommand placeTower(long tick, String towerType, int tileX, int tileY) {
+        return new ReplayCommand(tick, Type.PLACE_TOWER, towerType, tileX, tileY, 0, 0);
+    }
+
+    public static ReplayCommand upgradeTower(long tick, int tileX, int tileY) {
+        return new ReplayCommand(tick, Type.UPGRADE_TOWER, null, tileX, tileY, 0, 0);
+    }
+
+    public static ReplayCommand sellTower(long tick, int tileX, int tileY) {
+        return new ReplayCommand(tick, Type.SELL_TOWER, null, tileX, tileY, 0, 0);
+    }
+
+    public static ReplayCommand collectGold(long tick, double x, double y) {
+        return new ReplayCommand(tick, Type.COLLECT_GOLD, null, 0, 0, x, y);
+    }
+
+    public static ReplayCommand activatePowerUp(long tick, String powerUp) {
+        return new ReplayCommand(tick, Type.ACTIVATE_POWER_UP, powerUp, 0, 0, 0, 0);
+    }
+
+    /**
+     * Write this command. The tick is stored as a delta from the previous
+     * command to keep files small.
+     *
+     * @param out the stream to write to
+     * @param previousTick tick of the previous command (0 for the first)
+     */
+    void write(DataOutputStream out, long previousTick) throws IOException {
+        out.writeByte(type.ordinal());
+        writeVarLong(out, tick - previousTick);
+        switch (type) {
+            case PLACE_TOWER:
+                out.writeUTF(name);
+                out.writeShort(tileX);
+                out.writeShort(tileY);
+                break;
+            case UPGRADE_TOWER:
+            case SELL_TOWER:
+                out.writeShort(tileX);
+                out.writeShort(tileY);
+                break;
+            case COLLECT_GOLD:
+                out.writeDouble(x);
+                out.writeDouble(y);
+                break;
+            case ACTIVATE_POWER_UP:
+                out.writeUTF(name);
+                break;
+        }
+    }
+
+    /**
+     * Read a command written by {@link #write(DataOutputStream, long)}.
+     *
+     * @param in the stream to read from
+     * @param previousTick tick of the previous command (0 for the first)
+     * @return the command
+     */
+    static ReplayCommand read(DataInputStream in, long previousTick) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= Type.values().length) {
+            throw new IOException("Unknown replay command type: " + ordinal);
+        }
+        Type type = Type.values()[ordinal];
+        long tick = previousTick + readVarLong(in);
+        switch (type) {
+            case PLACE_TOWER:
+                return placeTower(tick, in.readUTF(), in.readShort(), in.readShort());
+            case UPGRADE_TOWER:
+                return upgradeTower(tick, in.readShort(), in.readShort());
+            case SELL_TOWER:
+                return sellTower(tick, in.readShort(), in.readShort());
+            case COLLECT_GOLD:
+                return collectGold(tick, in.readDouble(), in.readDouble());
+            default:
+                return activatePowerUp(tick, in.readUTF());
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed tick delta in replay");
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getTileX() {
+        return tileX;
+    }
+
+    public int getTileY() {
+        return tileY;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case COLLECT_GOLD:
+                return "@" + tick + " " + type + " (" + x + "," + y + ")";
+            case ACTIVATE_POWER_UP:
+                return "@" + tick + " " + type + " " + name;
+            default:
+                return "@" + tick + " " + type + (name != null ? " " + name : "") + " (" + tileX + "," + tileY + ")";
+        }
+    }
+}
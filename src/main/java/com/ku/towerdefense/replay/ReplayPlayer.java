@@ -0,0 +1,251 @@
+package com.ku.towerdefense.replay;
+
+import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.model.entity.ArcherTower;
+import com.ku.towerdefense.model.entity.ArtilleryTower;
+import com.ku.towerdefense.model.entity.DroppedGold;
+import com.ku.towerdefense.model.entity.MageTower;
+import com.ku.towerdefense.model.entity.Tower;
+import com.ku.towerdefense.model.map.GameMap;
+import com.ku.towerdefense.powerup.PowerUpType;
+import com.ku.towerdefense.util.GameSettings;
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.io.FileInputStream;
+import java.io.ObjectInputStream;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Plays a {@link GameReplay} back on a fresh {@link GameController}.
+ *
+ * Playback can run headless as fast as possible ({@link #runHeadless()}) or be
+ * driven frame by frame at any speed ({@link #advance(double, double)}), e.g.
+ * from {@link #createRenderTimer(GraphicsContext, double)}.
+ *
+ * The replay's settings snapshot is applied to the global GameSettings for the
+ * duration of playback (it is not written to disk). The player's own settings
+ * come back when playback finishes or is {@link #close() closed}.
+ */
+public class ReplayPlayer implements AutoCloseable {
+
+    private final GameReplay replay;
+    private final GameController controller;
+    private final List<ReplayCommand> commands;
+    private int nextCommand = 0;
+    private double accumulator = 0;
+    private int desyncCount = 0;
+    private final Properties playerSettings; // restored by close()
+    private boolean closed = false;
+
+    /**
+     * Prepare playback.
+     *
+     * @param replay the replay to play
+     * @param map a freshly loaded copy of the map it was recorded on
+     * @throws IllegalArgumentException if the map does not match the replay
+     */
+    public ReplayPlayer(GameReplay replay, GameMap map) {
+        if (GameReplay.hashMap(map) != replay.getMapHash()) {
+            throw new IllegalArgumentException("Replay was recorded on a different map than '" + map.getName() + "'");
+        }
+        if (replay.getTickSeconds() != GameController.TICK_SECONDS) {
+            System.err.println("⚠️ Replay tick length " + replay.getTickSeconds()
+                    + "s differs from the current " + GameController.TICK_SECONDS + "s; playback may diverge");
+        }
+        this.replay = replay;
+        this.commands = replay.getCommands();
+
+        this.playerSettings = GameSettings.getInstance().toProperties();
+        GameSettings.getInstance().applyProperties(replay.getSettings());
+        if (map.getEnemyPath() == null) {
+            map.generatePath();
+        }
+        this.controller = new GameController(map, replay.getSeed());
+        this.controller.startGame();
+    }
+
+    /**
+     * Run one simulation step, applying any commands recorded for it first.
+     *
+     * @return true if there is more to play
+     */
+    public boolean step() {
+        if (isFinished()) {
+            close();
+            return false;
+        }
+        long tick = controller.getTickCount();
+        while (nextCommand < commands.size() && commands.get(nextCommand).getTick() <= tick) {
+            apply(commands.get(nextCommand++));
+        }
+        controller.tick();
+        if (isFinished()) {
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * End playback and restore the settings that were in effect before it.
+     * Called when the replay finishes; call it to stop one early. Safe to
+     * call more than once.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            GameSettings.getInstance().applyProperties(playerSettings);
+        }
+    }
+
+    /**
+     * Advance playback by a frame's worth of time.
+     *
+     * @param frameSeconds real time elapsed since the last frame
+     * @param speed playback speed (1 = real time)
+     */
+    public void advance(double frameSeconds, double speed) {
+        accumulator += frameSeconds * speed;
+        double tickSeconds = replay.getTickSeconds();
+        while (accumulator >= tickSeconds && step()) {
+            accumulator -= tickSeconds;
+        }
+    }
+
+    /**
+     * Play the whole replay as fast as possible without rendering.
+     *
+     * @return number of ticks simulated
+     */
+    public long runHeadless() {
+        long startNanos = System.nanoTime();
+        long startTick = controller.getTickCount();
+        while (step()) {
+            // keep stepping
+        }
+        long ticks = controller.getTickCount() - startTick;
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.println("🎬 Replay finished: " + ticks + " ticks in " + String.format("%.2f", seconds) + "s ("
+                + String.format("%.0f", ticks / Math.max(seconds, 1e-9)) + " ticks/s). Wave "
+                + controller.getCurrentWave() + ", gold " + controller.getPlayerGold() + ", lives "
+                + controller.getPlayerLives() + (desyncCount > 0 ? ", " + desyncCount + " desynced commands" : ""));
+        return ticks;
+    }
+
+    /**
+     * Create an animation timer that plays the replay and draws it.
+     *
+     * @param gc where to draw
+     * @param speed playback speed (1 = real time)
+     * @return the timer, not yet started
+     */
+    public AnimationTimer createRenderTimer(GraphicsContext gc, double speed) {
+        return new AnimationTimer() {
+            private long lastUpdate = 0;
+
+            @Override
+            public void handle(long now) {
+                if (lastUpdate != 0) {
+                    advance((now - lastUpdate) / 1_000_000_000.0, speed);
+                }
+                lastUpdate = now;
+                controller.render(gc);
+                if (isFinished()) {
+                    stop();
+                }
+            }
+        };
+    }
+
+    private void apply(ReplayCommand command) {
+        boolean applied;
+        switch (command.getType()) {
+            case PLACE_TOWER:
+                Tower template = createTowerTemplate(command.getName());
+                applied = template != null
+                        && controller.purchaseAndPlaceTower(template, command.getTileX(), command.getTileY());
+                break;
+            case UPGRADE_TOWER:
+                applied = controller.upgradeTower(null, command.getTileX(), command.getTileY());
+                break;
+            case SELL_TOWER:
+                applied = controller.sellTower(command.getTileX(), command.getTileY()) > 0;
+                break;
+            case COLLECT_GOLD:
+                applied = false;
+                for (DroppedGold bag : controller.getActiveGoldBags()) {
+                    if (bag.getX() == command.getX() && bag.getY() == command.getY()) {
+                        controller.collectGoldBag(bag);
+                        applied = true;
+                        break;
+                    }
+                }
+                break;
+            case ACTIVATE_POWER_UP:
+                applied = controller.activatePowerUp(PowerUpType.valueOf(command.getName()));
+                break;
+            default:
+                applied = false;
+        }
+        if (!applied) {
+            desyncCount++;
+            System.err.println("⚠️ Replay desync: could not apply " + command);
+        }
+    }
+
+    private static Tower createTowerTemplate(String towerType) {
+        switch (towerType) {
+            case "ArcherTower":
+                return new ArcherTower(0, 0);
+            case "ArtilleryTower":
+                return new ArtilleryTower(0, 0);
+            case "MageTower":
+                return new MageTower(0, 0);
+            default:
+                System.err.println("Unknown tower type in replay: " + towerType);
+                return null;
+        }
+    }
+
+    /**
+     * @return true once the recorded game length is reached or the game ended
+     */
+    public boolean isFinished() {
+        return controller.getTickCount() >= replay.getEndTick() || controller.isGameOver();
+    }
+
+    /**
+     * @return number of commands that could not be applied (0 for a faithful replay)
+     */
+    public int getDesyncCount() {
+        return desyncCount;
+    }
+
+    public GameController getController() {
+        return controller;
+    }
+
+    /**
+     * Headless playback from the command line.
+     *
+     * @param args map file (.map) and replay file (.ktreplay)
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ReplayPlayer <map file> <replay file>");
+            System.exit(1);
+        }
+        GameMap map;
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(args[0]))) {
+            map = (GameMap) ois.readObject();
+        }
+        GameReplay replay = GameReplay.load(Paths.get(args[1]));
+        try (ReplayPlayer player = new ReplayPlayer(replay, map)) {
+            player.runHeadless();
+        }
+    }
+}
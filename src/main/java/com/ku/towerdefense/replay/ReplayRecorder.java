@@ -0,0 +1,136 @@
+package com.ku.towerdefense.replay;
+
+import com.ku.towerdefense.model.map.GameMap;
+import com.ku.towerdefense.util.GameSettings;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records the player's commands for a running game. GameController calls the
+ * record methods after each successful command, stamped with its tick count.
+ */
+public class ReplayRecorder {
+
+    private static final String REPLAY_DIRECTORY = "replays";
+    private static final String REPLAY_PREFIX = "replay_";
+
+    private final GameReplay replay;
+    private boolean finished = false;
+
+    /**
+     * Start recording. Captures the map hash and a settings snapshot now,
+     * before any tower changes the map.
+     *
+     * @param map the map being played
+     * @param seed the game's random seed
+     * @param tickSeconds length of one simulation step
+     */
+    public ReplayRecorder(GameMap map, long seed, double tickSeconds) {
+        this.replay = new GameReplay(map.getName(), GameReplay.hashMap(map), seed, tickSeconds,
+                GameSettings.getInstance().toProperties());
+    }
+
+    public void recordPlaceTower(long tick, String towerType, int tileX, int tileY) {
+        add(ReplayCommand.placeTower(tick, towerType, tileX, tileY));
+    }
+
+    public void recordUpgradeTower(long tick, int tileX, int tileY) {
+        add(ReplayCommand.upgradeTower(tick, tileX, tileY));
+    }
+
+    public void recordSellTower(long tick, int tileX, int tileY) {
+        add(ReplayCommand.sellTower(tick, tileX, tileY));
+    }
+
+    public void recordCollectGold(long tick, double x, double y) {
+        add(ReplayCommand.collectGold(tick, x, y));
+    }
+
+    public void recordActivatePowerUp(long tick, String powerUp) {
+        add(ReplayCommand.activatePowerUp(tick, powerUp));
+    }
+
+    private void add(ReplayCommand command) {
+        if (!finished) {
+            replay.addCommand(command);
+        }
+    }
+
+    /**
+     * Stop recording.
+     *
+     * @param endTick the last simulated tick
+     * @return the finished replay
+     */
+    public GameReplay finish(long endTick) {
+        if (!finished) {
+            replay.setEndTick(endTick);
+            finished = true;
+        }
+        return replay;
+    }
+
+    /**
+     * Stop recording and write the replay to the replays directory, keeping
+     * only the newest {@link GameSettings#getMaxSavedReplays()} replays there.
+     *
+     * @param endTick the last simulated tick
+     * @return path of the written file, or null if writing failed
+     */
+    public Path finishAndSave(long endTick) {
+        return finishAndSave(endTick, Paths.get(REPLAY_DIRECTORY), GameSettings.getInstance().getMaxSavedReplays());
+    }
+
+    Path finishAndSave(long endTick, Path directory, int keep) {
+        GameReplay finishedReplay = finish(endTick);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS"));
+        Path path = directory.resolve(REPLAY_PREFIX + timestamp + GameReplay.REPLAY_EXTENSION);
+        for (int i = 2; Files.exists(path); i++) {
+            // Another game finished in the same millisecond
+            path = directory.resolve(REPLAY_PREFIX + timestamp + "_" + i + GameReplay.REPLAY_EXTENSION);
+        }
+        try {
+            finishedReplay.save(path);
+            System.out.println("🎬 Replay saved: " + path + " (" + finishedReplay.getCommands().size()
+                    + " commands, " + endTick + " ticks)");
+        } catch (IOException e) {
+            System.err.println("❌ Failed to save replay: " + e.getMessage());
+            return null;
+        }
+        pruneReplays(directory, Math.max(1, keep));
+        return path;
+    }
+
+    /**
+     * Delete the oldest recorded replays until at most keep are left. Names
+     * start with the time they were saved, so they sort oldest first.
+     */
+    private static void pruneReplays(Path directory, int keep) {
+        List<Path> replays = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                REPLAY_PREFIX + "*" + GameReplay.REPLAY_EXTENSION)) {
+            for (Path file : files) {
+                replays.add(file);
+            }
+            Collections.sort(replays);
+            for (int i = 0; i < replays.size() - keep; i++) {
+                Files.deleteIfExists(replays.get(i));
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Failed to prune old replays: " + e.getMessage());
+        }
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+}
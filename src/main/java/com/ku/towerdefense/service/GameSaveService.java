@@ -1,11 +1,14 @@
 package com.ku.towerdefense.service;
 
 import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.controller.GameStatistics;
+import com.ku.towerdefense.jfr.SaveGameEvent;
 import com.ku.towerdefense.model.entity.*;
 import com.ku.towerdefense.model.map.GameMap;
 import com.ku.towerdefense.model.map.Tile;
 import com.ku.towerdefense.model.map.TileType;
 // AnimatedEffect import removed - visual effects don't need to be saved
+import com.ku.towerdefense.util.GameRandom;
 import com.ku.towerdefense.util.GameSettings;
 
 import java.io.*;
@@ -76,6 +79,12 @@ public class GameSaveService {
         public long waveStartTime;
         public boolean isSpawningEnemies;
         public boolean gracePeriodActive;
+        public int waveTick;        // position in the current wave's spawn schedule
+        public int waveSpawnIndex;
+
+        // Endless mode (absent, so false, in saves from before it existed)
+        public boolean endlessMode;
+        public int leakedEnemies;
         
         // Entity data
         public List<TowerSaveData> towers = new ArrayList<>();
@@ -96,12 +105,17 @@ public class GameSaveService {
         // Game settings snapshot
         public GameSettings gameSettings;
         
+        // Gameplay RNG (seed plus values drawn per stream)
+        public long rngSeed;
+        public long[] rngDraws;
+        
         // Statistics for analysis
         public long gameStartTime;
         public int towersBuilt;
         public int enemiesKilled;
         public int totalGoldEarned;
         public int totalGoldSpent;
+        public GameStatistics statistics; // full per-wave statistics, null in older saves
         
         public GameSaveData(String saveName) {
             this.saveName = saveName;
@@ -126,8 +140,11 @@ public class GameSaveService {
         public int upgradeCount;
         public int totalDamageDealt;
         public int enemiesKilled;
+        public int shotsFired;
+        public long overkillDamage;
+        public long activeTicks; // ticks since the tower was built, for DPS
         
-        public TowerSaveData(Tower tower) {
+        public TowerSaveData(Tower tower, long currentTick) {
             this.towerType = tower.getClass().getSimpleName();
             this.x = tower.getX();
             this.y = tower.getY();
@@ -135,7 +152,11 @@ public class GameSaveService {
             this.damage = tower.getDamage();
             this.range = tower.getRange();
             this.selected = tower.isSelected();
-            // Additional stats would be tracked if implemented
+            this.totalDamageDealt = (int) Math.min(Integer.MAX_VALUE, tower.getDamageDealt());
+            this.enemiesKilled = tower.getKills();
+            this.shotsFired = tower.getShotsFired();
+            this.overkillDamage = tower.getOverkillDamage();
+            this.activeTicks = currentTick - tower.getPlacedTick();
         }
     }
     
@@ -227,6 +248,18 @@ public class GameSaveService {
      * Save the complete game state to a file
      */
     public boolean saveGame(GameController gameController, String saveName) {
+        SaveGameEvent event = new SaveGameEvent();
+        event.begin();
+        boolean success = writeSaveFile(gameController, saveName, event);
+        if (event.shouldCommit()) {
+            event.operation = "save";
+            event.success = success;
+            event.commit();
+        }
+        return success;
+    }
+    
+    private boolean writeSaveFile(GameController gameController, String saveName, SaveGameEvent event) {
         try {
             System.out.println("🔄 Starting game save process...");
             
@@ -251,6 +284,8 @@ public class GameSaveService {
                 oos.writeObject(saveData);
                 oos.flush();
             }
+            event.file = filename;
+            event.bytes = Files.size(savePath);
             
             // Validate the save
             if (validateSaveFile(savePath)) {
@@ -281,6 +316,19 @@ public class GameSaveService {
      * Load a game state from file
      */
     public boolean loadGame(GameController gameController, String filename) {
+        SaveGameEvent event = new SaveGameEvent();
+        event.begin();
+        boolean success = readSaveFile(gameController, filename, event);
+        if (event.shouldCommit()) {
+            event.operation = "load";
+            event.file = filename;
+            event.success = success;
+            event.commit();
+        }
+        return success;
+    }
+    
+    private boolean readSaveFile(GameController gameController, String filename, SaveGameEvent event) {
         Path savePath = Paths.get(SAVE_DIRECTORY, filename);
         
         if (!Files.exists(savePath)) {
@@ -290,6 +338,7 @@ public class GameSaveService {
         
         try {
             System.out.println("🔄 Loading game from: " + filename);
+            event.bytes = Files.size(savePath);
             
             // Load save data
             GameSaveData saveData;
@@ -413,6 +462,8 @@ public class GameSaveService {
         saveData.gameOver = gameController.isGameOver();
         saveData.isPaused = gameController.isPaused();
         saveData.speedAccelerated = gameController.isSpeedAccelerated();
+        saveData.endlessMode = gameController.isEndlessMode();
+        saveData.leakedEnemies = gameController.getLeakedEnemies();
         
         // Wave timing state - CRITICAL for proper game flow restoration
         try {
@@ -431,6 +482,8 @@ public class GameSaveService {
             saveData.isSpawningEnemies = false; // Safe default
         }
         saveData.gracePeriodActive = gameController.isInGracePeriod();
+        saveData.waveTick = gameController.getWaveTick();
+        saveData.waveSpawnIndex = gameController.getNextSpawnIndex();
         
         // Path flash state (optional - could be reset on load)
         // saveData.pathFlashActive = gameController.isPathFlashActive(); // Not critical for save/load
@@ -452,9 +505,17 @@ public class GameSaveService {
         
         // Save entities
         for (Tower tower : gameController.getTowers()) {
-            saveData.towers.add(new TowerSaveData(tower));
+            saveData.towers.add(new TowerSaveData(tower, gameController.getTickCount()));
         }
         
+        // Statistics
+        GameStatistics statistics = gameController.getStatistics();
+        saveData.towersBuilt = statistics.getTowersBuilt();
+        saveData.enemiesKilled = statistics.getEnemiesKilled();
+        saveData.totalGoldEarned = statistics.getTotalGoldEarned();
+        saveData.totalGoldSpent = statistics.getTotalGoldSpent();
+        saveData.statistics = statistics;
+        
         for (Enemy enemy : gameController.getEnemies()) {
             saveData.enemies.add(new EnemySaveData(enemy));
         }
@@ -470,6 +531,10 @@ public class GameSaveService {
         // Save game settings
         saveData.gameSettings = GameSettings.getInstance();
         
+        // Save RNG state so the rest of the game plays out the same way
+        saveData.rngSeed = gameController.getRandom().getSeed();
+        saveData.rngDraws = gameController.getRandom().getDrawCounts();
+        
         return saveData;
     }
     
@@ -488,12 +553,18 @@ public class GameSaveService {
         gameController.setGameOver(saveData.gameOver);
         gameController.setPaused(saveData.isPaused);
         gameController.setSpeedAccelerated(saveData.speedAccelerated);
+        gameController.setEndlessMode(saveData.endlessMode);
+        gameController.setLeakedEnemies(saveData.leakedEnemies);
         
         // Apply wave timing state - CRITICAL for proper game flow
         gameController.setBetweenWaves(saveData.betweenWaves);
         gameController.setWaveStartTime(saveData.waveStartTime);
         gameController.setSpawningEnemies(saveData.isSpawningEnemies);
+        if (saveData.isSpawningEnemies) {
+            gameController.resumeWaveSpawning(saveData.waveTick, saveData.waveSpawnIndex);
+        }
         gameController.setGracePeriodActive(saveData.gracePeriodActive);
+        gameController.setRandom(GameRandom.restore(saveData.rngSeed, saveData.rngDraws));
             
             // Restore tile types
             GameMap gameMap = gameController.getGameMap();
@@ -513,10 +584,21 @@ public class GameSaveService {
             for (TowerSaveData towerData : saveData.towers) {
                 Tower tower = createTowerFromSaveData(towerData);
                 if (tower != null) {
+                    tower.restoreStats(towerData.shotsFired, towerData.totalDamageDealt, towerData.overkillDamage,
+                            towerData.enemiesKilled, gameController.getTickCount() - towerData.activeTicks);
                     gameController.getTowers().add(tower);
                 }
             }
             
+            // Restore statistics
+            GameStatistics statistics = saveData.statistics;
+            if (statistics == null) {
+                statistics = new GameStatistics();
+                statistics.restoreTotals(saveData.towersBuilt, saveData.enemiesKilled, saveData.totalGoldEarned,
+                        saveData.totalGoldSpent);
+            }
+            gameController.setStatistics(statistics);
+            
             // Restore enemies
             for (EnemySaveData enemyData : saveData.enemies) {
                 Enemy enemy = createEnemyFromSaveData(enemyData);
@@ -592,6 +674,9 @@ public class GameSaveService {
                     return null;
             }
             
+            if (data.maxHealth > 0) {
+                enemy.setMaxHealth(data.maxHealth); // endless waves scale health
+            }
             enemy.setCurrentHealth(data.currentHealth);
             enemy.setPathProgress(data.pathProgress);
             
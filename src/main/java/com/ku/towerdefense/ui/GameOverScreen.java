@@ -1,6 +1,7 @@
 package com.ku.towerdefense.ui;
 
 import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.controller.GameStatistics;
 import javafx.animation.FadeTransition;
 import javafx.animation.ScaleTransition;
 import javafx.animation.ParallelTransition;
@@ -237,12 +238,37 @@ public class GameOverScreen extends VBox {
         String rating = calculatePerformanceRating();
         HBox ratingStats = createStatItem("⭐", "Performance", rating, "#9C27B0");
 
-        statsContent.getChildren().addAll(waveStats, goldStats, livesStats, ratingStats);
+        // Combat and economy statistics
+        GameStatistics statistics = gameController.getStatistics();
+        HBox killStats = createStatItem("⚔️", "Enemies Slain", String.valueOf(statistics.getEnemiesKilled()),
+                "#F44336");
+        HBox damageStats = createStatItem("💥", "Damage Dealt",
+                statistics.getDamageDealt() + " (+" + statistics.getOverkillDamage() + " overkill)", "#FF9800");
+        HBox shotStats = createStatItem("🏹", "Shots Fired", String.valueOf(statistics.getShotsFired()), "#03A9F4");
+        HBox economyStats = createStatItem("🪙", "Gold Earned / Spent",
+                statistics.getTotalGoldEarned() + " / " + statistics.getTotalGoldSpent(), "#FFD700");
+        HBox dpsStats = createStatItem("📈", "Best Wave DPS", String.format("%.1f", bestWaveDps(statistics)),
+                "#9C27B0");
+
+        statsContent.getChildren().addAll(waveStats, goldStats, livesStats, killStats, damageStats, shotStats,
+                economyStats, dpsStats, ratingStats);
         statsPanel.getChildren().addAll(statsHeaderPane, statsContent);
 
         return statsPanel;
     }
 
+    /**
+     * Highest damage per second reached in any wave.
+     */
+    private double bestWaveDps(GameStatistics statistics) {
+        double best = 0.0;
+        for (int wave = 1; wave <= statistics.getLastWave(); wave++) {
+            best = Math.max(best,
+                    statistics.getWaveDps(wave, gameController.getTickCount(), GameController.TICK_SECONDS));
+        }
+        return best;
+    }
+
     /**
      * Create a styled statistic item.
      */
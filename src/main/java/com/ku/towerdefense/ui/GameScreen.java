@@ -1,6 +1,9 @@
 package com.ku.towerdefense.ui;
 
 import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.controller.RenderSnapshot;
+import com.ku.towerdefense.controller.SimulationThread;
+import com.ku.towerdefense.jfr.FrameEvent;
 import com.ku.towerdefense.model.entity.ArcherTower;
 import com.ku.towerdefense.model.entity.ArtilleryTower;
 import com.ku.towerdefense.model.entity.MageTower;
@@ -11,6 +14,10 @@ import com.ku.towerdefense.model.map.Tile;
 import com.ku.towerdefense.model.map.TileType;
 import com.ku.towerdefense.ui.MainMenuScreen;
 import com.ku.towerdefense.service.GameSaveService;
+import com.ku.towerdefense.util.FrameProfiler;
+import com.ku.towerdefense.util.GameLog;
+import com.ku.towerdefense.util.GameSettings;
+import com.ku.towerdefense.util.QualityController;
 import com.ku.towerdefense.Main;
 
 import javafx.animation.AnimationTimer;
@@ -55,14 +62,21 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * The main game screen where the tower defense gameplay takes place.
  */
 
 public class GameScreen extends BorderPane {
+    private static final GameLog LOG = GameLog.getInstance();
+
     private final Stage primaryStage;
     private final GameController gameController;
+    private final SimulationThread simulation; // null when the game is simulated in the render loop
+    private final QualityController quality; // null when quality is fixed
+    private RenderSnapshot loopStats; // the game's numbers when it is simulated in the render loop
     private Canvas gameCanvas;
     private GameRenderTimer renderTimer;
     private AnimationTimer topBarUpdateTimer;
@@ -108,6 +122,14 @@ public class GameScreen extends BorderPane {
     private ImageView livesIcon;
     private ImageView waveIcon;
 
+    // Live simulation stats (shown in endless mode, which doubles as a load profile)
+    private Label performanceLabel;
+    private long perfWindowStart = 0;
+    private int perfFrames = 0;
+    private long perfWindowStartTick = 0;
+    private boolean belowTargetFpsReported = false;
+    private static final double TARGET_FPS = 60.0;
+
     // private Button pauseResumeButton; // REMOVED
     // private Button gameSpeedButton; // REMOVED
     private Button pauseButton;
@@ -140,6 +162,7 @@ public class GameScreen extends BorderPane {
     // Custom AnimationTimer class with additional methods
     private class GameRenderTimer extends AnimationTimer {
         private long lastTime = -1;
+        private long lastFrameTick = 0;
         private String statusMessage = "Ready to play!";
         private long statusTimestamp = 0;
         private double mouseX = 0;
@@ -148,6 +171,16 @@ public class GameScreen extends BorderPane {
 
         @Override
         public void handle(long now) {
+            if (memoryTracker != null) {
+                memoryTracker.recordFrame(now);
+            }
+            if (quality != null) {
+                quality.recordFrame(now);
+            }
+            FrameEvent frameEvent = new FrameEvent();
+            frameEvent.begin();
+            // With a simulation thread, the world and its numbers come from its newest snapshot
+            RenderSnapshot snapshot = simulation != null ? simulation.latestSnapshot() : null;
             GraphicsContext gc = gameCanvas.getGraphicsContext2D();
             double canvasWidth = gameCanvas.getWidth();
             double canvasHeight = gameCanvas.getHeight();
@@ -217,8 +250,32 @@ public class GameScreen extends BorderPane {
             // ---- Draw border around the map ---- END
 
             // Render game elements using original world coordinates
-            // The transform handles scaling them correctly onto the canvas
-            gameController.render(gc);
+            // The transform handles scaling them correctly onto the canvas.
+            // Only the world area behind the canvas corners is drawn.
+            javafx.geometry.Point2D viewMin = transformMouseCoords(0, 0);
+            javafx.geometry.Point2D viewMax = transformMouseCoords(canvasWidth, canvasHeight);
+            double viewMinX = Double.NEGATIVE_INFINITY;
+            double viewMinY = Double.NEGATIVE_INFINITY;
+            double viewMaxX = Double.POSITIVE_INFINITY;
+            double viewMaxY = Double.POSITIVE_INFINITY;
+            double viewScale = 1.0;
+            if (viewMin != null && viewMax != null) {
+                viewMinX = viewMin.getX();
+                viewMinY = viewMin.getY();
+                viewMaxX = viewMax.getX();
+                viewMaxY = viewMax.getY();
+                viewScale = currentEffectiveScale;
+            }
+            if (snapshot != null) {
+                simulation.setView(viewMinX, viewMinY, viewMaxX, viewMaxY, viewScale);
+                gameController.render(gc, snapshot, viewMinX, viewMinY, viewMaxX, viewMaxY);
+            } else {
+                gameController.render(gc, viewMinX, viewMinY, viewMaxX, viewMaxY, viewScale);
+            }
+
+            // Overlays are drawn in two parts around the game update; time both
+            FrameProfiler profiler = FrameProfiler.getInstance();
+            long overlayStart = profiler.start();
 
             // Render tower preview (using transformed mouse coords - see setOnMouseClicked)
             if (selectedTower != null && mouseInCanvas) {
@@ -277,9 +334,10 @@ public class GameScreen extends BorderPane {
             }
 
             gc.restore(); // Restore default transform for drawing UI overlays
+            long overlayNanos = profiler.elapsed(overlayStart);
 
-            // --- Update game logic ---
-            if (!isPaused) {
+            // --- Update game logic (the simulation thread runs it on its own) ---
+            if (simulation == null && !isPaused) {
                 if (lastTime < 0) {
                     lastTime = now;
                 }
@@ -291,6 +349,7 @@ public class GameScreen extends BorderPane {
             }
 
             // --- UI Overlays (drawn directly on canvas, not scaled) ---
+            overlayStart = profiler.start();
             // Status message (bottom-left)
             long currentTime = System.currentTimeMillis();
             if (currentTime - statusTimestamp < 3000) {
@@ -305,7 +364,7 @@ public class GameScreen extends BorderPane {
             }
 
             // Grace period message (center of screen) - Enhanced styling
-            if (gameController.isInGracePeriod()) {
+            if (snapshot != null ? snapshot.isInGracePeriod() : gameController.isInGracePeriod()) {
                 // Create a stylish background box
                 double boxWidth = 600;
                 double boxHeight = 150;
@@ -364,11 +423,28 @@ public class GameScreen extends BorderPane {
             }
 
             // Asset loading issue message
-            if (!gameController.getTowers().isEmpty() && gameController.getTowers().get(0).getImage() == null) {
+            if (snapshot != null ? snapshot.isTowerImageMissing()
+                    : !gameController.getTowers().isEmpty() && gameController.getTowers().get(0).getImage() == null) {
                 gc.setFill(javafx.scene.paint.Color.RED);
                 gc.fillText("Asset loading issue detected!", 10, 80);
                 gc.fillText("Using fallback rendering instead", 10, 100);
             }
+
+            if (overlayStart != 0) {
+                profiler.record(FrameProfiler.Phase.OVERLAYS, overlayNanos + profiler.elapsed(overlayStart));
+            }
+
+            long tick = snapshot != null ? snapshot.getTickCount() : gameController.getTickCount();
+            if (frameEvent.shouldCommit()) {
+                frameEvent.ticks = (int) (tick - lastFrameTick);
+                frameEvent.enemies = snapshot != null ? snapshot.getEnemyCount() : gameController.getEnemies().size();
+                frameEvent.projectiles = snapshot != null ? snapshot.getProjectileCount()
+                        : gameController.getProjectiles().size();
+                frameEvent.zoom = currentZoomLevel;
+                frameEvent.paused = isPaused;
+                frameEvent.commit();
+            }
+            lastFrameTick = tick;
         }
 
         // Method to set mouse position
@@ -394,6 +470,11 @@ public class GameScreen extends BorderPane {
     public GameScreen(Stage primaryStage, GameController gameController) {
         this.primaryStage = primaryStage;
         this.gameController = gameController;
+        this.simulation = GameSettings.getInstance().isSimulationThread() ? new SimulationThread(gameController)
+                : null;
+        this.quality = GameSettings.getInstance().isAdaptiveQuality() && gameController != null
+                ? gameController.getQualityController()
+                : null;
 
         // Initialize panX and panY to the center of the map for initial full view
         if (gameController != null && gameController.getGameMap() != null) {
@@ -495,6 +576,13 @@ public class GameScreen extends BorderPane {
         waveDisplay.setAlignment(Pos.CENTER_LEFT);
 
         gameInfoPane.getChildren().addAll(goldDisplay, livesDisplay, waveDisplay);
+
+        if (gameController.isEndlessMode()) {
+            performanceLabel = new Label("Measuring...");
+            performanceLabel.getStyleClass().add("game-info-text");
+            performanceLabel.setStyle("-fx-font-size: 14px;");
+            gameInfoPane.getChildren().add(performanceLabel);
+        }
         uiOverlayPane.getChildren().add(gameInfoPane);
 
         // Position gameInfoPane conditionally
@@ -540,7 +628,7 @@ public class GameScreen extends BorderPane {
                 controlButtonIconSize);
         pauseButton.setOnAction(e -> {
             isPaused = true;
-            gameController.setPaused(true);
+            simulate(c -> c.setPaused(true));
             updateTimeControlStates();
             e.consume();
         });
@@ -549,8 +637,10 @@ public class GameScreen extends BorderPane {
                 controlButtonIconSize);
         playButton.setOnAction(e -> {
             isPaused = false;
-            gameController.setPaused(false);
-            gameController.setSpeedAccelerated(false);
+            simulate(c -> {
+                c.setPaused(false);
+                c.setSpeedAccelerated(false);
+            });
             updateTimeControlStates();
             e.consume();
         });
@@ -559,8 +649,10 @@ public class GameScreen extends BorderPane {
                 UIAssets.ICON_FAST_FORWARD_ROW, controlButtonIconSize);
         fastForwardButton.setOnAction(e -> {
             isPaused = false;
-            gameController.setPaused(false);
-            gameController.setSpeedAccelerated(true);
+            simulate(c -> {
+                c.setPaused(false);
+                c.setSpeedAccelerated(true);
+            });
             updateTimeControlStates();
             e.consume();
         });
@@ -608,6 +700,21 @@ public class GameScreen extends BorderPane {
             e.consume();
         });
 
+        // Rewind button: jump back 10 seconds of game time. The sheet has no
+        // rewind icon, so it shows the fast forward icon mirrored
+        Button rewindButton = UIAssets.createIconButton("Rewind 10 Seconds", UIAssets.ICON_FAST_FORWARD_COL,
+                UIAssets.ICON_FAST_FORWARD_ROW, controlButtonIconSize);
+        if (rewindButton.getGraphic() != null) {
+            rewindButton.getGraphic().setScaleX(-1);
+        } else {
+            rewindButton.setText("<<");
+        }
+        rewindButton.setOnAction(e -> {
+            clearActivePopup(); // popups may reference towers that the rewind replaces
+            simulate(c -> c.rewind(10));
+            e.consume();
+        });
+
         // Memory tracker toggle button
         Button memoryTrackerButton = UIAssets.createIconButton("Memory Tracker", UIAssets.ICON_BUILD_COL,
                 UIAssets.ICON_BUILD_ROW, controlButtonIconSize);
@@ -617,12 +724,12 @@ public class GameScreen extends BorderPane {
         });
 
         // Initialize memory tracker
-        memoryTracker = new MemoryTracker(gameController);
+        memoryTracker = new MemoryTracker(gameController, simulation);
         memoryTracker.setVisible(false);
 
         // Remove freeze button from controlButtonsPane
-        controlButtonsPane.getChildren().addAll(pauseButton, playButton, fastForwardButton, menuButton,
-                memoryTrackerButton);
+        controlButtonsPane.getChildren().addAll(pauseButton, playButton, fastForwardButton, rewindButton,
+                menuButton, memoryTrackerButton);
 
         // Create a new VBox for the left side controls
         VBox leftControlsPane = new VBox(20); // Increased spacing to 20 pixels
@@ -674,8 +781,10 @@ public class GameScreen extends BorderPane {
 
         // Initial state for time controls
         isPaused = false;
-        gameController.setPaused(false);
-        gameController.setSpeedAccelerated(false);
+        simulate(c -> {
+            c.setPaused(false);
+            c.setSpeedAccelerated(false);
+        });
         updateTimeControlStates();
 
         // Mouse event handling on gameCanvas (remains the same)
@@ -768,19 +877,23 @@ public class GameScreen extends BorderPane {
 
             // --- Check for Gold Bag Click FIRST ---
             if (e.getButton() == javafx.scene.input.MouseButton.PRIMARY) {
-                List<DroppedGold> bags = gameController.getActiveGoldBags();
-                // Iterate in reverse to allow safe removal if multiple bags overlap
-                for (int i = bags.size() - 1; i >= 0; i--) {
-                    DroppedGold bag = bags.get(i);
-                    // Check if click (worldX, worldY) is within bag's bounds
-                    if (worldX >= bag.getX() && worldX <= (bag.getX() + bag.getWidth()) &&
-                            worldY >= bag.getY() && worldY <= (bag.getY() + bag.getHeight())) {
-
-                        gameController.collectGoldBag(bag); // Controller handles adding gold and removing bag
-                        renderTimer.setStatusMessage("Collected " + bag.getGoldAmount() + " Gold!");
-                        actionTaken = true;
-                        break; // Stop checking other bags if one is clicked
+                DroppedGold collected = query(c -> {
+                    List<DroppedGold> bags = c.getActiveGoldBags();
+                    // Iterate in reverse to allow safe removal if multiple bags overlap
+                    for (int i = bags.size() - 1; i >= 0; i--) {
+                        DroppedGold bag = bags.get(i);
+                        // Check if click (worldX, worldY) is within bag's bounds
+                        if (worldX >= bag.getX() && worldX <= (bag.getX() + bag.getWidth()) &&
+                                worldY >= bag.getY() && worldY <= (bag.getY() + bag.getHeight())) {
+                            c.collectGoldBag(bag); // Controller handles adding gold and removing bag
+                            return bag; // Stop checking other bags if one is clicked
+                        }
                     }
+                    return null;
+                });
+                if (collected != null) {
+                    renderTimer.setStatusMessage("Collected " + collected.getGoldAmount() + " Gold!");
+                    actionTaken = true;
                 }
             }
             // --- End Gold Bag Click Check ---
@@ -839,10 +952,15 @@ public class GameScreen extends BorderPane {
         topBarUpdateTimer = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                updateGameInfoLabels();
+                RenderSnapshot stats = currentStats();
+                if (!stats.isCaptured()) {
+                    return; // the simulation has not published a frame yet
+                }
+                updateGameInfoLabels(stats);
+                updatePerformanceLabel(now, stats);
 
                 // Check for game over
-                if (gameController.isGameOver()) {
+                if (stats.isGameOver()) {
                     stop();
                     renderTimer.stop();
                     showGameOverScreen();
@@ -894,22 +1012,41 @@ public class GameScreen extends BorderPane {
         }
     }
 
-    private void updateGameInfoLabels() {
+    /**
+     * The game's numbers for the HUD: the simulation thread's newest
+     * snapshot, or read now from the controller when the game runs in the
+     * render loop. The FX thread never reads a controller the simulation
+     * thread is changing.
+     */
+    private RenderSnapshot currentStats() {
+        if (simulation != null) {
+            return simulation.latestSnapshot();
+        }
+        if (loopStats == null) {
+            loopStats = new RenderSnapshot();
+        }
+        gameController.captureStats(loopStats);
+        return loopStats;
+    }
+
+    private void updateGameInfoLabels(RenderSnapshot stats) {
         if (goldLabel != null) {
-            goldLabel.setText("" + gameController.getPlayerGold());
+            goldLabel.setText("" + stats.getPlayerGold());
         }
         if (livesLabel != null) {
-            livesLabel.setText("" + gameController.getPlayerLives());
+            livesLabel.setText("" + stats.getPlayerLives());
         }
         if (waveLabel != null) {
             // Enhanced wave display showing current/total
-            int currentWave = gameController.getCurrentWave();
-            int totalWaves = gameController.getTotalWaves();
+            int currentWave = stats.getCurrentWave();
+            int totalWaves = gameController.getTotalWaves(); // fixed for the whole game
 
-            if (gameController.isInGracePeriod()) {
+            if (stats.isInGracePeriod()) {
                 waveLabel.setText("Grace Period");
             } else if (currentWave == 0) {
                 waveLabel.setText("Starting...");
+            } else if (gameController.isEndlessMode()) {
+                waveLabel.setText("Wave " + currentWave + " (Endless)");
             } else {
                 waveLabel.setText("Wave " + currentWave + "/" + totalWaves);
             }
@@ -918,7 +1055,47 @@ public class GameScreen extends BorderPane {
         // updateTimeControlStates()
 
         // Update freeze button availability
-        updateFreezeButtonStyle();
+        updateFreezeButtonStyle(stats);
+    }
+
+    /**
+     * Refresh the FPS, ticks/s and entity count line once per second. The
+     * first time FPS drops below 60 the entity counts are logged, which is the
+     * number the endless load profile is run to find.
+     *
+     * @param now current frame time in nanoseconds
+     * @param stats the game's current numbers
+     */
+    private void updatePerformanceLabel(long now, RenderSnapshot stats) {
+        if (performanceLabel == null) {
+            return;
+        }
+        perfFrames++;
+        if (perfWindowStart == 0) {
+            perfWindowStart = now;
+            perfWindowStartTick = stats.getTickCount();
+            return;
+        }
+        long elapsed = now - perfWindowStart;
+        if (elapsed < 1_000_000_000L) {
+            return;
+        }
+        double seconds = elapsed / 1_000_000_000.0;
+        double fps = perfFrames / seconds;
+        double ticksPerSecond = (stats.getTickCount() - perfWindowStartTick) / seconds;
+        int enemyCount = stats.getEnemyCount();
+        performanceLabel.setText(String.format("FPS %.0f | %.0f ticks/s%nEnemies %d | Projectiles %d | Towers %d%nLeaked %d",
+                fps, ticksPerSecond, enemyCount, stats.getProjectileCount(), stats.getTowerCount(),
+                stats.getLeakedEnemies()));
+
+        if (!belowTargetFpsReported && !isPaused && fps < TARGET_FPS - 1 && enemyCount > 0) {
+            belowTargetFpsReported = true;
+            LOG.info("Load profile: FPS fell to {} at {} enemies, {} projectiles",
+                    Math.round(fps * 10) / 10.0, enemyCount, stats.getProjectileCount());
+        }
+        perfFrames = 0;
+        perfWindowStart = now;
+        perfWindowStartTick = stats.getTickCount();
     }
 
     /**
@@ -927,6 +1104,9 @@ public class GameScreen extends BorderPane {
     private void startRenderLoop() {
         renderTimer = new GameRenderTimer();
         renderTimer.start();
+        if (simulation != null) {
+            simulation.start();
+        }
 
         // Add mouse moved listener to track position
         // gameCanvas.setOnMouseMoved(e -> { // REMOVED - Already set in initializeUI
@@ -939,6 +1119,25 @@ public class GameScreen extends BorderPane {
         // });
     }
 
+    /**
+     * Apply a player action to the game. With a simulation thread it runs
+     * there at the next tick boundary, and this waits for it.
+     */
+    private void simulate(Consumer<GameController> action) {
+        query(c -> {
+            action.accept(c);
+            return null;
+        });
+    }
+
+    /**
+     * Run an action on the game and return its result, on the simulation
+     * thread if there is one.
+     */
+    private <T> T query(Function<GameController, T> action) {
+        return simulation != null ? simulation.call(action) : action.apply(gameController);
+    }
+
     /**
      * Transforms mouse coordinates from Canvas space to World space.
      * 
@@ -1012,7 +1211,7 @@ public class GameScreen extends BorderPane {
             if (opt.constructor != null) {
                 button.setOnAction(e -> {
                     Tower towerToBuild = opt.constructor.get(); // Creates a template tower
-                    gameController.purchaseAndPlaceTower(towerToBuild, tileX, tileY); // Pass tile coords
+                    simulate(c -> c.purchaseAndPlaceTower(towerToBuild, tileX, tileY)); // Pass tile coords
                     clearActivePopup();
                     e.consume();
                 });
@@ -1053,7 +1252,7 @@ public class GameScreen extends BorderPane {
         // Upgrade Button
         if (existingTower.canUpgrade()) {
             int upgradeCost = existingTower.getUpgradeCost();
-            boolean canAfford = gameController.getPlayerGold() >= upgradeCost;
+            boolean canAfford = currentStats().getPlayerGold() >= upgradeCost;
             String upgradeText = "Upgrade (";
             if (upgradeCost == Integer.MAX_VALUE) { // Should not happen if canUpgrade is true, but good check
                 upgradeText += "N/A)";
@@ -1065,7 +1264,7 @@ public class GameScreen extends BorderPane {
 
             if (canAfford) {
                 upgradeButton.setOnAction(e -> {
-                    boolean upgraded = gameController.upgradeTower(existingTower, tileX, tileY);
+                    boolean upgraded = query(c -> c.upgradeTower(existingTower, tileX, tileY));
                     // if (upgraded) { // Effect removed
                     // }
                     clearActivePopup();
@@ -1085,7 +1284,7 @@ public class GameScreen extends BorderPane {
         Button sellButton = UIAssets.createIconButton("Sell (+" + existingTower.getSellRefund() + "G)", 1, 0,
                 POPUP_ICON_SIZE); // Sell icon (1,0)
         sellButton.setOnAction(e -> {
-            gameController.sellTower(tileX, tileY);
+            simulate(c -> c.sellTower(tileX, tileY));
             clearActivePopup();
             e.consume();
         });
@@ -1118,6 +1317,18 @@ public class GameScreen extends BorderPane {
             popupPane.getChildren().add(button);
         }
 
+        // Combat statistics of this tower, below the buttons
+        Label statsLabel = new Label(String.format("Damage: %d (+%d overkill)%nKills: %d  Shots: %d%nDPS: %.1f",
+                existingTower.getDamageDealt(), existingTower.getOverkillDamage(), existingTower.getKills(),
+                existingTower.getShotsFired(),
+                existingTower.getDps(currentStats().getTickCount(), GameController.TICK_SECONDS)));
+        statsLabel.setStyle("-fx-background-color: rgba(0, 0, 0, 0.7); -fx-text-fill: white; "
+                + "-fx-font-size: 11px; -fx-padding: 4px 8px; -fx-background-radius: 5px;");
+        statsLabel.setMouseTransparent(true);
+        statsLabel.setLayoutX(centerXScreen - 60);
+        statsLabel.setLayoutY(centerYScreen + radius + POPUP_ICON_SIZE / 2.0 + 4);
+        popupPane.getChildren().add(statsLabel);
+
         activePopup = popupPane;
         uiOverlayPane.getChildren().add(activePopup);
         // Apply animation
@@ -1135,6 +1346,9 @@ public class GameScreen extends BorderPane {
     }
 
     public void stop() { // Assuming this method exists or should be added for cleanup
+        if (simulation != null) {
+            simulation.stop(); // the controller is only touched from this thread afterwards
+        }
         if (renderTimer != null) {
             renderTimer.stop();
         }
@@ -1145,6 +1359,7 @@ public class GameScreen extends BorderPane {
             memoryTracker.stop();
         }
         gameController.stopGame(); // Ensure controller's game loop is also stopped
+        gameController.stopReplayRecording(); // Writes the replay file if this game was recorded
     }
 
     /**
@@ -1188,7 +1403,7 @@ public class GameScreen extends BorderPane {
 
         // Auto-pause the game when menu opens
         isPaused = true;
-        gameController.setPaused(true);
+        simulate(c -> c.setPaused(true));
         updateTimeControlStates();
 
         // Create medieval-themed side panel with wooden background
@@ -1263,8 +1478,10 @@ public class GameScreen extends BorderPane {
         resumeButton.setOnAction(e -> {
             // Unpause the game when resuming
             isPaused = false;
-            gameController.setPaused(false);
-            gameController.setSpeedAccelerated(false); // Reset to normal speed
+            simulate(c -> {
+                c.setPaused(false);
+                c.setSpeedAccelerated(false); // Reset to normal speed
+            });
             updateTimeControlStates();
             clearActivePopup();
             e.consume();
@@ -1694,7 +1911,7 @@ public class GameScreen extends BorderPane {
                 if (saveName != null && !saveName.trim().isEmpty()) {
                     try {
                         GameSaveService saveService = GameSaveService.getInstance();
-                        boolean success = saveService.saveGame(gameController, saveName.trim());
+                        boolean success = query(c -> saveService.saveGame(c, saveName.trim()));
 
                         if (success) {
                             if (renderTimer != null) {
@@ -1781,7 +1998,7 @@ public class GameScreen extends BorderPane {
             java.util.Optional<GameSaveService.SaveFileInfo> result = dialog.showAndWait();
             result.ifPresent(saveInfo -> {
                 if (saveInfo != null && saveInfo.isValid) {
-                    boolean success = saveService.loadGame(gameController, saveInfo.filename);
+                    boolean success = query(c -> saveService.loadGame(c, saveInfo.filename));
 
                     if (success) {
                         if (renderTimer != null) {
@@ -1812,24 +2029,16 @@ public class GameScreen extends BorderPane {
     private void activateFreezeEffect() {
         PowerUpType freezeType = PowerUpType.FREEZE_ENEMIES;
 
-        if (!gameController.canUsePowerUp(freezeType)) {
+        String reason = query(c -> freezeUnavailableReason(
+                c.getPowerUpManager().getCooldownWavesRemaining(freezeType), c.getPlayerGold(), c.getEnemies().size()));
+        if (reason != null) {
             // Show why it can't be used
-            String reason = "";
-            if (gameController.getPowerUpManager().isOnCooldown(freezeType)) {
-                int wavesRemaining = gameController.getPowerUpManager().getCooldownWavesRemaining(freezeType);
-                reason = "Cooldown: " + wavesRemaining + " waves remaining";
-            } else if (gameController.getPlayerGold() < freezeType.getCost()) {
-                reason = "Need " + freezeType.getCost() + " gold (have " + gameController.getPlayerGold() + ")";
-            } else if (gameController.getEnemies().isEmpty()) {
-                reason = "No enemies to freeze";
-            }
-
             renderTimer.setStatusMessage("❄️ Cannot freeze: " + reason);
             return;
         }
 
         // Activate the power-up
-        boolean success = gameController.activatePowerUp(freezeType);
+        boolean success = query(c -> c.activatePowerUp(freezeType));
         if (success) {
             // EPIC ACTIVATION ANIMATION!
             createMagicalActivationEffect();
@@ -1840,7 +2049,23 @@ public class GameScreen extends BorderPane {
         }
 
         // Update button appearance
-        updateFreezeButtonStyle();
+        updateFreezeButtonStyle(currentStats());
+    }
+
+    /**
+     * @return why the freeze power-up cannot be used, or null if it can; the
+     *         same checks as {@link com.ku.towerdefense.powerup.PowerUpManager#canUsePowerUp}
+     */
+    private static String freezeUnavailableReason(int cooldownWaves, int gold, int enemyCount) {
+        PowerUpType freezeType = PowerUpType.FREEZE_ENEMIES;
+        if (cooldownWaves > 0) {
+            return "Cooldown: " + cooldownWaves + " waves remaining";
+        } else if (gold < freezeType.getCost()) {
+            return "Need " + freezeType.getCost() + " gold (have " + gold + ")";
+        } else if (enemyCount == 0) {
+            return "No enemies to freeze";
+        }
+        return null;
     }
 
     /**
@@ -2071,12 +2296,14 @@ public class GameScreen extends BorderPane {
     /**
      * Update the freeze button's appearance based on availability
      */
-    private void updateFreezeButtonStyle() {
+    private void updateFreezeButtonStyle(RenderSnapshot stats) {
         if (freezeButton == null)
             return;
 
         PowerUpType freezeType = PowerUpType.FREEZE_ENEMIES;
-        boolean canUse = gameController.canUsePowerUp(freezeType);
+        String reason = freezeUnavailableReason(stats.getFreezeCooldownWaves(), stats.getPlayerGold(),
+                stats.getEnemyCount());
+        boolean canUse = reason == null;
 
         // Get the current magical glow effect
         javafx.scene.effect.DropShadow currentEffect = null;
@@ -2116,16 +2343,6 @@ public class GameScreen extends BorderPane {
             }
 
             // Update tooltip with reason why it's not available
-            String reason = "";
-            if (gameController.getPowerUpManager().isOnCooldown(freezeType)) {
-                int wavesRemaining = gameController.getPowerUpManager().getCooldownWavesRemaining(freezeType);
-                reason = "⏳ Cooldown: " + wavesRemaining + " waves remaining";
-            } else if (gameController.getPlayerGold() < freezeType.getCost()) {
-                reason = "💰 Need " + freezeType.getCost() + " gold (have " + gameController.getPlayerGold() + ")";
-            } else if (gameController.getEnemies().isEmpty()) {
-                reason = "👻 No enemies to freeze";
-            }
-
             String tooltip = "🧙‍♂️ Allmighty Wizard Hakan Hoca (UNAVAILABLE)\n" +
                     "✨ " + freezeType.getDisplayName() + "\n" +
                     "💰 Cost: " + freezeType.getCost() + " gold\n" +
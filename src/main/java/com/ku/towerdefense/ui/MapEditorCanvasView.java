@@ -25,6 +25,8 @@ import javafx.scene.paint.Color;
 import javafx.scene.transform.Scale;
 import javafx.scene.image.Image;
 
+import java.util.BitSet;
+
 /**
  * Manages the map canvas, rendering, zoom, and placement logic for the Map
  * Editor.
@@ -56,10 +58,22 @@ public class MapEditorCanvasView extends VBox {
     private double lastPanX, lastPanY;
     private boolean isPanning = false;
 
+    // The canvas keeps its pixels between renders and only what changed is redrawn
+    private static final Color MAP_BACKGROUND = Color.web("#64B464");
+    private static final int MAX_DIRTY_TILES = 256; // past this, one redraw of the view is cheaper
+    private final GameMap.TileChangeListener tileChangeListener = this::markTileDirty;
+    private final BitSet dirtyTiles = new BitSet(); // y * map width + x
+    private int dirtyCount = 0;
+    private boolean needsFullRedraw = true;
+    private double drawnZoom, drawnOffsetX, drawnOffsetY, drawnWidth, drawnHeight;
+
     public MapEditorCanvasView(GameMap initialMap, MapEditorTilePalette palette) {
         super(10); // Spacing for VBox
         this.gameMap = initialMap;
         this.tilePalette = palette;
+        if (initialMap != null) {
+            initialMap.setTileChangeListener(tileChangeListener);
+        }
 
         setAlignment(Pos.CENTER);
 
@@ -144,7 +158,16 @@ public class MapEditorCanvasView extends VBox {
      */
     public void setGameMap(GameMap newMap) {
         System.out.println("--- CanvasView.setGameMap() called ---");
+        if (gameMap != null) {
+            gameMap.setTileChangeListener(null);
+        }
         this.gameMap = newMap;
+        if (newMap != null) {
+            newMap.setTileChangeListener(tileChangeListener);
+        }
+        needsFullRedraw = true;
+        dirtyTiles.clear();
+        dirtyCount = 0;
         // Reset view offsets and zoom for new map to sensible defaults
         this.viewOffsetX = 0;
         this.viewOffsetY = 0;
@@ -244,14 +267,27 @@ public class MapEditorCanvasView extends VBox {
 
     // --- Rendering ---
 
+    /**
+     * Bring the canvas up to date. After the view moved or resized, the
+     * visible tiles are redrawn; otherwise the canvas still holds the last
+     * frame, and only the cells changed since then are repainted.
+     */
     public void renderMap() {
         if (gameMap == null || mapCanvas.getWidth() <= 0 || mapCanvas.getHeight() <= 0)
             return;
 
         GraphicsContext gc = mapCanvas.getGraphicsContext2D();
+        if (needsFullRedraw || drawnZoom != zoomLevel || drawnOffsetX != viewOffsetX || drawnOffsetY != viewOffsetY
+                || drawnWidth != mapCanvas.getWidth() || drawnHeight != mapCanvas.getHeight()) {
+            redrawVisible(gc);
+        } else if (dirtyCount > 0) {
+            redrawDirty(gc);
+        }
+    }
 
+    private void redrawVisible(GraphicsContext gc) {
         // Clear the entire visible canvas
-        gc.setFill(Color.web("#64B464")); // Set desired background color for map area
+        gc.setFill(MAP_BACKGROUND);
         gc.fillRect(0, 0, mapCanvas.getWidth(), mapCanvas.getHeight());
 
         gc.save(); // Save default state
@@ -260,11 +296,80 @@ public class MapEditorCanvasView extends VBox {
         gc.translate(viewOffsetX, viewOffsetY);
         gc.scale(zoomLevel, zoomLevel);
 
-        // Draw the map tiles
+        // Only the tiles on screen; a large map has far more off it
+        int minX = Math.max(0, screenToTile(0, viewOffsetX));
+        int minY = Math.max(0, screenToTile(0, viewOffsetY));
+        int maxX = Math.min(gameMap.getWidth() - 1, screenToTile(mapCanvas.getWidth(), viewOffsetX));
+        int maxY = Math.min(gameMap.getHeight() - 1, screenToTile(mapCanvas.getHeight(), viewOffsetY));
+        if (minX <= maxX && minY <= maxY) {
+            gameMap.prefetch(minX, minY, maxX, maxY); // a chunked map pages in the surroundings
+            drawTiles(gc, minX, minY, maxX, maxY);
+        }
+
+        gc.restore(); // Restore to default state (no translation/scale)
+
+        drawnZoom = zoomLevel;
+        drawnOffsetX = viewOffsetX;
+        drawnOffsetY = viewOffsetY;
+        drawnWidth = mapCanvas.getWidth();
+        drawnHeight = mapCanvas.getHeight();
+        needsFullRedraw = false;
+        dirtyTiles.clear();
+        dirtyCount = 0;
+    }
+
+    /**
+     * Repaint each changed cell with its neighbours, which share its grid
+     * lines and, for a castle, its footprint outline.
+     */
+    private void redrawDirty(GraphicsContext gc) {
+        int mapWidth = gameMap.getWidth();
+        int mapHeight = gameMap.getHeight();
+        int viewMinX = screenToTile(0, viewOffsetX) - 1;
+        int viewMinY = screenToTile(0, viewOffsetY) - 1;
+        int viewMaxX = screenToTile(mapCanvas.getWidth(), viewOffsetX) + 1;
+        int viewMaxY = screenToTile(mapCanvas.getHeight(), viewOffsetY) + 1;
+
+        gc.save();
+        gc.translate(viewOffsetX, viewOffsetY);
+        gc.scale(zoomLevel, zoomLevel);
+        for (int i = dirtyTiles.nextSetBit(0); i >= 0; i = dirtyTiles.nextSetBit(i + 1)) {
+            int x = i % mapWidth;
+            int y = i / mapWidth;
+            if (x < viewMinX || x > viewMaxX || y < viewMinY || y > viewMaxY) {
+                continue; // drawn when scrolled into view
+            }
+            int minX = Math.max(0, x - 1);
+            int minY = Math.max(0, y - 1);
+            int maxX = Math.min(mapWidth - 1, x + 1);
+            int maxY = Math.min(mapHeight - 1, y + 1);
+
+            gc.save();
+            gc.beginPath();
+            gc.rect(minX * tileSize, minY * tileSize, (maxX - minX + 1) * tileSize, (maxY - minY + 1) * tileSize);
+            gc.clip();
+            gc.setFill(MAP_BACKGROUND);
+            gc.fillRect(minX * tileSize, minY * tileSize, (maxX - minX + 1) * tileSize,
+                    (maxY - minY + 1) * tileSize);
+            // One more cell up and left, whose drawings reach into the region
+            drawTiles(gc, Math.max(0, minX - 1), Math.max(0, minY - 1), maxX, maxY);
+            gc.restore();
+        }
+        gc.restore();
+
+        dirtyTiles.clear();
+        dirtyCount = 0;
+    }
+
+    /**
+     * Draw tiles, their editor markers and the grid for a range of cells.
+     * Expects the view transform to be applied.
+     */
+    private void drawTiles(GraphicsContext gc, int minX, int minY, int maxX, int maxY) {
         int mapWidth = gameMap.getWidth();
         int mapHeight = gameMap.getHeight();
-        for (int y = 0; y < mapHeight; y++) {
-            for (int x = 0; x < mapWidth; x++) {
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
                 Tile tile = gameMap.getTile(x, y);
                 if (tile != null) {
                     // Render tile using its map coordinates (x*tileSize, y*tileSize)
@@ -275,8 +380,8 @@ public class MapEditorCanvasView extends VBox {
         }
 
         // Add visual indicators for START_POINT and END_POINT (using transformed GC)
-        for (int y = 0; y < mapHeight; y++) {
-            for (int x = 0; x < mapWidth; x++) {
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
                 Tile tile = gameMap.getTile(x, y);
                 if (tile != null) {
                     if (tile.getType() == TileType.START_POINT) {
@@ -312,25 +417,39 @@ public class MapEditorCanvasView extends VBox {
         // Draw grid lines (using transformed GC)
         gc.setStroke(Color.LIGHTGRAY);
         gc.setLineWidth(0.5 / zoomLevel); // Keep grid lines thin regardless of zoom
-        // Calculate visible map range in map pixel coordinates to optimize grid drawing
-        double renderAreaX1 = (0 - viewOffsetX) / zoomLevel;
-        double renderAreaY1 = (0 - viewOffsetY) / zoomLevel;
-        double renderAreaX2 = (mapCanvas.getWidth() - viewOffsetX) / zoomLevel;
-        double renderAreaY2 = (mapCanvas.getHeight() - viewOffsetY) / zoomLevel;
+        for (int x = minX; x <= maxX + 1; x++) {
+            gc.strokeLine(x * tileSize, minY * tileSize, x * tileSize, (maxY + 1) * tileSize);
+        }
+        for (int y = minY; y <= maxY + 1; y++) {
+            gc.strokeLine(minX * tileSize, y * tileSize, (maxX + 1) * tileSize, y * tileSize);
+        }
+    }
 
-        int startGridX = Math.max(0, (int) (renderAreaX1 / tileSize) - 1);
-        int endGridX = Math.min(mapWidth, (int) (renderAreaX2 / tileSize) + 1);
-        int startGridY = Math.max(0, (int) (renderAreaY1 / tileSize) - 1);
-        int endGridY = Math.min(mapHeight, (int) (renderAreaY2 / tileSize) + 1);
+    /**
+     * @return the tile column (or row) under a canvas x (or y) coordinate
+     */
+    private int screenToTile(double screen, double viewOffset) {
+        return (int) Math.floor((screen - viewOffset) / zoomLevel / tileSize);
+    }
 
-        for (int x = startGridX; x <= endGridX; x++) {
-            gc.strokeLine(x * tileSize, startGridY * tileSize, x * tileSize, endGridY * tileSize);
+    /**
+     * Queue a cell for the next {@link #renderMap()}.
+     */
+    private void markTileDirty(int x, int y) {
+        if (needsFullRedraw) {
+            return;
         }
-        for (int y = startGridY; y <= endGridY; y++) {
-            gc.strokeLine(startGridX * tileSize, y * tileSize, endGridX * tileSize, y * tileSize);
+        if (dirtyCount == MAX_DIRTY_TILES) {
+            needsFullRedraw = true; // cheaper than repainting every cell on its own
+            dirtyTiles.clear();
+            dirtyCount = 0;
+            return;
+        }
+        int index = y * gameMap.getWidth() + x;
+        if (!dirtyTiles.get(index)) {
+            dirtyTiles.set(index);
+            dirtyCount++;
         }
-
-        gc.restore(); // Restore to default state (no translation/scale)
     }
 
     /**
@@ -792,41 +911,42 @@ public class MapEditorCanvasView extends VBox {
     // --- Clearing Logic (Moved from MapEditorScreen) ---
 
     private void clearExistingStartPoint() {
-        for (int x = 0; x < gameMap.getWidth(); x++) {
-            for (int y = 0; y < gameMap.getHeight(); y++) {
-                if (gameMap.getTileType(x, y) == TileType.START_POINT) {
-                    gameMap.setTileType(x, y, TileType.GRASS);
-                    System.out.println("Cleared existing Start Point at (" + x + "," + y + ")");
-                    return;
-                }
-            }
+        Tile start = gameMap.findTileByType(TileType.START_POINT);
+        if (start != null) {
+            int x = start.getX();
+            int y = start.getY();
+            gameMap.setTileType(x, y, TileType.GRASS);
+            System.out.println("Cleared existing Start Point at (" + x + "," + y + ")");
         }
     }
 
     private void clearExistingEndPoint() {
         // First find the END_POINT (which serves as castle base marker)
-        for (int x = 0; x < gameMap.getWidth(); x++) {
-            for (int y = 0; y < gameMap.getHeight(); y++) {
-                if (gameMap.getTileType(x, y) == TileType.END_POINT) {
-                    System.out.println("Clearing existing Castle/END_POINT at (" + x + "," + y + ")");
-
-                    // Clear the entire 2x2 castle structure
-                    gameMap.setTileType(x, y, TileType.GRASS); // END_POINT
+        Tile end = gameMap.findTileByType(TileType.END_POINT);
+        if (end != null) {
+            int x = end.getX();
+            int y = end.getY();
+            System.out.println("Clearing existing Castle/END_POINT at (" + x + "," + y + ")");
+
+            // Clear the entire 2x2 castle structure
+            gameMap.setTileType(x, y, TileType.GRASS); // END_POINT
+
+            // Clear other castle parts if they exist
+            if (x + 1 < gameMap.getWidth())
+                gameMap.setTileType(x + 1, y, TileType.GRASS); // CASTLE2
+            if (y + 1 < gameMap.getHeight())
+                gameMap.setTileType(x, y + 1, TileType.GRASS); // CASTLE3
+            if (x + 1 < gameMap.getWidth() && y + 1 < gameMap.getHeight())
+                gameMap.setTileType(x + 1, y + 1, TileType.GRASS); // CASTLE4
 
-                    // Clear other castle parts if they exist
-                    if (x + 1 < gameMap.getWidth())
-                        gameMap.setTileType(x + 1, y, TileType.GRASS); // CASTLE2
-                    if (y + 1 < gameMap.getHeight())
-                        gameMap.setTileType(x, y + 1, TileType.GRASS); // CASTLE3
-                    if (x + 1 < gameMap.getWidth() && y + 1 < gameMap.getHeight())
-                        gameMap.setTileType(x + 1, y + 1, TileType.GRASS); // CASTLE4
-
-                    return;
-                }
-            }
+            return;
         }
 
-        // Also check for any stray castle parts without an END_POINT
+        // Also check for any stray castle parts without an END_POINT; a chunked
+        // map is too large to search on every castle placement
+        if (gameMap.isChunked()) {
+            return;
+        }
         for (int x = 0; x < gameMap.getWidth(); x++) {
             for (int y = 0; y < gameMap.getHeight(); y++) {
                 TileType type = gameMap.getTileType(x, y);
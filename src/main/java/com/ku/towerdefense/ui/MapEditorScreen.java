@@ -4,6 +4,7 @@ import com.ku.towerdefense.controller.GameController;
 import com.ku.towerdefense.model.map.GameMap;
 import com.ku.towerdefense.model.map.Tile;
 import com.ku.towerdefense.model.map.TileType;
+import com.ku.towerdefense.util.GameSettings;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.geometry.Pos;
@@ -52,6 +53,7 @@ import java.util.Comparator;
 public class MapEditorScreen extends BorderPane {
     private final Stage primaryStage;
     private GameMap currentMap;
+    private File unsavedTileFile; // temporary tile file of a large map not saved yet
     private File mapsDirectory;
     private MapEditorTilePalette tilePalette;
     private MapEditorTopToolbar topToolbar;
@@ -570,6 +572,7 @@ public class MapEditorScreen extends BorderPane {
                 if (result.isPresent() && result.get() == ButtonType.OK) {
                     try {
                         if (selectedMapFile.delete()) {
+                            Files.deleteIfExists(tileFileFor(selectedMapFile).toPath()); // a large map's tiles
                             mapListView.getItems().remove(selectedMapFile);
                             showAlert("Map Deleted",
                                     "Map '" + selectedMapFile.getName().replace(".map", "") + "' was deleted.");
@@ -765,6 +768,18 @@ public class MapEditorScreen extends BorderPane {
         if (!isNewMapOrNeedsName && mapFile.exists()) {
         }
 
+        try {
+            // A large map's tiles go in a file of its own next to it, so two saves never share one
+            currentMap.saveTilesTo(tileFileFor(mapFile));
+        } catch (IOException e) {
+            showAlert("Save Error", "Failed to save the tiles of map '" + currentMap.getName() + "': " + e.getMessage());
+            e.printStackTrace();
+            return;
+        }
+        if (currentMap.isChunked()) {
+            discardUnsavedTiles(); // the map now uses its saved tile file
+        }
+
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(mapFile))) {
             oos.writeObject(currentMap);
             showAlert("Map Saved",
@@ -799,7 +814,9 @@ public class MapEditorScreen extends BorderPane {
                 if (loadedMap.getWidth() <= 0 || loadedMap.getHeight() <= 0) {
                     throw new IOException("Loaded map has invalid dimensions.");
                 }
+                loadedMap.editInPlace(); // the editor writes a large map's tiles back to its file
 
+                discardUnsavedTiles();
                 this.currentMap = loadedMap;
 
                 topToolbar.setGameMap(this.currentMap);
@@ -822,7 +839,33 @@ public class MapEditorScreen extends BorderPane {
         }
     }
 
+    /**
+     * @return the file a large map saved as mapFile keeps its tiles in
+     */
+    private static File tileFileFor(File mapFile) {
+        String name = mapFile.getName();
+        String base = name.endsWith(".map") ? name.substring(0, name.length() - ".map".length()) : name;
+        return new File(mapFile.getParentFile(), base + ".tiles");
+    }
+
+    /**
+     * Delete the temporary tile file of a large map that was never saved,
+     * once the editor no longer uses it.
+     */
+    private void discardUnsavedTiles() {
+        if (unsavedTileFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(unsavedTileFile.toPath());
+        } catch (IOException e) {
+            System.err.println("Could not delete " + unsavedTileFile + ": " + e.getMessage());
+        }
+        unsavedTileFile = null;
+    }
+
     private void goBack() {
+        discardUnsavedTiles();
         MainMenuScreen mainMenu = new MainMenuScreen(primaryStage);
         
         // Use screen dimensions to match fullscreen size
@@ -862,7 +905,29 @@ public class MapEditorScreen extends BorderPane {
         }
 
         String mapName = currentMap.getName();
-        this.currentMap = new GameMap(mapName, newWidth, newHeight);
+        if ((long) newWidth * newHeight >= GameSettings.getInstance().getChunkedMapMinTiles()) {
+            // Too large for tile objects: keep the tiles in a temporary file until the map is saved
+            File tileFile = null;
+            GameMap resized;
+            try {
+                tileFile = File.createTempFile("kutd-map-", ".tiles");
+                tileFile.deleteOnExit();
+                resized = GameMap.createChunked(mapName, newWidth, newHeight, tileFile);
+            } catch (IOException | IllegalArgumentException e) {
+                if (tileFile != null) {
+                    tileFile.delete();
+                }
+                showAlert("Resize Error",
+                        "Could not create a " + newWidth + "x" + newHeight + " map: " + e.getMessage());
+                return;
+            }
+            discardUnsavedTiles();
+            this.currentMap = resized;
+            this.unsavedTileFile = tileFile;
+        } else {
+            discardUnsavedTiles();
+            this.currentMap = new GameMap(mapName, newWidth, newHeight);
+        }
 
         topToolbar.setGameMap(this.currentMap);
         canvasView.setGameMap(this.currentMap);
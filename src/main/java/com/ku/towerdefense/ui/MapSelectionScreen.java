@@ -4,6 +4,7 @@ import com.ku.towerdefense.controller.GameController;
 import com.ku.towerdefense.model.map.GameMap;
 import com.ku.towerdefense.model.map.TileType;
 import com.ku.towerdefense.model.map.Tile;
+import com.ku.towerdefense.util.GameSettings;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -354,7 +355,13 @@ public class MapSelectionScreen extends BorderPane {
             selectedMap.generatePath();
         }
 
-        GameController gameController = new GameController(selectedMap);
+        GameSettings settings = GameSettings.getInstance();
+        GameController gameController = settings.isEndlessMode()
+                ? new GameController(selectedMap, settings.getEndlessSeed()) // same waves every run
+                : new GameController(selectedMap);
+        if (settings.getMaxSavedReplays() > 0) {
+            gameController.startReplayRecording(); // Record commands so the game can be replayed
+        }
         GameScreen gameScreen = new GameScreen(primaryStage, gameController);
 
         // Use current stage dimensions
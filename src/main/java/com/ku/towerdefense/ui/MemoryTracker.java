@@ -1,12 +1,10 @@
 package com.ku.towerdefense.ui;
 
-import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.chart.LineChart;
-import javafx.scene.chart.NumberAxis;
-import javafx.scene.chart.XYChart;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -15,24 +13,66 @@ import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.controller.SimulationThread;
+import com.ku.towerdefense.jmx.GameEngineMetrics;
+import com.ku.towerdefense.util.AllocationMeter;
+import com.ku.towerdefense.util.FrameProfiler;
+import com.ku.towerdefense.util.GcPauseMonitor;
+import com.ku.towerdefense.util.LatencyHistogram;
+import com.ku.towerdefense.util.QualityLevel;
+import com.ku.towerdefense.util.SampleRing;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryUsage;
 import java.lang.management.GarbageCollectorMXBean;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Professional Memory Tracker for KU Tower Defense
  * Provides real-time monitoring of memory usage, performance metrics,
  * and system resources for development and optimization purposes.
+ *
+ * Metrics are sampled once per second on a background thread into a
+ * primitive {@link SampleRing}. The FX thread only records frame times into
+ * a small ring, and updates labels and the sparkline when their values
+ * changed, so showing the tracker costs the game as little as possible.
  */
 public class MemoryTracker extends VBox {
     
+    // Sample channels
+    private static final int HEAP_MB = 0;
+    private static final int HEAP_MAX_MB = 1;
+    private static final int NON_HEAP_MB = 2;
+    private static final int FPS = 3;
+    private static final int MAX_FRAME_MS = 4;
+    private static final int ALLOC_KB_PER_FRAME = 5;
+    private static final int GC_COUNT = 6;
+    private static final int GC_PAUSE_MS = 7;
+    private static final int THREADS = 8;
+    private static final int TOWERS = 9;
+    private static final int ENEMIES = 10;
+    private static final int PROJECTILES = 11;
+    private static final int GOLD_BAGS = 12;
+    private static final int QUALITY = 13;
+    private static final int QUALITY_CHANGES = 14;
+    private static final int ALLOC_KB_PER_TICK = 15;
+    private static final int PHASE_P50_US = 16; // then one p50 and one p99 per phase
+    private static final FrameProfiler.Phase[] PHASES = FrameProfiler.Phase.values();
+    private static final int CHANNELS = PHASE_P50_US + 2 * PHASES.length;
+    
+    private static final int MAX_DATA_POINTS = 60; // 60 seconds of data
+    private static final int FRAME_RING_SIZE = 1024; // must be a power of two
+    
     // Core monitoring components
     private final MemoryMXBean memoryBean;
     private final Runtime runtime;
     private final GameController gameController;
+    private final SimulationThread simulation; // null when the game is simulated in the render loop
     
     // UI Components
     private Label heapUsedLabel;
@@ -40,33 +80,64 @@ public class MemoryTracker extends VBox {
     private Label nonHeapUsedLabel;
     private Label fpsLabel;
     private Label gcCountLabel;
+    private Label allocationLabel;
+    private Label tickAllocationLabel;
+    private Label gcPauseLabel;
+    private Label qualityLabel;
     private Label gameObjectsLabel;
     private Label threadCountLabel;
     private Label cpuUsageLabel;
     private Label memoryEfficiencyLabel;
     private Label gamePerformanceLabel;
+    private Label[] phaseLabels;
     private Rectangle memoryBar;
-    private LineChart<Number, Number> memoryChart;
-    private XYChart.Series<Number, Number> heapSeries;
-    private XYChart.Series<Number, Number> nonHeapSeries;
-    
-    // Performance tracking
-    private AnimationTimer tracker;
-    private long lastTime = 0;
-    private int frameCount = 0;
-    private double currentFPS = 0;
-    private int timeCounter = 0;
-    
-    // Advanced metrics
+    private Canvas sparkline;
+    
+    // Background sampling
+    private final SampleRing samples = new SampleRing(CHANNELS, MAX_DATA_POINTS);
+    private final double[] sampleRow = new double[CHANNELS];
+    private ScheduledExecutorService sampler;
+    private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+    private final Runnable refreshTask = this::refresh;
+    private long lastSampleNanos = 0;
+    
+    // Frame times, written by the FX thread and read by the sampler
+    private final long[] frameNanos = new long[FRAME_RING_SIZE];
+    private volatile long framesWritten = 0;
+    private volatile boolean running = false;
+    private long lastFrameNanos = 0;
+    private long framesRead = 0;
+    
+    // Frame phase timings, drained from the profiler once per second
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    
+    // Allocation of the FX and simulation threads, and GC pauses
+    private final AllocationMeter allocationMeter;
+    private AllocationMeter tickAllocationMeter; // sampler thread; follows the simulation thread
+    private Thread meteredSimulation;
+    private long ticksRead = 0;
+    private final GcPauseMonitor gcPauseMonitor = GcPauseMonitor.getInstance();
+    private final long[] drainedPauses = new long[64];
+    
+    // Values currently shown, to skip label and sparkline updates that would not change anything
+    private final double[] shown = new double[CHANNELS];
+    private final int[] sparkHeapY = new int[MAX_DATA_POINTS];
+    private final int[] sparkFrameY = new int[MAX_DATA_POINTS];
+    private final int[] drawnHeapY = new int[MAX_DATA_POINTS];
+    private final int[] drawnFrameY = new int[MAX_DATA_POINTS];
+    private final boolean[] sparkGc = new boolean[MAX_DATA_POINTS];
+    private final boolean[] drawnGc = new boolean[MAX_DATA_POINTS];
+    private final double[] channelHistory = new double[MAX_DATA_POINTS];
+    private int drawnCount = -1;
+    private long shownSampleCount = -1;
+    
+    // Advanced metrics (FX thread)
     private long startTime = System.currentTimeMillis();
     private double averageFPS = 0;
     private int fpsReadings = 0;
-    private long lastGCTime = 0;
     private double memoryEfficiency = 0;
     private int peakObjectCount = 0;
     
-    private static final int MAX_DATA_POINTS = 60; // 60 seconds of data
-    
     // Styling constants
     private static final String TITLE_STYLE = 
         "-fx-font-family: 'Serif'; -fx-font-size: 16px; -fx-font-weight: bold; " +
@@ -81,13 +152,26 @@ public class MemoryTracker extends VBox {
         "-fx-border-width: 2px; -fx-border-radius: 8px; " +
         "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.4), 5, 0, 2, 2);";
 
+    /**
+     * Must be created on the FX thread, whose allocations it measures.
+     */
     public MemoryTracker(GameController gameController) {
+        this(gameController, null);
+    }
+
+    /**
+     * Must be created on the FX thread, whose allocations it measures. The
+     * allocations of the simulation thread, if given, are shown per tick.
+     */
+    public MemoryTracker(GameController gameController, SimulationThread simulation) {
         this.gameController = gameController;
+        this.simulation = simulation;
         this.memoryBean = ManagementFactory.getMemoryMXBean();
         this.runtime = Runtime.getRuntime();
+        this.allocationMeter = new AllocationMeter(Thread.currentThread());
+        Arrays.fill(shown, Double.NaN);
         
         initializeUI();
-        startTracking();
     }
     
     private void initializeUI() {
@@ -124,10 +208,13 @@ public class MemoryTracker extends VBox {
         // System metrics section
         VBox systemSection = createSystemSection();
         
+        // Frame phase timings section
+        VBox phaseSection = createPhaseSection();
+        
         // Analysis section
         VBox analysisSection = createAnalysisSection();
         
-        // Memory usage chart
+        // Memory and frame time sparkline
         VBox chartSection = createChartSection();
         
         // Control buttons
@@ -140,6 +227,8 @@ public class MemoryTracker extends VBox {
             createSeparator(),
             performanceSection,
             createSeparator(),
+            phaseSection,
+            createSeparator(),
             gameSection,
             createSeparator(),
             systemSection,
@@ -195,7 +284,37 @@ public class MemoryTracker extends VBox {
         gcCountLabel = new Label("GC Collections: 0");
         gcCountLabel.setStyle(METRIC_STYLE + "-fx-text-fill: #DC143C;");
         
-        section.getChildren().addAll(sectionTitle, fpsLabel, gcCountLabel);
+        allocationLabel = new Label(allocationMeter.isSupported() ? "Alloc/Frame: -" : "Alloc/Frame: unsupported");
+        allocationLabel.setStyle(METRIC_STYLE + "-fx-text-fill: #B8860B;");
+        
+        tickAllocationLabel = new Label(simulation == null ? "Alloc/Tick: in frame"
+                : allocationMeter.isSupported() ? "Alloc/Tick: -" : "Alloc/Tick: unsupported");
+        tickAllocationLabel.setStyle(METRIC_STYLE + "-fx-text-fill: #B8860B;");
+        
+        gcPauseLabel = new Label("GC Pauses: 0");
+        gcPauseLabel.setStyle(METRIC_STYLE + "-fx-text-fill: #DC143C;");
+        
+        qualityLabel = new Label("Quality: HIGH (0 changes)");
+        qualityLabel.setStyle(METRIC_STYLE + "-fx-text-fill: #6A5ACD;");
+        
+        section.getChildren().addAll(sectionTitle, fpsLabel, gcCountLabel, allocationLabel, tickAllocationLabel,
+                gcPauseLabel, qualityLabel);
+        return section;
+    }
+    
+    private VBox createPhaseSection() {
+        VBox section = new VBox(4);
+        
+        Label sectionTitle = new Label("⏱️ FRAME PHASES (p50 / p99)");
+        sectionTitle.setStyle(TITLE_STYLE + "-fx-font-size: 14px;");
+        section.getChildren().add(sectionTitle);
+        
+        phaseLabels = new Label[PHASES.length];
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseLabels[i] = new Label(formatPhase(PHASES[i], 0, 0));
+            phaseLabels[i].setStyle(METRIC_STYLE + "-fx-font-size: 11px; -fx-text-fill: #2F4F4F;");
+            section.getChildren().add(phaseLabels[i]);
+        }
         return section;
     }
     
@@ -247,34 +366,16 @@ public class MemoryTracker extends VBox {
     private VBox createChartSection() {
         VBox section = new VBox(8);
         
-        Label sectionTitle = new Label("📊 MEMORY TREND (60s)");
+        Label sectionTitle = new Label("📊 HEAP & FRAME TIME (60s)");
         sectionTitle.setStyle(TITLE_STYLE + "-fx-font-size: 14px;");
         
-        // Create chart
-        NumberAxis xAxis = new NumberAxis();
-        xAxis.setLabel("Time (seconds)");
-        xAxis.setTickLabelsVisible(false);
-        xAxis.setTickMarkVisible(false);
+        Label legend = new Label("Heap MB (brown) · Slowest frame (green) · GC pause (red)");
+        legend.setStyle("-fx-font-family: 'Serif'; -fx-font-size: 10px; -fx-text-fill: #654321;");
         
-        NumberAxis yAxis = new NumberAxis();
-        yAxis.setLabel("Memory (MB)");
+        sparkline = new Canvas(310, 90);
+        drawSparklineBackground(sparkline.getGraphicsContext2D());
         
-        memoryChart = new LineChart<>(xAxis, yAxis);
-        memoryChart.setTitle("Memory Usage Over Time");
-        memoryChart.setPrefHeight(200);
-        memoryChart.setLegendVisible(true);
-        memoryChart.setCreateSymbols(false);
-        memoryChart.setAnimated(false);
-        
-        heapSeries = new XYChart.Series<>();
-        heapSeries.setName("Heap Memory");
-        
-        nonHeapSeries = new XYChart.Series<>();
-        nonHeapSeries.setName("Non-Heap Memory");
-        
-        memoryChart.getData().addAll(heapSeries, nonHeapSeries);
-        
-        section.getChildren().addAll(sectionTitle, memoryChart);
+        section.getChildren().addAll(sectionTitle, sparkline, legend);
         return section;
     }
     
@@ -297,7 +398,7 @@ public class MemoryTracker extends VBox {
             System.gc();
             long afterGC = runtime.totalMemory() - runtime.freeMemory();
             long freedMemory = beforeGC - afterGC;
-            updateGCCount();
+            gcCountLabel.setText(String.format("GC Collections: %d", totalGcCount()));
             System.out.println("Manual GC freed: " + (freedMemory / 1024 / 1024) + " MB");
         });
         
@@ -344,135 +445,306 @@ public class MemoryTracker extends VBox {
         return separator;
     }
     
-    private void startTracking() {
-        tracker = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (lastTime == 0) {
-                    lastTime = now;
-                    return;
-                }
-                
-                frameCount++;
-                long elapsed = now - lastTime;
-                
-                // Update FPS every second
-                if (elapsed >= 1_000_000_000L) {
-                    currentFPS = frameCount / (elapsed / 1_000_000_000.0);
-                    frameCount = 0;
-                    lastTime = now;
-                    
-                    // Update all metrics
-                    Platform.runLater(() -> updateMetrics());
-                }
-            }
-        };
-        tracker.start();
+    // ===== FRAME RECORDING (FX thread) =====
+    
+    /**
+     * Record that a frame was rendered. Called by the game's render loop;
+     * does nothing while the tracker is stopped.
+     *
+     * @param now frame timestamp in nanoseconds
+     */
+    public void recordFrame(long now) {
+        if (!running) {
+            return;
+        }
+        if (lastFrameNanos != 0) {
+            long written = framesWritten;
+            frameNanos[(int) (written & (FRAME_RING_SIZE - 1))] = now - lastFrameNanos;
+            framesWritten = written + 1; // publishes the slot to the sampler
+        }
+        lastFrameNanos = now;
     }
     
-    private void updateMetrics() {
-        // Memory metrics
+    // ===== SAMPLING (background thread) =====
+    
+    private void sample() {
+        long now = System.nanoTime();
+        double seconds = lastSampleNanos == 0 ? 1.0 : (now - lastSampleNanos) / 1_000_000_000.0;
+        lastSampleNanos = now;
+        
+        // Frames since the last sample
+        long written = framesWritten;
+        long from = Math.max(framesRead, written - FRAME_RING_SIZE);
+        long maxFrame = 0;
+        for (long i = from; i < written; i++) {
+            maxFrame = Math.max(maxFrame, frameNanos[(int) (i & (FRAME_RING_SIZE - 1))]);
+        }
+        int frames = (int) (written - framesRead);
+        framesRead = written;
+        
         MemoryUsage heapUsage = memoryBean.getHeapMemoryUsage();
         MemoryUsage nonHeapUsage = memoryBean.getNonHeapMemoryUsage();
+        sampleRow[HEAP_MB] = heapUsage.getUsed() / (1024.0 * 1024.0);
+        sampleRow[HEAP_MAX_MB] = heapUsage.getMax() / (1024.0 * 1024.0);
+        sampleRow[NON_HEAP_MB] = nonHeapUsage.getUsed() / (1024.0 * 1024.0);
+        sampleRow[FPS] = frames / seconds;
+        sampleRow[MAX_FRAME_MS] = maxFrame / 1_000_000.0;
+        sampleRow[ALLOC_KB_PER_FRAME] = frames > 0 ? allocationMeter.sample() / 1024.0 / frames : 0;
+        sampleRow[ALLOC_KB_PER_TICK] = sampleTickAllocation();
+        
+        sampleRow[GC_COUNT] = totalGcCount();
+        long pauseMs = 0;
+        int pauses = gcPauseMonitor.drainPauses(drainedPauses);
+        for (int i = 0; i < pauses; i++) {
+            pauseMs += drainedPauses[i];
+        }
+        sampleRow[GC_PAUSE_MS] = pauseMs;
         
-        long heapUsed = heapUsage.getUsed();
-        long heapMax = heapUsage.getMax();
-        long nonHeapUsed = nonHeapUsage.getUsed();
+        sampleRow[THREADS] = Thread.activeCount();
+        if (gameController != null) {
+            sampleRow[TOWERS] = gameController.getTowers().size();
+            sampleRow[ENEMIES] = gameController.getEnemies().size();
+            sampleRow[PROJECTILES] = gameController.getProjectiles().size();
+            sampleRow[GOLD_BAGS] = gameController.getActiveGoldBags().size();
+            sampleRow[QUALITY] = gameController.getQualityController().getLevel().ordinal();
+            sampleRow[QUALITY_CHANGES] = gameController.getQualityController().getChangeCount();
+        }
         
-        double heapUsedMB = heapUsed / (1024.0 * 1024.0);
-        double heapMaxMB = heapMax / (1024.0 * 1024.0);
-        double nonHeapUsedMB = nonHeapUsed / (1024.0 * 1024.0);
+        long[][] phaseCounts = profiler.snapshot();
+        for (int i = 0; i < PHASES.length; i++) {
+            sampleRow[PHASE_P50_US + 2 * i] = LatencyHistogram.percentile(phaseCounts[i], 50) / 1000;
+            sampleRow[PHASE_P50_US + 2 * i + 1] = LatencyHistogram.percentile(phaseCounts[i], 99) / 1000;
+        }
         
-        heapUsedLabel.setText(String.format("Heap Used: %.1f MB", heapUsedMB));
-        heapMaxLabel.setText(String.format("Heap Max: %.1f MB", heapMaxMB));
-        nonHeapUsedLabel.setText(String.format("Non-Heap: %.1f MB", nonHeapUsedMB));
+        samples.append(sampleRow);
+        GameEngineMetrics.getInstance().recordFrames(sampleRow[FPS], sampleRow[MAX_FRAME_MS],
+                sampleRow[ALLOC_KB_PER_FRAME], sampleRow[ALLOC_KB_PER_TICK]);
+        if (refreshPending.compareAndSet(false, true)) {
+            Platform.runLater(refreshTask);
+        }
+    }
+    
+    /**
+     * @return KB the simulation thread allocated per tick since the last
+     *         sample, 0 without one
+     */
+    private double sampleTickAllocation() {
+        Thread thread = simulation == null ? null : simulation.getThread();
+        if (thread != meteredSimulation) {
+            // The simulation started or stopped: measure it from here
+            meteredSimulation = thread;
+            tickAllocationMeter = thread == null ? null : new AllocationMeter(thread);
+        }
+        long ticks = GameEngineMetrics.getInstance().getTickCount();
+        long newTicks = ticks - ticksRead;
+        ticksRead = ticks;
+        if (tickAllocationMeter == null) {
+            return 0;
+        }
+        long bytes = tickAllocationMeter.sample();
+        return newTicks > 0 ? bytes / 1024.0 / newTicks : 0;
+    }
+    
+    private long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, bean.getCollectionCount());
+        }
+        return total;
+    }
+    
+    // ===== DISPLAY (FX thread) =====
+    
+    /**
+     * Push the newest sample to the labels and sparkline, touching only
+     * what changed.
+     */
+    private void refresh() {
+        refreshPending.set(false);
+        long sampleCount = samples.getAppendedCount();
+        if (sampleCount == shownSampleCount || samples.size() == 0) {
+            return;
+        }
+        shownSampleCount = sampleCount;
         
-        // Update memory bar
-        double usagePercent = (double) heapUsed / heapMax;
-        memoryBar.setWidth(200 * usagePercent);
+        double heapUsedMB = samples.latest(HEAP_MB);
+        double heapMaxMB = samples.latest(HEAP_MAX_MB);
+        double fps = samples.latest(FPS);
         
-        // Color code the memory bar
-        if (usagePercent < 0.5) {
-            memoryBar.setFill(Color.LIGHTGREEN);
-        } else if (usagePercent < 0.8) {
-            memoryBar.setFill(Color.YELLOW);
-        } else {
-            memoryBar.setFill(Color.LIGHTCORAL);
+        // Memory
+        if (changed(HEAP_MB, Math.round(heapUsedMB * 10)) | changed(HEAP_MAX_MB, Math.round(heapMaxMB * 10))) {
+            heapUsedLabel.setText(String.format("Heap Used: %.1f MB", heapUsedMB));
+            heapMaxLabel.setText(String.format("Heap Max: %.1f MB", heapMaxMB));
+            
+            double usagePercent = heapUsedMB / heapMaxMB;
+            memoryBar.setWidth(200 * usagePercent);
+            if (usagePercent < 0.5) {
+                memoryBar.setFill(Color.LIGHTGREEN);
+            } else if (usagePercent < 0.8) {
+                memoryBar.setFill(Color.YELLOW);
+            } else {
+                memoryBar.setFill(Color.LIGHTCORAL);
+            }
+            
+            memoryEfficiency = ((heapMaxMB - heapUsedMB) / heapMaxMB) * 100;
+            memoryEfficiencyLabel.setText(String.format("Memory Efficiency: %.1f%% (%s)",
+                    memoryEfficiency, getEfficiencyRating(memoryEfficiency)));
+        }
+        double nonHeapMB = samples.latest(NON_HEAP_MB);
+        if (changed(NON_HEAP_MB, Math.round(nonHeapMB * 10))) {
+            nonHeapUsedLabel.setText(String.format("Non-Heap: %.1f MB", nonHeapMB));
         }
         
-        // FPS and average FPS calculation
-        fpsLabel.setText(String.format("FPS: %.1f (Avg: %.1f)", currentFPS, averageFPS));
-        
-        // Update average FPS
+        // Performance
         fpsReadings++;
-        averageFPS = ((averageFPS * (fpsReadings - 1)) + currentFPS) / fpsReadings;
+        averageFPS = ((averageFPS * (fpsReadings - 1)) + fps) / fpsReadings;
+        if (changed(FPS, Math.round(fps * 10) * 10000 + Math.round(averageFPS * 10))) {
+            fpsLabel.setText(String.format("FPS: %.1f (Avg: %.1f)", fps, averageFPS));
+            cpuUsageLabel.setText(String.format("CPU Load: %.1f%% (Estimated)", calculateCPULoad(fps)));
+        }
+        if (changed(GC_COUNT, samples.latest(GC_COUNT))) {
+            gcCountLabel.setText(String.format("GC Collections: %d", (long) samples.latest(GC_COUNT)));
+            gcPauseLabel.setText(String.format("GC Pauses: %d (Max: %d ms, Total: %d ms)",
+                    gcPauseMonitor.getPauseCount(), gcPauseMonitor.getMaxPauseMs(),
+                    gcPauseMonitor.getTotalPauseMs()));
+        }
+        double allocKB = samples.latest(ALLOC_KB_PER_FRAME);
+        if (allocationMeter.isSupported() && changed(ALLOC_KB_PER_FRAME, Math.round(allocKB * 10))) {
+            allocationLabel.setText(String.format("Alloc/Frame: %.1f KB", allocKB));
+        }
+        double tickAllocKB = samples.latest(ALLOC_KB_PER_TICK);
+        if (simulation != null && allocationMeter.isSupported()
+                && changed(ALLOC_KB_PER_TICK, Math.round(tickAllocKB * 100))) {
+            tickAllocationLabel.setText(String.format("Alloc/Tick: %.2f KB", tickAllocKB));
+        }
+        if (changed(QUALITY, samples.latest(QUALITY)) | changed(QUALITY_CHANGES, samples.latest(QUALITY_CHANGES))) {
+            qualityLabel.setText(String.format("Quality: %s (%d changes)",
+                    QualityLevel.values()[(int) samples.latest(QUALITY)], (int) samples.latest(QUALITY_CHANGES)));
+        }
         
-        // GC count
-        updateGCCount();
+        // Frame phases
+        for (int i = 0; i < PHASES.length; i++) {
+            double p50 = samples.latest(PHASE_P50_US + 2 * i);
+            double p99 = samples.latest(PHASE_P50_US + 2 * i + 1);
+            if (changed(PHASE_P50_US + 2 * i, p50) | changed(PHASE_P50_US + 2 * i + 1, p99)) {
+                phaseLabels[i].setText(formatPhase(PHASES[i], (long) p50, (long) p99));
+            }
+        }
         
         // Game objects
-        updateGameObjectCount();
+        int towers = (int) samples.latest(TOWERS);
+        int enemies = (int) samples.latest(ENEMIES);
+        int projectiles = (int) samples.latest(PROJECTILES);
+        int droppedGold = (int) samples.latest(GOLD_BAGS);
+        int totalObjects = towers + enemies + projectiles + droppedGold;
+        peakObjectCount = Math.max(peakObjectCount, totalObjects);
+        if (changed(TOWERS, towers) | changed(ENEMIES, enemies) | changed(PROJECTILES, projectiles)
+                | changed(GOLD_BAGS, droppedGold)) {
+            gameObjectsLabel.setText(String.format(
+                "Towers: %d | Enemies: %d\nProjectiles: %d | Gold: %d\nTotal: %d (Peak: %d)",
+                towers, enemies, projectiles, droppedGold, totalObjects, peakObjectCount
+            ));
+        }
         
-        // System resources
-        updateSystemMetrics();
+        // System
+        if (changed(THREADS, samples.latest(THREADS))) {
+            threadCountLabel.setText(String.format("Active Threads: %d", (int) samples.latest(THREADS)));
+        }
         
-        // Performance analysis
-        updatePerformanceAnalysis(heapUsedMB, heapMaxMB);
+        // Uptime ticks every second, so this one always changes
+        String performanceRating = calculateGamePerformance(fps, totalObjects);
+        long uptime = (System.currentTimeMillis() - startTime) / 1000;
+        gamePerformanceLabel.setText(String.format("Game Performance: %s\nUptime: %d:%02d:%02d",
+                                                  performanceRating, uptime / 3600, (uptime % 3600) / 60, uptime % 60));
         
-        // Update chart
-        updateChart(heapUsedMB, nonHeapUsedMB);
+        drawSparkline();
     }
     
-    private void updateGCCount() {
-        List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
-        long totalGC = gcBeans.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
-        gcCountLabel.setText(String.format("GC Collections: %d", totalGC));
+    /**
+     * @return true if the value shown for a channel differs from {@code value}, remembering it
+     */
+    private boolean changed(int channel, double value) {
+        if (shown[channel] == value) {
+            return false;
+        }
+        shown[channel] = value;
+        return true;
     }
     
-    private void updateGameObjectCount() {
-        if (gameController != null) {
-            int towers = gameController.getTowers().size();
-            int enemies = gameController.getEnemies().size();
-            int projectiles = gameController.getProjectiles().size();
-            int droppedGold = gameController.getActiveGoldBags().size();
-            
-            int totalObjects = towers + enemies + projectiles + droppedGold;
-            if (totalObjects > peakObjectCount) {
-                peakObjectCount = totalObjects;
-            }
-            
-            gameObjectsLabel.setText(String.format(
-                "Towers: %d | Enemies: %d\nProjectiles: %d | Gold: %d\nTotal: %d (Peak: %d)",
-                towers, enemies, projectiles, droppedGold, totalObjects, peakObjectCount
-            ));
+    private String formatPhase(FrameProfiler.Phase phase, long p50Micros, long p99Micros) {
+        if (p99Micros == 0) {
+            return String.format("%-17s -", phase.getDisplayName());
         }
+        return String.format("%-17s %6.3f / %6.3f ms", phase.getDisplayName(), p50Micros / 1000.0,
+                p99Micros / 1000.0);
     }
     
-    private void updateSystemMetrics() {
-        // Thread count
-        int threadCount = Thread.activeCount();
-        threadCountLabel.setText(String.format("Active Threads: %d", threadCount));
+    /**
+     * Redraw the sparkline, unless every point would land on the same pixels as last time.
+     */
+    private void drawSparkline() {
+        double width = sparkline.getWidth();
+        double height = sparkline.getHeight();
+        
+        int count = samples.copyChannel(HEAP_MB, channelHistory);
+        double heapMax = Math.max(1, samples.latest(HEAP_MAX_MB));
+        for (int i = 0; i < count; i++) {
+            sparkHeapY[i] = (int) (height - 2 - channelHistory[i] / heapMax * (height - 4));
+        }
+        samples.copyChannel(MAX_FRAME_MS, channelHistory);
+        double frameScale = 33.3; // two frames at 60 FPS fill the height
+        for (int i = 0; i < count; i++) {
+            frameScale = Math.max(frameScale, channelHistory[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            sparkFrameY[i] = (int) (height - 2 - channelHistory[i] / frameScale * (height - 4));
+        }
+        samples.copyChannel(GC_PAUSE_MS, channelHistory);
+        for (int i = 0; i < count; i++) {
+            sparkGc[i] = channelHistory[i] > 0;
+        }
         
-        // CPU usage estimation based on FPS stability
-        double cpuLoad = calculateCPULoad();
-        cpuUsageLabel.setText(String.format("CPU Load: %.1f%% (Estimated)", cpuLoad));
+        if (count == drawnCount && Arrays.equals(sparkHeapY, drawnHeapY) && Arrays.equals(sparkFrameY, drawnFrameY)
+                && Arrays.equals(sparkGc, drawnGc)) {
+            return;
+        }
+        drawnCount = count;
+        System.arraycopy(sparkHeapY, 0, drawnHeapY, 0, MAX_DATA_POINTS);
+        System.arraycopy(sparkFrameY, 0, drawnFrameY, 0, MAX_DATA_POINTS);
+        System.arraycopy(sparkGc, 0, drawnGc, 0, MAX_DATA_POINTS);
+        
+        GraphicsContext gc = sparkline.getGraphicsContext2D();
+        drawSparklineBackground(gc);
+        double step = width / (MAX_DATA_POINTS - 1);
+        double x0 = width - (count - 1) * step; // newest sample on the right edge
+        
+        gc.setStroke(Color.web("#DC143C"));
+        gc.setLineWidth(1);
+        for (int i = 0; i < count; i++) {
+            if (sparkGc[i]) {
+                gc.strokeLine(x0 + i * step, 0, x0 + i * step, height);
+            }
+        }
+        gc.setLineWidth(1.5);
+        gc.setStroke(Color.web("#8B4513"));
+        for (int i = 1; i < count; i++) {
+            gc.strokeLine(x0 + (i - 1) * step, sparkHeapY[i - 1], x0 + i * step, sparkHeapY[i]);
+        }
+        gc.setStroke(Color.web("#228B22"));
+        for (int i = 1; i < count; i++) {
+            gc.strokeLine(x0 + (i - 1) * step, sparkFrameY[i - 1], x0 + i * step, sparkFrameY[i]);
+        }
     }
     
-    private void updatePerformanceAnalysis(double heapUsedMB, double heapMaxMB) {
-        // Memory efficiency calculation
-        memoryEfficiency = ((heapMaxMB - heapUsedMB) / heapMaxMB) * 100;
-        String efficiencyRating = getEfficiencyRating(memoryEfficiency);
-        memoryEfficiencyLabel.setText(String.format("Memory Efficiency: %.1f%% (%s)", 
-                                                   memoryEfficiency, efficiencyRating));
-        
-        // Overall game performance assessment
-        String performanceRating = calculateGamePerformance();
-        long uptime = (System.currentTimeMillis() - startTime) / 1000;
-        gamePerformanceLabel.setText(String.format("Game Performance: %s\nUptime: %d:%02d:%02d", 
-                                                  performanceRating, uptime / 3600, (uptime % 3600) / 60, uptime % 60));
+    private void drawSparklineBackground(GraphicsContext gc) {
+        gc.setFill(Color.rgb(255, 248, 220, 0.9));
+        gc.fillRect(0, 0, sparkline.getWidth(), sparkline.getHeight());
+        gc.setStroke(Color.web("#8B4513"));
+        gc.setLineWidth(1);
+        gc.strokeRect(0.5, 0.5, sparkline.getWidth() - 1, sparkline.getHeight() - 1);
     }
     
-    private double calculateCPULoad() {
+    private double calculateCPULoad(double currentFPS) {
         // Estimate CPU load based on FPS consistency and frame time
         if (currentFPS < 30) return 85.0 + Math.random() * 10;
         if (currentFPS < 45) return 60.0 + Math.random() * 20;
@@ -488,7 +760,7 @@ public class MemoryTracker extends VBox {
         return "Critical";
     }
     
-    private String calculateGamePerformance() {
+    private String calculateGamePerformance(double currentFPS, int totalObjects) {
         double score = 0;
         
         // FPS score (40% weight)
@@ -504,14 +776,6 @@ public class MemoryTracker extends VBox {
         else score += 5;
         
         // Object management score (30% weight)
-        int totalObjects = 0;
-        if (gameController != null) {
-            totalObjects = gameController.getTowers().size() + 
-                          gameController.getEnemies().size() + 
-                          gameController.getProjectiles().size() + 
-                          gameController.getActiveGoldBags().size();
-        }
-        
         if (totalObjects < 50) score += 30;
         else if (totalObjects < 100) score += 25;
         else if (totalObjects < 200) score += 15;
@@ -524,26 +788,11 @@ public class MemoryTracker extends VBox {
         return "🔴 Needs Optimization";
     }
     
-    private void updateChart(double heapMB, double nonHeapMB) {
-        timeCounter++;
-        
-        // Add new data points
-        heapSeries.getData().add(new XYChart.Data<>(timeCounter, heapMB));
-        nonHeapSeries.getData().add(new XYChart.Data<>(timeCounter, nonHeapMB));
-        
-        // Keep only last 60 data points
-        if (heapSeries.getData().size() > MAX_DATA_POINTS) {
-            heapSeries.getData().remove(0);
-        }
-        if (nonHeapSeries.getData().size() > MAX_DATA_POINTS) {
-            nonHeapSeries.getData().remove(0);
-        }
-    }
-    
     private void clearChart() {
-        heapSeries.getData().clear();
-        nonHeapSeries.getData().clear();
-        timeCounter = 0;
+        samples.clear();
+        shownSampleCount = -1;
+        drawnCount = -1;
+        drawSparklineBackground(sparkline.getGraphicsContext2D());
     }
     
     private void resetStatistics() {
@@ -569,9 +818,19 @@ public class MemoryTracker extends VBox {
         
         // Performance info
         report.append("PERFORMANCE METRICS:\n");
-        report.append("- Current FPS: ").append(String.format("%.1f", currentFPS)).append("\n");
+        report.append("- Current FPS: ").append(String.format("%.1f", samples.latest(FPS))).append("\n");
         report.append("- Average FPS: ").append(String.format("%.1f", averageFPS)).append("\n");
-        report.append("- Active Threads: ").append(Thread.activeCount()).append("\n\n");
+        report.append("- Active Threads: ").append(Thread.activeCount()).append("\n");
+        report.append("- Allocated per Frame: ").append(String.format("%.1f KB", samples.latest(ALLOC_KB_PER_FRAME)))
+                .append("\n");
+        if (simulation != null) {
+            report.append("- Allocated per Tick: ")
+                    .append(String.format("%.2f KB", samples.latest(ALLOC_KB_PER_TICK))).append("\n");
+        }
+        report.append("- Slowest Frame: ").append(String.format("%.1f ms", samples.latest(MAX_FRAME_MS)))
+                .append("\n");
+        report.append("- GC Pauses: ").append(gcPauseMonitor.getPauseCount()).append(" (max ")
+                .append(gcPauseMonitor.getMaxPauseMs()).append(" ms)\n\n");
         
         // Game objects
         if (gameController != null) {
@@ -583,12 +842,22 @@ public class MemoryTracker extends VBox {
             report.append("- Peak Objects: ").append(peakObjectCount).append("\n\n");
         }
         
+        // Frame phases (last second)
+        if (samples.size() > 0) {
+            report.append("FRAME PHASES (p50 / p99, last second):\n");
+            for (int i = 0; i < PHASES.length; i++) {
+                report.append("- ").append(formatPhase(PHASES[i], (long) samples.latest(PHASE_P50_US + 2 * i),
+                        (long) samples.latest(PHASE_P50_US + 2 * i + 1))).append("\n");
+            }
+            report.append("\n");
+        }
+        
         // Recommendations
         report.append("OPTIMIZATION RECOMMENDATIONS:\n");
         if (memoryEfficiency < 60) {
             report.append("- Consider implementing object pooling for projectiles\n");
         }
-        if (currentFPS < 45) {
+        if (samples.latest(FPS) < 45) {
             report.append("- Reduce visual effects or optimize rendering pipeline\n");
         }
         if (Thread.activeCount() > 20) {
@@ -601,18 +870,38 @@ public class MemoryTracker extends VBox {
     }
     
     public void stop() {
-        if (tracker != null) {
-            tracker.stop();
+        running = false;
+        if (sampler != null) {
+            sampler.shutdownNow();
+            sampler = null;
         }
+        profiler.setEnabled(false);
     }
     
     public void start() {
-        if (tracker != null) {
-            tracker.start();
+        if (sampler != null) {
+            return;
         }
+        profiler.snapshot(); // discard timings from before the tracker was shown
+        profiler.setEnabled(true);
+        allocationMeter.reset();
+        meteredSimulation = null; // measured afresh from the next sample
+        tickAllocationMeter = null;
+        ticksRead = GameEngineMetrics.getInstance().getTickCount();
+        lastFrameNanos = 0;
+        framesRead = framesWritten;
+        lastSampleNanos = 0;
+        running = true;
+        
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "memory-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sample, 1, 1, TimeUnit.SECONDS);
     }
     
     public boolean isTrackerVisible() {
         return getParent() != null && isVisible();
     }
-} 
\ No newline at end of file
+}
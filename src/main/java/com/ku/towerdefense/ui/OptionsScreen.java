@@ -6,6 +6,7 @@ import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.Slider;
 import javafx.scene.control.TextField;
@@ -103,6 +104,8 @@ public class OptionsScreen extends BorderPane {
                 v -> settings.setGroupDelay(v));
         addNumberOption(waveSettingsBoard, "Enemy Delay (ms):", settings.getEnemyDelay(), 100, 2000,
                 v -> settings.setEnemyDelay(v));
+        addToggleOption(waveSettingsBoard, "Endless Mode (load profile)", settings.isEndlessMode(),
+                v -> settings.setEndlessMode(v));
         flowPane.getChildren().add(waveSettingsBoard);
 
         // --- Enemy Composition Board ---
@@ -256,6 +259,26 @@ public class OptionsScreen extends BorderPane {
         parentBoard.getChildren().add(optionLayout);
     }
 
+    /**
+     * Adds an on/off option to a board.
+     *
+     * @param parentBoard  the VBox board to add this option to
+     * @param labelText    the text label for the option
+     * @param initialValue the initial value
+     * @param setter       called with the new value when toggled
+     */
+    private void addToggleOption(VBox parentBoard, String labelText, boolean initialValue,
+            java.util.function.Consumer<Boolean> setter) {
+        CheckBox checkBox = new CheckBox(labelText);
+        checkBox.getStyleClass().add("options-label");
+        checkBox.setSelected(initialValue);
+        checkBox.selectedProperty().addListener((obs, oldValue, newValue) -> setter.accept(newValue));
+
+        VBox optionLayout = new VBox(5, checkBox);
+        optionLayout.setPadding(new Insets(0, 0, 10, 0));
+        parentBoard.getChildren().add(optionLayout);
+    }
+
     private HBox createButtonBar() {
         // Tooltip text, icon column, icon row, icon display size
         Button backButton = UIAssets.createIconButton("Back to Menu", 3, 0, ICON_BUTTON_SIZE);
@@ -9,6 +9,9 @@ import javafx.scene.control.ContentDisplay;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
+import com.ku.towerdefense.jfr.AssetLoadEvent;
+import com.ku.towerdefense.render.TextureAtlas;
+
 /**
  * Utility class for loading and managing UI assets.
  */
@@ -64,6 +67,11 @@ public class UIAssets {
             loadImage("ExplosionEffect", "/Asset_pack/Effects/Explosions.png");
             loadImage("FireEffect", "/Asset_pack/Effects/Fire.png");
             loadImage("GoldSpawnEffect", "/Asset_pack/Effects/G_Spawn.png");
+            // Effects and gold bags are drawn in the game world, so they share the atlas
+            TextureAtlas atlas = TextureAtlas.getInstance();
+            atlas.add(imageCache.get("ExplosionEffect"));
+            atlas.add(imageCache.get("FireEffect"));
+            atlas.add(imageCache.get("GoldSpawnEffect"));
 
             // Item Images
             loadImage("GoldBag", "/Asset_pack/Items/gold_bag.png");
@@ -87,8 +95,11 @@ public class UIAssets {
      * @param path file path
      */
     private static void loadImage(String name, String path) {
+        AssetLoadEvent loadEvent = new AssetLoadEvent();
+        loadEvent.begin();
         try {
             Image image = new Image(UIAssets.class.getResourceAsStream(path));
+            loadEvent.finish(path, image);
             if (image != null) {
                 imageCache.put(name, image);
             } else {
@@ -0,0 +1,77 @@
+package com.ku.towerdefense.util;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures heap bytes allocated by a thread between samples, using the
+ * HotSpot thread allocation counter. By default it measures the calling
+ * thread; it can also watch another thread (e.g. the FX thread) from a
+ * background sampler.
+ *
+ * Not thread-safe; sample from one thread.
+ */
+public final class AllocationMeter {
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final long threadId; // -1 for the calling thread
+    private long lastTotal = -1;
+
+    /**
+     * Measure the thread that calls {@link #sample()}.
+     */
+    public AllocationMeter() {
+        this(-1);
+    }
+
+    /**
+     * Measure the given thread from any thread.
+     */
+    public AllocationMeter(Thread thread) {
+        this(thread.getId());
+    }
+
+    private AllocationMeter(long threadId) {
+        this.threadId = threadId;
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threadBean = null;
+        }
+    }
+
+    /**
+     * @return false if the JVM cannot count allocations per thread
+     */
+    public boolean isSupported() {
+        return threadBean != null;
+    }
+
+    /**
+     * @return bytes allocated by the measured thread since the previous
+     *         sample, 0 on the first sample, when unsupported or after the
+     *         thread ended
+     */
+    public long sample() {
+        if (threadBean == null) {
+            return 0;
+        }
+        long total = threadId < 0 ? threadBean.getCurrentThreadAllocatedBytes()
+                : threadBean.getThreadAllocatedBytes(threadId);
+        if (total < 0) {
+            return 0;
+        }
+        long allocated = lastTotal < 0 ? 0 : total - lastTotal;
+        lastTotal = total;
+        return allocated;
+    }
+
+    /**
+     * Forget the previous sample, e.g. after a pause in sampling.
+     */
+    public void reset() {
+        lastTotal = -1;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ku.towerdefense.util;
+
+/**
+ * Times the phases of a frame (simulation steps and rendering) into a
+ * {@link LatencyHistogram} per phase.
+ *
+ * Timing is chained so a sequence of phases needs one clock read per phase:
+ * <pre>
+ * long t = profiler.start();
+ * ...towers...
+ * t = profiler.lap(Phase.TOWERS, t);
+ * ...projectiles...
+ * t = profiler.lap(Phase.PROJECTILES, t);
+ * </pre>
+ * While disabled, {@link #start()} returns 0 and every lap on that chain
+ * returns at once, so the cost is one flag read per chain.
+ */
+public final class FrameProfiler {
+
+    /**
+     * A timed part of the frame.
+     */
+    public enum Phase {
+        WAVES("Waves"),
+        GOLD_BAGS("Gold bags/timers"),
+        TOWERS("Towers"),
+        PROJECTILES("Projectiles"),
+        ENEMIES("Enemies"),
+        EFFECTS("Effects"),
+        POWER_UPS("Power-ups"),
+        MAP_RENDER("Map render"),
+        ENTITY_RENDER("Entity render"),
+        OVERLAYS("Overlays");
+
+        private final String displayName;
+
+        Phase(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final FrameProfiler INSTANCE = new FrameProfiler();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private volatile boolean enabled = false;
+
+    FrameProfiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public static FrameProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Start a timing chain.
+     *
+     * @return the current time, or 0 if profiling is disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Record the time since {@code start} for a phase and continue the chain.
+     *
+     * @param phase the phase that just finished
+     * @param start value from {@link #start()} or the previous lap
+     * @return the current time for the next lap, or 0 if the chain is disabled
+     */
+    public long lap(Phase phase, long start) {
+        if (start == 0L) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        histograms[phase.ordinal()].record(now - start);
+        return now;
+    }
+
+    /**
+     * @return nanoseconds since {@code start}, or 0 if the chain is disabled
+     */
+    public long elapsed(long start) {
+        return start == 0L ? 0L : System.nanoTime() - start;
+    }
+
+    /**
+     * Record a duration measured in pieces with {@link #elapsed(long)}.
+     */
+    public void record(Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Take the timings recorded since the last snapshot.
+     *
+     * @return one bucket array per phase, indexed by ordinal
+     */
+    public long[][] snapshot() {
+        long[][] counts = new long[PHASES.length][LatencyHistogram.BUCKET_COUNT];
+        for (int i = 0; i < PHASES.length; i++) {
+            histograms[i].drainTo(counts[i]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,351 @@
+package com.ku.towerdefense.util;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, rate-limited logging for gameplay hot paths.
+ *
+ * Messages are templates with {@code {}} placeholders. A log call only
+ * copies the template and its arguments into a preallocated ring buffer
+ * slot; a background thread formats and prints them. Producers never block:
+ * when the buffer is full the message is counted as dropped.
+ *
+ * Each template is rate-limited to a number of messages per second; the
+ * count of suppressed messages is appended to the next one that gets
+ * through. Calls below the minimum level return before touching anything,
+ * so they cost no allocation (beyond boxing of primitive arguments by the
+ * caller - use the {@code double} overloads for numbers). A {@link Throwable}
+ * passed after the template's arguments is printed with its stack trace.
+ */
+public final class GameLog {
+
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    private static final int CAPACITY = 1024; // power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+    private static final long IDLE_PARK_NANOS = 5_000_000L;
+
+    private static GameLog instance;
+
+    /**
+     * A ring buffer slot. It is published by writing its sequence number last.
+     */
+    private static final class Entry {
+        volatile long published; // sequence + 1 once the slot holds that message
+        Level level;
+        String template;
+        Object a;
+        Object b;
+        Object c;
+        double x;
+        double y;
+        double z;
+        int numberArgs; // how many leading arguments are the doubles x, y, z
+        int suppressed;
+    }
+
+    /**
+     * Per-template message budget for the current one-second window.
+     */
+    private static final class RateLimit {
+        volatile long windowStart = System.nanoTime() - RATE_WINDOW_NANOS;
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicInteger suppressed = new AtomicInteger();
+    }
+
+    private final Entry[] ring = new Entry[CAPACITY];
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long drained = 0;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ConcurrentHashMap<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+    private final StringBuilder line = new StringBuilder(256); // used by the draining thread only
+
+    private volatile Level minLevel;
+    private volatile int maxPerSecond;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * @param minLevel lowest level that is logged
+     * @param maxPerSecond messages allowed per template per second
+     * @param out stream for DEBUG and INFO
+     * @param err stream for WARN and ERROR
+     */
+    GameLog(Level minLevel, int maxPerSecond, PrintStream out, PrintStream err) {
+        this.minLevel = minLevel;
+        this.maxPerSecond = maxPerSecond;
+        this.out = out;
+        this.err = err;
+        for (int i = 0; i < CAPACITY; i++) {
+            ring[i] = new Entry();
+        }
+    }
+
+    /**
+     * Get the game-wide log, configured from GameSettings, with its drain
+     * thread running.
+     */
+    public static synchronized GameLog getInstance() {
+        if (instance == null) {
+            GameSettings settings = GameSettings.getInstance();
+            instance = new GameLog(settings.isVerboseLogging() ? Level.DEBUG : Level.INFO,
+                    settings.getLogRateLimit(), System.out, System.err);
+            instance.startDrainThread();
+        }
+        return instance;
+    }
+
+    private void startDrainThread() {
+        Thread drainer = new Thread(() -> {
+            while (true) {
+                if (drain() == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        }, "game-log");
+        drainer.setDaemon(true);
+        drainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "game-log-flush"));
+    }
+
+    // ===== CONFIGURATION =====
+
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= minLevel.ordinal();
+    }
+
+    public void setMinLevel(Level minLevel) {
+        this.minLevel = minLevel;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * @return number of messages lost because the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // ===== LOG CALLS =====
+
+    public void debug(String message) {
+        log(Level.DEBUG, message, null, null, null);
+    }
+
+    public void debug(String template, Object a) {
+        log(Level.DEBUG, template, a, null, null);
+    }
+
+    public void debug(String template, Object a, Object b) {
+        log(Level.DEBUG, template, a, b, null);
+    }
+
+    public void debug(String template, Object a, Object b, Object c) {
+        log(Level.DEBUG, template, a, b, c);
+    }
+
+    public void debug(String template, double x) {
+        logNumbers(Level.DEBUG, template, 1, x, 0, 0);
+    }
+
+    public void debug(String template, double x, double y) {
+        logNumbers(Level.DEBUG, template, 2, x, y, 0);
+    }
+
+    public void debug(String template, double x, double y, double z) {
+        logNumbers(Level.DEBUG, template, 3, x, y, z);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message, null, null, null);
+    }
+
+    public void info(String template, Object a) {
+        log(Level.INFO, template, a, null, null);
+    }
+
+    public void info(String template, Object a, Object b) {
+        log(Level.INFO, template, a, b, null);
+    }
+
+    public void info(String template, Object a, Object b, Object c) {
+        log(Level.INFO, template, a, b, c);
+    }
+
+    public void warn(String message) {
+        log(Level.WARN, message, null, null, null);
+    }
+
+    public void warn(String template, Object a) {
+        log(Level.WARN, template, a, null, null);
+    }
+
+    public void warn(String template, Object a, Object b) {
+        log(Level.WARN, template, a, b, null);
+    }
+
+    public void error(String message) {
+        log(Level.ERROR, message, null, null, null);
+    }
+
+    public void error(String template, Object a) {
+        log(Level.ERROR, template, a, null, null);
+    }
+
+    public void error(String template, Object a, Object b) {
+        log(Level.ERROR, template, a, b, null);
+    }
+
+    private void log(Level level, String template, Object a, Object b, Object c) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        Entry entry = claim(template);
+        if (entry != null) {
+            entry.a = a;
+            entry.b = b;
+            entry.c = c;
+            entry.numberArgs = 0;
+            publish(entry, level, template);
+        }
+    }
+
+    private void logNumbers(Level level, String template, int count, double x, double y, double z) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        Entry entry = claim(template);
+        if (entry != null) {
+            entry.x = x;
+            entry.y = y;
+            entry.z = z;
+            entry.numberArgs = count;
+            publish(entry, level, template);
+        }
+    }
+
+    // ===== RING BUFFER =====
+
+    /**
+     * Check the template's rate limit and claim a slot.
+     *
+     * @return the slot to fill, or null if the message is suppressed or dropped
+     */
+    private Entry claim(String template) {
+        RateLimit limit = rateLimits.get(template);
+        if (limit == null) {
+            limit = rateLimits.computeIfAbsent(template, key -> new RateLimit());
+        }
+        long now = System.nanoTime();
+        int suppressed = 0;
+        if (now - limit.windowStart >= RATE_WINDOW_NANOS) {
+            limit.windowStart = now;
+            limit.count.set(1);
+            suppressed = limit.suppressed.getAndSet(0);
+        } else if (limit.count.incrementAndGet() > maxPerSecond) {
+            limit.suppressed.incrementAndGet();
+            return null;
+        }
+
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - drained >= CAPACITY) {
+                dropped.incrementAndGet();
+                return null;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        Entry entry = ring[(int) (sequence & MASK)];
+        entry.suppressed = suppressed;
+        entry.published = -sequence - 1; // claimed, not yet readable
+        return entry;
+    }
+
+    private void publish(Entry entry, Level level, String template) {
+        entry.level = level;
+        entry.template = template;
+        entry.published = -entry.published; // volatile write makes the fields visible to the drainer
+    }
+
+    /**
+     * Format and print every message published so far, in order.
+     *
+     * @return number of messages printed
+     */
+    synchronized int drain() {
+        int count = 0;
+        long next = drained;
+        while (true) {
+            Entry entry = ring[(int) (next & MASK)];
+            if (entry.published != next + 1) {
+                break;
+            }
+            format(entry);
+            (entry.level.ordinal() >= Level.WARN.ordinal() ? err : out).println(line);
+            entry.a = null;
+            entry.b = null;
+            entry.c = null;
+            entry.template = null;
+            next++;
+            drained = next; // frees the slot for producers
+            count++;
+        }
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            err.println("⚠️ " + lost + " log messages dropped (log buffer full)");
+        }
+        if (count > 0) {
+            out.flush();
+        }
+        return count;
+    }
+
+    private void format(Entry entry) {
+        StringBuilder sb = line;
+        sb.setLength(0);
+        String template = entry.template;
+        int arg = 0;
+        int start = 0;
+        int hole;
+        while ((hole = template.indexOf("{}", start)) >= 0) {
+            sb.append(template, start, hole);
+            if (arg < entry.numberArgs) {
+                appendNumber(sb, arg == 0 ? entry.x : arg == 1 ? entry.y : entry.z);
+            } else {
+                sb.append(arg == 0 ? entry.a : arg == 1 ? entry.b : entry.c);
+            }
+            arg++;
+            start = hole + 2;
+        }
+        sb.append(template, start, template.length());
+        if (entry.suppressed > 0) {
+            sb.append(" (").append(entry.suppressed).append(" similar messages suppressed)");
+        }
+        Object extra = arg < entry.numberArgs || arg > 2 ? null : arg == 0 ? entry.a : arg == 1 ? entry.b : entry.c;
+        if (extra instanceof Throwable) { // an argument left over after the last placeholder
+            StringWriter trace = new StringWriter();
+            ((Throwable) extra).printStackTrace(new PrintWriter(trace));
+            sb.append(System.lineSeparator()).append(trace.toString().stripTrailing());
+        }
+    }
+
+    private static void appendNumber(StringBuilder sb, double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            sb.append((long) value);
+        } else {
+            sb.append(Math.round(value * 100) / 100.0);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.ku.towerdefense.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Per-game source of randomness for gameplay.
+ *
+ * One seed produces independent streams for combat, drops and waves, so a
+ * game can be reproduced exactly from its seed and batch simulations never
+ * share a generator. Each stream counts how many values it has handed out,
+ * which lets a saved game restore the streams to the exact same position.
+ */
+public class GameRandom {
+
+    /**
+     * The independent random streams used by the game.
+     */
+    public enum Channel {
+        COMBAT,  // hit effects such as the Mage teleport
+        DROPS,   // gold bag chance and value
+        WAVES    // wave composition
+    }
+
+    private final long seed;
+    private final Stream[] streams;
+
+    /**
+     * Create a generator with a fresh, time-based seed.
+     */
+    public GameRandom() {
+        this(System.nanoTime() ^ Double.doubleToLongBits(Math.random()));
+    }
+
+    /**
+     * Create a generator from a seed.
+     *
+     * @param seed the game seed
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        Channel[] channels = Channel.values();
+        this.streams = new Stream[channels.length];
+        for (int i = 0; i < channels.length; i++) {
+            streams[i] = new Stream(root.split());
+        }
+    }
+
+    /**
+     * Recreate a generator and advance every stream to a saved position.
+     *
+     * @param seed the game seed
+     * @param draws values already drawn per channel, indexed by ordinal (may be null)
+     * @return the restored generator
+     */
+    public static GameRandom restore(long seed, long[] draws) {
+        GameRandom random = new GameRandom(seed);
+        if (draws != null) {
+            for (int i = 0; i < Math.min(draws.length, random.streams.length); i++) {
+                random.streams[i].skip(draws[i]);
+            }
+        }
+        return random;
+    }
+
+    /**
+     * Get one of the game's random streams.
+     *
+     * @param channel which stream
+     * @return the stream
+     */
+    public Stream stream(Channel channel) {
+        return streams[channel.ordinal()];
+    }
+
+    public Stream combat() {
+        return streams[Channel.COMBAT.ordinal()];
+    }
+
+    public Stream drops() {
+        return streams[Channel.DROPS.ordinal()];
+    }
+
+    public Stream waves() {
+        return streams[Channel.WAVES.ordinal()];
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return values drawn so far per channel, indexed by ordinal
+     */
+    public long[] getDrawCounts() {
+        long[] draws = new long[streams.length];
+        for (int i = 0; i < streams.length; i++) {
+            draws[i] = streams[i].draws;
+        }
+        return draws;
+    }
+
+    /**
+     * A single random stream. Every value is derived from exactly one call to
+     * the underlying generator so the draw count fully describes its position.
+     */
+    public static final class Stream {
+        private final SplittableRandom random;
+        private long draws;
+
+        private Stream(SplittableRandom random) {
+            this.random = random;
+        }
+
+        /**
+         * @return a uniform double in [0, 1)
+         */
+        public double nextDouble() {
+            draws++;
+            return (random.nextLong() >>> 11) * 0x1.0p-53;
+        }
+
+        /**
+         * @param probability chance of returning true, in [0, 1]
+         * @return true with the given probability
+         */
+        public boolean chance(double probability) {
+            return nextDouble() < probability;
+        }
+
+        /**
+         * @param min lowest value (inclusive)
+         * @param max highest value (inclusive)
+         * @return a uniform int in [min, max]
+         */
+        public int nextInt(int min, int max) {
+            if (max <= min) {
+                nextDouble(); // keep the draw count independent of the arguments
+                return min;
+            }
+            return min + (int) (nextDouble() * ((long) max - min + 1));
+        }
+
+        private void skip(long count) {
+            for (long i = 0; i < count; i++) {
+                random.nextLong();
+            }
+            draws += count;
+        }
+    }
+}
@@ -19,6 +19,8 @@ public class GameSettings implements Serializable {
     private int waveDelay = 10000; // 10 seconds between waves
     private int groupDelay = 3000; // 3 seconds between groups
     private int enemyDelay = 500; // 0.5 seconds between individual enemies
+    private boolean endlessMode = false; // Procedural waves without end (load profile)
+    private int endlessSeed = 1; // Fixed seed so every endless run is the same
     
     // Enemy composition
     private int goblinPercentage = 70; // 70% goblins, 30% knights
@@ -58,6 +60,19 @@ public class GameSettings implements Serializable {
     private int artilleryTowerFireRate = 2000;
     private int mageTowerFireRate = 1200;
     
+    // Performance
+    private boolean parallelTargeting = false; // Select tower targets on a ForkJoinPool
+    private int parallelTargetingThreshold = 64; // Minimum ready towers before going parallel
+    private boolean simulationThread = true; // Run the simulation off the FX thread, rendering snapshots
+    private boolean adaptiveQuality = true; // Lower effect and render quality when frames miss their budget
+    private int rewindIntervalTicks = 30; // Simulation ticks between rewind snapshots
+    private int rewindWindowSeconds = 300; // How far back the rewind buffer reaches
+    private int rewindMemoryCapKb = 4096; // Hard cap on rewind buffer size
+    private int chunkedMapMinTiles = 4_194_304; // Editor maps this large keep their tiles in a mapped file
+    private boolean verboseLogging = false; // Log per-hit/per-enemy gameplay events (DEBUG level)
+    private int logRateLimit = 20; // Max log messages per second for each message template
+    private int maxSavedReplays = 20; // Newest replays kept in the replays folder; 0 turns recording off
+    
     /**
      * Private constructor for singleton pattern.
      */
@@ -85,52 +100,7 @@ public class GameSettings implements Serializable {
         
         try (FileInputStream fis = new FileInputStream(SETTINGS_FILE)) {
             props.load(fis);
-            
-            // Wave settings
-            totalWaves = getIntProperty(props, "totalWaves", totalWaves);
-            groupsPerWave = getIntProperty(props, "groupsPerWave", groupsPerWave);
-            enemiesPerGroup = getIntProperty(props, "enemiesPerGroup", enemiesPerGroup);
-            waveDelay = getIntProperty(props, "waveDelay", waveDelay);
-            groupDelay = getIntProperty(props, "groupDelay", groupDelay);
-            enemyDelay = getIntProperty(props, "enemyDelay", enemyDelay);
-            
-            // Enemy composition
-            goblinPercentage = getIntProperty(props, "goblinPercentage", goblinPercentage);
-            
-            // Economy
-            startingGold = getIntProperty(props, "startingGold", startingGold);
-            goldPerGoblin = getIntProperty(props, "goldPerGoblin", goldPerGoblin);
-            goldPerKnight = getIntProperty(props, "goldPerKnight", goldPerKnight);
-            
-            // Player stats
-            startingLives = getIntProperty(props, "startingLives", startingLives);
-            
-            // Enemy stats
-            goblinHealth = getIntProperty(props, "goblinHealth", goblinHealth);
-            knightHealth = getIntProperty(props, "knightHealth", knightHealth);
-            goblinSpeed = getIntProperty(props, "goblinSpeed", goblinSpeed);
-            knightSpeed = getIntProperty(props, "knightSpeed", knightSpeed);
-            
-            // Tower costs
-            archerTowerCost = getIntProperty(props, "archerTowerCost", archerTowerCost);
-            artilleryTowerCost = getIntProperty(props, "artilleryTowerCost", artilleryTowerCost);
-            mageTowerCost = getIntProperty(props, "mageTowerCost", mageTowerCost);
-            
-            // Tower damage
-            archerTowerDamage = getIntProperty(props, "archerTowerDamage", archerTowerDamage);
-            artilleryTowerDamage = getIntProperty(props, "artilleryTowerDamage", artilleryTowerDamage);
-            mageTowerDamage = getIntProperty(props, "mageTowerDamage", mageTowerDamage);
-            
-            // Tower ranges
-            archerTowerRange = getIntProperty(props, "archerTowerRange", archerTowerRange);
-            artilleryTowerRange = getIntProperty(props, "artilleryTowerRange", artilleryTowerRange);
-            mageTowerRange = getIntProperty(props, "mageTowerRange", mageTowerRange);
-            artilleryAOERange = getIntProperty(props, "artilleryAOERange", artilleryAOERange);
-            
-            // Tower fire rates
-            archerTowerFireRate = getIntProperty(props, "archerTowerFireRate", archerTowerFireRate);
-            artilleryTowerFireRate = getIntProperty(props, "artilleryTowerFireRate", artilleryTowerFireRate);
-            mageTowerFireRate = getIntProperty(props, "mageTowerFireRate", mageTowerFireRate);
+            applyProperties(props);
             
             System.out.println("Settings loaded successfully from file");
         } catch (IOException e) {
@@ -142,6 +112,91 @@ public class GameSettings implements Serializable {
      * Save settings to file.
      */
     public void saveSettings() {
+        Properties props = toProperties();
+        
+        try (FileOutputStream fos = new FileOutputStream(SETTINGS_FILE)) {
+            props.store(fos, "KU Tower Defense Game Settings");
+            System.out.println("Settings saved successfully to file");
+        } catch (IOException e) {
+            System.err.println("Error saving settings: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Apply settings from a properties object. Missing or malformed values
+     * keep their current value.
+     *
+     * @param props the properties to read
+     */
+    public void applyProperties(Properties props) {
+        // Wave settings
+        totalWaves = getIntProperty(props, "totalWaves", totalWaves);
+        groupsPerWave = getIntProperty(props, "groupsPerWave", groupsPerWave);
+        enemiesPerGroup = getIntProperty(props, "enemiesPerGroup", enemiesPerGroup);
+        waveDelay = getIntProperty(props, "waveDelay", waveDelay);
+        groupDelay = getIntProperty(props, "groupDelay", groupDelay);
+        enemyDelay = getIntProperty(props, "enemyDelay", enemyDelay);
+        endlessMode = getBooleanProperty(props, "endlessMode", endlessMode);
+        endlessSeed = getIntProperty(props, "endlessSeed", endlessSeed);
+        
+        // Enemy composition
+        goblinPercentage = getIntProperty(props, "goblinPercentage", goblinPercentage);
+        
+        // Economy
+        startingGold = getIntProperty(props, "startingGold", startingGold);
+        goldPerGoblin = getIntProperty(props, "goldPerGoblin", goldPerGoblin);
+        goldPerKnight = getIntProperty(props, "goldPerKnight", goldPerKnight);
+        
+        // Player stats
+        startingLives = getIntProperty(props, "startingLives", startingLives);
+        
+        // Enemy stats
+        goblinHealth = getIntProperty(props, "goblinHealth", goblinHealth);
+        knightHealth = getIntProperty(props, "knightHealth", knightHealth);
+        goblinSpeed = getIntProperty(props, "goblinSpeed", goblinSpeed);
+        knightSpeed = getIntProperty(props, "knightSpeed", knightSpeed);
+        
+        // Tower costs
+        archerTowerCost = getIntProperty(props, "archerTowerCost", archerTowerCost);
+        artilleryTowerCost = getIntProperty(props, "artilleryTowerCost", artilleryTowerCost);
+        mageTowerCost = getIntProperty(props, "mageTowerCost", mageTowerCost);
+        
+        // Tower damage
+        archerTowerDamage = getIntProperty(props, "archerTowerDamage", archerTowerDamage);
+        artilleryTowerDamage = getIntProperty(props, "artilleryTowerDamage", artilleryTowerDamage);
+        mageTowerDamage = getIntProperty(props, "mageTowerDamage", mageTowerDamage);
+        
+        // Tower ranges
+        archerTowerRange = getIntProperty(props, "archerTowerRange", archerTowerRange);
+        artilleryTowerRange = getIntProperty(props, "artilleryTowerRange", artilleryTowerRange);
+        mageTowerRange = getIntProperty(props, "mageTowerRange", mageTowerRange);
+        artilleryAOERange = getIntProperty(props, "artilleryAOERange", artilleryAOERange);
+        
+        // Tower fire rates
+        archerTowerFireRate = getIntProperty(props, "archerTowerFireRate", archerTowerFireRate);
+        artilleryTowerFireRate = getIntProperty(props, "artilleryTowerFireRate", artilleryTowerFireRate);
+        mageTowerFireRate = getIntProperty(props, "mageTowerFireRate", mageTowerFireRate);
+        
+        // Performance
+        parallelTargeting = getBooleanProperty(props, "parallelTargeting", parallelTargeting);
+        parallelTargetingThreshold = getIntProperty(props, "parallelTargetingThreshold", parallelTargetingThreshold);
+        simulationThread = getBooleanProperty(props, "simulationThread", simulationThread);
+        adaptiveQuality = getBooleanProperty(props, "adaptiveQuality", adaptiveQuality);
+        rewindIntervalTicks = getIntProperty(props, "rewindIntervalTicks", rewindIntervalTicks);
+        rewindWindowSeconds = getIntProperty(props, "rewindWindowSeconds", rewindWindowSeconds);
+        rewindMemoryCapKb = getIntProperty(props, "rewindMemoryCapKb", rewindMemoryCapKb);
+        chunkedMapMinTiles = getIntProperty(props, "chunkedMapMinTiles", chunkedMapMinTiles);
+        verboseLogging = getBooleanProperty(props, "verboseLogging", verboseLogging);
+        logRateLimit = getIntProperty(props, "logRateLimit", logRateLimit);
+        maxSavedReplays = getIntProperty(props, "maxSavedReplays", maxSavedReplays);
+    }
+    
+    /**
+     * Export all settings as a properties object.
+     *
+     * @return the current settings
+     */
+    public Properties toProperties() {
         Properties props = new Properties();
         
         // Wave settings
@@ -151,6 +206,8 @@ public class GameSettings implements Serializable {
         props.setProperty("waveDelay", String.valueOf(waveDelay));
         props.setProperty("groupDelay", String.valueOf(groupDelay));
         props.setProperty("enemyDelay", String.valueOf(enemyDelay));
+        props.setProperty("endlessMode", String.valueOf(endlessMode));
+        props.setProperty("endlessSeed", String.valueOf(endlessSeed));
         
         // Enemy composition
         props.setProperty("goblinPercentage", String.valueOf(goblinPercentage));
@@ -190,12 +247,20 @@ public class GameSettings implements Serializable {
         props.setProperty("artilleryTowerFireRate", String.valueOf(artilleryTowerFireRate));
         props.setProperty("mageTowerFireRate", String.valueOf(mageTowerFireRate));
         
-        try (FileOutputStream fos = new FileOutputStream(SETTINGS_FILE)) {
-            props.store(fos, "KU Tower Defense Game Settings");
-            System.out.println("Settings saved successfully to file");
-        } catch (IOException e) {
-            System.err.println("Error saving settings: " + e.getMessage());
-        }
+        // Performance
+        props.setProperty("parallelTargeting", String.valueOf(parallelTargeting));
+        props.setProperty("parallelTargetingThreshold", String.valueOf(parallelTargetingThreshold));
+        props.setProperty("simulationThread", String.valueOf(simulationThread));
+        props.setProperty("adaptiveQuality", String.valueOf(adaptiveQuality));
+        props.setProperty("rewindIntervalTicks", String.valueOf(rewindIntervalTicks));
+        props.setProperty("rewindWindowSeconds", String.valueOf(rewindWindowSeconds));
+        props.setProperty("rewindMemoryCapKb", String.valueOf(rewindMemoryCapKb));
+        props.setProperty("chunkedMapMinTiles", String.valueOf(chunkedMapMinTiles));
+        props.setProperty("verboseLogging", String.valueOf(verboseLogging));
+        props.setProperty("logRateLimit", String.valueOf(logRateLimit));
+        props.setProperty("maxSavedReplays", String.valueOf(maxSavedReplays));
+        
+        return props;
     }
     
     /**
@@ -209,6 +274,8 @@ public class GameSettings implements Serializable {
         waveDelay = 10000;
         groupDelay = 3000;
         enemyDelay = 500;
+        endlessMode = false;
+        endlessSeed = 1;
         
         // Enemy composition
         goblinPercentage = 70;
@@ -248,6 +315,19 @@ public class GameSettings implements Serializable {
         artilleryTowerFireRate = 2000;
         mageTowerFireRate = 1200;
         
+        // Performance
+        parallelTargeting = false;
+        parallelTargetingThreshold = 64;
+        simulationThread = true;
+        adaptiveQuality = true;
+        rewindIntervalTicks = 30;
+        rewindWindowSeconds = 300;
+        rewindMemoryCapKb = 4096;
+        chunkedMapMinTiles = 4_194_304;
+        verboseLogging = false;
+        logRateLimit = 20;
+        maxSavedReplays = 20;
+        
         // Save the defaults
         saveSettings();
         
@@ -274,6 +354,22 @@ public class GameSettings implements Serializable {
         }
     }
     
+    /**
+     * Helper method to get a boolean property with a default value.
+     *
+     * @param props the properties object
+     * @param key the property key
+     * @param defaultValue the default value if property is not found
+     * @return the property value as a boolean, or the default value
+     */
+    private boolean getBooleanProperty(Properties props, String key, boolean defaultValue) {
+        String value = props.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+    
     // Getters and Setters
     
     // Wave settings
@@ -325,6 +421,22 @@ public class GameSettings implements Serializable {
         this.enemyDelay = enemyDelay;
     }
     
+    public boolean isEndlessMode() {
+        return endlessMode;
+    }
+    
+    public void setEndlessMode(boolean endlessMode) {
+        this.endlessMode = endlessMode;
+    }
+    
+    public int getEndlessSeed() {
+        return endlessSeed;
+    }
+    
+    public void setEndlessSeed(int endlessSeed) {
+        this.endlessSeed = endlessSeed;
+    }
+    
     // Enemy composition
     public int getGoblinPercentage() {
         return goblinPercentage;
@@ -508,4 +620,93 @@ public class GameSettings implements Serializable {
     public void setMageTowerFireRate(int mageTowerFireRate) {
         this.mageTowerFireRate = mageTowerFireRate;
     }
-} 
\ No newline at end of file
+    
+    // Performance
+    public boolean isParallelTargeting() {
+        return parallelTargeting;
+    }
+    
+    public void setParallelTargeting(boolean parallelTargeting) {
+        this.parallelTargeting = parallelTargeting;
+    }
+    
+    public int getParallelTargetingThreshold() {
+        return parallelTargetingThreshold;
+    }
+    
+    public void setParallelTargetingThreshold(int parallelTargetingThreshold) {
+        this.parallelTargetingThreshold = parallelTargetingThreshold;
+    }
+    
+    public boolean isSimulationThread() {
+        return simulationThread;
+    }
+    
+    public void setSimulationThread(boolean simulationThread) {
+        this.simulationThread = simulationThread;
+    }
+    
+    public boolean isAdaptiveQuality() {
+        return adaptiveQuality;
+    }
+    
+    public void setAdaptiveQuality(boolean adaptiveQuality) {
+        this.adaptiveQuality = adaptiveQuality;
+    }
+    
+    public int getRewindIntervalTicks() {
+        return rewindIntervalTicks;
+    }
+    
+    public void setRewindIntervalTicks(int rewindIntervalTicks) {
+        this.rewindIntervalTicks = rewindIntervalTicks;
+    }
+    
+    public int getRewindWindowSeconds() {
+        return rewindWindowSeconds;
+    }
+    
+    public void setRewindWindowSeconds(int rewindWindowSeconds) {
+        this.rewindWindowSeconds = rewindWindowSeconds;
+    }
+    
+    public int getRewindMemoryCapKb() {
+        return rewindMemoryCapKb;
+    }
+    
+    public void setRewindMemoryCapKb(int rewindMemoryCapKb) {
+        this.rewindMemoryCapKb = rewindMemoryCapKb;
+    }
+    
+    public int getChunkedMapMinTiles() {
+        return chunkedMapMinTiles;
+    }
+    
+    public void setChunkedMapMinTiles(int chunkedMapMinTiles) {
+        this.chunkedMapMinTiles = chunkedMapMinTiles;
+    }
+    
+    public boolean isVerboseLogging() {
+        return verboseLogging;
+    }
+    
+    public void setVerboseLogging(boolean verboseLogging) {
+        this.verboseLogging = verboseLogging;
+    }
+    
+    public int getLogRateLimit() {
+        return logRateLimit;
+    }
+    
+    public void setLogRateLimit(int logRateLimit) {
+        this.logRateLimit = logRateLimit;
+    }
+    
+    public int getMaxSavedReplays() {
+        return maxSavedReplays;
+    }
+    
+    public void setMaxSavedReplays(int maxSavedReplays) {
+        this.maxSavedReplays = maxSavedReplays;
+    }
+}
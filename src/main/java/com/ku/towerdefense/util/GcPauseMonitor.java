@@ -0,0 +1,113 @@
+package com.ku.towerdefense.util;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Collects garbage collection pauses as they happen, from the notifications
+ * of the {@link GarbageCollectorMXBean}s, instead of polling collection
+ * counts. Pauses are kept in a small ring until the UI drains them.
+ *
+ * Collectors that report whole concurrent cycles (e.g. "ZGC Cycles") are
+ * ignored, since their duration is not time the game was stopped.
+ */
+public final class GcPauseMonitor {
+
+    private static final int CAPACITY = 256;
+    private static GcPauseMonitor instance;
+
+    // Pause durations in milliseconds not yet drained; guarded by this
+    private final long[] pending = new long[CAPACITY];
+    private int pendingStart = 0;
+    private int pendingSize = 0;
+
+    private long pauseCount = 0;
+    private long totalPauseMs = 0;
+    private long maxPauseMs = 0;
+
+    private final NotificationListener listener = this::handleNotification;
+
+    GcPauseMonitor() {
+    }
+
+    /**
+     * @return the shared monitor, listening from the first call on
+     */
+    public static synchronized GcPauseMonitor getInstance() {
+        if (instance == null) {
+            instance = new GcPauseMonitor();
+            instance.install();
+        }
+        return instance;
+    }
+
+    private void install() {
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter) {
+                ((NotificationEmitter) bean).addNotificationListener(listener, null, null);
+            }
+        }
+    }
+
+    private void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo
+                .from((CompositeData) notification.getUserData());
+        String name = info.getGcName();
+        if (name.contains("Cycles") || name.contains("Concurrent")) {
+            return;
+        }
+        recordPause(info.getGcInfo().getDuration());
+    }
+
+    /**
+     * Record a pause. Called from the JMX notification thread.
+     */
+    synchronized void recordPause(long durationMs) {
+        pauseCount++;
+        totalPauseMs += durationMs;
+        maxPauseMs = Math.max(maxPauseMs, durationMs);
+        if (pendingSize == CAPACITY) {
+            pendingStart = (pendingStart + 1) % CAPACITY; // overwrite the oldest
+            pendingSize--;
+        }
+        pending[(pendingStart + pendingSize) % CAPACITY] = durationMs;
+        pendingSize++;
+    }
+
+    /**
+     * Move the pauses recorded since the last drain into an array.
+     *
+     * @param into receives pause durations in milliseconds, oldest first
+     * @return number of pauses copied
+     */
+    public synchronized int drainPauses(long[] into) {
+        int count = Math.min(pendingSize, into.length);
+        for (int i = 0; i < count; i++) {
+            into[i] = pending[(pendingStart + i) % CAPACITY];
+        }
+        pendingStart = (pendingStart + count) % CAPACITY;
+        pendingSize -= count;
+        return count;
+    }
+
+    public synchronized long getPauseCount() {
+        return pauseCount;
+    }
+
+    public synchronized long getTotalPauseMs() {
+        return totalPauseMs;
+    }
+
+    public synchronized long getMaxPauseMs() {
+        return maxPauseMs;
+    }
+}
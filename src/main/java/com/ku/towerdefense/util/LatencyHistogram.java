@@ -0,0 +1,97 @@
+package com.ku.towerdefense.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ *
+ * Buckets are log-linear like an HDR histogram: values below 16 get a bucket
+ * each, and every power of two above that is split into 16 equal buckets,
+ * so a recorded value is off by at most about 6%. Recording is a single
+ * atomic increment and never allocates; any thread may record while another
+ * drains.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /** Number of buckets, enough for any non-negative long. */
+    public static final int BUCKET_COUNT = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Record one duration. Negative values count as 0.
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketOf(Math.max(0, nanos)));
+    }
+
+    /**
+     * Move the counts recorded since the last drain into the given array
+     * (added to what it already holds) and reset them.
+     *
+     * @param into array of {@link #BUCKET_COUNT} counts
+     * @return number of values drained
+     */
+    public long drainTo(long[] into) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts.get(i) != 0) {
+                long count = counts.getAndSet(i, 0);
+                into[i] += count;
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Value at the given percentile of a drained bucket array.
+     *
+     * @param counts bucket counts from {@link #drainTo}
+     * @param percentile percentile between 0 and 100
+     * @return the representative value of the bucket the percentile falls in, or 0 if empty
+     */
+    public static long percentile(long[] counts, double percentile) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return valueOf(i);
+            }
+        }
+        return valueOf(counts.length - 1);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * @return middle of the value range a bucket covers
+     */
+    static long valueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BITS);
+        return ((long) (SUB_BUCKETS + sub) << (exponent - SUB_BITS)) + width / 2;
+    }
+}
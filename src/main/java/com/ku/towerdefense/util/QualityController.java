@@ -0,0 +1,122 @@
+package com.ku.towerdefense.util;
+
+/**
+ * Watches frame times and trades looks for frame rate: when too many recent
+ * frames miss the 60 Hz budget the {@link QualityLevel} steps down, and after
+ * a stretch without a missed frame it steps back up.
+ *
+ * Frames are judged in windows of {@link #WINDOW_FRAMES}. Changes are at least
+ * {@link #MIN_CHANGE_NANOS} apart, and the headroom needed before stepping up
+ * doubles each time a step up is undone shortly after, so a game that only
+ * just fits the budget settles instead of flapping between two levels.
+ *
+ * Frames are recorded on the FX thread; the level may be read from any
+ * thread.
+ */
+public final class QualityController {
+    private static final GameLog LOG = GameLog.getInstance();
+
+    public static final long FRAME_BUDGET_NANOS = 16_600_000L;
+    static final long MISSED_FRAME_NANOS = FRAME_BUDGET_NANOS * 3 / 2; // the frame skipped a vsync
+    static final long STALL_NANOS = 500_000_000L; // longer gaps are pauses or window drags, not load
+    static final int WINDOW_FRAMES = 30;
+    static final int STEP_DOWN_MISSED_FRAMES = 6; // a fifth of the window
+    static final long MIN_CHANGE_NANOS = 1_000_000_000L;
+    static final long STEP_UP_NANOS = 3_000_000_000L;
+    static final long MAX_STEP_UP_NANOS = 48_000_000_000L;
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private volatile QualityLevel level = QualityLevel.HIGH;
+    private volatile int changeCount = 0;
+
+    // FX thread
+    private long lastFrameNanos = NEVER;
+    private long windowStartNanos = NEVER;
+    private int windowFrames = 0;
+    private int windowMissed = 0;
+    private long lastChangeNanos = NEVER;
+    private boolean lastChangeWasUp = false;
+    private long cleanSinceNanos = NEVER; // start of the current run of windows without a missed frame
+    private long stepUpNanos = STEP_UP_NANOS;
+
+    /**
+     * Record a frame and adjust the level if the last window calls for it.
+     *
+     * @param now the frame's timestamp in nanoseconds
+     */
+    public void recordFrame(long now) {
+        if (lastFrameNanos == NEVER) {
+            lastFrameNanos = now;
+            lastChangeNanos = now; // ignore the stutter of the first second
+            windowStartNanos = now;
+            return;
+        }
+        long interval = now - lastFrameNanos;
+        lastFrameNanos = now;
+        if (interval > STALL_NANOS) {
+            windowStartNanos = now;
+            windowFrames = 0;
+            windowMissed = 0;
+            return;
+        }
+
+        windowFrames++;
+        if (interval > MISSED_FRAME_NANOS) {
+            windowMissed++;
+        }
+        if (windowFrames == WINDOW_FRAMES) {
+            evaluate(now, windowMissed);
+            windowStartNanos = now;
+            windowFrames = 0;
+            windowMissed = 0;
+        }
+    }
+
+    private void evaluate(long now, int missed) {
+        if (missed >= STEP_DOWN_MISSED_FRAMES) {
+            cleanSinceNanos = NEVER;
+            if (level != QualityLevel.MINIMAL && now - lastChangeNanos >= MIN_CHANGE_NANOS) {
+                if (lastChangeWasUp && now - lastChangeNanos < stepUpNanos) {
+                    stepUpNanos = Math.min(stepUpNanos * 2, MAX_STEP_UP_NANOS); // the step up did not hold
+                }
+                change(now, level.lower(), false,
+                        missed + " of " + WINDOW_FRAMES + " frames over " + FRAME_BUDGET_NANOS / 100_000 / 10.0
+                                + " ms");
+            }
+        } else if (missed == 0) {
+            if (cleanSinceNanos == NEVER) {
+                cleanSinceNanos = windowStartNanos;
+            }
+            if (level != QualityLevel.HIGH && now - cleanSinceNanos >= stepUpNanos
+                    && now - lastChangeNanos >= stepUpNanos) {
+                change(now, level.higher(), true, "no missed frames for " + stepUpNanos / 1_000_000_000L + " s");
+            }
+        } else {
+            cleanSinceNanos = NEVER;
+        }
+    }
+
+    private void change(long now, QualityLevel next, boolean up, String reason) {
+        LOG.info("Render quality {} -> {}: {}", level, next, reason);
+        level = next;
+        changeCount++;
+        lastChangeNanos = now;
+        lastChangeWasUp = up;
+        cleanSinceNanos = NEVER;
+    }
+
+    /**
+     * @return the level to render and simulate at; safe from any thread
+     */
+    public QualityLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * @return how many times the level changed since the game started
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ku.towerdefense.util;
+
+/**
+ * How much the game spends on looks, stepped down by {@link QualityController}
+ * when frames miss their budget. Each level gives up a little more: effect
+ * animation frames, the path flash pulse, entity detail and finally how fast
+ * fast-forward runs.
+ */
+public enum QualityLevel {
+    /** Everything as designed. */
+    HIGH(1, true, RenderDetail.FULL, 2.0),
+    /** Effects play every other frame and the path flash holds still. */
+    MEDIUM(2, false, RenderDetail.FULL, 2.0),
+    /** Entities drawn at reduced detail, fast-forward slowed to 1.5x. */
+    LOW(2, false, RenderDetail.REDUCED, 1.5),
+    /** Effects play a third of their frames, entities are dots. */
+    MINIMAL(3, false, RenderDetail.MINIMAL, 1.25);
+
+    private final int effectFrameStep;
+    private final boolean pathFlashPulse;
+    private final RenderDetail maxDetail;
+    private final double maxSpeedMultiplier;
+
+    QualityLevel(int effectFrameStep, boolean pathFlashPulse, RenderDetail maxDetail, double maxSpeedMultiplier) {
+        this.effectFrameStep = effectFrameStep;
+        this.pathFlashPulse = pathFlashPulse;
+        this.maxDetail = maxDetail;
+        this.maxSpeedMultiplier = maxSpeedMultiplier;
+    }
+
+    /**
+     * @return how many sprite sheet frames an effect advances at a time
+     */
+    public int getEffectFrameStep() {
+        return effectFrameStep;
+    }
+
+    /**
+     * @return true if the path flash pulses rather than holding its alpha
+     */
+    public boolean isPathFlashPulse() {
+        return pathFlashPulse;
+    }
+
+    /**
+     * @param scale screen pixels per world unit
+     * @return the detail for that scale, but no finer than this level allows
+     */
+    public RenderDetail detailFor(double scale) {
+        RenderDetail detail = RenderDetail.forScale(scale);
+        return detail.ordinal() >= maxDetail.ordinal() ? detail : maxDetail;
+    }
+
+    /**
+     * @return the highest game speed multiplier fast-forward may run at;
+     *         ticks stay fixed, there are just fewer of them per second
+     */
+    public double getMaxSpeedMultiplier() {
+        return maxSpeedMultiplier;
+    }
+
+    /**
+     * @return the next cheaper level, or this one if it is the cheapest
+     */
+    public QualityLevel lower() {
+        return this == MINIMAL ? this : values()[ordinal() + 1];
+    }
+
+    /**
+     * @return the next richer level, or this one if it is the richest
+     */
+    public QualityLevel higher() {
+        return this == HIGH ? this : values()[ordinal() - 1];
+    }
+}
@@ -0,0 +1,31 @@
+package com.ku.towerdefense.util;
+
+/**
+ * How much detail entities are drawn with, picked from the view scale (screen
+ * pixels per world unit). Zoomed far out, sprites, health bars and effect
+ * icons are too small to read, so they are replaced by cheaper shapes.
+ */
+public enum RenderDetail {
+    /** Sprites, health bars, status icons and procedural projectiles. */
+    FULL,
+    /** Enemy sprites only; projectiles are plain dots. */
+    REDUCED,
+    /** Enemies are tinted dots drawn in batches, projectiles single pixels. */
+    MINIMAL;
+
+    /** Below this scale a 64 px tile is under 32 screen pixels. */
+    public static final double REDUCED_BELOW_SCALE = 0.5;
+    /** Below this scale a 64 px tile is under 16 screen pixels. */
+    public static final double MINIMAL_BELOW_SCALE = 0.25;
+
+    /**
+     * @param scale screen pixels per world unit
+     * @return the detail level for that scale
+     */
+    public static RenderDetail forScale(double scale) {
+        if (scale < MINIMAL_BELOW_SCALE) {
+            return MINIMAL;
+        }
+        return scale < REDUCED_BELOW_SCALE ? REDUCED : FULL;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ku.towerdefense.util;
+
+/**
+ * Fixed-size history of numeric samples with several channels, stored in one
+ * primitive array. Appending overwrites the oldest sample once full, so it
+ * never allocates after construction.
+ *
+ * Methods are synchronized: one thread samples, another reads for display.
+ */
+public final class SampleRing {
+
+    private final int channels;
+    private final int capacity;
+    private final double[] values; // [slot * channels + channel]
+    private int start = 0;
+    private int size = 0;
+    private long appended = 0;
+
+    public SampleRing(int channels, int capacity) {
+        if (channels <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("channels and capacity must be positive");
+        }
+        this.channels = channels;
+        this.capacity = capacity;
+        this.values = new double[channels * capacity];
+    }
+
+    /**
+     * Append one sample.
+     *
+     * @param sample one value per channel
+     */
+    public synchronized void append(double[] sample) {
+        int slot;
+        if (size == capacity) {
+            slot = start;
+            start = (start + 1) % capacity;
+        } else {
+            slot = (start + size) % capacity;
+            size++;
+        }
+        System.arraycopy(sample, 0, values, slot * channels, channels);
+        appended++;
+    }
+
+    /**
+     * @return newest value of a channel, or 0 if empty
+     */
+    public synchronized double latest(int channel) {
+        if (size == 0) {
+            return 0;
+        }
+        return values[((start + size - 1) % capacity) * channels + channel];
+    }
+
+    /**
+     * Copy a channel's history, oldest first.
+     *
+     * @return number of values copied
+     */
+    public synchronized int copyChannel(int channel, double[] into) {
+        int count = Math.min(size, into.length);
+        int skip = size - count; // keep the newest if the array is short
+        for (int i = 0; i < count; i++) {
+            into[i] = values[((start + skip + i) % capacity) * channels + channel];
+        }
+        return count;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return total samples appended since creation or the last clear,
+     *         used to detect new data
+     */
+    public synchronized long getAppendedCount() {
+        return appended;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized void clear() {
+        start = 0;
+        size = 0;
+        appended = 0;
+    }
+}
@@ -0,0 +1,214 @@
+package com.ku.towerdefense.util;
+
+/**
+ * Hierarchical timer wheel on the simulation clock.
+ *
+ * Timers are kept in four levels of 64 slots. Level 0 holds timers due within
+ * 64 ticks, one slot per tick; each higher level covers 64 times the span of
+ * the one below. When the clock reaches a higher-level slot its timers cascade
+ * down, so every timer is touched at most once per level before it fires.
+ * Advancing one tick costs O(1) plus the work for timers actually expiring,
+ * no matter how many are pending.
+ *
+ * Not thread-safe; it is driven from the simulation tick.
+ */
+public final class TimerWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    /**
+     * A scheduled callback. Handles stay valid after firing or cancelling;
+     * {@link #isPending()} tells whether it is still scheduled.
+     */
+    public static final class Timer {
+        private final Runnable callback;
+        private long expiryTick;
+        private Timer prev;
+        private Timer next;
+        private Timer[] bucket; // slot array the timer is linked into, null when not pending
+        private int slot;
+
+        private Timer(Runnable callback) {
+            this.callback = callback;
+        }
+
+        public long getExpiryTick() {
+            return expiryTick;
+        }
+
+        public boolean isPending() {
+            return bucket != null;
+        }
+    }
+
+    private final Timer[][] wheels = new Timer[LEVELS][SLOTS];
+    private long currentTick;
+    private int size = 0;
+
+    /**
+     * @param startTick the current simulation tick
+     */
+    public TimerWheel(long startTick) {
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedule a callback.
+     *
+     * @param delayTicks ticks from now until it fires (at least 1)
+     * @param callback what to run
+     * @return the timer handle, for cancelling
+     */
+    public Timer schedule(long delayTicks, Runnable callback) {
+        Timer timer = new Timer(callback);
+        timer.expiryTick = currentTick + Math.max(1, delayTicks);
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancel a pending timer. Does nothing if it already fired or was cancelled.
+     *
+     * @param timer the timer, may be null
+     */
+    public void cancel(Timer timer) {
+        if (timer != null && timer.isPending()) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    /**
+     * @param timer a timer handle, may be null
+     * @return ticks until it fires, or 0 if it is not pending
+     */
+    public long remainingTicks(Timer timer) {
+        return timer != null && timer.isPending() ? timer.expiryTick - currentTick : 0;
+    }
+
+    /**
+     * Advance the clock, firing every timer that expires on the way, in
+     * expiry order. Callbacks may schedule or cancel timers.
+     *
+     * @param tick the new current tick
+     */
+    public void advanceTo(long tick) {
+        while (currentTick < tick) {
+            if (size == 0) {
+                currentTick = tick;
+                return;
+            }
+            currentTick++;
+            int index = (int) (currentTick & SLOT_MASK);
+            if (index == 0) {
+                cascade(1);
+            }
+            Timer[] level0 = wheels[0];
+            Timer timer;
+            while ((timer = level0[index]) != null) {
+                unlink(timer);
+                if (timer.expiryTick > currentTick) {
+                    insert(timer); // a clamped far-future timer, not due yet
+                    continue;
+                }
+                size--;
+                timer.callback.run();
+            }
+        }
+    }
+
+    /**
+     * Drop all timers and move the clock (used when rewinding or loading).
+     *
+     * @param tick the new current tick
+     */
+    public void reset(long tick) {
+        for (Timer[] level : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                Timer timer = level[i];
+                while (timer != null) {
+                    Timer next = timer.next;
+                    timer.bucket = null;
+                    timer.prev = null;
+                    timer.next = null;
+                    timer = next;
+                }
+                level[i] = null;
+            }
+        }
+        size = 0;
+        currentTick = tick;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return number of pending timers
+     */
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int level) {
+        if (level >= LEVELS) {
+            return;
+        }
+        int index = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        if (index == 0) {
+            cascade(level + 1);
+        }
+        Timer[] slots = wheels[level];
+        Timer timer = slots[index];
+        slots[index] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.bucket = null;
+            timer.prev = null;
+            timer.next = null;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer timer) {
+        long delta = timer.expiryTick - currentTick;
+        long placeAt = delta >= MAX_SPAN ? currentTick + MAX_SPAN - 1 : timer.expiryTick;
+        delta = Math.max(0, placeAt - currentTick);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        // delta 0 only happens while cascading, before the current level-0 slot is processed
+        int index = (int) ((placeAt >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Timer[] slots = wheels[level];
+        timer.bucket = slots;
+        timer.slot = index;
+        timer.prev = null;
+        timer.next = slots[index];
+        if (timer.next != null) {
+            timer.next.prev = timer;
+        }
+        slots[index] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            timer.bucket[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.bucket = null;
+        timer.prev = null;
+        timer.next = null;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ku.towerdefense.controller;
+
+import com.ku.towerdefense.model.entity.ArcherTower;
+import com.ku.towerdefense.model.entity.Tower;
+import com.ku.towerdefense.model.map.TestMaps;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStatisticsTest {
+
+    @Nested
+    class CounterTests {
+        @Test
+        void hitSplitsDamageIntoDealtAndOverkill() {
+            GameStatistics statistics = new GameStatistics();
+            Tower tower = new ArcherTower(0, 0);
+
+            statistics.recordHit(tower, 1, 30, 10);
+            statistics.recordHit(tower, 1, 10, -15);
+
+            assertEquals(30, statistics.getDamageDealt());
+            assertEquals(15, statistics.getOverkillDamage());
+            assertEquals(1, statistics.getEnemiesKilled());
+            assertEquals(30, tower.getDamageDealt());
+            assertEquals(15, tower.getOverkillDamage());
+            assertEquals(1, tower.getKills());
+        }
+
+        @Test
+        void hitOnDeadEnemyIsAllOverkill() {
+            GameStatistics statistics = new GameStatistics();
+            statistics.recordHit(null, 2, -5, -25);
+
+            assertEquals(0, statistics.getDamageDealt());
+            assertEquals(20, statistics.getOverkillDamage());
+            assertEquals(0, statistics.getEnemiesKilled(), "An enemy can only be killed once.");
+        }
+
+        @Test
+        void perWaveCountersGrowPastInitialCapacity() {
+            GameStatistics statistics = new GameStatistics();
+            statistics.recordShots(40, 3);
+            statistics.recordHit(null, 40, 10, 0);
+
+            assertEquals(40, statistics.getLastWave());
+            assertEquals(3, statistics.getWaveShots(40));
+            assertEquals(10, statistics.getWaveDamage(40));
+            assertEquals(1, statistics.getWaveKills(40));
+            assertEquals(0, statistics.getWaveDamage(41));
+        }
+    }
+
+    @Nested
+    class GameTests {
+        @Test
+        void towerAndGameStatisticsAreRecordedDuringPlay() {
+            GameController controller = new GameController(TestMaps.straightPath(), 11L);
+            controller.startGame();
+            assertTrue(controller.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1));
+            Tower archer = controller.getTowers().get(0);
+            for (int i = 0; i < 1200; i++) {
+                controller.tick();
+            }
+            controller.getEventBus().dispatch();
+
+            GameStatistics statistics = controller.getStatistics();
+            assertTrue(archer.getShotsFired() > 0, "The archer should have fired.");
+            assertTrue(archer.getDamageDealt() > 0, "The archer should have dealt damage.");
+            assertEquals(archer.getShotsFired(), statistics.getShotsFired());
+            assertEquals(archer.getDamageDealt(), statistics.getDamageDealt());
+            assertEquals(1, statistics.getTowersBuilt());
+            assertEquals(archer.getCost(), statistics.getTotalGoldSpent());
+            assertTrue(archer.getDps(controller.getTickCount(), GameController.TICK_SECONDS) > 0);
+        }
+    }
+}
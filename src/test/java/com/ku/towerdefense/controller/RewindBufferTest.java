@@ -0,0 +1,214 @@
+package com.ku.towerdefense.controller;
+
+import com.ku.towerdefense.event.GameEventType;
+import com.ku.towerdefense.model.entity.ArcherTower;
+import com.ku.towerdefense.model.entity.DroppedGold;
+import com.ku.towerdefense.model.entity.Tower;
+import com.ku.towerdefense.model.map.TestMaps;
+import com.ku.towerdefense.util.GameSettings;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RewindBufferTest {
+
+    private static int[] frame(long tick, int size) {
+        int[] frame = new int[size];
+        for (int i = 0; i < size; i++) {
+            frame[i] = (int) (tick * 7 + i * 3 - 50);
+        }
+        return frame;
+    }
+
+    @Nested
+    class EncodingTests {
+        @Test
+        void rewindDecodesDeltaFramesExactly() {
+            RewindBuffer buffer = new RewindBuffer(100, 1 << 20);
+            for (long tick = 1; tick <= 50; tick++) {
+                // Frames grow and shrink to exercise differing lengths
+                int size = 10 + (int) (tick % 5);
+                buffer.push(tick, frame(tick, size), size);
+            }
+
+            int[] restored = buffer.rewindTo(33);
+            assertArrayEquals(frame(33, 10 + 33 % 5), restored, "Frame 33 should decode exactly.");
+            assertEquals(33, buffer.getNewestTick(), "Snapshots after the target should be discarded.");
+        }
+
+        @Test
+        void pushingAfterRewindContinuesFromRestoredFrame() {
+            RewindBuffer buffer = new RewindBuffer(100, 1 << 20);
+            for (long tick = 1; tick <= 30; tick++) {
+                buffer.push(tick, frame(tick, 8), 8);
+            }
+            buffer.rewindTo(12);
+            buffer.push(13, frame(99, 8), 8);
+
+            assertArrayEquals(frame(99, 8), buffer.rewindTo(13), "New timeline should be stored correctly.");
+        }
+    }
+
+    @Nested
+    class CapacityTests {
+        @Test
+        void byteCapEvictsOldestSnapshots() {
+            RewindBuffer buffer = new RewindBuffer(10_000, 4096);
+            for (long tick = 1; tick <= 2000; tick++) {
+                buffer.push(tick, frame(tick * 1000, 64), 64);
+            }
+
+            assertTrue(buffer.getTotalBytes() <= 4096, "Buffer should stay under its byte cap.");
+            assertTrue(buffer.getOldestTick() > 1, "Oldest snapshots should have been evicted.");
+            long oldest = buffer.getOldestTick();
+            assertArrayEquals(frame(oldest * 1000, 64), buffer.rewindTo(oldest),
+                    "Oldest remaining snapshot should still decode.");
+        }
+
+        @Test
+        void aBufferSmallerThanTheKeyframeIntervalStillDecodes() {
+            RewindBuffer buffer = new RewindBuffer(5, 1 << 20);
+            for (long tick = 1; tick <= 60; tick++) {
+                buffer.push(tick, frame(tick, 6), 6);
+                assertTrue(buffer.size() >= 2 || tick == 1, "Eviction should not empty the buffer.");
+            }
+            long oldest = buffer.getOldestTick();
+            for (long tick = buffer.getNewestTick(); tick >= oldest; tick--) {
+                assertArrayEquals(frame(tick, 6), buffer.rewindTo(tick), "Tick " + tick + " should decode exactly.");
+            }
+        }
+
+        @Test
+        void slotCountBoundsHistory() {
+            RewindBuffer buffer = new RewindBuffer(50, 1 << 20);
+            for (long tick = 1; tick <= 500; tick++) {
+                buffer.push(tick, frame(tick, 4), 4);
+            }
+            assertTrue(buffer.size() <= 50, "Buffer should not exceed its slot count.");
+            assertEquals(500, buffer.getNewestTick());
+        }
+    }
+
+    @Nested
+    class GameRewindTests {
+        @Test
+        void rewindRestoresEarlierState() {
+            GameController controller = new GameController(TestMaps.straightPath(), 7L);
+            controller.startGame();
+            for (int i = 0; i < 600; i++) {
+                controller.tick();
+            }
+            int goldBefore = controller.getPlayerGold();
+            long tickBefore = controller.getTickCount();
+
+            assertTrue(controller.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1));
+            for (int i = 0; i < 300; i++) {
+                controller.tick();
+            }
+
+            assertTrue(controller.rewind(5.0), "Rewind should succeed with snapshots available.");
+            assertEquals(tickBefore, controller.getTickCount(), "Should land on the snapshot before the purchase.");
+            assertEquals(goldBefore, controller.getPlayerGold(), "Gold spent after the snapshot should be restored.");
+            assertTrue(controller.getTowers().isEmpty(), "Tower placed after the snapshot should be gone.");
+            assertTrue(controller.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1),
+                    "The freed tower slot should be usable again.");
+        }
+
+        @Test
+        void rewindRestoresTowerAndGameStatisticsTogether() {
+            GameController controller = new GameController(TestMaps.straightPath(), 7L);
+            controller.startGame();
+            assertTrue(controller.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1));
+            for (int i = 0; i < 3000 && controller.getStatistics().getDamageDealt() == 0; i++) {
+                controller.tick();
+            }
+            for (int i = 0; i < 600; i++) {
+                controller.tick();
+            }
+
+            assertTrue(controller.rewind(3.0));
+            Tower tower = controller.getTowers().get(0);
+            GameStatistics statistics = controller.getStatistics();
+            assertTrue(tower.getShotsFired() > 0, "Shots from before the snapshot should be kept.");
+            assertEquals(statistics.getShotsFired(), tower.getShotsFired());
+            assertEquals(statistics.getDamageDealt(), tower.getDamageDealt());
+            assertEquals(statistics.getEnemiesKilled(), tower.getKills());
+            assertTrue(tower.getPlacedTick() < controller.getTickCount(), "The tower keeps its build tick.");
+        }
+
+        @Test
+        void rewindRestoresTheEndlessLeakCount() {
+            GameController controller = new GameController(TestMaps.straightPath(), 7L);
+            controller.setEndlessMode(true);
+            controller.setLeakedEnemies(2);
+            controller.startGame();
+            for (int i = 0; i < 600; i++) {
+                controller.tick();
+            }
+            controller.setLeakedEnemies(9);
+            for (int i = 0; i < 300; i++) {
+                controller.tick();
+            }
+
+            assertTrue(controller.rewind(5.0));
+            assertEquals(2, controller.getLeakedEnemies(), "Enemies leaked after the snapshot should not count.");
+            assertTrue(controller.isEndlessMode());
+        }
+
+        @Test
+        void rewindKeepsAGoldBagStillPlayingItsSpawnAnimation() {
+            GameController controller = new GameController(TestMaps.straightPath(), 7L);
+            controller.setEndlessMode(true); // leaks must not end the game before a bag drops
+            controller.startGame();
+            assertTrue(controller.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1));
+            double[] drop = new double[3];
+            long[] dropTick = { -1 };
+            controller.getEventBus().subscribe(GameEventType.GOLD_BAG_DROPPED.bit(), events -> {
+                for (int i = 0; i < events.size(); i++) {
+                    if (events.type(i) == GameEventType.GOLD_BAG_DROPPED && dropTick[0] < 0) {
+                        dropTick[0] = events.tick(i);
+                        drop[0] = events.x(i);
+                        drop[1] = events.y(i);
+                        drop[2] = events.amount(i);
+                    }
+                }
+            });
+
+            // Play until a bag drops, then on to the first snapshot after it, which must
+            // catch the bag before it is created (a drop right after a snapshot does not)
+            long snapshotTick = -1;
+            int interval = GameSettings.getInstance().getRewindIntervalTicks();
+            long animationTicks = GameController.ticksFor(7 * 0.07);
+            for (int i = 0; i < 60_000 && snapshotTick < 0; i++) {
+                controller.tick();
+                controller.getEventBus().dispatch();
+                long tick = controller.getTickCount();
+                if (dropTick[0] >= 0 && tick % interval == 0) {
+                    if (tick - dropTick[0] < animationTicks) {
+                        snapshotTick = tick;
+                    } else {
+                        dropTick[0] = -1; // the bag existed by then; wait for the next one
+                    }
+                }
+            }
+            assertTrue(snapshotTick > 0, "A bag should have dropped.");
+            for (int i = 0; i < 2 * animationTicks; i++) {
+                controller.tick();
+            }
+
+            assertTrue(controller.rewind((controller.getTickCount() - snapshotTick) * GameController.TICK_SECONDS));
+            assertEquals(snapshotTick, controller.getTickCount());
+            for (int i = 0; i < animationTicks; i++) {
+                controller.tick();
+            }
+            boolean spawned = false;
+            for (DroppedGold bag : controller.getActiveGoldBags()) {
+                spawned |= bag.getGoldAmount() == (int) drop[2] && Math.abs(bag.getCenterX() - drop[0]) < 0.1
+                        && Math.abs(bag.getCenterY() - drop[1]) < 0.1;
+            }
+            assertTrue(spawned, "The bag dropped before the snapshot should still appear.");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ku.towerdefense.controller;
+
+import com.ku.towerdefense.model.map.TestMaps;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationThreadTest {
+
+    private static final long WAIT_MS = 2000;
+
+    private GameController controller;
+    private SimulationThread simulation;
+
+    @BeforeEach
+    void setUp() {
+        controller = new GameController(TestMaps.straightPath(), 42L);
+        simulation = new SimulationThread(controller);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulation.stop();
+    }
+
+    /** Wait for the simulation to publish a snapshot at or after a tick. */
+    private RenderSnapshot awaitSnapshot(long minTick) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        RenderSnapshot snapshot = simulation.latestSnapshot();
+        while (!snapshot.isCaptured() || snapshot.getTickCount() < minTick) {
+            assertTrue(System.currentTimeMillis() < deadline, "No snapshot from the simulation thread.");
+            Thread.sleep(5);
+            snapshot = simulation.latestSnapshot();
+        }
+        return snapshot;
+    }
+
+    @Nested
+    class SnapshotTests {
+        @Test
+        void simulationAdvancesAndPublishesOnItsOwn() throws InterruptedException {
+            simulation.start();
+            RenderSnapshot snapshot = awaitSnapshot(3);
+            assertEquals(controller.getPlayerLives(), snapshot.getPlayerLives());
+            assertEquals(0, snapshot.getEnemyCount());
+        }
+
+        @Test
+        void snapshotsShowStateAfterCommands() throws InterruptedException {
+            simulation.start();
+            simulation.submit(c -> c.setPlayerGold(1234));
+            long tick = simulation.call(GameController::getTickCount);
+            assertEquals(1234, awaitSnapshot(tick + 1).getPlayerGold());
+        }
+
+        @Test
+        void statsAreCapturedWithoutASimulationThread() {
+            RenderSnapshot stats = new RenderSnapshot();
+            controller.setPlayerGold(321);
+            controller.captureStats(stats);
+            assertTrue(stats.isCaptured());
+            assertEquals(321, stats.getPlayerGold());
+            assertEquals(0, stats.getFreezeCooldownWaves(), "The freeze power-up starts ready.");
+        }
+    }
+
+    @Nested
+    class CommandTests {
+        @Test
+        void commandsRunOnTheSimulationThread() {
+            simulation.start();
+            String thread = simulation.call(c -> Thread.currentThread().getName());
+            assertEquals("simulation", thread);
+        }
+
+        @Test
+        void commandsRunDirectlyWhenStopped() {
+            String thread = simulation.call(c -> Thread.currentThread().getName());
+            assertEquals(Thread.currentThread().getName(), thread);
+
+            simulation.start();
+            simulation.stop();
+            assertFalse(simulation.isRunning());
+            simulation.submit(c -> c.setPlayerGold(77));
+            assertEquals(77, controller.getPlayerGold());
+        }
+
+        @Test
+        void commandFailuresReachTheCaller() {
+            simulation.start();
+            assertThrows(IllegalStateException.class, () -> simulation.call(c -> {
+                throw new IllegalStateException("rejected");
+            }));
+            assertTrue(simulation.isRunning(), "A failed command must not stop the simulation.");
+        }
+    }
+}
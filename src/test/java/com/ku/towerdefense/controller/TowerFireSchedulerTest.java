@@ -0,0 +1,125 @@
+package com.ku.towerdefense.controller;
+
+import com.ku.towerdefense.model.entity.ArcherTower;
+import com.ku.towerdefense.model.entity.Enemy;
+import com.ku.towerdefense.model.entity.Goblin;
+import com.ku.towerdefense.model.entity.Projectile;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TowerFireSchedulerTest {
+
+    private TowerFireScheduler scheduler;
+    private ArcherTower tower;
+    private List<Enemy> enemies;
+    private List<Projectile> fired;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TowerFireScheduler(20, 20, 64);
+        tower = new ArcherTower(0, 0);
+        enemies = new ArrayList<>();
+        fired = new ArrayList<>();
+        scheduler.addTower(tower, 0);
+    }
+
+    /** Place an enemy so its center sits at the given point. */
+    private Goblin enemyCenteredAt(double cx, double cy) {
+        Goblin goblin = new Goblin(0, 0);
+        goblin.setPosition(cx - goblin.getWidth() / 2, cy - goblin.getHeight() / 2);
+        return goblin;
+    }
+
+    @Nested
+    class CooldownTests {
+        @Test
+        void firesImmediatelyWhenEnemyInRange() {
+            enemies.add(enemyCenteredAt(tower.getCenterX() + 50, tower.getCenterY()));
+            scheduler.tick(0, enemies, fired);
+            assertEquals(1, fired.size(), "A freshly added tower should fire at an enemy in range.");
+        }
+
+        @Test
+        void respectsFireRateOnSimulationClock() {
+            enemies.add(enemyCenteredAt(tower.getCenterX() + 50, tower.getCenterY()));
+            scheduler.tick(0, enemies, fired);
+            scheduler.tick(tower.getFireRate() - 1, enemies, fired);
+            assertEquals(1, fired.size(), "Tower should not fire again before its cooldown expires.");
+            scheduler.tick(tower.getFireRate(), enemies, fired);
+            assertEquals(2, fired.size(), "Tower should fire again once its cooldown expires.");
+        }
+    }
+
+    @Nested
+    class ParkingTests {
+        @Test
+        void parksWithoutEnemiesInRange() {
+            enemies.add(enemyCenteredAt(1200, 1200));
+            scheduler.tick(0, enemies, fired);
+            assertTrue(fired.isEmpty(), "No projectile should be fired at an out-of-range enemy.");
+            assertEquals(1, scheduler.getParkedCount(), "Idle tower should be parked.");
+        }
+
+        @Test
+        void wakesWhenEnemyEntersRange() {
+            Goblin goblin = enemyCenteredAt(1200, 1200);
+            enemies.add(goblin);
+            scheduler.tick(0, enemies, fired);
+
+            goblin.setPosition(tower.getCenterX() + 100 - goblin.getWidth() / 2,
+                    tower.getCenterY() - goblin.getHeight() / 2);
+            scheduler.tick(5000, enemies, fired);
+            assertEquals(1, fired.size(), "Parked tower should wake and fire when an enemy enters its range.");
+            assertEquals(0, scheduler.getParkedCount(), "Tower should no longer be parked.");
+        }
+
+        @Test
+        void removingParkedTowerClearsIt() {
+            scheduler.tick(0, enemies, fired);
+            assertEquals(1, scheduler.getParkedCount());
+            scheduler.removeTower(tower);
+            assertEquals(0, scheduler.getParkedCount(), "Removed tower should leave the coverage grid.");
+            assertEquals(0, scheduler.getTowerCount(), "Removed tower should leave the scheduler.");
+        }
+    }
+
+    @Nested
+    class ParallelTargetingTests {
+        private List<Projectile> fireAll(boolean parallel, List<Enemy> targets) {
+            TowerFireScheduler s = new TowerFireScheduler(20, 20, 64);
+            s.setParallelTargeting(parallel, 1);
+            for (int i = 0; i < 48; i++) {
+                s.addTower(new ArcherTower((i % 8) * 64, (i / 8) * 64), 0);
+            }
+            List<Projectile> out = new ArrayList<>();
+            s.tick(0, targets, out);
+            return out;
+        }
+
+        @Test
+        void parallelMatchesSequential() {
+            List<Enemy> targets = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Goblin goblin = enemyCenteredAt(40 + i * 45, 60 + (i % 3) * 120);
+                goblin.setPathProgress(i / 10.0);
+                targets.add(goblin);
+            }
+
+            List<Projectile> sequential = fireAll(false, targets);
+            List<Projectile> parallel = fireAll(true, targets);
+
+            assertEquals(sequential.size(), parallel.size(), "Both paths should fire the same number of shots.");
+            for (int i = 0; i < sequential.size(); i++) {
+                assertSame(sequential.get(i).getTarget(), parallel.get(i).getTarget(),
+                        "Shot " + i + " should pick the same target in both paths.");
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ku.towerdefense.event;
+
+import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.model.entity.ArcherTower;
+import com.ku.towerdefense.model.map.GameMap;
+import com.ku.towerdefense.model.map.TestMaps;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+    @Nested
+    class DispatchTests {
+        @Test
+        void listenersReceiveBatchAfterDispatch() {
+            GameEventBus bus = new GameEventBus(16);
+            List<Integer> amounts = new ArrayList<>();
+            bus.subscribe(GameEventType.ENEMY_KILLED.bit(), events -> {
+                for (int i = 0; i < events.size(); i++) {
+                    if (events.type(i) == GameEventType.ENEMY_KILLED) {
+                        amounts.add(events.amount(i));
+                    }
+                }
+            });
+
+            bus.publish(GameEventType.ENEMY_KILLED, 1, 0, 0, 5, 0, null);
+            bus.publish(GameEventType.TOWER_BUILT, 1, 2, 3, 50, 1, null);
+            bus.publish(GameEventType.ENEMY_KILLED, 2, 0, 0, 8, 0, null);
+            assertTrue(amounts.isEmpty(), "Nothing should be delivered before the dispatch.");
+
+            bus.dispatch();
+            assertEquals(List.of(5, 8), amounts);
+            assertEquals(0, bus.pending());
+        }
+
+        @Test
+        void listenerIsSkippedWhenBatchHasNoMatchingType() {
+            GameEventBus bus = new GameEventBus(16);
+            int[] calls = new int[1];
+            bus.subscribe(GameEventType.WAVE_COMPLETED.bit(), events -> calls[0]++);
+
+            bus.publish(GameEventType.PROJECTILE_HIT, 1, 0, 0, 10, 0, null);
+            bus.dispatch();
+            assertEquals(0, calls[0]);
+        }
+
+        @Test
+        void fullRingDispatchesEarlyInsteadOfLosingEvents() {
+            GameEventBus bus = new GameEventBus(8);
+            int[] received = new int[1];
+            bus.subscribe(GameEventType.ENEMY_KILLED.bit(), events -> received[0] += events.size());
+
+            for (int i = 0; i < 20; i++) {
+                bus.publish(GameEventType.ENEMY_KILLED, i, 0, 0, 1, 0, null);
+            }
+            bus.dispatch();
+            assertEquals(20, received[0]);
+            assertEquals(0, bus.getDroppedCount());
+        }
+
+        @Test
+        void eventsPublishedDuringDispatchWaitForTheNextOne() {
+            GameEventBus bus = new GameEventBus(16);
+            List<GameEventType> seen = new ArrayList<>();
+            bus.subscribe(GameEventType.maskOf(GameEventType.WAVE_STARTED, GameEventType.WAVE_COMPLETED), events -> {
+                for (int i = 0; i < events.size(); i++) {
+                    seen.add(events.type(i));
+                    if (events.type(i) == GameEventType.WAVE_COMPLETED) {
+                        bus.publish(GameEventType.WAVE_STARTED, 0, 0, 0, 0, 2, null);
+                    }
+                }
+            });
+
+            bus.publish(GameEventType.WAVE_COMPLETED, 0, 0, 0, 100, 1, null);
+            bus.dispatch();
+            assertEquals(List.of(GameEventType.WAVE_COMPLETED), seen);
+            bus.dispatch();
+            assertEquals(List.of(GameEventType.WAVE_COMPLETED, GameEventType.WAVE_STARTED), seen);
+        }
+    }
+
+    @Nested
+    class GameEventTests {
+        @Test
+        void controllerPublishesCombatAndWaveEvents() {
+            GameController controller = new GameController(TestMaps.straightPath(), 11L);
+            List<GameEventType> seen = new ArrayList<>();
+            controller.getEventBus().subscribe(~0L, events -> {
+                for (int i = 0; i < events.size(); i++) {
+                    seen.add(events.type(i));
+                }
+            });
+
+            controller.startGame();
+            assertTrue(controller.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1));
+            for (int i = 0; i < 1200; i++) {
+                controller.tick();
+            }
+            controller.getEventBus().dispatch();
+
+            assertEquals(GameEventType.TOWER_BUILT, seen.get(0));
+            assertTrue(seen.contains(GameEventType.WAVE_STARTED));
+            assertTrue(seen.contains(GameEventType.PROJECTILE_HIT), "The archer should have hit something.");
+        }
+
+        @Test
+        void sellingByPixelPositionPublishesAndFreesTheSlot() {
+            GameController controller = new GameController(TestMaps.straightPath(), 11L);
+            List<GameEventType> seen = new ArrayList<>();
+            controller.getEventBus().subscribe(GameEventType.TOWER_SOLD.bit(), events -> {
+                for (int i = 0; i < events.size(); i++) {
+                    if (events.type(i) == GameEventType.TOWER_SOLD) {
+                        seen.add(events.type(i));
+                    }
+                }
+            });
+
+            assertTrue(controller.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1));
+            double tileSize = GameMap.TILE_SIZE;
+            assertTrue(controller.sellTower(4.5 * tileSize, 1.5 * tileSize) > 0);
+            controller.getEventBus().dispatch();
+
+            assertEquals(List.of(GameEventType.TOWER_SOLD), seen);
+            assertTrue(controller.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1), "The slot should be free again.");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.ku.towerdefense.jfr;
+
+import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.model.map.TestMaps;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+
+    private static List<RecordedEvent> record(Runnable work) throws IOException {
+        Path file = Files.createTempFile("kutd", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TickEvent.class);
+            recording.enable(WaveStartedEvent.class);
+            recording.enable(PathRebuildEvent.class);
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+
+    @Nested
+    class SimulationEventTests {
+        @Test
+        void ticksWavesAndPathRebuildsAreRecorded() throws IOException {
+            List<RecordedEvent> events = record(() -> {
+                GameController controller = new GameController(TestMaps.straightPath(), 5L);
+                controller.startGame();
+                for (int i = 0; i < 600; i++) {
+                    controller.tick();
+                }
+            });
+
+            assertEquals(600, count(events, "com.ku.towerdefense.Tick"));
+            assertTrue(count(events, "com.ku.towerdefense.WaveStarted") >= 1, "The first wave should have started.");
+            // The map constructor builds an empty path first; the last rebuild has the real one
+            RecordedEvent path = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("com.ku.towerdefense.PathRebuild"))
+                    .reduce((first, second) -> second).orElseThrow();
+            assertEquals("TestMap", path.getString("map"));
+            assertTrue(path.getInt("points") > 0);
+        }
+    }
+}
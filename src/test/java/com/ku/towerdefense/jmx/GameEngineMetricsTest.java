@@ -0,0 +1,97 @@
+package com.ku.towerdefense.jmx;
+
+import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.model.entity.ArcherTower;
+import com.ku.towerdefense.model.map.TestMaps;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineMetricsTest {
+
+    private static final long MS = 1_000_000L;
+
+    /**
+     * Feed 60 ticks 17 ms apart; the last one closes a 1.003 s window.
+     */
+    private static void runOneWindow(GameEngineMetrics metrics, GameController controller, long start) {
+        for (int i = 0; i < 60; i++) {
+            long duration = i == 30 ? 8 * MS : 2 * MS;
+            metrics.recordTick(controller, duration, start + i * 17 * MS);
+        }
+    }
+
+    @Nested
+    class TickTests {
+        @Test
+        void windowPublishesRateAverageAndMax() {
+            GameEngineMetrics metrics = new GameEngineMetrics();
+            GameController controller = new GameController(TestMaps.straightPath(), 3L);
+            runOneWindow(metrics, controller, System.nanoTime() - 1100 * MS);
+
+            assertEquals(60, metrics.getTickCount());
+            assertEquals(60 / 1.003, metrics.getTicksPerSecond(), 1e-6);
+            assertEquals(8.0, metrics.getMaxTickMillis(), 1e-9);
+            assertEquals((59 * 2 + 8) / 60.0, metrics.getAverageTickMillis(), 1e-9);
+        }
+
+        @Test
+        void oldWindowReadsAsIdle() {
+            GameEngineMetrics metrics = new GameEngineMetrics();
+            GameController controller = new GameController(TestMaps.straightPath(), 3L);
+            runOneWindow(metrics, controller, System.nanoTime() - 10_000 * MS);
+
+            assertEquals(0, metrics.getTicksPerSecond(), "A paused game runs no ticks.");
+            assertEquals(60, metrics.getTickCount());
+        }
+    }
+
+    @Nested
+    class SnapshotTests {
+        @Test
+        void entityCountsAndBuffersAreCollectedFromTheController() {
+            GameEngineMetrics metrics = new GameEngineMetrics();
+            GameController controller = new GameController(TestMaps.straightPath(), 5L);
+            controller.startGame();
+            assertTrue(controller.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1));
+            runOneWindow(metrics, controller, System.nanoTime() - 1100 * MS);
+
+            assertEquals(1, metrics.getEntityCounts().get("ArcherTower"));
+            assertEquals(0, metrics.getEntityCounts().get("Projectile"));
+            assertTrue(metrics.getPoolOccupancy().containsKey("rewindSlots"));
+            assertEquals(controller.getGameSpeed(), metrics.getSpeedMultiplier());
+        }
+
+        @Test
+        void registeredCachesReportHitRate() {
+            GameEngineMetrics metrics = new GameEngineMetrics();
+            AtomicLong hits = new AtomicLong(3);
+            metrics.registerCache("sprites", hits::get, () -> 1);
+            metrics.registerPool("spritePool", () -> 0.25);
+            runOneWindow(metrics, new GameController(TestMaps.straightPath(), 5L), System.nanoTime() - 1100 * MS);
+
+            assertEquals(0.75, metrics.getCacheHitRates().get("sprites"), 1e-9);
+            assertEquals(0.25, metrics.getPoolOccupancy().get("spritePool"), 1e-9);
+        }
+
+        @Test
+        void sharedInstanceIsVisibleOnThePlatformServer() throws Exception {
+            GameEngineMetrics metrics = GameEngineMetrics.getInstance();
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(GameEngineMetrics.OBJECT_NAME);
+
+            assertTrue(server.isRegistered(name));
+            metrics.recordFrames(59.5, 20, 4, 0.5);
+            assertEquals(59.5, (Double) server.getAttribute(name, "FramesPerSecond"), 1e-9);
+            assertEquals(0.5, (Double) server.getAttribute(name, "AllocatedKBPerTick"), 1e-9);
+            assertNotNull(server.getAttribute(name, "EntityCounts"));
+        }
+    }
+}
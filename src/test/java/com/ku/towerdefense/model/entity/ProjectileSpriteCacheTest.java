@@ -0,0 +1,71 @@
+package com.ku.towerdefense.model.entity;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectileSpriteCacheTest {
+
+    private static Projectile projectile(DamageType type, double width, double height) {
+        return new Projectile(0, 0, width, height, null, 10, type, 300, null);
+    }
+
+    @Nested
+    class FrameSelectionTests {
+        @Test
+        void anglesMapToTheNearestBucket() {
+            int buckets = ProjectileSpriteCache.ROTATION_BUCKETS;
+            assertEquals(0, ProjectileSpriteCache.rotationBucket(0, buckets));
+            assertEquals(0, ProjectileSpriteCache.rotationBucket(5, buckets), "5 degrees is nearer 0 than 11.25.");
+            assertEquals(8, ProjectileSpriteCache.rotationBucket(90, buckets));
+            assertEquals(24, ProjectileSpriteCache.rotationBucket(-90, buckets), "atan2 angles can be negative.");
+            assertEquals(0, ProjectileSpriteCache.rotationBucket(359, buckets));
+        }
+
+        @Test
+        void eachFrameIsDrawnAtATimeThatSelectsIt() {
+            for (DamageType type : DamageType.values()) {
+                int frames = type == DamageType.MAGIC ? ProjectileSpriteCache.MAGIC_FRAMES
+                        : type == DamageType.EXPLOSIVE ? ProjectileSpriteCache.BOMB_FRAMES : 1;
+                for (int frame = 0; frame < frames; frame++) {
+                    long time = Math.round(ProjectileSpriteCache.frameTimeMs(type, frame, frames));
+                    assertEquals(frame, ProjectileSpriteCache.animationFrame(type, frames, time),
+                            type + " frame " + frame);
+                }
+            }
+        }
+    }
+
+    @Nested
+    class SpriteSetTests {
+        @Test
+        void projectilesWithTheSameLookShareASet() {
+            ProjectileSpriteCache cache = new ProjectileSpriteCache();
+            ProjectileSpriteCache.SpriteSet arrows = cache.getSpriteSet(projectile(DamageType.ARROW, 16, 8));
+
+            assertSame(arrows, cache.getSpriteSet(projectile(DamageType.ARROW, 16, 8)));
+            assertEquals(ProjectileSpriteCache.ROTATION_BUCKETS, arrows.getImageCount());
+            assertTrue(arrows.getSize() >= 2 * 16, "The sprite must fit the arrow at any rotation.");
+
+            Projectile blue = projectile(DamageType.MAGIC, 12, 12);
+            blue.setColor(Color.DODGERBLUE);
+            ProjectileSpriteCache.SpriteSet orbs = cache.getSpriteSet(blue);
+            assertNotSame(orbs, cache.getSpriteSet(projectile(DamageType.MAGIC, 12, 12)), "Colour is part of the look.");
+            assertEquals(ProjectileSpriteCache.MAGIC_FRAMES, orbs.getImageCount());
+            assertEquals(3, cache.getSetCount());
+        }
+
+        @Test
+        void framesAreNotRenderedOffTheFxThread() {
+            ProjectileSpriteCache cache = new ProjectileSpriteCache();
+            Projectile bomb = projectile(DamageType.EXPLOSIVE, 20, 20);
+            ProjectileSpriteCache.SpriteSet set = cache.getSpriteSet(bomb);
+
+            assertNull(cache.getFrame(set, bomb, 0, 1000), "The caller should fall back to drawing the shape.");
+            assertEquals(0, cache.getHitCount());
+            assertEquals(0, cache.getMissCount());
+        }
+    }
+}
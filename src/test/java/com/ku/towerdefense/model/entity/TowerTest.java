@@ -74,6 +74,16 @@ class TowerTest {
 
     @Nested
     class FunctionalTests {
+        @Test
+        void overlapsOnlyRectanglesTouchingItsBounds() {
+            at.setPosition(100, 100);
+            double right = 100 + at.getWidth();
+            assertTrue(at.overlaps(0, 0, 1000, 1000), "Tower inside the view should overlap it.");
+            assertTrue(at.overlaps(right, 0, right + 50, 1000), "Touching the right edge counts as overlapping.");
+            assertFalse(at.overlaps(right + 1, 0, right + 50, 1000), "Tower left of the view should not overlap.");
+            assertFalse(at.overlaps(0, 0, 1000, 99), "Tower below the view should not overlap.");
+        }
+
         @Test
         void sellRefundIsCorrectPercentage() {
             // The assignment example implies a specific refund calculation.
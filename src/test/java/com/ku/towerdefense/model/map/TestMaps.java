@@ -0,0 +1,28 @@
+package com.ku.towerdefense.model.map;
+
+/**
+ * Maps shared by the tests that run whole games.
+ */
+public final class TestMaps {
+
+    private TestMaps() {
+    }
+
+    /**
+     * A 10x5 map with a straight east-west path along row 2, ending below the
+     * castle, and one tower slot at (4,1). The path is generated. Tile images
+     * are turned off, since tests run without JavaFX.
+     */
+    public static GameMap straightPath() {
+        Tile.isFxAvailable = false;
+        GameMap map = new GameMap("TestMap", 10, 5);
+        map.setTileType(0, 2, TileType.START_POINT);
+        for (int x = 1; x < 10; x++) {
+            map.setTileType(x, 2, TileType.PATH_HORIZONTAL);
+        }
+        map.setTileType(8, 1, TileType.END_POINT); // enemies walk to the castle's right side at (9,1)
+        map.setTileType(4, 1, TileType.TOWER_SLOT);
+        map.generatePath();
+        return map;
+    }
+}
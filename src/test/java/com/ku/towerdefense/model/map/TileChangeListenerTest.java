@@ -0,0 +1,63 @@
+package com.ku.towerdefense.model.map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileChangeListenerTest {
+
+    private GameMap map;
+    private final List<int[]> changed = new ArrayList<>();
+
+    @BeforeAll
+    static void disableFxForTests() {
+        Tile.isFxAvailable = false;
+    }
+
+    @BeforeEach
+    void setUp() {
+        map = new GameMap("ListenerMap", 5, 5);
+        map.setTileChangeListener((x, y) -> changed.add(new int[] { x, y }));
+    }
+
+    @Nested
+    class ReportTests {
+        @Test
+        void eachChangedTileIsReportedOnce() {
+            map.setTileType(2, 3, TileType.TOWER_SLOT);
+            map.setTileType(2, 3, TileType.TOWER_SLOT);
+            assertEquals(1, changed.size(), "Setting the same type again is not a change.");
+            assertArrayEquals(new int[] { 2, 3 }, changed.get(0));
+        }
+
+        @Test
+        void aClearedStartPointIsReported() {
+            map.setTileType(0, 0, TileType.START_POINT);
+            changed.clear();
+            map.setTileType(0, 4, TileType.START_POINT);
+            assertEquals(2, changed.size(), "Both the old start point and the new one changed.");
+            assertArrayEquals(new int[] { 0, 0 }, changed.get(0));
+        }
+
+        @Test
+        void towerOccupationIsReported() {
+            map.setTileType(1, 1, TileType.TOWER_SLOT);
+            changed.clear();
+            map.setTileAsOccupiedByTower(1, 1, true);
+            assertEquals(1, changed.size());
+        }
+
+        @Test
+        void aRemovedListenerHearsNothing() {
+            map.setTileChangeListener(null);
+            map.setTileType(1, 1, TileType.TOWER_SLOT);
+            assertTrue(changed.isEmpty());
+        }
+    }
+}
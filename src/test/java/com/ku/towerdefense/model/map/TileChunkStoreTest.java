@@ -0,0 +1,184 @@
+package com.ku.towerdefense.model.map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileChunkStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void disableFxForTests() {
+        Tile.isFxAvailable = false;
+    }
+
+    @Nested
+    class StoreTests {
+        @Test
+        void typesSurviveReopening() throws IOException {
+            Path file = dir.resolve("map.tiles");
+            TileChunkStore store = TileChunkStore.create(file, 100, 70, TileType.GRASS);
+            store.setType(99, 69, TileType.TOWER_SLOT);
+            store.setType(33, 5, TileType.PATH_HORIZONTAL);
+            store.flush();
+
+            TileChunkStore reopened = TileChunkStore.open(file);
+            assertEquals(100, reopened.getWidth());
+            assertEquals(TileType.TOWER_SLOT, reopened.getType(99, 69));
+            assertEquals(TileType.PATH_HORIZONTAL, reopened.getTile(33, 5).getType());
+            assertEquals(TileType.GRASS, reopened.getType(0, 0));
+        }
+
+        @Test
+        void theCacheKeepsOnlyTheRecentChunks() throws IOException {
+            TileChunkStore store = TileChunkStore.create(dir.resolve("map.tiles"), 320, 32, TileType.GRASS, 4);
+            for (int cx = 0; cx < 10; cx++) {
+                store.getTile(cx * TileChunkStore.CHUNK_SIZE, 0);
+            }
+            assertEquals(4, store.getCachedChunkCount());
+            assertTrue(store.isCached(9, 0));
+            assertFalse(store.isCached(0, 0), "The least recently used chunk is evicted first.");
+        }
+
+        @Test
+        void editsOutliveEviction() throws IOException {
+            TileChunkStore store = TileChunkStore.create(dir.resolve("map.tiles"), 320, 32, TileType.GRASS, 2);
+            store.getTile(0, 0);
+            store.setType(1, 1, TileType.TREE_BIG);
+            for (int cx = 1; cx < 10; cx++) {
+                store.getTile(cx * TileChunkStore.CHUNK_SIZE, 0);
+            }
+            assertFalse(store.isCached(0, 0));
+            assertEquals(TileType.TREE_BIG, store.getTile(1, 1).getType());
+        }
+
+        @Test
+        void prefetchPagesInTheViewAndItsSurroundings() throws Exception {
+            TileChunkStore store = TileChunkStore.create(dir.resolve("map.tiles"), 320, 320, TileType.GRASS);
+            store.prefetch(100, 100, 120, 120); // chunks (3,3) only, plus a ring
+            long deadline = System.currentTimeMillis() + 5000;
+            while (store.getCachedChunkCount() < 9 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(9, store.getCachedChunkCount());
+            assertTrue(store.isCached(2, 2));
+            assertTrue(store.isCached(4, 4));
+            assertFalse(store.isCached(5, 5));
+        }
+
+        @Test
+        void findSkipsThePaddingOfEdgeChunks() throws IOException {
+            TileChunkStore store = TileChunkStore.create(dir.resolve("map.tiles"), 40, 40, TileType.TOWER_SLOT);
+            store.setType(39, 39, TileType.GRASS);
+            assertArrayEquals(new int[] { 39, 39 }, store.find(TileType.GRASS),
+                    "The unused part of an edge chunk is not a tile.");
+            assertNull(store.find(TileType.HOUSE));
+        }
+    }
+
+    @Nested
+    class ChunkedMapTests {
+        private GameMap roundTrip(GameMap map) throws Exception {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(map);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return (GameMap) in.readObject();
+            }
+        }
+
+        private GameMap pathMap() throws IOException {
+            GameMap map = GameMap.createChunked("Chunked", 100, 50, dir.resolve("chunked.tiles").toFile());
+            map.setTileType(0, 40, TileType.START_POINT);
+            for (int x = 1; x < 100; x++) {
+                map.setTileType(x, 40, TileType.PATH_HORIZONTAL);
+            }
+            map.setTileType(70, 39, TileType.END_POINT);
+            return map;
+        }
+
+        @Test
+        void aPathIsFoundAcrossChunks() throws IOException {
+            GameMap map = pathMap();
+            assertTrue(map.isChunked());
+            assertNotNull(map.getEnemyPath(), "The path crosses four chunks.");
+            assertEquals(0, map.findTileByType(TileType.START_POINT).getX());
+        }
+
+        @Test
+        void aSecondStartPointReplacesTheFirst() throws IOException {
+            GameMap map = pathMap();
+            map.setTileType(0, 10, TileType.START_POINT);
+            assertEquals(TileType.GRASS, map.getTileType(0, 40));
+            assertEquals(10, map.findTileByType(TileType.START_POINT).getY());
+        }
+
+        @Test
+        void aSavedMapReopensItsTileFile() throws Exception {
+            GameMap map = pathMap();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(map);
+            }
+            assertTrue(bytes.size() < 4096, "Tiles are saved in their file, not the stream.");
+
+            GameMap loaded;
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                loaded = (GameMap) in.readObject();
+            }
+            assertTrue(loaded.isChunked());
+            assertEquals(TileType.PATH_HORIZONTAL, loaded.getTileType(35, 40));
+            assertNotNull(loaded.getEnemyPath());
+        }
+
+        @Test
+        void playingALoadedMapLeavesItsFileUnchanged() throws Exception {
+            GameMap map = pathMap();
+            map.setTileType(50, 41, TileType.TOWER_SLOT);
+            GameMap loaded = roundTrip(map);
+            Path file = dir.resolve("chunked.tiles");
+            byte[] saved = Files.readAllBytes(file);
+
+            loaded.setTileAsOccupiedByTower(50, 41, true);
+            assertEquals(TileType.GRASS, loaded.getTileType(50, 41), "The game sees the slot as taken.");
+            roundTrip(loaded); // flushes, as a save game would
+            assertArrayEquals(saved, Files.readAllBytes(file), "The saved map must not change.");
+        }
+
+        @Test
+        void theEditorWritesALoadedMapThrough() throws Exception {
+            GameMap loaded = roundTrip(pathMap());
+            loaded.editInPlace();
+            loaded.setTileType(60, 10, TileType.TREE_BIG);
+            roundTrip(loaded);
+            assertEquals(TileType.TREE_BIG, TileChunkStore.open(dir.resolve("chunked.tiles")).getType(60, 10));
+        }
+
+        @Test
+        void mapsSavedUnderTwoNamesHaveTheirOwnTiles() throws Exception {
+            GameMap map = pathMap();
+            map.saveTilesTo(dir.resolve("first.tiles").toFile());
+            map.saveTilesTo(dir.resolve("second.tiles").toFile());
+            map.setTileType(60, 10, TileType.TREE_BIG);
+
+            assertEquals(dir.resolve("second.tiles").toFile().getAbsoluteFile(), map.getTileFile().getAbsoluteFile());
+            assertEquals(TileType.GRASS, TileChunkStore.open(dir.resolve("first.tiles")).getType(60, 10));
+            assertEquals(TileType.TREE_BIG, TileChunkStore.open(dir.resolve("second.tiles")).getType(60, 10));
+            assertEquals(TileType.PATH_HORIZONTAL, TileChunkStore.open(dir.resolve("first.tiles")).getType(35, 40));
+        }
+    }
+}
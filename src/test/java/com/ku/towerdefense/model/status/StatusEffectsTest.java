@@ -0,0 +1,144 @@
+package com.ku.towerdefense.model.status;
+
+import com.ku.towerdefense.model.entity.Enemy;
+import com.ku.towerdefense.model.entity.Goblin;
+import com.ku.towerdefense.model.map.Tile;
+import com.ku.towerdefense.util.TimerWheel;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusEffectsTest {
+
+    private TimerWheel timers;
+    private StatusEffects effects;
+
+    @BeforeAll
+    static void disableFxForTests() {
+        Tile.isFxAvailable = false;
+    }
+
+    @BeforeEach
+    void setUp() {
+        timers = new TimerWheel(0);
+        effects = new StatusEffects(timers);
+    }
+
+    @Nested
+    class StackingTests {
+        @Test
+        void speedEffectsMultiply() {
+            Enemy goblin = new Goblin(0, 0);
+            effects.apply(goblin, StatusEffectType.SLOW, 0.8, 100);
+            effects.apply(goblin, StatusEffectType.SPEED_BOOST, 1.25, StatusEffects.PERMANENT);
+
+            assertEquals(1.0, goblin.getStatusSpeedFactor(), 1e-9, "0.8 slow and 1.25 boost should cancel out.");
+            assertTrue(goblin.isSlowed());
+        }
+
+        @Test
+        void strongestSlowWinsAndKeepsLaterExpiry() {
+            Enemy goblin = new Goblin(0, 0);
+            effects.apply(goblin, StatusEffectType.SLOW, 0.5, 100);
+            effects.apply(goblin, StatusEffectType.SLOW, 0.8, 200);
+
+            assertEquals(0.5, effects.getMagnitude(goblin, StatusEffectType.SLOW), 1e-9, "Stronger slow should stay.");
+            assertEquals(200, effects.remainingTicks(goblin, StatusEffectType.SLOW), "Later expiry should be kept.");
+            assertEquals(1, effects.count(StatusEffectType.SLOW), "Stacking should not add a second entry.");
+        }
+
+        @Test
+        void refreshReplacesMagnitude() {
+            Enemy goblin = new Goblin(0, 0);
+            effects.apply(goblin, StatusEffectType.SPEED_BOOST, 1.5, StatusEffects.PERMANENT);
+            effects.apply(goblin, StatusEffectType.SPEED_BOOST, 1.2, StatusEffects.PERMANENT);
+
+            assertEquals(1.2, goblin.getStatusSpeedFactor(), 1e-9);
+        }
+    }
+
+    @Nested
+    class ExpiryTests {
+        @Test
+        void effectEndsOnTheSimulationClock() {
+            Enemy goblin = new Goblin(0, 0);
+            effects.apply(goblin, StatusEffectType.SLOW, 0.8, 240);
+
+            timers.advanceTo(239);
+            assertTrue(goblin.isSlowed(), "Slow should still be active one tick before expiry.");
+            timers.advanceTo(240);
+            assertFalse(goblin.isSlowed(), "Slow should end on its expiry tick.");
+            assertEquals(1.0, goblin.getStatusSpeedFactor(), 1e-9);
+        }
+
+        @Test
+        void refreshedEffectIgnoresItsOldTimer() {
+            Enemy goblin = new Goblin(0, 0);
+            effects.apply(goblin, StatusEffectType.FREEZE, 0.0, 10);
+            timers.advanceTo(5);
+            effects.apply(goblin, StatusEffectType.FREEZE, 0.0, 10);
+
+            timers.advanceTo(10);
+            assertTrue(goblin.isFrozen(), "Refreshed freeze should outlive the first timer.");
+            timers.advanceTo(15);
+            assertFalse(goblin.isFrozen());
+        }
+
+        @Test
+        void batchFreezeAppliesAndExpiresTogether() {
+            List<Enemy> enemies = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                enemies.add(new Goblin(i, 0));
+            }
+            effects.applyToAll(enemies, StatusEffectType.FREEZE, 0.0, 300);
+
+            assertEquals(5000, effects.count(StatusEffectType.FREEZE));
+            assertEquals(1, timers.size(), "A batch with one duration should share a single timer.");
+            assertEquals(0.0, enemies.get(4321).getStatusSpeedFactor(), 1e-9);
+
+            timers.advanceTo(300);
+            assertEquals(0, effects.count(StatusEffectType.FREEZE), "All freezes should expire together.");
+            assertEquals(1.0, enemies.get(4321).getStatusSpeedFactor(), 1e-9);
+        }
+    }
+
+    @Nested
+    class RemovalTests {
+        @Test
+        void swapRemovalKeepsOtherEntriesReachable() {
+            Enemy first = new Goblin(0, 0);
+            Enemy second = new Goblin(1, 0);
+            Enemy third = new Goblin(2, 0);
+            effects.apply(first, StatusEffectType.SLOW, 0.7, 100);
+            effects.apply(second, StatusEffectType.SLOW, 0.8, 100);
+            effects.apply(third, StatusEffectType.SLOW, 0.9, 100);
+
+            effects.removeAll(first);
+
+            assertFalse(first.isSlowed());
+            assertEquals(1.0, first.getStatusSpeedFactor(), 1e-9);
+            assertEquals(0.9, effects.getMagnitude(third, StatusEffectType.SLOW), 1e-9,
+                    "Entry moved into the freed slot should still be found.");
+            assertEquals(2, effects.count(StatusEffectType.SLOW));
+        }
+
+        @Test
+        void clearResetsEnemies() {
+            Enemy goblin = new Goblin(0, 0);
+            effects.apply(goblin, StatusEffectType.FREEZE, 0.0, 100);
+            effects.clear();
+
+            assertFalse(goblin.isFrozen());
+            assertEquals(1.0, goblin.getStatusSpeedFactor(), 1e-9);
+            timers.advanceTo(100); // the stale timer must not touch anything
+            assertEquals(0, effects.count(StatusEffectType.FREEZE));
+        }
+    }
+}
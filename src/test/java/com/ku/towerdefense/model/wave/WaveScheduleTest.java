@@ -0,0 +1,117 @@
+package com.ku.towerdefense.model.wave;
+
+import com.ku.towerdefense.model.entity.Enemy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaveScheduleTest {
+
+    private static final double TICK = 1.0 / 60.0;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void restoreSettingsWaves() {
+        WaveConfig.setWaves(null);
+    }
+
+    @Nested
+    class CompileTests {
+        @Test
+        void interleavesGroupsInTickOrder() {
+            Wave wave = new Wave(1);
+            wave.addEnemySpawn(Enemy.EnemyType.GOBLIN, 3, 1.0, 0.5); // 0.5s, 1.5s, 2.5s
+            wave.addEnemySpawn(Enemy.EnemyType.KNIGHT, 2, 1.0, 1.0); // 1.0s, 2.0s
+
+            WaveSchedule schedule = WaveSchedule.compile(wave, TICK);
+
+            assertEquals(5, schedule.size());
+            int[] expectedTicks = { 30, 60, 90, 120, 150 };
+            Enemy.EnemyType[] expectedTypes = { Enemy.EnemyType.GOBLIN, Enemy.EnemyType.KNIGHT,
+                    Enemy.EnemyType.GOBLIN, Enemy.EnemyType.KNIGHT, Enemy.EnemyType.GOBLIN };
+            for (int i = 0; i < schedule.size(); i++) {
+                assertEquals(expectedTicks[i], schedule.getSpawnTick(i), "Tick of event " + i);
+                assertEquals(expectedTypes[i], schedule.getEnemyType(i), "Type of event " + i);
+            }
+        }
+
+        @Test
+        void simultaneousEventsKeepDefinitionOrder() {
+            Wave wave = new Wave(1);
+            wave.addEnemySpawn(Enemy.EnemyType.KNIGHT, 1, 0, 1.0);
+            wave.addEnemySpawn(Enemy.EnemyType.GOBLIN, 1, 0, 1.0);
+
+            WaveSchedule schedule = WaveSchedule.compile(wave, TICK);
+
+            assertEquals(Enemy.EnemyType.KNIGHT, schedule.getEnemyType(0));
+            assertEquals(Enemy.EnemyType.GOBLIN, schedule.getEnemyType(1));
+        }
+    }
+
+    @Nested
+    class FileTests {
+        @Test
+        void loadsWavesFromFile() throws Exception {
+            Path file = tempDir.resolve("waves.txt");
+            Files.writeString(file, "# test waves\n"
+                    + "wave\n"
+                    + "GOBLIN 4 1.0 0.5\n"
+                    + "wave\n"
+                    + "goblin 2 0.5 0   # lower case is fine\n"
+                    + "KNIGHT 3 2.0 1.0\n");
+
+            List<Wave> waves = WaveConfig.loadFromFile(file);
+            WaveConfig.setWaves(waves);
+
+            assertEquals(2, WaveConfig.getTotalWaves());
+            assertEquals(4, WaveConfig.getWave(1).getTotalEnemies());
+            assertEquals(5, WaveConfig.getWave(2).getTotalEnemies());
+            assertEquals(3, WaveSchedule.compile(WaveConfig.getWave(2), TICK).count(Enemy.EnemyType.KNIGHT));
+            assertNull(WaveConfig.getWave(3), "There is no third wave.");
+        }
+
+        @Test
+        void rejectsMalformedLine() throws Exception {
+            Path file = tempDir.resolve("bad.txt");
+            Files.writeString(file, "wave\nDRAGON 1 1 1\n");
+
+            assertThrows(IllegalArgumentException.class, () -> WaveConfig.loadFromFile(file));
+        }
+    }
+
+    @Nested
+    class EndlessTests {
+        @Test
+        void sameSeedGivesSameWave() {
+            WaveSchedule a = WaveSchedule.compile(EndlessWaveGenerator.generate(12, 99L), TICK);
+            WaveSchedule b = WaveSchedule.compile(EndlessWaveGenerator.generate(12, 99L), TICK);
+
+            assertEquals(a.size(), b.size());
+            for (int i = 0; i < a.size(); i++) {
+                assertEquals(a.getSpawnTick(i), b.getSpawnTick(i), "Tick of event " + i);
+                assertEquals(a.getEnemyType(i), b.getEnemyType(i), "Type of event " + i);
+            }
+        }
+
+        @Test
+        void wavesGrowWithoutBound() {
+            Wave early = EndlessWaveGenerator.generate(2, 5L);
+            Wave late = EndlessWaveGenerator.generate(200, 5L);
+
+            assertTrue(late.getTotalEnemies() > early.getTotalEnemies() * 50, "Enemy count should keep growing.");
+            assertTrue(late.getHealthMultiplier() > early.getHealthMultiplier(), "Health should keep growing.");
+            assertTrue(WaveSchedule.compile(late, TICK).count(Enemy.EnemyType.KNIGHT) > 0,
+                    "Later waves should include knights.");
+        }
+    }
+}
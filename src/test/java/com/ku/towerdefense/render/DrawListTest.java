@@ -0,0 +1,100 @@
+package com.ku.towerdefense.render;
+
+import com.ku.towerdefense.model.entity.Goblin;
+import com.ku.towerdefense.model.map.Tile;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DrawListTest {
+
+    @BeforeAll
+    static void disableFxForTests() {
+        Tile.isFxAvailable = false;
+    }
+
+    @Nested
+    class OrderTests {
+        @Test
+        void commandsAreGroupedByLayerThenTexture() {
+            DrawList list = new DrawList(null);
+            list.addRect(DrawList.LAYER_PROJECTILES, Color.RED, 0, 0, 1, 1);
+            list.addRect(DrawList.LAYER_ENEMIES, Color.GREEN, 0, 0, 1, 1);
+            list.addRect(DrawList.LAYER_ENEMIES, Color.SILVER, 0, 0, 1, 1);
+            list.addRect(DrawList.LAYER_ENEMIES, Color.GREEN, 0, 0, 1, 1);
+            list.addRect(DrawList.LAYER_TOWERS, Color.GRAY, 0, 0, 1, 1);
+            list.sort();
+
+            assertEquals(DrawList.LAYER_TOWERS, list.layerAt(0));
+            assertEquals(Color.GREEN, list.refAt(1));
+            assertEquals(Color.GREEN, list.refAt(2), "Same-colour enemies should be drawn back to back.");
+            assertEquals(Color.SILVER, list.refAt(3));
+            assertEquals(DrawList.LAYER_PROJECTILES, list.layerAt(4));
+        }
+
+        @Test
+        void customCommandsFollowTheSpritesOfTheirLayerInOrder() {
+            DrawList list = new DrawList(null);
+            Consumer<GraphicsContext> first = gc -> { };
+            Consumer<GraphicsContext> second = gc -> { };
+            list.addCustom(DrawList.LAYER_ENEMY_OVERLAYS, first);
+            list.addCustom(DrawList.LAYER_ENEMIES, second);
+            list.addCustom(DrawList.LAYER_ENEMY_OVERLAYS, second);
+            list.addRect(DrawList.LAYER_ENEMIES, Color.GREEN, 0, 0, 1, 1);
+            list.sort();
+
+            assertEquals(Color.GREEN, list.refAt(0));
+            assertSame(second, list.refAt(1));
+            assertSame(first, list.refAt(2), "Custom commands keep the order they were added in.");
+            assertSame(second, list.refAt(3));
+        }
+
+        @Test
+        void enemiesQueueValuesNotThemselves() {
+            DrawList list = new DrawList(null);
+            Goblin goblin = new Goblin(0, 0);
+            goblin.addOverlay(list, DrawList.LAYER_ENEMY_OVERLAYS);
+            goblin.addShape(list, DrawList.LAYER_ENEMIES);
+            list.sort();
+
+            assertEquals(3, list.size(), "Health bar background, health and the fallback circle.");
+            for (int i = 0; i < list.size(); i++) {
+                assertNotSame(goblin, list.refAt(i), "A recorded list must not reach back into the entity.");
+            }
+        }
+
+        @Test
+        void clearDropsCommands() {
+            DrawList list = new DrawList(null);
+            list.addCustom(DrawList.LAYER_ENEMIES, gc -> { });
+            list.clear();
+            assertEquals(0, list.size());
+        }
+    }
+
+    @Nested
+    class PackerTests {
+        @Test
+        void rectanglesFillShelvesLeftToRight() {
+            AtlasPacker packer = new AtlasPacker(100, 100);
+            assertEquals(0L, packer.place(60, 30));
+            assertEquals(60L << 32, packer.place(40, 20));
+            assertEquals(30L, packer.place(50, 50), "A full row starts a shelf below the tallest rectangle.");
+        }
+
+        @Test
+        void rectanglesThatDoNotFitAreRejected() {
+            AtlasPacker packer = new AtlasPacker(100, 100);
+            assertEquals(-1, packer.place(101, 10));
+            assertEquals(0L, packer.place(100, 80));
+            assertEquals(-1, packer.place(10, 30), "No room for another shelf.");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ku.towerdefense.render;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripleBufferTest {
+
+    private static final class Frame {
+        int value;
+    }
+
+    @Nested
+    class HandOverTests {
+        @Test
+        void readerSeesTheNewestPublishedFrame() {
+            TripleBuffer<Frame> buffer = new TripleBuffer<>(Frame::new);
+            for (int i = 1; i <= 3; i++) {
+                buffer.back().value = i;
+                buffer.publish();
+            }
+            assertTrue(buffer.hasFresh());
+            assertEquals(3, buffer.front().value, "Frames the reader missed are skipped.");
+            assertFalse(buffer.hasFresh());
+        }
+
+        @Test
+        void readerKeepsItsFrameUntilANewOneIsPublished() {
+            TripleBuffer<Frame> buffer = new TripleBuffer<>(Frame::new);
+            buffer.back().value = 1;
+            buffer.publish();
+            Frame shown = buffer.front();
+            assertSame(shown, buffer.front());
+
+            buffer.back().value = 2;
+            buffer.publish();
+            assertEquals(2, buffer.front().value);
+            assertEquals(1, shown.value, "A frame the reader holds is never written.");
+        }
+
+        @Test
+        void writerNeverGetsTheReadersFrame() {
+            TripleBuffer<Frame> buffer = new TripleBuffer<>(Frame::new);
+            for (int i = 0; i < 10; i++) {
+                Frame shown = buffer.front();
+                assertNotSame(shown, buffer.back());
+                buffer.publish();
+                if (i % 3 == 0) {
+                    buffer.publish(); // the reader skips a frame now and then
+                }
+            }
+        }
+
+        @Test
+        void buffersAreCreatedOnce() {
+            AtomicInteger created = new AtomicInteger();
+            TripleBuffer<Frame> buffer = new TripleBuffer<>(() -> {
+                created.incrementAndGet();
+                return new Frame();
+            });
+            for (int i = 0; i < 100; i++) {
+                buffer.publish();
+                buffer.front();
+            }
+            assertEquals(3, created.get());
+        }
+    }
+}
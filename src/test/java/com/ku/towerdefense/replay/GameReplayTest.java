@@ -0,0 +1,118 @@
+package com.ku.towerdefense.replay;
+
+import com.ku.towerdefense.controller.GameController;
+import com.ku.towerdefense.model.entity.ArcherTower;
+import com.ku.towerdefense.model.map.GameMap;
+import com.ku.towerdefense.model.map.TestMaps;
+import com.ku.towerdefense.model.map.TileType;
+import com.ku.towerdefense.util.GameSettings;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameReplayTest {
+
+    @TempDir
+    Path tempDir;
+
+    /** The shared straight path, with a second tower slot below it. */
+    private static GameMap createMap() {
+        GameMap map = TestMaps.straightPath();
+        map.setTileType(6, 3, TileType.TOWER_SLOT);
+        return map;
+    }
+
+    private static void runTicks(GameController controller, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            controller.tick();
+        }
+    }
+
+    @Nested
+    class RoundTripTests {
+        @Test
+        void replayReproducesRecordedGame() throws Exception {
+            GameController recorded = new GameController(createMap(), 2024L);
+            ReplayRecorder recorder = recorded.startReplayRecording();
+            recorded.startGame();
+
+            runTicks(recorded, 30);
+            assertTrue(recorded.purchaseAndPlaceTower(new ArcherTower(0, 0), 4, 1), "First tower should be placed.");
+            runTicks(recorded, 600);
+            recorded.purchaseAndPlaceTower(new ArcherTower(0, 0), 6, 3);
+            runTicks(recorded, 1200);
+
+            Path file = tempDir.resolve("test" + GameReplay.REPLAY_EXTENSION);
+            recorder.finish(recorded.getTickCount()).save(file);
+
+            GameReplay loaded = GameReplay.load(file);
+            assertEquals(2024L, loaded.getSeed(), "Seed should survive the round trip.");
+            assertEquals(recorded.getTickCount(), loaded.getEndTick(), "End tick should survive the round trip.");
+
+            ReplayPlayer player = new ReplayPlayer(loaded, createMap());
+            player.runHeadless();
+            GameController replayed = player.getController();
+
+            assertEquals(0, player.getDesyncCount(), "Every recorded command should apply during playback.");
+            assertEquals(recorded.getTickCount(), replayed.getTickCount());
+            assertEquals(recorded.getCurrentWave(), replayed.getCurrentWave(), "Wave should match.");
+            assertEquals(recorded.getPlayerGold(), replayed.getPlayerGold(), "Gold should match.");
+            assertEquals(recorded.getPlayerLives(), replayed.getPlayerLives(), "Lives should match.");
+            assertEquals(recorded.getEnemies().size(), replayed.getEnemies().size(), "Enemy count should match.");
+        }
+
+        @Test
+        void playbackRestoresThePlayersSettings() {
+            GameSettings settings = GameSettings.getInstance();
+            int startingGold = settings.getStartingGold();
+            GameReplay replay;
+            try {
+                settings.setStartingGold(startingGold + 100);
+                GameController recorded = new GameController(createMap(), 7L);
+                ReplayRecorder recorder = recorded.startReplayRecording();
+                recorded.startGame();
+                runTicks(recorded, 60);
+                replay = recorder.finish(recorded.getTickCount());
+            } finally {
+                settings.setStartingGold(startingGold);
+            }
+
+            ReplayPlayer player = new ReplayPlayer(replay, createMap());
+            assertEquals(startingGold + 100, settings.getStartingGold(), "The recorded settings apply during playback.");
+            player.runHeadless();
+            assertEquals(startingGold, settings.getStartingGold(), "The player's settings return afterwards.");
+        }
+
+        @Test
+        void savedReplaysGetTheirOwnFilesAndOnlyTheNewestAreKept() throws Exception {
+            Path first = null;
+            for (int i = 0; i < 5; i++) {
+                GameController controller = new GameController(createMap(), i);
+                Path saved = controller.startReplayRecording().finishAndSave(0, tempDir, 3);
+                assertNotNull(saved);
+                first = first == null ? saved : first;
+            }
+
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(3, files.count(), "Only the newest replays should be kept.");
+            }
+            assertFalse(Files.exists(first), "The oldest replay should be deleted.");
+        }
+
+        @Test
+        void rejectsDifferentMap() {
+            GameController controller = new GameController(createMap(), 1L);
+            GameReplay replay = controller.startReplayRecording().finish(0);
+            GameMap otherMap = new GameMap("Other", 10, 5);
+            assertThrows(IllegalArgumentException.class, () -> new ReplayPlayer(replay, otherMap),
+                    "Playback on a different map should be refused.");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ku.towerdefense.util;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationMeterTest {
+
+    private static Object sink;
+
+    @Nested
+    class AllocationTests {
+        @Test
+        void sampleReportsBytesAllocatedSinceLastSample() {
+            AllocationMeter meter = new AllocationMeter();
+            Assumptions.assumeTrue(meter.isSupported(), "Per-thread allocation counting is not available.");
+
+            assertEquals(0, meter.sample(), "The first sample only sets the baseline.");
+            sink = new byte[1 << 20];
+            long allocated = meter.sample();
+            assertTrue(allocated >= 1 << 20, "A 1 MB array should be counted, got " + allocated);
+        }
+
+        @Test
+        void otherThreadCanBeMeasured() throws InterruptedException {
+            CountDownLatch measured = new CountDownLatch(1);
+            CountDownLatch allocated = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+            Thread worker = new Thread(() -> {
+                try {
+                    measured.await();
+                    sink = new byte[1 << 20];
+                    allocated.countDown();
+                    done.await(); // stay alive until the second sample
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            worker.start();
+            AllocationMeter meter = new AllocationMeter(worker);
+            Assumptions.assumeTrue(meter.isSupported());
+
+            meter.sample();
+            measured.countDown();
+            allocated.await();
+            long bytes = meter.sample();
+            done.countDown();
+            worker.join();
+            assertTrue(bytes >= 1 << 20, "The worker's 1 MB array should be counted, got " + bytes);
+        }
+
+        @Test
+        void resetStartsANewBaseline() {
+            AllocationMeter meter = new AllocationMeter();
+            Assumptions.assumeTrue(meter.isSupported());
+
+            meter.sample();
+            sink = new byte[1 << 20];
+            meter.reset();
+            assertEquals(0, meter.sample());
+        }
+    }
+
+    @Nested
+    class GcPauseTests {
+        @Test
+        void pausesAreDrainedOldestFirst() {
+            GcPauseMonitor monitor = new GcPauseMonitor();
+            monitor.recordPause(3);
+            monitor.recordPause(12);
+            monitor.recordPause(5);
+
+            long[] pauses = new long[2];
+            assertEquals(2, monitor.drainPauses(pauses));
+            assertArrayEquals(new long[] { 3, 12 }, pauses);
+            assertEquals(1, monitor.drainPauses(pauses));
+            assertEquals(5, pauses[0]);
+            assertEquals(0, monitor.drainPauses(pauses));
+
+            assertEquals(3, monitor.getPauseCount());
+            assertEquals(20, monitor.getTotalPauseMs());
+            assertEquals(12, monitor.getMaxPauseMs());
+        }
+
+        @Test
+        void fullRingKeepsTheNewestPauses() {
+            GcPauseMonitor monitor = new GcPauseMonitor();
+            for (int i = 1; i <= 300; i++) {
+                monitor.recordPause(i);
+            }
+            long[] pauses = new long[300];
+            assertEquals(256, monitor.drainPauses(pauses));
+            assertEquals(45, pauses[0]);
+            assertEquals(300, pauses[255]);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ku.towerdefense.util;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+
+    @Nested
+    class HistogramTests {
+        @Test
+        void bucketsAreWithinSixPercentOfTheValue() {
+            long[] values = { 0, 7, 15, 16, 17, 100, 1_000, 123_456, 16_666_667, 5_000_000_000L };
+            for (long value : values) {
+                long bucketValue = LatencyHistogram.valueOf(LatencyHistogram.bucketOf(value));
+                assertTrue(Math.abs(bucketValue - value) <= Math.max(1, value / 16),
+                        value + " was recorded as " + bucketValue);
+            }
+            assertTrue(LatencyHistogram.bucketOf(Long.MAX_VALUE) < LatencyHistogram.BUCKET_COUNT);
+        }
+
+        @Test
+        void percentilesComeFromDrainedCounts() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (int i = 0; i < 99; i++) {
+                histogram.record(1_000);
+            }
+            histogram.record(1_000_000);
+
+            long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+            assertEquals(100, histogram.drainTo(counts));
+            assertEquals(1_000, LatencyHistogram.percentile(counts, 50), 1_000 / 16);
+            assertEquals(1_000, LatencyHistogram.percentile(counts, 99), 1_000 / 16);
+            assertEquals(1_000_000, LatencyHistogram.percentile(counts, 100), 1_000_000 / 16);
+
+            long[] empty = new long[LatencyHistogram.BUCKET_COUNT];
+            assertEquals(0, histogram.drainTo(empty), "Draining should reset the counts.");
+            assertEquals(0, LatencyHistogram.percentile(empty, 50));
+        }
+
+        @Test
+        void concurrentRecordsAreAllCounted() throws InterruptedException {
+            LatencyHistogram histogram = new LatencyHistogram();
+            Thread[] writers = new Thread[4];
+            for (int t = 0; t < writers.length; t++) {
+                writers[t] = new Thread(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i);
+                    }
+                });
+                writers[t].start();
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            assertEquals(40_000, histogram.drainTo(new long[LatencyHistogram.BUCKET_COUNT]));
+        }
+    }
+
+    @Nested
+    class ProfilerTests {
+        @Test
+        void disabledProfilerRecordsNothing() {
+            FrameProfiler profiler = new FrameProfiler();
+            long t = profiler.start();
+            assertEquals(0L, t);
+            assertEquals(0L, profiler.lap(FrameProfiler.Phase.TOWERS, t));
+            assertEquals(0L, profiler.elapsed(t));
+
+            long[][] counts = profiler.snapshot();
+            assertEquals(0, LatencyHistogram.percentile(counts[FrameProfiler.Phase.TOWERS.ordinal()], 50));
+        }
+
+        @Test
+        void lapsRecordOnePhaseEach() {
+            FrameProfiler profiler = new FrameProfiler();
+            profiler.setEnabled(true);
+            long t = profiler.start();
+            t = profiler.lap(FrameProfiler.Phase.TOWERS, t);
+            t = profiler.lap(FrameProfiler.Phase.ENEMIES, t);
+            assertNotEquals(0L, t);
+
+            long[][] counts = profiler.snapshot();
+            assertEquals(1, total(counts[FrameProfiler.Phase.TOWERS.ordinal()]));
+            assertEquals(1, total(counts[FrameProfiler.Phase.ENEMIES.ordinal()]));
+            assertEquals(0, total(counts[FrameProfiler.Phase.PROJECTILES.ordinal()]));
+        }
+
+        private long total(long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ku.towerdefense.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLogTest {
+
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+
+    @BeforeEach
+    void setUp() {
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+    }
+
+    private GameLog newLog(GameLog.Level minLevel, int maxPerSecond) {
+        return new GameLog(minLevel, maxPerSecond, new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    private String[] lines(ByteArrayOutputStream stream) {
+        String text = stream.toString().trim();
+        return text.isEmpty() ? new String[0] : text.split("\\R");
+    }
+
+    @Nested
+    class FormattingTests {
+        @Test
+        void placeholdersAreFilledOnDrain() {
+            GameLog log = newLog(GameLog.Level.DEBUG, 100);
+            log.info("Wave {} cleared in {} seconds", 3, "ten");
+            log.debug("Gold bag at ({},{}) worth {}", 12.5, 40.0, 7);
+            assertEquals(0, out.size(), "Nothing should be printed before the drain.");
+
+            assertEquals(2, log.drain());
+            String[] printed = lines(out);
+            assertEquals("Wave 3 cleared in ten seconds", printed[0]);
+            assertEquals("Gold bag at (12.5,40) worth 7", printed[1]);
+        }
+
+        @Test
+        void warningsGoToErrorStream() {
+            GameLog log = newLog(GameLog.Level.INFO, 100);
+            log.warn("Sprite {} missing", "FireEffect");
+            log.drain();
+            assertEquals("Sprite FireEffect missing", lines(err)[0]);
+            assertEquals(0, lines(out).length);
+        }
+
+        @Test
+        void aTrailingThrowableIsPrintedWithItsTrace() {
+            GameLog log = newLog(GameLog.Level.INFO, 100);
+            log.error("Step {} failed", 7, new IllegalStateException("boom"));
+            log.drain();
+            String[] printed = lines(err);
+            assertEquals("Step 7 failed", printed[0]);
+            assertEquals("java.lang.IllegalStateException: boom", printed[1]);
+            assertTrue(printed[2].trim().startsWith("at "), "The stack trace should follow the message.");
+        }
+
+        @Test
+        void disabledLevelIsNotQueued() {
+            GameLog log = newLog(GameLog.Level.INFO, 100);
+            assertFalse(log.isEnabled(GameLog.Level.DEBUG));
+            log.debug("Enemy {} slowed", "GOBLIN");
+            assertEquals(0, log.drain(), "Disabled messages should never reach the buffer.");
+        }
+    }
+
+    @Nested
+    class LimitTests {
+        @Test
+        void templateIsRateLimitedPerSecond() {
+            GameLog log = newLog(GameLog.Level.INFO, 5);
+            for (int i = 0; i < 50; i++) {
+                log.info("AOE hit {}", i);
+            }
+            log.info("Other message");
+            log.drain();
+
+            String[] printed = lines(out);
+            assertEquals(6, printed.length, "Five of the repeated template plus the other message.");
+            assertEquals("AOE hit 4", printed[4]);
+        }
+
+        @Test
+        void fullBufferDropsInsteadOfBlocking() {
+            GameLog log = newLog(GameLog.Level.INFO, Integer.MAX_VALUE);
+            for (int i = 0; i < 5000; i++) {
+                log.info("Message {}", i);
+            }
+            assertTrue(log.getDroppedCount() > 0, "Messages beyond the buffer should be dropped.");
+            assertEquals(1024, log.drain(), "The buffer's contents should drain in order.");
+            assertTrue(err.toString().contains("dropped"), "Drops should be reported.");
+        }
+
+        @Test
+        void concurrentProducersAreAllDrained() throws InterruptedException {
+            GameLog log = newLog(GameLog.Level.INFO, Integer.MAX_VALUE);
+            Thread[] producers = new Thread[4];
+            for (int t = 0; t < producers.length; t++) {
+                producers[t] = new Thread(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        log.info("Producer message {}", i);
+                    }
+                });
+                producers[t].start();
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            assertEquals(800, log.drain());
+            assertEquals(0, log.getDroppedCount());
+        }
+    }
+}
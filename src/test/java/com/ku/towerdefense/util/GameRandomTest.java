@@ -0,0 +1,58 @@
+package com.ku.towerdefense.util;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Nested
+    class ReproducibilityTests {
+        @Test
+        void sameSeedGivesSameSequence() {
+            GameRandom a = new GameRandom(42L);
+            GameRandom b = new GameRandom(42L);
+            for (int i = 0; i < 100; i++) {
+                assertEquals(a.drops().nextDouble(), b.drops().nextDouble(), "Draw " + i + " should match.");
+            }
+        }
+
+        @Test
+        void streamsAreIndependent() {
+            GameRandom a = new GameRandom(7L);
+            GameRandom b = new GameRandom(7L);
+            // Consuming combat values must not shift the drops stream
+            for (int i = 0; i < 10; i++) {
+                a.combat().nextDouble();
+            }
+            assertEquals(a.drops().nextDouble(), b.drops().nextDouble(),
+                    "Drops stream should not depend on combat draws.");
+        }
+
+        @Test
+        void restoreContinuesFromSavedPosition() {
+            GameRandom original = new GameRandom(1234L);
+            for (int i = 0; i < 5; i++) {
+                original.combat().nextDouble();
+                original.drops().nextInt(2, 25);
+            }
+            GameRandom restored = GameRandom.restore(original.getSeed(), original.getDrawCounts());
+            assertEquals(original.combat().nextDouble(), restored.combat().nextDouble());
+            assertEquals(original.drops().nextInt(2, 25), restored.drops().nextInt(2, 25));
+            assertEquals(original.waves().nextDouble(), restored.waves().nextDouble());
+        }
+    }
+
+    @Nested
+    class RangeTests {
+        @Test
+        void nextIntStaysInBounds() {
+            GameRandom random = new GameRandom(99L);
+            for (int i = 0; i < 1000; i++) {
+                int value = random.drops().nextInt(2, 25);
+                assertTrue(value >= 2 && value <= 25, "Value " + value + " should be within [2, 25].");
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ku.towerdefense.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QualityControllerTest {
+
+    private static final long SMOOTH = 16_000_000L;
+    private static final long SLOW = 40_000_000L;
+
+    private QualityController quality;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        quality = new QualityController();
+        now = 1_000_000_000L;
+        quality.recordFrame(now);
+    }
+
+    /**
+     * Play frames of one length for a while.
+     */
+    private void frames(long intervalNanos, long forNanos) {
+        for (long end = now + forNanos; now < end; ) {
+            now += intervalNanos;
+            quality.recordFrame(now);
+        }
+    }
+
+    @Nested
+    class StepTests {
+        @Test
+        void slowFramesStepDownOneLevelAtATime() {
+            frames(SLOW, 1_200_000_000L);
+            assertEquals(QualityLevel.MEDIUM, quality.getLevel());
+            frames(SLOW, 1_200_000_000L);
+            assertEquals(QualityLevel.LOW, quality.getLevel());
+            assertEquals(2, quality.getChangeCount());
+        }
+
+        @Test
+        void theFirstSecondIsIgnored() {
+            frames(30_000_000L, 900_000_000L);
+            assertEquals(QualityLevel.HIGH, quality.getLevel(), "Startup stutter should not cost quality.");
+        }
+
+        @Test
+        void pausesAreNotSlowFrames() {
+            for (int i = 0; i < 10; i++) {
+                now += 2_000_000_000L;
+                quality.recordFrame(now);
+            }
+            assertEquals(QualityLevel.HIGH, quality.getLevel());
+        }
+
+        @Test
+        void headroomStepsBackUp() {
+            frames(SLOW, 1_200_000_000L);
+            assertEquals(QualityLevel.MEDIUM, quality.getLevel());
+            frames(SMOOTH, 2_800_000_000L);
+            assertEquals(QualityLevel.MEDIUM, quality.getLevel(), "Stepping up waits for sustained headroom.");
+            frames(SMOOTH, 1_000_000_000L);
+            assertEquals(QualityLevel.HIGH, quality.getLevel());
+        }
+
+        @Test
+        void aStepUpThatDoesNotHoldDoublesTheWait() {
+            frames(SLOW, 1_200_000_000L);
+            frames(SMOOTH, 4_000_000_000L);
+            assertEquals(QualityLevel.HIGH, quality.getLevel());
+            frames(SLOW, 1_200_000_000L);
+            assertEquals(QualityLevel.MEDIUM, quality.getLevel());
+
+            frames(SMOOTH, 4_000_000_000L);
+            assertEquals(QualityLevel.MEDIUM, quality.getLevel(), "The next step up should need 6 s.");
+            frames(SMOOTH, 3_000_000_000L);
+            assertEquals(QualityLevel.HIGH, quality.getLevel());
+        }
+    }
+
+    @Nested
+    class LevelTests {
+        @Test
+        void lowerLevelsCapDetail() {
+            assertEquals(RenderDetail.FULL, QualityLevel.HIGH.detailFor(1.0));
+            assertEquals(RenderDetail.REDUCED, QualityLevel.LOW.detailFor(1.0));
+            assertEquals(RenderDetail.MINIMAL, QualityLevel.LOW.detailFor(0.2), "Zoom can still lower it further.");
+            assertEquals(RenderDetail.MINIMAL, QualityLevel.MINIMAL.detailFor(1.0));
+        }
+
+        @Test
+        void levelsStopAtTheEnds() {
+            assertSame(QualityLevel.HIGH, QualityLevel.HIGH.higher());
+            assertSame(QualityLevel.MINIMAL, QualityLevel.MINIMAL.lower());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ku.towerdefense.util;
+
+import com.ku.towerdefense.model.entity.Enemy;
+import com.ku.towerdefense.model.entity.Goblin;
+import com.ku.towerdefense.model.entity.Knight;
+import com.ku.towerdefense.model.map.Tile;
+import com.ku.towerdefense.model.status.StatusEffectType;
+import com.ku.towerdefense.model.status.StatusEffects;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderDetailTest {
+
+    @BeforeAll
+    static void disableFxForTests() {
+        Tile.isFxAvailable = false;
+    }
+
+    @Nested
+    class TierTests {
+        @Test
+        void detailDropsAsTheViewZoomsOut() {
+            assertEquals(RenderDetail.FULL, RenderDetail.forScale(1.0));
+            assertEquals(RenderDetail.FULL, RenderDetail.forScale(RenderDetail.REDUCED_BELOW_SCALE));
+            assertEquals(RenderDetail.REDUCED, RenderDetail.forScale(0.3));
+            assertEquals(RenderDetail.MINIMAL, RenderDetail.forScale(0.2), "The minimum zoom should draw dots.");
+        }
+    }
+
+    @Nested
+    class DotColorTests {
+        @Test
+        void enemyTypesHaveTheirOwnColour() {
+            Enemy goblin = new Goblin(0, 0);
+            Enemy knight = new Knight(0, 0);
+            assertNotNull(goblin.getDotColor());
+            assertNotEquals(goblin.getDotColor(), knight.getDotColor());
+            assertSame(goblin.getDotColor(), new Goblin(0, 0).getDotColor(), "One colour per type batches well.");
+        }
+
+        @Test
+        void slowedEnemiesAreTinted() {
+            Enemy goblin = new Goblin(0, 0);
+            Enemy knight = new Knight(0, 0);
+            StatusEffects effects = new StatusEffects(new TimerWheel(0));
+            effects.apply(goblin, StatusEffectType.SLOW, 0.8, 100);
+            effects.apply(knight, StatusEffectType.SLOW, 0.8, 100);
+
+            assertSame(goblin.getDotColor(), knight.getDotColor(), "Slowed enemies share one tint.");
+            assertNotEquals(new Goblin(0, 0).getDotColor(), goblin.getDotColor());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ku.towerdefense.util;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampleRingTest {
+
+    @Nested
+    class AppendTests {
+        @Test
+        void channelsAreKeptSeparately() {
+            SampleRing ring = new SampleRing(2, 4);
+            ring.append(new double[] { 1, 10 });
+            ring.append(new double[] { 2, 20 });
+
+            assertEquals(2, ring.size());
+            assertEquals(2, ring.latest(0));
+            assertEquals(20, ring.latest(1));
+
+            double[] history = new double[4];
+            assertEquals(2, ring.copyChannel(1, history));
+            assertEquals(10, history[0]);
+            assertEquals(20, history[1]);
+        }
+
+        @Test
+        void fullRingOverwritesOldestSample() {
+            SampleRing ring = new SampleRing(1, 3);
+            for (int i = 1; i <= 5; i++) {
+                ring.append(new double[] { i });
+            }
+
+            double[] history = new double[3];
+            assertEquals(3, ring.copyChannel(0, history));
+            assertArrayEquals(new double[] { 3, 4, 5 }, history);
+            assertEquals(5, ring.getAppendedCount());
+        }
+
+        @Test
+        void shortArrayReceivesNewestValues() {
+            SampleRing ring = new SampleRing(1, 8);
+            for (int i = 1; i <= 6; i++) {
+                ring.append(new double[] { i });
+            }
+
+            double[] history = new double[2];
+            assertEquals(2, ring.copyChannel(0, history));
+            assertArrayEquals(new double[] { 5, 6 }, history);
+        }
+
+        @Test
+        void clearEmptiesTheRing() {
+            SampleRing ring = new SampleRing(1, 2);
+            ring.append(new double[] { 7 });
+            ring.clear();
+
+            assertEquals(0, ring.size());
+            assertEquals(0, ring.latest(0));
+            assertEquals(0, ring.getAppendedCount());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ku.towerdefense.util;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    @Nested
+    class FiringTests {
+        @Test
+        void firesEachTimerOnItsTick() {
+            TimerWheel wheel = new TimerWheel(0);
+            List<Long> firedAt = new ArrayList<>();
+            long[] delays = { 1, 5, 63, 64, 65, 200, 4095, 4096, 5000, 300_000 };
+            for (long delay : delays) {
+                wheel.schedule(delay, () -> firedAt.add(wheel.getCurrentTick()));
+            }
+
+            for (long tick = 1; tick <= 300_000; tick++) {
+                wheel.advanceTo(tick);
+            }
+
+            List<Long> expected = new ArrayList<>();
+            for (long delay : delays) {
+                expected.add(delay);
+            }
+            assertEquals(expected, firedAt, "Timers should fire exactly on their expiry tick, in order.");
+            assertEquals(0, wheel.size());
+        }
+
+        @Test
+        void advancingInOneStepFiresEverythingDue() {
+            TimerWheel wheel = new TimerWheel(1000);
+            int[] fired = { 0 };
+            for (int i = 1; i <= 100; i++) {
+                wheel.schedule(i * 37L, () -> fired[0]++);
+            }
+
+            wheel.advanceTo(1000 + 50 * 37);
+            assertEquals(50, fired[0], "Only timers due so far should fire.");
+            assertEquals(50, wheel.size());
+        }
+
+        @Test
+        void timersBeyondWheelSpanStillFireOnTime() {
+            TimerWheel wheel = new TimerWheel(0);
+            long delay = (1L << 24) + 123;
+            long[] firedAt = { -1 };
+            wheel.schedule(delay, () -> firedAt[0] = wheel.getCurrentTick());
+
+            wheel.advanceTo(delay + 10);
+            assertEquals(delay, firedAt[0]);
+        }
+
+        @Test
+        void callbackCanScheduleFollowUp() {
+            TimerWheel wheel = new TimerWheel(0);
+            List<Long> firedAt = new ArrayList<>();
+            wheel.schedule(10, () -> {
+                firedAt.add(wheel.getCurrentTick());
+                wheel.schedule(10, () -> firedAt.add(wheel.getCurrentTick()));
+            });
+
+            wheel.advanceTo(100);
+            assertEquals(List.of(10L, 20L), firedAt);
+        }
+    }
+
+    @Nested
+    class CancelTests {
+        @Test
+        void cancelledTimerDoesNotFire() {
+            TimerWheel wheel = new TimerWheel(0);
+            boolean[] fired = { false };
+            TimerWheel.Timer timer = wheel.schedule(100, () -> fired[0] = true);
+            assertEquals(100, wheel.remainingTicks(timer));
+
+            wheel.cancel(timer);
+            wheel.advanceTo(200);
+
+            assertFalse(fired[0]);
+            assertFalse(timer.isPending());
+            assertEquals(0, wheel.size());
+        }
+
+        @Test
+        void resetDropsAllTimersAndMovesClock() {
+            TimerWheel wheel = new TimerWheel(0);
+            TimerWheel.Timer timer = wheel.schedule(5000, () -> fail("Timer should have been dropped."));
+
+            wheel.reset(50);
+            wheel.advanceTo(10_000);
+
+            assertFalse(timer.isPending());
+            assertEquals(10_000, wheel.getCurrentTick());
+        }
+    }
+}